@@ -0,0 +1,100 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.benchmark;
+
+import org.blackdread.lib.restfilter.criteria.CriteriaQueryParam;
+import org.blackdread.lib.restfilter.criteria.CriteriaQueryParamBuilder;
+import org.blackdread.lib.restfilter.criteria.QueryParam;
+import org.blackdread.lib.restfilter.util.MultiValueMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+
+/**
+ * Criteria to query params (reflection over the criteria class, formatting of each filter).
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CriteriaQueryParamBenchmark {
+
+    private CriteriaQueryParam criteriaQueryParam;
+
+    private SmallCriteria smallCriteria;
+
+    private LargeCriteria largeCriteria;
+
+    @Setup
+    public void setup() {
+        criteriaQueryParam = new CriteriaQueryParamBuilder().build();
+        smallCriteria = SmallCriteria.create();
+        largeCriteria = LargeCriteria.create();
+    }
+
+    @Benchmark
+    public List<QueryParam> buildQueryParamsSmallCriteria() {
+        return criteriaQueryParam.buildQueryParams(smallCriteria);
+    }
+
+    @Benchmark
+    public List<QueryParam> buildQueryParamsLargeCriteria() {
+        return criteriaQueryParam.buildQueryParams(largeCriteria);
+    }
+
+    @Benchmark
+    public MultiValueMap<String, String> buildQueryParamsMapLargeCriteria() {
+        return criteriaQueryParam.buildQueryParamsMap(largeCriteria);
+    }
+
+    @Benchmark
+    public String buildQueryStringLargeCriteria() {
+        return criteriaQueryParam.buildQueryString(largeCriteria);
+    }
+
+    @Benchmark
+    public StringBuilder writeQueryParamsLargeCriteria(final QueryStringBuffer buffer) {
+        buffer.builder.setLength(0);
+        criteriaQueryParam.writeQueryParams(largeCriteria, buffer.builder);
+        return buffer.builder;
+    }
+
+    /**
+     * Buffer reused by each thread like a gateway would do
+     */
+    @State(Scope.Thread)
+    public static class QueryStringBuffer {
+
+        final StringBuilder builder = new StringBuilder(1024);
+    }
+}
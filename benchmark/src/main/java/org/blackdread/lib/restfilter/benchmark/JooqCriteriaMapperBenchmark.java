@@ -0,0 +1,88 @@
+package org.blackdread.lib.restfilter.benchmark;
+
+import org.blackdread.lib.restfilter.jooq.JooqCriteriaMapper;
+import org.blackdread.lib.restfilter.jooq.JooqCriteriaMapperBuilder;
+import org.blackdread.lib.restfilter.jooq.JooqFilterUtil;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@link LargeCriteria} to jOOQ condition, one hand-written {@link JooqFilterUtil} call per filter against {@link JooqCriteriaMapper}.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JooqCriteriaMapperBenchmark {
+
+    private static final Field<Long> ID = DSL.field(DSL.name("id"), Long.class);
+    private static final Field<String> NAME = DSL.field(DSL.name("name"), String.class);
+    private static final Field<String> DESCRIPTION = DSL.field(DSL.name("description"), String.class);
+    private static final Field<String> EMAIL = DSL.field(DSL.name("email"), String.class);
+    private static final Field<Instant> CREATE_TIME = DSL.field(DSL.name("create_time"), Instant.class);
+    private static final Field<Instant> UPDATE_TIME = DSL.field(DSL.name("update_time"), Instant.class);
+    private static final Field<BigDecimal> TOTAL = DSL.field(DSL.name("total"), BigDecimal.class);
+    private static final Field<BigDecimal> TAX = DSL.field(DSL.name("tax"), BigDecimal.class);
+    private static final Field<Integer> COUNT = DSL.field(DSL.name("count"), Integer.class);
+    private static final Field<Integer> VERSION = DSL.field(DSL.name("version"), Integer.class);
+    private static final Field<LocalDate> LOCAL_DATE = DSL.field(DSL.name("local_date"), LocalDate.class);
+    private static final Field<Short> A_SHORT = DSL.field(DSL.name("a_short"), Short.class);
+    private static final Field<Boolean> ACTIVE = DSL.field(DSL.name("active"), Boolean.class);
+    private static final Field<Boolean> DELETED = DSL.field(DSL.name("deleted"), Boolean.class);
+    private static final Field<UUID> UUID_FIELD = DSL.field(DSL.name("uuid"), UUID.class);
+
+    private final Table<?> table = DSL.select(ID, NAME, DESCRIPTION, EMAIL, CREATE_TIME, UPDATE_TIME, TOTAL, TAX, COUNT, VERSION, LOCAL_DATE, A_SHORT, ACTIVE, DELETED, UUID_FIELD)
+        .from(DSL.table(DSL.name("large_entity")))
+        .asTable("large");
+
+    // parent and duration filters have no column in table (Duration is not a jOOQ default type)
+    private final JooqCriteriaMapper mapper = JooqCriteriaMapperBuilder.newBuilder()
+        .throwOnFilterNotFound(false)
+        .build();
+
+    private final LargeCriteria criteria = LargeCriteria.create();
+
+    @Benchmark
+    public Condition handWritten() {
+        final List<Condition> conditions = new ArrayList<>();
+        conditions.add(JooqFilterUtil.buildCondition(criteria.getId(), table.field(ID)));
+        conditions.add(JooqFilterUtil.buildCondition(criteria.getName(), table.field(NAME)));
+        conditions.add(JooqFilterUtil.buildCondition(criteria.getDescription(), table.field(DESCRIPTION)));
+        conditions.add(JooqFilterUtil.buildCondition(criteria.getEmail(), table.field(EMAIL)));
+        conditions.add(JooqFilterUtil.buildCondition(criteria.getCreateTime(), table.field(CREATE_TIME)));
+        conditions.add(JooqFilterUtil.buildCondition(criteria.getUpdateTime(), table.field(UPDATE_TIME)));
+        conditions.add(JooqFilterUtil.buildCondition(criteria.getTotal(), table.field(TOTAL)));
+        conditions.add(JooqFilterUtil.buildCondition(criteria.getTax(), table.field(TAX)));
+        conditions.add(JooqFilterUtil.buildCondition(criteria.getCount(), table.field(COUNT)));
+        conditions.add(JooqFilterUtil.buildCondition(criteria.getVersion(), table.field(VERSION)));
+        conditions.add(JooqFilterUtil.buildCondition(criteria.getLocalDate(), table.field(LOCAL_DATE)));
+        conditions.add(JooqFilterUtil.buildCondition(criteria.getaShort(), table.field(A_SHORT)));
+        conditions.add(JooqFilterUtil.buildCondition(criteria.getActive(), table.field(ACTIVE)));
+        conditions.add(JooqFilterUtil.buildCondition(criteria.getDeleted(), table.field(DELETED)));
+        conditions.add(JooqFilterUtil.buildCondition(criteria.getUuid(), table.field(UUID_FIELD)));
+        return DSL.and(conditions);
+    }
+
+    @Benchmark
+    public Condition mapper() {
+        return mapper.buildCondition(criteria, table);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.benchmark;
+
+import org.blackdread.lib.restfilter.filter.StringFilter;
+import org.blackdread.lib.restfilter.jooq.JooqFilterUtil;
+import org.blackdread.lib.restfilter.jooq.JooqInListStrategy;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link StringFilter} to jOOQ condition with in/notIn lists of different sizes, with and without rendering the SQL, for each {@link JooqInListStrategy}.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JooqFilterUtilBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int inSize;
+
+    private final Field<String> field = DSL.field(DSL.name("child_entity", "name"), String.class);
+
+    private final DSLContext dslContext = DSL.using(SQLDialect.H2);
+
+    private final DSLContext postgresDslContext = DSL.using(SQLDialect.POSTGRES);
+
+    private StringFilter inIgnoreCaseFilter;
+
+    private StringFilter inFilter;
+
+    private StringFilter notInIgnoreCaseFilter;
+
+    @Setup
+    public void setup() {
+        final List<String> values = new ArrayList<>(inSize);
+        for (int i = 0; i < inSize; i++) {
+            values.add("Value" + i);
+        }
+        inIgnoreCaseFilter = new StringFilter();
+        inIgnoreCaseFilter.setIn(values);
+
+        inFilter = new StringFilter();
+        inFilter.setIn(values);
+        inFilter.setIgnoreCase(false);
+
+        notInIgnoreCaseFilter = new StringFilter();
+        notInIgnoreCaseFilter.setNotIn(values);
+        notInIgnoreCaseFilter.setContains("val");
+    }
+
+    @Benchmark
+    public Condition inIgnoreCase() {
+        return JooqFilterUtil.buildCondition(inIgnoreCaseFilter, field);
+    }
+
+    @Benchmark
+    public Condition in() {
+        return JooqFilterUtil.buildCondition(inFilter, field);
+    }
+
+    @Benchmark
+    public Condition notInIgnoreCase() {
+        return JooqFilterUtil.buildCondition(notInIgnoreCaseFilter, field);
+    }
+
+    @Benchmark
+    public String inIgnoreCaseRendered() {
+        return dslContext.render(JooqFilterUtil.buildCondition(inIgnoreCaseFilter, field));
+    }
+
+    @Benchmark
+    public String inIgnoreCasePaddedRendered() {
+        return dslContext.render(JooqFilterUtil.buildCondition(inIgnoreCaseFilter, field, JooqInListStrategy.PADDED));
+    }
+
+    @Benchmark
+    public String inIgnoreCaseAnyArrayRendered() {
+        return postgresDslContext.render(JooqFilterUtil.buildCondition(inIgnoreCaseFilter, field, JooqInListStrategy.ANY_ARRAY));
+    }
+
+    @Benchmark
+    public String inIgnoreCaseValuesTableRendered() {
+        return dslContext.render(JooqFilterUtil.buildCondition(inIgnoreCaseFilter, field, JooqInListStrategy.valuesTable(100, JooqInListStrategy.EXPAND)));
+    }
+}
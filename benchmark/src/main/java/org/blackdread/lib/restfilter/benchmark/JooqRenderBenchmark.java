@@ -0,0 +1,109 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.benchmark;
+
+import org.blackdread.lib.restfilter.jooq.JooqCriteriaMapper;
+import org.blackdread.lib.restfilter.jooq.JooqCriteriaMapperBuilder;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.Select;
+import org.jooq.Table;
+import org.jooq.conf.Settings;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+
+/**
+ * {@link SmallCriteria} select executed by jOOQ (rendered on each execution) against its SQL rendered once and executed as plain SQL
+ * with the bind values of the select (what a cache of rendered SQL by criteria shape does on a hit).
+ * JDBC is mocked (empty result) so only the cost of building, rendering and binding the query is measured.
+ * <p>
+ * Collecting bind values walks the select like rendering does and plain SQL is parsed on each execution, so rendering once
+ * is not faster than rendering each time, which is why there is no such cache.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JooqRenderBenchmark {
+
+    private static final Table<?> SMALL = DSL.table(DSL.name("small_entity"));
+    private static final Field<Long> ID = DSL.field(DSL.name("small_entity", "id"), Long.class);
+    private static final Field<String> NAME = DSL.field(DSL.name("small_entity", "name"), String.class);
+    private static final Field<Instant> CREATE_TIME = DSL.field(DSL.name("small_entity", "create_time"), Instant.class);
+
+    private final JooqCriteriaMapper mapper = JooqCriteriaMapperBuilder.newBuilder()
+        .addAlias("id", ID)
+        .addAlias("name", NAME)
+        .addAlias("createTime", CREATE_TIME)
+        .build();
+
+    private final SmallCriteria criteria = SmallCriteria.create();
+
+    private DSLContext create;
+
+    private String sql;
+
+    @Setup
+    public void setUp() {
+        final Result<?> emptyResult = DSL.using(SQLDialect.POSTGRES).newResult(ID, NAME, CREATE_TIME);
+        // execute logging renders the query again, disabled as in production
+        create = DSL.using(new MockConnection(ctx -> new MockResult[]{new MockResult(0, emptyResult)}), SQLDialect.POSTGRES,
+            new Settings().withExecuteLogging(false));
+        sql = create.render(select());
+    }
+
+    @Benchmark
+    public Result<?> rendered() {
+        return create.fetch(select());
+    }
+
+    @Benchmark
+    public Result<Record> renderedOnce() {
+        // inlined params are part of the SQL
+        final Object[] params = create.extractParams(select()).values().stream()
+            .filter(param -> !param.isInline())
+            .toArray();
+        return create.resultQuery(sql, params).fetch();
+    }
+
+    private Select<?> select() {
+        return DSL.select(ID, NAME, CREATE_TIME).from(SMALL).where(mapper.buildCondition(criteria)).orderBy(ID.desc()).limit(20);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.benchmark;
+
+import org.blackdread.lib.restfilter.spring.sort.CompiledJooqSort;
+import org.blackdread.lib.restfilter.spring.sort.JooqSort;
+import org.blackdread.lib.restfilter.spring.sort.JooqSortBuilder;
+import org.jooq.Field;
+import org.jooq.SortField;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Spring {@link Sort} to jOOQ order by when fields of the select are passed on each call or compiled once.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JooqSortBenchmark {
+
+    @Param({"5", "50"})
+    private int fieldCount;
+
+    private JooqSort jooqSort;
+
+    private Collection<Field<?>> fields;
+
+    private CompiledJooqSort compiledJooqSort;
+
+    private Sort sort;
+
+    @Setup
+    public void setup() {
+        jooqSort = JooqSortBuilder.newBuilder()
+            .addAlias("aliasSort", DSL.field(DSL.name("alias_column"), String.class))
+            .build();
+
+        fields = new ArrayList<>(fieldCount);
+        for (int i = 0; i < fieldCount; i++) {
+            fields.add(DSL.field(DSL.name("child_entity", "my_column_" + i), String.class));
+        }
+        // camel case lookup, case insensitive lookup and an alias
+        final List<Sort.Order> orders = new ArrayList<>();
+        orders.add(Sort.Order.desc("myColumn" + (fieldCount - 1)));
+        orders.add(Sort.Order.asc("MY_COLUMN_0").ignoreCase());
+        orders.add(Sort.Order.asc("aliasSort").nullsLast());
+        sort = Sort.by(orders);
+        compiledJooqSort = jooqSort.compile(fields);
+    }
+
+    @Benchmark
+    public List<? extends SortField<?>> buildOrderBy() {
+        return jooqSort.buildOrderBy(sort, fields);
+    }
+
+    @Benchmark
+    public List<? extends SortField<?>> compiledBuildOrderBy() {
+        return compiledJooqSort.buildOrderBy(sort);
+    }
+}
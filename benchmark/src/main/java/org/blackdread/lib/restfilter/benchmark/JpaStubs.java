@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * No-op JPA criteria API so specifications can be benchmarked without a persistence provider.
+ * <p>
+ * Any method returning an interface returns a shared stub of that interface, so the cost measured is the one of the
+ * lib (lambdas, loops, values conversion) and not the one of a provider that would be different for each project.
+ * Nothing is recorded, unlike a mock, so allocations measured are the ones of the lib.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+final class JpaStubs {
+
+    private static final Map<Class<?>, Object> stubByType = new ConcurrentHashMap<>();
+
+    private static final InvocationHandler HANDLER = JpaStubs::invoke;
+
+    private JpaStubs() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T stub(final Class<T> type) {
+        return (T) stubByType.computeIfAbsent(type, typeKey ->
+            Proxy.newProxyInstance(JpaStubs.class.getClassLoader(), new Class<?>[]{typeKey}, HANDLER));
+    }
+
+    private static Object invoke(final Object proxy, final Method method, final Object[] args) {
+        final Class<?> returnType = method.getReturnType();
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "stub";
+            default:
+                break;
+        }
+        if (returnType.isInterface()) {
+            return stub(returnType);
+        }
+        if (returnType == boolean.class) {
+            return false;
+        }
+        if (returnType == int.class) {
+            return 0;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.benchmark;
+
+import org.blackdread.lib.restfilter.criteria.annotation.CriteriaAlias;
+import org.blackdread.lib.restfilter.criteria.annotation.CriteriaInclude;
+import org.blackdread.lib.restfilter.filter.BigDecimalFilter;
+import org.blackdread.lib.restfilter.filter.BooleanFilter;
+import org.blackdread.lib.restfilter.filter.DurationFilter;
+import org.blackdread.lib.restfilter.filter.InstantFilter;
+import org.blackdread.lib.restfilter.filter.IntegerFilter;
+import org.blackdread.lib.restfilter.filter.LocalDateFilter;
+import org.blackdread.lib.restfilter.filter.LongFilter;
+import org.blackdread.lib.restfilter.filter.ShortFilter;
+import org.blackdread.lib.restfilter.filter.StringFilter;
+import org.blackdread.lib.restfilter.filter.UUIDFilter;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Criteria of a search screen with many filters set at the same time, plus values and a method included.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+public class LargeCriteria {
+
+    private LongFilter id;
+
+    private StringFilter name;
+
+    private StringFilter description;
+
+    private StringFilter email;
+
+    private InstantFilter createTime;
+
+    private InstantFilter updateTime;
+
+    private BigDecimalFilter total;
+
+    private BigDecimalFilter tax;
+
+    private IntegerFilter count;
+
+    private IntegerFilter version;
+
+    private LocalDateFilter localDate;
+
+    private ShortFilter aShort;
+
+    private BooleanFilter active;
+
+    private BooleanFilter deleted;
+
+    private UUIDFilter uuid;
+
+    private DurationFilter duration;
+
+    @CriteriaAlias("parent.id")
+    private LongFilter parentId;
+
+    @CriteriaAlias("parent.name")
+    private StringFilter parentName;
+
+    @CriteriaInclude
+    private Long tenantId;
+
+    @CriteriaInclude(keyOnly = true)
+    private boolean distinct;
+
+    @CriteriaInclude(Long.class)
+    private long[] categoryIds;
+
+    @CriteriaInclude(String.class)
+    private List<String> tags;
+
+    public static LargeCriteria create() {
+        final LargeCriteria criteria = new LargeCriteria();
+        criteria.id = new LongFilter();
+        criteria.id.setNotIn(Arrays.asList(1L, 2L, 3L, 4L, 5L));
+        criteria.id.setGreaterThan(0L);
+        criteria.name = new StringFilter();
+        criteria.name.setIn(Arrays.asList("first", "second", "third"));
+        criteria.description = new StringFilter();
+        criteria.description.setContains("desc");
+        criteria.description.setNotContains("other");
+        criteria.email = new StringFilter();
+        criteria.email.setSpecified(true);
+        criteria.email.setIgnoreCase(false);
+        criteria.createTime = new InstantFilter();
+        criteria.createTime.setGreaterThanOrEqual(Instant.parse("2019-01-01T00:00:00Z"));
+        criteria.createTime.setLessThan(Instant.parse("2020-01-01T00:00:00Z"));
+        criteria.updateTime = new InstantFilter();
+        criteria.updateTime.setSpecified(false);
+        criteria.total = new BigDecimalFilter();
+        criteria.total.setGreaterThan(new BigDecimal("10.5"));
+        criteria.total.setLessThanOrEqual(new BigDecimal("1000"));
+        criteria.tax = new BigDecimalFilter();
+        criteria.tax.setEquals(new BigDecimal("0.2"));
+        criteria.count = new IntegerFilter();
+        criteria.count.setIn(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+        criteria.version = new IntegerFilter();
+        criteria.version.setNotEquals(0);
+        criteria.localDate = new LocalDateFilter();
+        criteria.localDate.setGreaterThan(LocalDate.of(2019, 1, 1));
+        criteria.aShort = new ShortFilter();
+        criteria.aShort.setLessThan((short) 100);
+        criteria.active = new BooleanFilter();
+        criteria.active.setEquals(true);
+        criteria.deleted = new BooleanFilter();
+        criteria.deleted.setNotEquals(true);
+        criteria.uuid = new UUIDFilter();
+        criteria.uuid.setIn(Arrays.asList(UUID.fromString("1c5ba2a1-fae7-4aa6-a4a5-8e2dd0d1f8ad"), UUID.fromString("f0e5c4f0-8c80-4f5c-9f1b-6f0fbbc7a4c1")));
+        criteria.duration = new DurationFilter();
+        criteria.duration.setGreaterThanOrEqual(Duration.ofMinutes(5));
+        criteria.parentId = new LongFilter();
+        criteria.parentId.setEquals(42L);
+        criteria.parentName = new StringFilter();
+        criteria.parentName.setNotEquals("parent");
+        criteria.tenantId = 7L;
+        criteria.distinct = true;
+        criteria.categoryIds = new long[]{10L, 20L, 30L, 40L};
+        criteria.tags = Arrays.asList("tag1", "tag2", "tag3");
+        return criteria;
+    }
+
+    @CriteriaInclude
+    public String getComputedValue() {
+        return "computed";
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public StringFilter getName() {
+        return name;
+    }
+
+    public StringFilter getDescription() {
+        return description;
+    }
+
+    public StringFilter getEmail() {
+        return email;
+    }
+
+    public InstantFilter getCreateTime() {
+        return createTime;
+    }
+
+    public InstantFilter getUpdateTime() {
+        return updateTime;
+    }
+
+    public BigDecimalFilter getTotal() {
+        return total;
+    }
+
+    public BigDecimalFilter getTax() {
+        return tax;
+    }
+
+    public IntegerFilter getCount() {
+        return count;
+    }
+
+    public IntegerFilter getVersion() {
+        return version;
+    }
+
+    public LocalDateFilter getLocalDate() {
+        return localDate;
+    }
+
+    public ShortFilter getaShort() {
+        return aShort;
+    }
+
+    public BooleanFilter getActive() {
+        return active;
+    }
+
+    public BooleanFilter getDeleted() {
+        return deleted;
+    }
+
+    public UUIDFilter getUuid() {
+        return uuid;
+    }
+
+    public DurationFilter getDuration() {
+        return duration;
+    }
+
+    public LongFilter getParentId() {
+        return parentId;
+    }
+
+    public StringFilter getParentName() {
+        return parentName;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.benchmark;
+
+import org.blackdread.lib.restfilter.filter.StringFilter;
+import org.blackdread.lib.restfilter.spring.filter.QueryService;
+import org.blackdread.lib.restfilter.spring.filter.SpecificationPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria to JPA {@link Specification} then to {@link Predicate}, against a no-op criteria API (see {@link JpaStubs}).
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class QueryServiceBenchmark {
+
+    private static final SpecificationPlan<LargeCriteria, BenchmarkEntity> LARGE_CRITERIA_PLAN = SpecificationPlan.builder(LargeCriteria.class, BenchmarkEntity.class)
+        .withRangeFilter(LargeCriteria::getId, root -> root.get("id"))
+        .withStringFilter(LargeCriteria::getName, root -> root.get("name"))
+        .withStringFilter(LargeCriteria::getDescription, root -> root.get("description"))
+        .withStringFilter(LargeCriteria::getEmail, root -> root.get("email"))
+        .withRangeFilter(LargeCriteria::getCreateTime, root -> root.get("createTime"))
+        .withRangeFilter(LargeCriteria::getUpdateTime, root -> root.get("updateTime"))
+        .withRangeFilter(LargeCriteria::getTotal, root -> root.get("total"))
+        .withRangeFilter(LargeCriteria::getTax, root -> root.get("tax"))
+        .withRangeFilter(LargeCriteria::getCount, root -> root.get("count"))
+        .withRangeFilter(LargeCriteria::getVersion, root -> root.get("version"))
+        .withRangeFilter(LargeCriteria::getLocalDate, root -> root.get("localDate"))
+        .withRangeFilter(LargeCriteria::getaShort, root -> root.get("aShort"))
+        .withFilter(LargeCriteria::getActive, root -> root.get("active"))
+        .withFilter(LargeCriteria::getDeleted, root -> root.get("deleted"))
+        .withFilter(LargeCriteria::getUuid, root -> root.get("uuid"))
+        .withRangeFilter(LargeCriteria::getDuration, root -> root.get("duration"))
+        .withRangeFilter(LargeCriteria::getParentId, root -> root.get("parentId"))
+        .withStringFilter(LargeCriteria::getParentName, root -> root.get("parentName"))
+        .build();
+
+    private final QueryService<BenchmarkEntity> queryService = new QueryService<BenchmarkEntity>() {
+    };
+
+    private final Root<BenchmarkEntity> root = JpaStubs.stub(Root.class);
+
+    private final CriteriaQuery<?> query = JpaStubs.stub(CriteriaQuery.class);
+
+    private final CriteriaBuilder builder = JpaStubs.stub(CriteriaBuilder.class);
+
+    private SmallCriteria smallCriteria;
+
+    private LargeCriteria largeCriteria;
+
+    @Setup
+    public void setup() {
+        smallCriteria = SmallCriteria.create();
+        largeCriteria = LargeCriteria.create();
+    }
+
+    @Benchmark
+    public Predicate smallCriteria() {
+        Specification<BenchmarkEntity> specification = Specification.where(null);
+        specification = specification.and(queryService.buildSpecification(smallCriteria.getId(), root -> root.get("id")));
+        specification = specification.and(queryService.buildSpecification(smallCriteria.getName(), root -> root.get("name")));
+        specification = specification.and(queryService.buildSpecification(smallCriteria.getCreateTime(), root -> root.get("createTime")));
+        return specification.toPredicate(root, query, builder);
+    }
+
+    @Benchmark
+    public Predicate largeCriteria() {
+        Specification<BenchmarkEntity> specification = Specification.where(null);
+        specification = specification.and(queryService.buildSpecification(largeCriteria.getId(), root -> root.get("id")));
+        specification = specification.and(queryService.buildSpecification(largeCriteria.getName(), root -> root.get("name")));
+        specification = specification.and(queryService.buildSpecification(largeCriteria.getDescription(), root -> root.get("description")));
+        specification = specification.and(queryService.buildSpecification(largeCriteria.getEmail(), root -> root.get("email")));
+        specification = specification.and(queryService.buildSpecification(largeCriteria.getCreateTime(), root -> root.get("createTime")));
+        specification = specification.and(queryService.buildSpecification(largeCriteria.getUpdateTime(), root -> root.get("updateTime")));
+        specification = specification.and(queryService.buildSpecification(largeCriteria.getTotal(), root -> root.get("total")));
+        specification = specification.and(queryService.buildSpecification(largeCriteria.getTax(), root -> root.get("tax")));
+        specification = specification.and(queryService.buildSpecification(largeCriteria.getCount(), root -> root.get("count")));
+        specification = specification.and(queryService.buildSpecification(largeCriteria.getVersion(), root -> root.get("version")));
+        specification = specification.and(queryService.buildSpecification(largeCriteria.getLocalDate(), root -> root.get("localDate")));
+        specification = specification.and(queryService.buildSpecification(largeCriteria.getaShort(), root -> root.get("aShort")));
+        specification = specification.and(queryService.buildSpecification(largeCriteria.getActive(), root -> root.get("active")));
+        specification = specification.and(queryService.buildSpecification(largeCriteria.getDeleted(), root -> root.get("deleted")));
+        specification = specification.and(queryService.buildSpecification(largeCriteria.getUuid(), root -> root.get("uuid")));
+        specification = specification.and(queryService.buildSpecification(largeCriteria.getDuration(), root -> root.get("duration")));
+        specification = specification.and(queryService.buildSpecification(largeCriteria.getParentId(), root -> root.get("parentId")));
+        specification = specification.and(queryService.buildSpecification(largeCriteria.getParentName(), root -> root.get("parentName")));
+        return specification.toPredicate(root, query, builder);
+    }
+
+    @Benchmark
+    public Predicate largeCriteriaPlan() {
+        return LARGE_CRITERIA_PLAN.toSpecification(largeCriteria).toPredicate(root, query, builder);
+    }
+
+    @Benchmark
+    public Predicate inIgnoreCase(final InListState state) {
+        return queryService.buildSpecification(state.inIgnoreCaseFilter, root -> root.get("name"))
+            .toPredicate(root, query, builder);
+    }
+
+    @State(Scope.Benchmark)
+    public static class InListState {
+
+        @Param({"10", "1000", "10000"})
+        private int inSize;
+
+        private StringFilter inIgnoreCaseFilter;
+
+        @Setup
+        public void setup() {
+            final List<String> values = new ArrayList<>(inSize);
+            for (int i = 0; i < inSize; i++) {
+                values.add("Value" + i);
+            }
+            inIgnoreCaseFilter = new StringFilter();
+            inIgnoreCaseFilter.setIn(values);
+        }
+    }
+
+    static class BenchmarkEntity {
+    }
+}
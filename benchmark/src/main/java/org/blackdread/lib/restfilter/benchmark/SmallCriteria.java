@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.benchmark;
+
+import org.blackdread.lib.restfilter.filter.InstantFilter;
+import org.blackdread.lib.restfilter.filter.LongFilter;
+import org.blackdread.lib.restfilter.filter.StringFilter;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Typical criteria of a simple list endpoint, few filters set.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+public class SmallCriteria {
+
+    private LongFilter id;
+
+    private StringFilter name;
+
+    private InstantFilter createTime;
+
+    public static SmallCriteria create() {
+        final SmallCriteria criteria = new SmallCriteria();
+        criteria.id = new LongFilter();
+        criteria.id.setIn(Arrays.asList(1L, 2L, 3L));
+        criteria.name = new StringFilter();
+        criteria.name.setContains("name");
+        criteria.createTime = new InstantFilter();
+        criteria.createTime.setGreaterThanOrEqual(Instant.parse("2019-01-01T00:00:00Z"));
+        criteria.createTime.setLessThan(Instant.parse("2020-01-01T00:00:00Z"));
+        return criteria;
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public StringFilter getName() {
+        return name;
+    }
+
+    public InstantFilter getCreateTime() {
+        return createTime;
+    }
+}
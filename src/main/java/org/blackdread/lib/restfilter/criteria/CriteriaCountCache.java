@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.criteria;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Total counts of paged searches cached by {@link CriteriaFingerprint} of the criteria only, so all pages and sorts of a search share the count.
+ * Counts expire with the time to live of the given cache, usually longer than the one of pages.
+ * <p>Above a threshold, an estimated count (from the query plan, etc) can be used instead of the exact count.</p>
+ * <pre>
+ * CriteriaCountCache countCache = new CriteriaCountCache(
+ *     CriteriaResultCacheBuilder.newBuilder().name("children-count").expireAfterWrite(Duration.ofMinutes(5)).build(),
+ *     JooqCacheInvalidationListener.tableNames(CHILD_ENTITY, PARENT_ENTITY));
+ *
+ * long total = countCache.count(criteria, () -&gt; create.fetchCount(select));
+ * </pre>
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+@ThreadSafe
+public final class CriteriaCountCache {
+
+    private final CriteriaResultCache<Long> cache;
+
+    private final List<String> tables;
+
+    private final long estimateThreshold;
+
+    /**
+     * Counts are always exact.
+     *
+     * @param cache  cache of counts (not shared with other searches)
+     * @param tables tables read by the count query
+     */
+    public CriteriaCountCache(final CriteriaResultCache<Long> cache, final Collection<String> tables) {
+        this(cache, tables, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param cache             cache of counts (not shared with other searches)
+     * @param tables            tables read by the count query
+     * @param estimateThreshold estimated counts greater or equal to it are used instead of exact counts
+     */
+    public CriteriaCountCache(final CriteriaResultCache<Long> cache, final Collection<String> tables, final long estimateThreshold) {
+        if (estimateThreshold < 0)
+            throw new IllegalArgumentException("Estimate threshold cannot be negative");
+        this.cache = Objects.requireNonNull(cache, "cache");
+        this.tables = Collections.unmodifiableList(new ArrayList<>(tables));
+        this.estimateThreshold = estimateThreshold;
+    }
+
+    /**
+     * @param criteria   criteria of the search (can be null)
+     * @param exactCount count query
+     * @return cached or counted total
+     */
+    public long count(@Nullable final Object criteria, final LongSupplier exactCount) {
+        return count(criteria, exactCount, null);
+    }
+
+    /**
+     * The estimated count is used only if greater or equal to threshold, the exact count is queried otherwise.
+     *
+     * @param criteria       criteria of the search (can be null)
+     * @param exactCount     count query
+     * @param estimatedCount estimation of count (can be null)
+     * @return cached, estimated or counted total
+     */
+    public long count(@Nullable final Object criteria, final LongSupplier exactCount, @Nullable final LongSupplier estimatedCount) {
+        final Long count = cache.get(CriteriaFingerprint.of(criteria), tables, () -> {
+            if (estimatedCount != null && estimateThreshold != Long.MAX_VALUE) {
+                final long estimated = estimatedCount.getAsLong();
+                if (estimated >= estimateThreshold) {
+                    return estimated;
+                }
+            }
+            return exactCount.getAsLong();
+        });
+        return Objects.requireNonNull(count);
+    }
+
+    /**
+     * Lazy count, for {@code PageableExecutionUtils} and page helpers that count only when needed.
+     *
+     * @param criteria   criteria of the search (can be null)
+     * @param exactCount count query
+     * @return supplier of cached or counted total
+     */
+    public LongSupplier counter(@Nullable final Object criteria, final LongSupplier exactCount) {
+        return () -> count(criteria, exactCount);
+    }
+
+    /**
+     * @param criteria       criteria of the search (can be null)
+     * @param exactCount     count query
+     * @param estimatedCount estimation of count (can be null)
+     * @return supplier of cached, estimated or counted total
+     */
+    public LongSupplier counter(@Nullable final Object criteria, final LongSupplier exactCount, @Nullable final LongSupplier estimatedCount) {
+        return () -> count(criteria, exactCount, estimatedCount);
+    }
+
+    /**
+     * @return cache of counts (statistics, invalidation, etc)
+     */
+    public CriteriaResultCache<Long> getCache() {
+        return cache;
+    }
+
+    public long getEstimateThreshold() {
+        return estimateThreshold;
+    }
+}
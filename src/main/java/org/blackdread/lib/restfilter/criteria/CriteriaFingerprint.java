@@ -0,0 +1,563 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.criteria;
+
+import org.blackdread.lib.restfilter.criteria.parser.CriteriaData;
+import org.blackdread.lib.restfilter.criteria.parser.CriteriaFieldData;
+import org.blackdread.lib.restfilter.criteria.parser.CriteriaFieldParserUtil;
+import org.blackdread.lib.restfilter.criteria.parser.CriteriaMethodData;
+import org.blackdread.lib.restfilter.filter.Filter;
+import org.blackdread.lib.restfilter.filter.RangeFilter;
+import org.blackdread.lib.restfilter.filter.StringFilter;
+import org.blackdread.lib.restfilter.util.SortedIntList;
+import org.blackdread.lib.restfilter.util.SortedLongList;
+import org.blackdread.lib.restfilter.util.SortedPrimitiveList;
+import org.blackdread.lib.restfilter.util.SortedShortList;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Stable 128 bits fingerprint of a criteria, to use as key of caches, for de-duplication of requests or in {@code ETag} (with a version of the data).
+ * <p>Filters are fingerprinted in their canonical form ({@link CriteriaOptimizerUtil#optimize(Filter)}) and {@code in}/{@code notIn} without order,
+ * so criteria matching the same rows have the same fingerprint ({@code in=1,2} and {@code in=2,1}, a filter with no value and no filter, etc).
+ * Fields and {@link org.blackdread.lib.restfilter.criteria.annotation.CriteriaInclude} methods are read with {@link CriteriaData}, no query string is built.</p>
+ * <p>Values are mixed with MurmurHash3 (x64, 128 bits), it is not a cryptographic hash.</p>
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+@Immutable
+@ThreadSafe
+public final class CriteriaFingerprint implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final long high;
+
+    private final long low;
+
+    CriteriaFingerprint(final long high, final long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * @param criteria criteria (can be null)
+     * @return fingerprint of criteria
+     */
+    public static CriteriaFingerprint of(@Nullable final Object criteria) {
+        return newHasher().putCriteria(criteria).fingerprint();
+    }
+
+    /**
+     * @param criteria criteria (can be null)
+     * @return fingerprint of the shape of criteria, see {@link Hasher#putCriteriaShape(Object, IntUnaryOperator)}
+     */
+    public static CriteriaFingerprint shapeOf(@Nullable final Object criteria) {
+        return newHasher().putCriteriaShape(criteria, IntUnaryOperator.identity()).fingerprint();
+    }
+
+    /**
+     * @return a new hasher to fingerprint a criteria with other values (page, sort, version of data, etc)
+     */
+    public static Hasher newHasher() {
+        return new Hasher();
+    }
+
+    public long getHigh() {
+        return high;
+    }
+
+    public long getLow() {
+        return low;
+    }
+
+    /**
+     * @return 32 lowercase hexadecimal characters
+     */
+    public String toHexString() {
+        final char[] chars = new char[32];
+        writeHex(chars, 0, high);
+        writeHex(chars, 16, low);
+        return new String(chars);
+    }
+
+    private static void writeHex(final char[] chars, final int offset, final long value) {
+        for (int i = 0; i < 16; i++) {
+            chars[offset + i] = HEX[(int) (value >>> (60 - 4 * i)) & 0xF];
+        }
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final CriteriaFingerprint that = (CriteriaFingerprint) o;
+        return high == that.high && low == that.low;
+    }
+
+    @Override
+    public int hashCode() {
+        // bits are already well distributed
+        return (int) low;
+    }
+
+    @Override
+    public String toString() {
+        return toHexString();
+    }
+
+    /**
+     * Values are typed so {@code 1L} and {@code "1"} are different, integral numbers are the same whatever their type and {@code BigDecimal} ignore scale.
+     * Other values are fingerprinted with their class name and {@code toString()}.
+     * <p>A hasher can be reused after {@link #fingerprint()} to add more values.</p>
+     */
+    @NotThreadSafe
+    public static final class Hasher {
+
+        private static final long C1 = 0x87c37b91114253d5L;
+        private static final long C2 = 0x4cf5ad432745937fL;
+
+        private static final long NULL = 0x6e756c6cL;
+        private static final long STRING = 1;
+        private static final long INTEGER = 2;
+        private static final long DECIMAL = 3;
+        private static final long DOUBLE = 4;
+        private static final long BOOLEAN = 5;
+        private static final long ENUM = 6;
+        private static final long OBJECT = 7;
+        private static final long ORDERED = 8;
+        private static final long UNORDERED = 9;
+        private static final long FILTER = 10;
+        private static final long CRITERIA = 11;
+        private static final long CASE_INSENSITIVE = 12;
+        private static final long END = 13;
+
+        private long h1;
+        private long h2;
+        private long pending;
+        private boolean hasPending;
+        private long length;
+
+        // reused for values of unordered collections
+        private Hasher child;
+
+        Hasher() {
+        }
+
+        /**
+         * @param criteria criteria (can be null), filters with no value are skipped
+         * @return same hasher (for chaining)
+         */
+        public Hasher putCriteria(@Nullable final Object criteria) {
+            if (criteria == null) {
+                return putLong(NULL);
+            }
+            putLong(CRITERIA).putString(criteria.getClass().getName());
+            final CriteriaData criteriaData = CriteriaFieldParserUtil.getCriteriaData(criteria);
+            for (final CriteriaFieldData fieldData : criteriaData.getFields()) {
+                putNamedValue(fieldData.getFieldName(), fieldData.getFieldValue(criteria));
+            }
+            for (final CriteriaMethodData methodData : criteriaData.getMethods()) {
+                putNamedValue(methodData.getMethodName(), methodData.getMethodReturnValue(criteria));
+            }
+            return putLong(END);
+        }
+
+        /**
+         * @param filter filter (can be null), fingerprint of its canonical form
+         * @return same hasher (for chaining)
+         */
+        @SuppressWarnings("rawtypes")
+        public Hasher putFilter(@Nullable final Filter<?> filter) {
+            if (filter == null) {
+                return putLong(NULL);
+            }
+            final Filter<?> optimized = CriteriaOptimizerUtil.optimize(filter);
+            final boolean ignoreCase = optimized instanceof StringFilter && ((StringFilter) optimized).isIgnoreCase();
+            putLong(FILTER);
+            putFilterValue(optimized.getEquals(), ignoreCase);
+            putFilterValue(optimized.getNotEquals(), ignoreCase);
+            putValue(optimized.getSpecified());
+            putUnordered(optimized.getIn(), ignoreCase);
+            putUnordered(optimized.getNotIn(), ignoreCase);
+            if (optimized instanceof RangeFilter) {
+                final RangeFilter rangeFilter = (RangeFilter) optimized;
+                putValue(rangeFilter.getGreaterThan());
+                putValue(rangeFilter.getGreaterThanOrEqual());
+                putValue(rangeFilter.getLessThan());
+                putValue(rangeFilter.getLessThanOrEqual());
+            }
+            if (optimized instanceof StringFilter) {
+                final StringFilter stringFilter = (StringFilter) optimized;
+                putFilterValue(stringFilter.getContains(), ignoreCase);
+                putFilterValue(stringFilter.getNotContains(), ignoreCase);
+                putBoolean(ignoreCase);
+            }
+            return putLong(END);
+        }
+
+        /**
+         * Shape of a criteria: which filters and operators are set but not their values, so criteria building the same SQL (only bind values differ) have the same shape.
+         * Filters are taken as is (not in canonical form) and as optimized by {@link CriteriaOptimizerUtil#optimize(Filter)} since the SQL is built from one or the other
+         * (see {@code isFilterOptimizationEnabled()} of query services), {@code specified} and ignore case are kept as they change the SQL.
+         * Other values (not filters) are fingerprinted as with {@link #putCriteria(Object)}.
+         *
+         * @param criteria     criteria (can be null), filters with no value are skipped
+         * @param inListBucket bucket of sizes of {@code in}/{@code notIn} rendering the same SQL (identity by default, {@code InListUtil::paddedSize} with padded in lists, etc)
+         * @return same hasher (for chaining)
+         */
+        public Hasher putCriteriaShape(@Nullable final Object criteria, final IntUnaryOperator inListBucket) {
+            if (criteria == null) {
+                return putLong(NULL);
+            }
+            putLong(CRITERIA).putString(criteria.getClass().getName());
+            final CriteriaData criteriaData = CriteriaFieldParserUtil.getCriteriaData(criteria);
+            for (final CriteriaFieldData fieldData : criteriaData.getFields()) {
+                putNamedShape(fieldData.getFieldName(), fieldData.getFieldValue(criteria), inListBucket);
+            }
+            for (final CriteriaMethodData methodData : criteriaData.getMethods()) {
+                putNamedShape(methodData.getMethodName(), methodData.getMethodReturnValue(criteria), inListBucket);
+            }
+            return putLong(END);
+        }
+
+        /**
+         * @param filter       filter (can be null)
+         * @param inListBucket bucket of sizes of {@code in}/{@code notIn} rendering the same SQL
+         * @return same hasher (for chaining)
+         * @see #putCriteriaShape(Object, IntUnaryOperator)
+         */
+        @SuppressWarnings("rawtypes")
+        public Hasher putFilterShape(@Nullable final Filter<?> filter, final IntUnaryOperator inListBucket) {
+            if (filter == null) {
+                return putLong(NULL);
+            }
+            putLong(FILTER).putString(filter.getClass().getName());
+            putOperatorShape(filter, inListBucket);
+            // SQL is built from the optimized filter if optimization is enabled (gt=1&gte=2 renders '>=' but gt=5&gte=2 renders '>')
+            final Filter<?> optimized = CriteriaOptimizerUtil.optimize(filter);
+            putBoolean(CriteriaOptimizerUtil.isNeverMatching(optimized));
+            putOperatorShape(optimized, inListBucket);
+            return putLong(END);
+        }
+
+        @SuppressWarnings("rawtypes")
+        private void putOperatorShape(final Filter<?> filter, final IntUnaryOperator inListBucket) {
+            putBoolean(filter.getEquals() != null);
+            putBoolean(filter.getNotEquals() != null);
+            putValue(filter.getSpecified());
+            putLong(filter.getIn() == null ? -1 : inListBucket.applyAsInt(filter.getIn().size()));
+            putLong(filter.getNotIn() == null ? -1 : inListBucket.applyAsInt(filter.getNotIn().size()));
+            if (filter instanceof RangeFilter) {
+                final RangeFilter rangeFilter = (RangeFilter) filter;
+                putBoolean(rangeFilter.getGreaterThan() != null);
+                putBoolean(rangeFilter.getGreaterThanOrEqual() != null);
+                putBoolean(rangeFilter.getLessThan() != null);
+                putBoolean(rangeFilter.getLessThanOrEqual() != null);
+            }
+            if (filter instanceof StringFilter) {
+                final StringFilter stringFilter = (StringFilter) filter;
+                putBoolean(stringFilter.getContains() != null);
+                putBoolean(stringFilter.getNotContains() != null);
+                putBoolean(stringFilter.isIgnoreCase());
+            }
+        }
+
+        /**
+         * @param value value (can be null), criteria and filters are fingerprinted as with {@link #putCriteria(Object)} and {@link #putFilter(Filter)},
+         *              sets and maps without order, other iterables and arrays with order
+         * @return same hasher (for chaining)
+         */
+        public Hasher putValue(@Nullable final Object value) {
+            if (value == null) {
+                return putLong(NULL);
+            }
+            if (value instanceof String) {
+                return putLong(STRING).putString((String) value);
+            }
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return putLong(INTEGER).putLong(((Number) value).longValue());
+            }
+            if (value instanceof BigDecimal) {
+                final BigDecimal decimal = (BigDecimal) value;
+                return putLong(DECIMAL).putString(decimal.signum() == 0 ? "0" : decimal.stripTrailingZeros().toString());
+            }
+            if (value instanceof BigInteger) {
+                return putLong(DECIMAL).putString(value.toString());
+            }
+            if (value instanceof Double || value instanceof Float) {
+                return putLong(DOUBLE).putLong(Double.doubleToLongBits(((Number) value).doubleValue()));
+            }
+            if (value instanceof Boolean) {
+                return putLong(BOOLEAN).putBoolean((Boolean) value);
+            }
+            if (value instanceof Enum) {
+                return putLong(ENUM).putString(((Enum<?>) value).getDeclaringClass().getName()).putString(((Enum<?>) value).name());
+            }
+            if (value instanceof Filter) {
+                return putFilter((Filter<?>) value);
+            }
+            if (value instanceof Criteria) {
+                return putCriteria(value);
+            }
+            if (value instanceof Set) {
+                return putUnordered((Set<?>) value, false);
+            }
+            if (value instanceof Map) {
+                return putUnordered(((Map<?, ?>) value).entrySet(), false);
+            }
+            if (value instanceof Map.Entry) {
+                return putLong(ORDERED).putValue(((Map.Entry<?, ?>) value).getKey()).putValue(((Map.Entry<?, ?>) value).getValue());
+            }
+            if (value instanceof Iterable) {
+                putLong(ORDERED);
+                long count = 0;
+                for (final Object element : (Iterable<?>) value) {
+                    putValue(element);
+                    count++;
+                }
+                return putLong(count);
+            }
+            if (value.getClass().isArray()) {
+                final int arrayLength = Array.getLength(value);
+                putLong(ORDERED);
+                for (int i = 0; i < arrayLength; i++) {
+                    putValue(Array.get(value, i));
+                }
+                return putLong(arrayLength);
+            }
+            return putLong(OBJECT).putString(value.getClass().getName()).putString(value.toString());
+        }
+
+        public Hasher putString(@Nullable final String value) {
+            if (value == null) {
+                return putLong(NULL);
+            }
+            final int valueLength = value.length();
+            putLong(valueLength);
+            int i = 0;
+            for (; i + 4 <= valueLength; i += 4) {
+                putLong((long) value.charAt(i) | (long) value.charAt(i + 1) << 16 | (long) value.charAt(i + 2) << 32 | (long) value.charAt(i + 3) << 48);
+            }
+            if (i < valueLength) {
+                long word = 0;
+                for (int shift = 0; i < valueLength; i++, shift += 16) {
+                    word |= (long) value.charAt(i) << shift;
+                }
+                putLong(word);
+            }
+            return this;
+        }
+
+        public Hasher putBoolean(final boolean value) {
+            return putLong(value ? 1 : 0);
+        }
+
+        public Hasher putLong(final long value) {
+            if (hasPending) {
+                mix(pending, value);
+                hasPending = false;
+            } else {
+                pending = value;
+                hasPending = true;
+            }
+            length++;
+            return this;
+        }
+
+        /**
+         * Does not reset the hasher.
+         *
+         * @return fingerprint of values put so far
+         */
+        public CriteriaFingerprint fingerprint() {
+            long a = h1;
+            long b = h2;
+            if (hasPending) {
+                long k1 = pending * C1;
+                k1 = Long.rotateLeft(k1, 31);
+                k1 *= C2;
+                a ^= k1;
+            }
+            a ^= length << 3;
+            b ^= length << 3;
+            a += b;
+            b += a;
+            a = fmix(a);
+            b = fmix(b);
+            a += b;
+            b += a;
+            return new CriteriaFingerprint(a, b);
+        }
+
+        private void putNamedValue(final String name, @Nullable final Object value) {
+            if (value == null || (value instanceof Filter && isEmpty((Filter<?>) value))) {
+                // same as no filter
+                return;
+            }
+            putString(name);
+            putValue(value);
+        }
+
+        private void putNamedShape(final String name, @Nullable final Object value, final IntUnaryOperator inListBucket) {
+            if (value == null || (value instanceof Filter && isEmpty((Filter<?>) value))) {
+                return;
+            }
+            putString(name);
+            if (value instanceof Filter) {
+                putFilterShape((Filter<?>) value, inListBucket);
+            } else if (value instanceof Criteria) {
+                putCriteriaShape(value, inListBucket);
+            } else {
+                putValue(value);
+            }
+        }
+
+        private void putFilterValue(@Nullable final Object value, final boolean ignoreCase) {
+            if (ignoreCase && value != null) {
+                // 'in' ignoring case compares upper case and 'equals' lower case, both are kept
+                final String string = (String) value;
+                putLong(CASE_INSENSITIVE).putString(string.toUpperCase(Locale.ROOT)).putString(string.toLowerCase(Locale.ROOT));
+            } else {
+                putValue(value);
+            }
+        }
+
+        /**
+         * Fingerprint of each value is summed so order does not matter.
+         */
+        private Hasher putUnordered(@Nullable final Collection<?> values, final boolean ignoreCase) {
+            if (values == null) {
+                return putLong(NULL);
+            }
+            if (child == null) {
+                child = new Hasher();
+            }
+            long sumHigh = 0;
+            long sumLow = 0;
+            if (values instanceof SortedPrimitiveList) {
+                // same as putValue but without boxing
+                final SortedPrimitiveList<?> primitiveList = (SortedPrimitiveList<?>) values;
+                for (int i = 0; i < primitiveList.size(); i++) {
+                    child.reset();
+                    child.putLong(INTEGER).putLong(longAt(primitiveList, i));
+                    final CriteriaFingerprint fingerprint = child.fingerprint();
+                    sumHigh += fingerprint.high;
+                    sumLow += fingerprint.low;
+                }
+            } else {
+                for (final Object value : values) {
+                    child.reset();
+                    child.putFilterValue(value, ignoreCase);
+                    final CriteriaFingerprint fingerprint = child.fingerprint();
+                    sumHigh += fingerprint.high;
+                    sumLow += fingerprint.low;
+                }
+            }
+            return putLong(UNORDERED).putLong(values.size()).putLong(sumHigh).putLong(sumLow);
+        }
+
+        private static long longAt(final SortedPrimitiveList<?> list, final int index) {
+            if (list instanceof SortedLongList) {
+                return ((SortedLongList) list).getLong(index);
+            }
+            if (list instanceof SortedIntList) {
+                return ((SortedIntList) list).getInt(index);
+            }
+            if (list instanceof SortedShortList) {
+                return ((SortedShortList) list).getShort(index);
+            }
+            return list.get(index).longValue();
+        }
+
+        private static boolean isEmpty(final Filter<?> filter) {
+            if (filter.getEquals() != null || filter.getNotEquals() != null || filter.getSpecified() != null
+                || filter.getIn() != null || filter.getNotIn() != null) {
+                return false;
+            }
+            if (filter instanceof RangeFilter) {
+                final RangeFilter<?> rangeFilter = (RangeFilter<?>) filter;
+                if (rangeFilter.getGreaterThan() != null || rangeFilter.getGreaterThanOrEqual() != null
+                    || rangeFilter.getLessThan() != null || rangeFilter.getLessThanOrEqual() != null) {
+                    return false;
+                }
+            }
+            if (filter instanceof StringFilter) {
+                final StringFilter stringFilter = (StringFilter) filter;
+                return stringFilter.getContains() == null && stringFilter.getNotContains() == null;
+            }
+            return true;
+        }
+
+        private void reset() {
+            h1 = 0;
+            h2 = 0;
+            pending = 0;
+            hasPending = false;
+            length = 0;
+        }
+
+        private void mix(long k1, long k2) {
+            k1 *= C1;
+            k1 = Long.rotateLeft(k1, 31);
+            k1 *= C2;
+            h1 ^= k1;
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            k2 *= C2;
+            k2 = Long.rotateLeft(k2, 33);
+            k2 *= C1;
+            h2 ^= k2;
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        private static long fmix(long k) {
+            k ^= k >>> 33;
+            k *= 0xff51afd7ed558ccdL;
+            k ^= k >>> 33;
+            k *= 0xc4ceb9fe1a85ec53L;
+            k ^= k >>> 33;
+            return k;
+        }
+    }
+}
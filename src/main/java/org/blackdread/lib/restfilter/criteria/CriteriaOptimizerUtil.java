@@ -0,0 +1,448 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.criteria;
+
+import org.blackdread.lib.restfilter.criteria.parser.CriteriaData;
+import org.blackdread.lib.restfilter.criteria.parser.CriteriaFieldData;
+import org.blackdread.lib.restfilter.criteria.parser.CriteriaFieldParserUtil;
+import org.blackdread.lib.restfilter.criteria.parser.CriteriaMethodData;
+import org.blackdread.lib.restfilter.filter.Filter;
+import org.blackdread.lib.restfilter.filter.RangeFilter;
+import org.blackdread.lib.restfilter.filter.StringFilter;
+import org.blackdread.lib.restfilter.util.SortedIntList;
+import org.blackdread.lib.restfilter.util.SortedLongList;
+import org.blackdread.lib.restfilter.util.SortedPrimitiveList;
+import org.blackdread.lib.restfilter.util.SortedShortList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Rewrite filters into a canonical form before building SQL: tightest range bounds, {@code notIn}/{@code notEquals} values outside of the range removed,
+ * {@code in}/{@code notIn} values deduplicated and sorted, operators that are ignored removed and unsatisfiable filters detected.
+ * <p>Precedence of {@code QueryService} and {@code JooqFilterUtil} is kept (equals &gt; in &gt; others combined with 'and'), operators ignored because of it
+ * are removed and not intersected so a filter matches the same rows before and after optimization. Contradictions are only detected between operators
+ * combined with 'and' (like {@code greaterThan=10&lessThan=5} or {@code specified=false&notEquals=1}).</p>
+ * <p>An unsatisfiable filter is rewritten to an empty {@code in}, which never matches, see {@link #isNeverMatching(Filter)}.</p>
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+public final class CriteriaOptimizerUtil {
+
+    private static final Logger log = LoggerFactory.getLogger(CriteriaOptimizerUtil.class);
+
+    private CriteriaOptimizerUtil() {
+    }
+
+    /**
+     * @param filter filter to optimize (not modified)
+     * @param <T>    filter type
+     * @return optimized copy of filter, null if filter is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Filter<?>> T optimize(@Nullable final T filter) {
+        if (filter == null) {
+            return null;
+        }
+        final Filter<Object> copy = (Filter<Object>) filter.copy();
+        if (copy.getEquals() != null) {
+            clearAllButEqualsAndIn(copy);
+            copy.setIn(null);
+        } else if (copy.getIn() != null) {
+            optimizeIn(copy);
+        } else if (!optimizeAnd(copy)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Filter is unsatisfiable: {}", filter);
+            }
+            neverMatching(copy);
+        }
+        return (T) copy;
+    }
+
+    /**
+     * @param filter filter to check (can be null)
+     * @return true if filter can not match any row
+     */
+    public static boolean isUnsatisfiable(@Nullable final Filter<?> filter) {
+        return filter != null && isNeverMatching(optimize(filter));
+    }
+
+    /**
+     * Does not optimize the filter, cheap check meant for filters returned by {@link #optimize(Filter)}.
+     *
+     * @param filter filter to check (can be null)
+     * @return true if filter is set to never match (empty {@code in} and no {@code equals})
+     */
+    public static boolean isNeverMatching(@Nullable final Filter<?> filter) {
+        return filter != null && filter.getEquals() == null && filter.getIn() != null && filter.getIn().isEmpty();
+    }
+
+    /**
+     * Filters of a criteria are combined with 'and', one unsatisfiable filter is enough for the criteria to match nothing,
+     * caller can then return an empty result without executing any query.
+     *
+     * @param criteria criteria to check (can be null)
+     * @return true if any filter of the criteria (fields and methods) can not match any row
+     */
+    public static boolean isAnyFilterUnsatisfiable(@Nullable final Object criteria) {
+        if (criteria == null) {
+            return false;
+        }
+        final CriteriaData criteriaData = CriteriaFieldParserUtil.getCriteriaData(criteria);
+        for (final CriteriaFieldData fieldData : criteriaData.getFields()) {
+            if (fieldData.isFilter() && isUnsatisfiable((Filter<?>) fieldData.getFieldValue(criteria))) {
+                return true;
+            }
+        }
+        for (final CriteriaMethodData methodData : criteriaData.getMethods()) {
+            if (methodData.isFilter() && isUnsatisfiable((Filter<?>) methodData.getMethodReturnValue(criteria))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Only fields are optimized, methods annotated with {@link org.blackdread.lib.restfilter.criteria.annotation.CriteriaInclude} are left as is.
+     *
+     * @param criteria criteria to optimize (not modified)
+     * @param <T>      criteria type
+     * @return copy of criteria with all filter fields optimized
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Criteria> T optimizeFilters(final T criteria) {
+        final T copy = (T) criteria.copy();
+        for (final CriteriaFieldData fieldData : CriteriaFieldParserUtil.getCriteriaData(copy).getFields()) {
+            if (!fieldData.isFilter()) {
+                continue;
+            }
+            final Filter<?> filter = (Filter<?>) fieldData.getFieldValue(copy);
+            if (filter == null) {
+                continue;
+            }
+            try {
+                fieldData.getField().set(copy, optimize(filter));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return copy;
+    }
+
+    private static void optimizeIn(final Filter<Object> filter) {
+        final List<Object> values = distinct(filter, filter.getIn());
+        clearAllButEqualsAndIn(filter);
+        if (values.isEmpty()) {
+            neverMatching(filter);
+        } else if (values.size() == 1 && !isIgnoreCase(filter)) {
+            // ignore case 'in' is on upper case while 'equals' is on lower case, not exactly the same for some characters
+            filter.setEquals(values.get(0));
+            filter.setIn(null);
+        } else {
+            filter.setIn(values);
+        }
+    }
+
+    /**
+     * @return false if filter is unsatisfiable
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static boolean optimizeAnd(final Filter<Object> filter) {
+        if (filter.getNotIn() != null && hasNull(filter.getNotIn())) {
+            // 'x not in (1, null)' is never true
+            return false;
+        }
+        final boolean excludedNull = isNullExcluded(filter);
+        if (Boolean.FALSE.equals(filter.getSpecified()) && excludedNull) {
+            return false;
+        }
+        if ((Filter<?>) filter instanceof StringFilter && !optimizeContains((StringFilter) (Filter<?>) filter)) {
+            return false;
+        }
+        if (filter.getNotIn() != null) {
+            filter.setNotIn(distinct(filter, filter.getNotIn()));
+        }
+        if (filter instanceof RangeFilter && !optimizeRange((RangeFilter) filter)) {
+            return false;
+        }
+        if (filter.getEquals() != null) {
+            // range of a single value
+            return true;
+        }
+        if (filter.getNotEquals() != null && filter.getNotIn() != null && containsValue(filter, filter.getNotIn(), filter.getNotEquals())) {
+            filter.setNotEquals(null);
+        }
+        if (filter.getNotIn() != null && filter.getNotIn().isEmpty()) {
+            // empty 'not in' matches all rows, even null
+            filter.setNotIn(null);
+        }
+        if (isNullExcluded(filter)) {
+            if (Boolean.TRUE.equals(filter.getSpecified())) {
+                filter.setSpecified(null);
+            }
+        } else if (excludedNull) {
+            // removed operators were excluding null (like 'contains' empty)
+            filter.setSpecified(true);
+        }
+        return true;
+    }
+
+    /**
+     * @return false if filter is unsatisfiable
+     */
+    private static boolean optimizeContains(final StringFilter filter) {
+        if ("".equals(filter.getNotContains())) {
+            return false;
+        }
+        if (filter.getContains() != null && filter.getNotContains() != null && filter.getContains().contains(filter.getNotContains())) {
+            return false;
+        }
+        if ("".equals(filter.getContains())) {
+            filter.setContains(null);
+        }
+        return true;
+    }
+
+    /**
+     * @return false if filter is unsatisfiable
+     */
+    private static <X extends Comparable<? super X>> boolean optimizeRange(final RangeFilter<X> filter) {
+        final X lower;
+        final boolean lowerInclusive;
+        if (filter.getGreaterThanOrEqual() != null && (filter.getGreaterThan() == null || filter.getGreaterThanOrEqual().compareTo(filter.getGreaterThan()) > 0)) {
+            lower = filter.getGreaterThanOrEqual();
+            lowerInclusive = true;
+        } else {
+            lower = filter.getGreaterThan();
+            lowerInclusive = false;
+        }
+        final X upper;
+        final boolean upperInclusive;
+        if (filter.getLessThanOrEqual() != null && (filter.getLessThan() == null || filter.getLessThanOrEqual().compareTo(filter.getLessThan()) < 0)) {
+            upper = filter.getLessThanOrEqual();
+            upperInclusive = true;
+        } else {
+            upper = filter.getLessThan();
+            upperInclusive = false;
+        }
+        if (lower == null && upper == null) {
+            return true;
+        }
+        boolean single = false;
+        if (lower != null && upper != null) {
+            final int compare = lower.compareTo(upper);
+            if (compare > 0 || (compare == 0 && !(lowerInclusive && upperInclusive))) {
+                return false;
+            }
+            single = compare == 0;
+        }
+        filter.setGreaterThan(lowerInclusive ? null : lower);
+        filter.setGreaterThanOrEqual(lowerInclusive ? lower : null);
+        filter.setLessThan(upperInclusive ? null : upper);
+        filter.setLessThanOrEqual(upperInclusive ? upper : null);
+
+        if (filter.getNotEquals() != null && !isInRange(filter.getNotEquals(), lower, lowerInclusive, upper, upperInclusive)) {
+            filter.setNotEquals(null);
+        }
+        if (filter.getNotIn() != null) {
+            final List<X> notIn = new ArrayList<>(filter.getNotIn().size());
+            for (final X value : filter.getNotIn()) {
+                if (isInRange(value, lower, lowerInclusive, upper, upperInclusive)) {
+                    notIn.add(value);
+                }
+            }
+            if (notIn.size() != filter.getNotIn().size()) {
+                filter.setNotIn(notIn);
+            }
+        }
+        if (single) {
+            // values left in notEquals or notIn are equal to the single value of the range
+            if (filter.getNotEquals() != null || (filter.getNotIn() != null && !filter.getNotIn().isEmpty())) {
+                return false;
+            }
+            clearAllButEqualsAndIn(filter);
+            filter.setEquals(lower);
+        }
+        return true;
+    }
+
+    private static <X extends Comparable<? super X>> boolean isInRange(final X value, @Nullable final X lower, final boolean lowerInclusive,
+                                                                        @Nullable final X upper, final boolean upperInclusive) {
+        if (lower != null) {
+            final int compare = value.compareTo(lower);
+            if (compare < 0 || (compare == 0 && !lowerInclusive)) {
+                return false;
+            }
+        }
+        if (upper != null) {
+            final int compare = value.compareTo(upper);
+            return compare < 0 || (compare == 0 && upperInclusive);
+        }
+        return true;
+    }
+
+    /**
+     * @return true if an operator already excludes rows with null value
+     */
+    @SuppressWarnings("rawtypes")
+    private static boolean isNullExcluded(final Filter<?> filter) {
+        if (filter.getNotEquals() != null || (filter.getNotIn() != null && !filter.getNotIn().isEmpty())) {
+            return true;
+        }
+        if (filter instanceof RangeFilter) {
+            final RangeFilter rangeFilter = (RangeFilter) filter;
+            if (rangeFilter.getGreaterThan() != null || rangeFilter.getGreaterThanOrEqual() != null
+                || rangeFilter.getLessThan() != null || rangeFilter.getLessThanOrEqual() != null) {
+                return true;
+            }
+        }
+        if (filter instanceof StringFilter) {
+            final StringFilter stringFilter = (StringFilter) filter;
+            return stringFilter.getContains() != null || stringFilter.getNotContains() != null;
+        }
+        return false;
+    }
+
+    /**
+     * @return values without null, duplicates removed and sorted when values are comparable
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static List<Object> distinct(final Filter<Object> filter, final List<Object> values) {
+        if (values instanceof SortedPrimitiveList) {
+            return values;
+        }
+        final List<Object> notNullValues = new ArrayList<>(values.size());
+        for (final Object value : values) {
+            if (value != null) {
+                notNullValues.add(value);
+            }
+        }
+        if (notNullValues.isEmpty()) {
+            return notNullValues;
+        }
+        if (isIgnoreCase(filter)) {
+            final TreeMap<String, Object> valuesByUpperCase = new TreeMap<>();
+            for (final Object value : notNullValues) {
+                valuesByUpperCase.putIfAbsent(((String) value).toUpperCase(Locale.ROOT), value);
+            }
+            return new ArrayList<>(valuesByUpperCase.values());
+        }
+        final Class<?> type = notNullValues.get(0).getClass();
+        if (!isAllOfType(notNullValues, type)) {
+            return new ArrayList<>(new LinkedHashSet<>(notNullValues));
+        }
+        if (type == Long.class) {
+            return (List) SortedLongList.of((Collection) notNullValues);
+        }
+        if (type == Integer.class) {
+            return (List) SortedIntList.of((Collection) notNullValues);
+        }
+        if (type == Short.class) {
+            return (List) SortedShortList.of((Collection) notNullValues);
+        }
+        if (Comparable.class.isAssignableFrom(type)) {
+            // compareTo so BigDecimal 1.0 and 1.00 are the same value, as in SQL
+            return new ArrayList<>(new TreeSet<>((Collection) notNullValues));
+        }
+        return new ArrayList<>(new LinkedHashSet<>(notNullValues));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static boolean containsValue(final Filter<Object> filter, final List<Object> values, final Object value) {
+        for (final Object other : values) {
+            if (isIgnoreCase(filter)) {
+                // 'not in' ignoring case is on upper case while 'not equals' is on lower case
+                if (((String) other).toUpperCase(Locale.ROOT).equals(((String) value).toUpperCase(Locale.ROOT))
+                    && ((String) other).toLowerCase(Locale.ROOT).equals(((String) value).toLowerCase(Locale.ROOT))) {
+                    return true;
+                }
+            } else if (other instanceof Comparable && other.getClass() == value.getClass()) {
+                if (((Comparable) other).compareTo(value) == 0) {
+                    return true;
+                }
+            } else if (other.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAllOfType(final List<Object> values, final Class<?> type) {
+        for (final Object value : values) {
+            if (value.getClass() != type) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasNull(final List<?> values) {
+        // contains(null) throws on some lists
+        for (final Object value : values) {
+            if (value == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isIgnoreCase(final Filter<?> filter) {
+        return filter instanceof StringFilter && ((StringFilter) filter).isIgnoreCase();
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static void clearAllButEqualsAndIn(final Filter<?> filter) {
+        filter.setNotEquals(null);
+        filter.setNotIn(null);
+        filter.setSpecified(null);
+        if (filter instanceof RangeFilter) {
+            final RangeFilter rangeFilter = (RangeFilter) filter;
+            rangeFilter.setGreaterThan(null);
+            rangeFilter.setGreaterThanOrEqual(null);
+            rangeFilter.setLessThan(null);
+            rangeFilter.setLessThanOrEqual(null);
+        }
+        if (filter instanceof StringFilter) {
+            final StringFilter stringFilter = (StringFilter) filter;
+            stringFilter.setContains(null);
+            stringFilter.setNotContains(null);
+        }
+    }
+
+    private static void neverMatching(final Filter<Object> filter) {
+        clearAllButEqualsAndIn(filter);
+        filter.setEquals(null);
+        filter.setIn(Collections.emptyList());
+    }
+}
@@ -110,6 +110,41 @@ public interface CriteriaQueryParam {
      */
     List<QueryParam> buildQueryParams(final Object criteria);
 
+    /**
+     * Build the query string of criteria like {@code id.equals=5&id.in=1,2&name.contains=a%20b} (without leading '?').
+     *
+     * @param criteria criteria to extract query params
+     * @return query string, empty if no query params
+     * @see #writeQueryParams(Object, Appendable, QueryParamEncoder)
+     */
+    default String buildQueryString(final Object criteria) {
+        final StringBuilder builder = new StringBuilder(64);
+        writeQueryParams(criteria, builder, QueryParamEncoder.PERCENT_ENCODING);
+        return builder.toString();
+    }
+
+    /**
+     * Same as {@link #writeQueryParams(Object, Appendable, QueryParamEncoder)} with {@link QueryParamEncoder#PERCENT_ENCODING}.
+     *
+     * @param criteria      criteria to extract query params
+     * @param stringBuilder where to append query params
+     */
+    default void writeQueryParams(final Object criteria, final StringBuilder stringBuilder) {
+        writeQueryParams(criteria, stringBuilder, QueryParamEncoder.PERCENT_ENCODING);
+    }
+
+    /**
+     * Append query params of criteria as {@code name=value} pairs separated by '&amp;' without building {@link QueryParam}.
+     * <p>
+     * Params are in same order as {@link #buildQueryParams(Object)}, multiple values are joined with ',' like {@link QueryParam#getParamValue()}.
+     * Nothing is appended before the first param, caller adds '?' or '&amp;' if needed.
+     *
+     * @param criteria   criteria to extract query params
+     * @param appendable where to append query params, {@link java.io.IOException} are rethrown as {@link java.io.UncheckedIOException}
+     * @param encoder    encoder of names and values (not applied on '=', '&amp;' and ',' separators)
+     */
+    void writeQueryParams(final Object criteria, final Appendable appendable, final QueryParamEncoder encoder);
+
     /**
      * todo might be better to return QueryParam
      *
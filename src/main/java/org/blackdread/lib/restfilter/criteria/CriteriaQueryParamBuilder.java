@@ -24,6 +24,8 @@
 package org.blackdread.lib.restfilter.criteria;
 
 import org.blackdread.lib.restfilter.filter.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.annotation.concurrent.NotThreadSafe;
 import java.math.BigDecimal;
@@ -37,6 +39,8 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import java.util.UUID;
 import java.util.function.Function;
 
@@ -44,6 +48,8 @@ import java.util.function.Function;
 @SuppressWarnings({"unused", "WeakerAccess"})
 public class CriteriaQueryParamBuilder {
 
+    private static final Logger log = LoggerFactory.getLogger(CriteriaQueryParamBuilder.class);
+
     // Default formatters
     protected static final Function<Enum, String> ENUM_FORMATTER = Enum::name;
     protected static final Function<String, String> STRING_FORMATTER = aString -> aString;
@@ -63,6 +69,8 @@ public class CriteriaQueryParamBuilder {
 
     private boolean matchSubclassForDefaultFilterFormatters = false;
 
+    private boolean enableGeneratedWriters = true;
+
     protected final Map<Class, Function<Object, String>> typeFormatterBySimpleTypeMap = new LinkedHashMap<>(16);
     protected final Map<Class<? extends Filter>, Class> typeFormatterByFilterClassMap = new LinkedHashMap<>(16);
 
@@ -70,6 +78,8 @@ public class CriteriaQueryParamBuilder {
     //    protected final Map<Class<? extends Filter>, FilterQueryParamFormatter> defaultFilterClassFormatterMap = new LinkedHashMap<>(16);
     protected final Map<Class<? extends Filter>, FilterQueryParamFormatter> customQueryParamFormatterMap = new HashMap<>(6);
 
+    protected final Map<Class<?>, CriteriaQueryParamWriter<?>> writerByCriteriaClassMap = new HashMap<>(6);
+
     @SuppressWarnings("unchecked")
     public CriteriaQueryParamBuilder() {
         // Add defaults
@@ -90,6 +100,10 @@ public class CriteriaQueryParamBuilder {
         typeFormatterBySimpleTypeMap.put(Enum.class, (Function) ENUM_FORMATTER);
 
 
+        // subclasses first so they match before their parent when matching subclasses
+        typeFormatterByFilterClassMap.put(PrimitiveLongFilter.class, Long.class);
+        typeFormatterByFilterClassMap.put(PrimitiveIntegerFilter.class, Integer.class);
+        typeFormatterByFilterClassMap.put(PrimitiveShortFilter.class, Short.class);
         typeFormatterByFilterClassMap.put(LongFilter.class, Long.class);
         typeFormatterByFilterClassMap.put(InstantFilter.class, Instant.class);
         typeFormatterByFilterClassMap.put(StringFilter.class, String.class);
@@ -311,13 +325,56 @@ public class CriteriaQueryParamBuilder {
         return this;
     }
 
+    /**
+     * Writers generated for classes annotated with {@link org.blackdread.lib.restfilter.criteria.annotation.CriteriaWriter} are
+     * loaded with {@link ServiceLoader} on {@link #build()}, criteria classes without writer use reflection.
+     *
+     * @param enableGeneratedWriters false to always use reflection (default is true)
+     * @return same {@code CriteriaQueryParamBuilder} instance (for chaining)
+     */
+    public CriteriaQueryParamBuilder enableGeneratedWriters(final boolean enableGeneratedWriters) {
+        this.enableGeneratedWriters = enableGeneratedWriters;
+        return this;
+    }
+
+    /**
+     * Add a writer used instead of reflection for {@link CriteriaQueryParamWriter#getCriteriaClass()}, has priority over generated writers.
+     *
+     * @param writer writer
+     * @return same {@code CriteriaQueryParamBuilder} instance (for chaining)
+     */
+    public CriteriaQueryParamBuilder withCriteriaWriter(final CriteriaQueryParamWriter<?> writer) {
+        Objects.requireNonNull(writer);
+        this.writerByCriteriaClassMap.put(Objects.requireNonNull(writer.getCriteriaClass()), writer);
+        return this;
+    }
+
     public CriteriaQueryParam build() {
+        final Map<Class<?>, CriteriaQueryParamWriter<?>> writers = new HashMap<>();
+        if (enableGeneratedWriters) {
+            writers.putAll(loadGeneratedWriters());
+        }
+        writers.putAll(writerByCriteriaClassMap);
         return new CriteriaQueryParamImpl(
             matchSubclassForDefaultFilterFormatters,
             typeFormatterBySimpleTypeMap,
             typeFormatterByFilterClassMap,
-            customQueryParamFormatterMap
+            customQueryParamFormatterMap,
+            writers
         );
     }
 
+    private static Map<Class<?>, CriteriaQueryParamWriter<?>> loadGeneratedWriters() {
+        final Map<Class<?>, CriteriaQueryParamWriter<?>> writers = new HashMap<>();
+        try {
+            for (final CriteriaQueryParamWriter<?> writer : ServiceLoader.load(CriteriaQueryParamWriter.class)) {
+                writers.put(writer.getCriteriaClass(), writer);
+            }
+        } catch (ServiceConfigurationError e) {
+            // reflection still works, do not fail for an optimization
+            log.warn("Could not load generated criteria writers, reflection is used instead", e);
+        }
+        return writers;
+    }
+
 }
@@ -28,21 +28,20 @@ import org.blackdread.lib.restfilter.criteria.parser.CriteriaFieldData;
 import org.blackdread.lib.restfilter.criteria.parser.CriteriaFieldParserUtil;
 import org.blackdread.lib.restfilter.criteria.parser.CriteriaMethodData;
 import org.blackdread.lib.restfilter.filter.Filter;
-import org.blackdread.lib.restfilter.filter.RangeFilter;
-import org.blackdread.lib.restfilter.filter.StringFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 import javax.annotation.concurrent.ThreadSafe;
 import java.lang.reflect.Array;
-import java.lang.reflect.InvocationTargetException;
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -105,6 +104,21 @@ final class CriteriaQueryParamImpl implements CriteriaQueryParam {
      * Custom formatters from user, short-circuit the logic if filter class is found, user provide its own logic to map a filter to a list of {@link FilterQueryParam}
      */
     private final Map<Class<? extends Filter>, FilterQueryParamFormatter> customQueryParamFormatterMap;
+
+    /**
+     * Writers without reflection, key is the exact criteria class supported by writer
+     */
+    private final Map<Class<?>, CriteriaQueryParamWriter<?>> writerByCriteriaClassMap;
+
+    /**
+     * Formatters of enum filters not found in other maps, key is the enum class
+     */
+    private final Map<Class<?>, FilterQueryParamFormatter> enumFilterFormatterByEnumClassMap = new ConcurrentHashMap<>();
+
+    /**
+     * Default formatters matched for filter sub-classes, key is the filter class
+     */
+    private final Map<Class<? extends Filter>, FilterQueryParamFormatter> subclassFilterFormatterMap = new ConcurrentHashMap<>();
     //    private final Map<Class, Function<Object, String>> defaultFormatterMap;
 //    private final Map<Class, Function<Filter, MultiValueMap<String, String>>> customFormatterMultiValueMap;
 //    private final Map<Class, Function<Object, String>> formatterMap;
@@ -114,43 +128,29 @@ final class CriteriaQueryParamImpl implements CriteriaQueryParam {
     CriteriaQueryParamImpl(final boolean matchSubclassForDefaultFilterFormatters,
                            final Map<Class, Function<Object, String>> simpleTypeFormatterMap,
                            final Map<Class<? extends Filter>, Class> typeFormatterByFilterClassMap,
-                           final Map<Class<? extends Filter>, FilterQueryParamFormatter> customQueryParamFormatterMap) {
+                           final Map<Class<? extends Filter>, FilterQueryParamFormatter> customQueryParamFormatterMap,
+                           final Map<Class<?>, CriteriaQueryParamWriter<?>> writerByCriteriaClassMap) {
         checkBasicFormatterArePresent(simpleTypeFormatterMap);
 
         this.matchSubclassForDefaultFilterFormatters = matchSubclassForDefaultFilterFormatters;
         this.typeFormatterBySimpleTypeMap.putAll(simpleTypeFormatterMap);
 //        this.typeFormatterByFilterClassMap = new LinkedHashMap<>(typeFormatterByFilterClassMap);
         this.customQueryParamFormatterMap = new HashMap<>(customQueryParamFormatterMap);
+        this.writerByCriteriaClassMap = new HashMap<>(writerByCriteriaClassMap);
 
         this.enumFormatter = checkAndGet(Enum.class, simpleTypeFormatterMap);
         this.booleanFormatter = checkAndGet(Boolean.class, simpleTypeFormatterMap);
 
         typeFormatterByFilterClassMap.forEach((filterClass, formatterTypeClass) -> {
-            // eagerly get the formatter then pass the reference to the lambdas
+            // eagerly get the formatter then pass the reference to the filter formatter
             final Function<Object, String> objectToStringFormatter = simpleTypeFormatterMap.get(formatterTypeClass);
-            if (StringFilter.class.isAssignableFrom(filterClass)) {
-                defaultFilterClassFormatterMap.put(filterClass,
-                    (fieldName, filter) ->
-                        FilterQueryParamUtil.buildStringFilterQueryParams(fieldName, (StringFilter) filter, objectToStringFormatter, booleanFormatter)
-                );
-            } else if (RangeFilter.class.isAssignableFrom(filterClass)) {
-                defaultFilterClassFormatterMap.put(filterClass,
-                    (fieldName, filter) ->
-                        FilterQueryParamUtil.buildRangeFilterQueryParams(fieldName, (RangeFilter) filter, objectToStringFormatter, booleanFormatter)
-                );
-            } else if (Filter.class.isAssignableFrom(filterClass)) {
-                defaultFilterClassFormatterMap.put(filterClass,
-                    (fieldName, filter) ->
-                        FilterQueryParamUtil.buildFilterQueryParams(fieldName, filter, objectToStringFormatter, booleanFormatter)
-                );
-            } else {
-                throw new IllegalStateException("Unsupported filter class: " + filterClass.getName());
-            }
+            defaultFilterClassFormatterMap.put(filterClass, DefaultFilterQueryParamFormatter.of(filterClass, objectToStringFormatter, booleanFormatter));
         });
 
         log.debug("typeFormatterBySimpleTypeMap keys: {}", this.typeFormatterBySimpleTypeMap.keySet());
         log.debug("typeFormatterByFilterClassMap: {}", typeFormatterByFilterClassMap);
         log.debug("customQueryParamFormatterMap: {}", this.customQueryParamFormatterMap);
+        log.debug("writerByCriteriaClassMap keys: {}", this.writerByCriteriaClassMap.keySet());
     }
 
     private static Function checkAndGet(final Class typeFormatter, final Map<Class, Function<Object, String>> simpleTypeFormatterMap) {
@@ -178,23 +178,40 @@ final class CriteriaQueryParamImpl implements CriteriaQueryParam {
         if (criteria == null) {
             return Collections.emptyList();
         }
-        final CriteriaData criteriaData = CriteriaFieldParserUtil.getCriteriaData(criteria);
-        final List<CriteriaFieldData> fields = criteriaData.getFields();
-        final List<CriteriaMethodData> methods = criteriaData.getMethods();
+        final List<QueryParam> result = new ArrayList<>();
+        write(criteria, new QueryParamListSink(result));
+        return result;
+    }
 
-        final List<QueryParam> result = new ArrayList<>(fields.size() + methods.size());
+    @Override
+    public void writeQueryParams(final Object criteria, final Appendable appendable, final QueryParamEncoder encoder) {
+        Objects.requireNonNull(appendable);
+        Objects.requireNonNull(encoder);
+        if (criteria == null) {
+            return;
+        }
+        write(criteria, new QueryStringSink(new QueryStringWriter(appendable, encoder)));
+    }
+
+    /**
+     * Read each field/method value of criteria (generated writer if any, otherwise reflection) and pass it to the sink.
+     */
+    @SuppressWarnings("unchecked")
+    private void write(final Object criteria, final CriteriaQueryParamSink sink) {
+        final CriteriaQueryParamWriter writer = writerByCriteriaClassMap.get(criteria.getClass());
+        if (writer != null) {
+            writer.write(criteria, sink);
+            return;
+        }
+
+        final CriteriaData criteriaData = CriteriaFieldParserUtil.getCriteriaData(criteria);
 
         // todo below, refactor after initial tests passing
 
-        for (final CriteriaFieldData fieldData : fields) {
+        for (final CriteriaFieldData fieldData : criteriaData.getFields()) {
             final String paramName = fieldData.getFormattedAliasName()
                 .orElse(fieldData.getFieldName());
-            final Object fieldValue;
-            try {
-                fieldValue = fieldData.getField().get(criteria);
-            } catch (IllegalAccessException e) {
-                throw new IllegalStateException("Could not access field", e);
-            }
+            final Object fieldValue = fieldData.getFieldValue(criteria);
 
             if (fieldValue == null) {
                 log.trace("Skipped field as is null: {}", fieldData.getField());
@@ -203,30 +220,22 @@ final class CriteriaQueryParamImpl implements CriteriaQueryParam {
 
             // todo not tested, see with enums, custom classes, etc
             if (fieldData.isFilter()) {
-                result.addAll(getFilterQueryParams(paramName, (Filter) fieldValue));
+                sink.writeFilter(paramName, (Filter) fieldValue);
             } else if (fieldData.isValue()) {
-                getQueryParamForValue(fieldData, null, paramName, fieldValue)
-                    .ifPresent(result::add);
+                sink.writeValue(paramName, fieldData.getFieldType(), fieldData.isKeyOnly(), fieldValue);
             } else if (fieldData.isIterable()) {
-                getQueryParamForIterable(fieldData, paramName, (Iterable) fieldValue)
-                    .ifPresent(result::add);
+                sink.writeIterable(paramName, getWrappedType(fieldData), (Iterable) fieldValue);
             } else if (fieldData.isArray()) {
-                getQueryParamForArray(fieldData, paramName, fieldValue)
-                    .ifPresent(result::add);
+                sink.writeArray(paramName, getWrappedType(fieldData), fieldValue);
             } else {
                 throw new IllegalStateException("Does not support field data: " + fieldData);
             }
         }
 
-        for (final CriteriaMethodData methodData : methods) {
+        for (final CriteriaMethodData methodData : criteriaData.getMethods()) {
             final String paramName = methodData.getMethodAliasName()
                 .orElse(methodData.getFormattedMethodName());
-            final Object returnValue;
-            try {
-                returnValue = methodData.getMethod().invoke(criteria);
-            } catch (IllegalAccessException | InvocationTargetException e) {
-                throw new IllegalStateException("Could not access/invoke method", e);
-            }
+            final Object returnValue = methodData.getMethodReturnValue(criteria);
 
             if (returnValue == null) {
                 log.trace("Skipped method return value as is null: {}", methodData.getMethod());
@@ -236,35 +245,32 @@ final class CriteriaQueryParamImpl implements CriteriaQueryParam {
             // todo not tested, see with enums, custom classes, etc
 
             if (methodData.isFilter()) {
-                result.addAll(getFilterQueryParams(paramName, (Filter) returnValue));
+                sink.writeFilter(paramName, (Filter) returnValue);
             } else if (methodData.isValue()) {
-                getQueryParamForValue(null, methodData, paramName, returnValue)
-                    .ifPresent(result::add);
+                sink.writeValue(paramName, methodData.getMethodReturnType(), methodData.isKeyOnly(), returnValue);
             } else if (methodData.isIterable()) {
-                getQueryParamForIterable(methodData, paramName, (Iterable) returnValue)
-                    .ifPresent(result::add);
+                sink.writeIterable(paramName, getWrappedType(methodData), (Iterable) returnValue);
             } else if (methodData.isArray()) {
-                getQueryParamForArray(methodData, paramName, returnValue)
-                    .ifPresent(result::add);
+                sink.writeArray(paramName, getWrappedType(methodData), returnValue);
             } else {
                 throw new IllegalStateException("Does not support method data: " + methodData);
             }
         }
+    }
 
-        return result;
+    private static Class<?> getWrappedType(final CriteriaFieldData fieldData) {
+        return fieldData.getWrappedType()
+            .orElseThrow(() -> new NoSuchElementException(String.format("Iterable field '%s' was not provided wrapped type class", fieldData.getFieldName())));
+//                    .orElseGet(() -> CriteriaFieldParserUtil.getFirstValue()) // todo later
     }
 
-    private Optional<QueryParam> getQueryParamForValue(final CriteriaFieldData fieldData, final CriteriaMethodData methodData, final String paramName, final Object value) {
-        final Class<?> valueType;
-        final boolean isKeyOnly;
-        if (fieldData != null) {
-            valueType = fieldData.getFieldType();
-            isKeyOnly = fieldData.isKeyOnly();
-        } else {
-            valueType = methodData.getMethodReturnType();
-            isKeyOnly = methodData.isKeyOnly();
-        }
+    private static Class<?> getWrappedType(final CriteriaMethodData methodData) {
+        return methodData.getWrappedType()
+            .orElseThrow(() -> new NoSuchElementException(String.format("Iterable method '%s' was not provided wrapped type class", methodData.getMethodName())));
+//                    .orElseGet(() -> CriteriaFieldParserUtil.getFirstValue()) // todo later
+    }
 
+    private Optional<QueryParam> getQueryParamForValue(final String paramName, final Class<?> valueType, final boolean isKeyOnly, final Object value) {
         if (isKeyOnly) {
             if ((boolean) value && (valueType.equals(boolean.class) || valueType.equals(Boolean.class))) {
                 return Optional.of(QueryParamImpl.ofNameOnly(paramName));
@@ -273,48 +279,18 @@ final class CriteriaQueryParamImpl implements CriteriaQueryParam {
             }
         }
 
-        final String formattedValue;
-        if (valueType.isEnum() && !typeFormatterBySimpleTypeMap.containsKey(valueType)) {
-            formattedValue = enumFormatter.apply((Enum) value);
-        } else {
-            formattedValue = typeFormatterBySimpleTypeMap.get(valueType).apply(value);
-        }
-        return Optional.of(QueryParamImpl.ofSingleValue(paramName, formattedValue));
+        return Optional.of(QueryParamImpl.ofSingleValue(paramName, formatValue(valueType, value)));
     }
 
-    private Optional<QueryParam> getQueryParamForIterable(final CriteriaFieldData fieldData, final String paramName, final Iterable iterable) {
-        final Class<?> wrappedType = fieldData.getWrappedType()
-            .orElseThrow(() -> new NoSuchElementException(String.format("Iterable field '%s' was not provided wrapped type class", fieldData.getFieldName())));
-//                    .orElseGet(() -> CriteriaFieldParserUtil.getFirstValue()) // todo later
-
-        final Function<Object, String> objectStringFormatter;
-        if (wrappedType.isEnum() && !typeFormatterBySimpleTypeMap.containsKey(wrappedType)) {
-            objectStringFormatter = (Function) enumFormatter;
-        } else {
-            objectStringFormatter = Objects.requireNonNull(typeFormatterBySimpleTypeMap.get(wrappedType));
+    private String formatValue(final Class<?> valueType, final Object value) {
+        if (valueType.isEnum() && !typeFormatterBySimpleTypeMap.containsKey(valueType)) {
+            return enumFormatter.apply((Enum) value);
         }
-
-        final List<String> formattedValues = formatAll(iterable, objectStringFormatter);
-
-        if (formattedValues.isEmpty())
-            return Optional.empty();
-
-        return Optional.of(QueryParamImpl.ofMultipleValues(paramName, formattedValues));
+        return typeFormatterBySimpleTypeMap.get(valueType).apply(value);
     }
 
-    private Optional<QueryParam> getQueryParamForIterable(final CriteriaMethodData methodData, final String paramName, final Iterable iterable) {
-        final Class<?> wrappedType = methodData.getWrappedType()
-            .orElseThrow(() -> new NoSuchElementException(String.format("Iterable method '%s' was not provided wrapped type class", methodData.getMethodName())));
-//                    .orElseGet(() -> CriteriaFieldParserUtil.getFirstValue()) // todo later
-
-        final Function<Object, String> objectStringFormatter;
-        if (wrappedType.isEnum() && !typeFormatterBySimpleTypeMap.containsKey(wrappedType)) {
-            objectStringFormatter = (Function) enumFormatter;
-        } else {
-            objectStringFormatter = Objects.requireNonNull(typeFormatterBySimpleTypeMap.get(wrappedType));
-        }
-
-        final List<String> formattedValues = formatAll(iterable, objectStringFormatter);
+    private Optional<QueryParam> getQueryParamForIterable(final String paramName, final Class<?> wrappedType, final Iterable iterable) {
+        final List<String> formattedValues = formatAll(iterable, getWrappedTypeFormatter(wrappedType));
 
         if (formattedValues.isEmpty())
             return Optional.empty();
@@ -322,17 +298,8 @@ final class CriteriaQueryParamImpl implements CriteriaQueryParam {
         return Optional.of(QueryParamImpl.ofMultipleValues(paramName, formattedValues));
     }
 
-    private Optional<QueryParam> getQueryParamForArray(final CriteriaFieldData fieldData, final String paramName, final Object array) {
-        final Class<?> wrappedType = fieldData.getWrappedType()
-            .orElseThrow(() -> new NoSuchElementException(String.format("Iterable field '%s' was not provided wrapped type class", fieldData.getFieldName())));
-//                    .orElseGet(() -> CriteriaFieldParserUtil.getFirstValue()) // todo later
-
-        final Function<Object, String> objectStringFormatter;
-        if (wrappedType.isEnum() && !typeFormatterBySimpleTypeMap.containsKey(wrappedType)) {
-            objectStringFormatter = (Function) enumFormatter;
-        } else {
-            objectStringFormatter = Objects.requireNonNull(typeFormatterBySimpleTypeMap.get(wrappedType));
-        }
+    private Optional<QueryParam> getQueryParamForArray(final String paramName, final Class<?> wrappedType, final Object array) {
+        final Function<Object, String> objectStringFormatter = getWrappedTypeFormatter(wrappedType);
 
         final int length = Array.getLength(array);
         if (length == 0)
@@ -346,28 +313,12 @@ final class CriteriaQueryParamImpl implements CriteriaQueryParam {
         return Optional.of(QueryParamImpl.ofMultipleValues(paramName, formattedValues));
     }
 
-    private Optional<QueryParam> getQueryParamForArray(final CriteriaMethodData methodData, final String paramName, final Object array) {
-        final Class<?> wrappedType = methodData.getWrappedType()
-            .orElseThrow(() -> new NoSuchElementException(String.format("Iterable method '%s' was not provided wrapped type class", methodData.getMethodName())));
-//                    .orElseGet(() -> CriteriaFieldParserUtil.getFirstValue()) // todo later
-
-        final Function<Object, String> objectStringFormatter;
+    @SuppressWarnings("unchecked")
+    private Function<Object, String> getWrappedTypeFormatter(final Class<?> wrappedType) {
         if (wrappedType.isEnum() && !typeFormatterBySimpleTypeMap.containsKey(wrappedType)) {
-            objectStringFormatter = (Function) enumFormatter;
-        } else {
-            objectStringFormatter = Objects.requireNonNull(typeFormatterBySimpleTypeMap.get(wrappedType));
+            return (Function) enumFormatter;
         }
-
-        final int length = Array.getLength(array);
-        if (length == 0)
-            return Optional.empty();
-
-        final List<String> formattedValues = IntStream.rangeClosed(0, length - 1)
-            .mapToObj(index -> Array.get(array, index))
-            .map(objectStringFormatter)
-            .collect(Collectors.toList());
-
-        return Optional.of(QueryParamImpl.ofMultipleValues(paramName, formattedValues));
+        return Objects.requireNonNull(typeFormatterBySimpleTypeMap.get(wrappedType));
     }
 
     private List<String> formatAll(final Iterable iterable, final Function<Object, String> objectToStringFormatter) {
@@ -380,26 +331,28 @@ final class CriteriaQueryParamImpl implements CriteriaQueryParam {
 
     @Override
     public List<FilterQueryParam> getFilterQueryParams(final String paramName, final Filter filter) {
+        return getFilterFormatter(paramName, filter).getFilterQueryParams(paramName, filter);
+    }
+
+    private FilterQueryParamFormatter getFilterFormatter(final String paramName, final Filter filter) {
         final Class<? extends Filter> filterClass = filter.getClass();
         if (!customQueryParamFormatterMap.isEmpty() && customQueryParamFormatterMap.containsKey(filterClass)) {
-            return customQueryParamFormatterMap.get(filterClass).getFilterQueryParams(paramName, filter);
+            return customQueryParamFormatterMap.get(filterClass);
         }
 
         if (matchSubclassForDefaultFilterFormatters) {
-            final List<FilterQueryParam> x = getFilterQueryParamsWithSubclass(paramName, filter);
+            final FilterQueryParamFormatter x = getFilterFormatterWithSubclass(filterClass);
             if (x != null) return x;
         } else {
-            if (!defaultFilterClassFormatterMap.isEmpty() && defaultFilterClassFormatterMap.containsKey(filterClass)) {
-                return defaultFilterClassFormatterMap.get(filterClass).getFilterQueryParams(paramName, filter);
+            final FilterQueryParamFormatter formatter = defaultFilterClassFormatterMap.get(filterClass);
+            if (formatter != null) {
+                return formatter;
             }
         }
 
         final Class genericClass = filter.obtainGenericClass();
         if (genericClass.isEnum()) {
-            if (typeFormatterBySimpleTypeMap.containsKey(genericClass)) {
-                return buildForEnum(paramName, filter, typeFormatterBySimpleTypeMap.get(genericClass));
-            }
-            return buildForEnum(paramName, filter);
+            return enumFilterFormatterByEnumClassMap.computeIfAbsent(genericClass, this::createEnumFilterFormatter);
         }
 
         // todo do we try to find 'simpleTypeFormatterMap.containsKey(genericClass)' when not an enum ? Then try to apply a default formatter when we find the formatter for the genericClass
@@ -409,18 +362,25 @@ final class CriteriaQueryParamImpl implements CriteriaQueryParam {
         throw new UnsupportedFilterForQueryParamException(paramName, filter);
     }
 
-    @SuppressWarnings("unchecked")
-    private List<FilterQueryParam> buildForEnum(final String paramName, final Filter filter) {
-        return FilterQueryParamUtil.buildQueryParams(paramName, filter, enumFormatter);
-    }
-
-    @SuppressWarnings("unchecked")
-    private List<FilterQueryParam> buildForEnum(final String paramName, final Filter filter, final Function enumFormatter) {
-        return FilterQueryParamUtil.buildQueryParams(paramName, filter, enumFormatter);
+    private FilterQueryParamFormatter createEnumFilterFormatter(final Class<?> enumClass) {
+        // booleans of enum filters have always been formatted with toString
+        final Function<Object, String> booleanToString = Object::toString;
+        if (typeFormatterBySimpleTypeMap.containsKey(enumClass)) {
+            return new DefaultFilterQueryParamFormatter(DefaultFilterQueryParamFormatter.FilterKind.FILTER, typeFormatterBySimpleTypeMap.get(enumClass), booleanToString);
+        }
+        return new DefaultFilterQueryParamFormatter(DefaultFilterQueryParamFormatter.FilterKind.FILTER, enumFormatter, booleanToString);
     }
 
-    private List<FilterQueryParam> getFilterQueryParamsWithSubclass(final String fieldName, final Filter filter) {
-        final Class<? extends Filter> filterClass = filter.getClass();
+    @Nullable
+    private FilterQueryParamFormatter getFilterFormatterWithSubclass(final Class<? extends Filter> filterClass) {
+        final FilterQueryParamFormatter cached = subclassFilterFormatterMap.get(filterClass);
+        if (cached != null) {
+            return cached;
+        }
+        final FilterQueryParamFormatter exact = defaultFilterClassFormatterMap.get(filterClass);
+        if (exact != null) {
+            return exact;
+        }
         final List<Map.Entry<Class<? extends Filter>, FilterQueryParamFormatter>> formatters = defaultFilterClassFormatterMap.entrySet().stream()
             .filter(e -> e.getKey().isAssignableFrom(filterClass))
             .limit(2)
@@ -432,13 +392,86 @@ final class CriteriaQueryParamImpl implements CriteriaQueryParam {
         }
 
         if (formatters.isEmpty()) {
-            // very specific behavior of returning null here for a list return type
+            // very specific behavior of returning null here
             return null;
         }
 
-        return formatters.get(0)
-            .getValue()
-            .getFilterQueryParams(fieldName, filter);
+        final FilterQueryParamFormatter formatter = formatters.get(0).getValue();
+        subclassFilterFormatterMap.putIfAbsent(filterClass, formatter);
+        return formatter;
+    }
+
+    /**
+     * Collect values written to {@link QueryParam}
+     */
+    private final class QueryParamListSink implements CriteriaQueryParamSink {
+
+        private final List<QueryParam> result;
+
+        private QueryParamListSink(final List<QueryParam> result) {
+            this.result = result;
+        }
+
+        @Override
+        public void writeFilter(final String paramName, final Filter<?> filter) {
+            result.addAll(getFilterQueryParams(paramName, filter));
+        }
+
+        @Override
+        public void writeValue(final String paramName, final Class<?> valueType, final boolean keyOnly, final Object value) {
+            getQueryParamForValue(paramName, valueType, keyOnly, value)
+                .ifPresent(result::add);
+        }
+
+        @Override
+        public void writeIterable(final String paramName, final Class<?> wrappedType, final Iterable<?> iterable) {
+            getQueryParamForIterable(paramName, wrappedType, iterable)
+                .ifPresent(result::add);
+        }
+
+        @Override
+        public void writeArray(final String paramName, final Class<?> wrappedType, final Object array) {
+            getQueryParamForArray(paramName, wrappedType, array)
+                .ifPresent(result::add);
+        }
+    }
+
+    /**
+     * Write values directly to the query string, same output as joining {@link QueryParam#getParamValues()} with ','
+     */
+    private final class QueryStringSink implements CriteriaQueryParamSink {
+
+        private final QueryStringWriter writer;
+
+        private QueryStringSink(final QueryStringWriter writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void writeFilter(final String paramName, final Filter<?> filter) {
+            getFilterFormatter(paramName, filter).writeFilterQueryParams(paramName, filter, writer);
+        }
+
+        @Override
+        public void writeValue(final String paramName, final Class<?> valueType, final boolean keyOnly, final Object value) {
+            if (keyOnly) {
+                if ((boolean) value && (valueType.equals(boolean.class) || valueType.equals(Boolean.class))) {
+                    writer.writeNameOnly(paramName);
+                }
+                return;
+            }
+            writer.write(paramName, null, formatValue(valueType, value));
+        }
+
+        @Override
+        public void writeIterable(final String paramName, final Class<?> wrappedType, final Iterable<?> iterable) {
+            writer.writeAll(paramName, null, iterable, getWrappedTypeFormatter(wrappedType));
+        }
+
+        @Override
+        public void writeArray(final String paramName, final Class<?> wrappedType, final Object array) {
+            writer.writeArray(paramName, array, getWrappedTypeFormatter(wrappedType));
+        }
     }
 
 }
@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.criteria;
+
+import org.blackdread.lib.restfilter.filter.Filter;
+
+/**
+ * Receive values read from a criteria by a {@link CriteriaQueryParamWriter}.
+ * <p>
+ * Values passed are never null, writers skip null values.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+public interface CriteriaQueryParamSink {
+
+    /**
+     * @param paramName param name (field name, method formatted name or alias)
+     * @param filter    filter value
+     */
+    void writeFilter(String paramName, Filter<?> filter);
+
+    /**
+     * @param paramName param name (field name, method formatted name or alias)
+     * @param valueType declared type of field or method return type
+     * @param keyOnly   {@link org.blackdread.lib.restfilter.criteria.annotation.CriteriaInclude#keyOnly()}
+     * @param value     value
+     */
+    void writeValue(String paramName, Class<?> valueType, boolean keyOnly, Object value);
+
+    /**
+     * @param paramName   param name (field name, method formatted name or alias)
+     * @param wrappedType {@link org.blackdread.lib.restfilter.criteria.annotation.CriteriaInclude#value()}
+     * @param iterable    values
+     */
+    void writeIterable(String paramName, Class<?> wrappedType, Iterable<?> iterable);
+
+    /**
+     * @param paramName   param name (field name, method formatted name or alias)
+     * @param wrappedType {@link org.blackdread.lib.restfilter.criteria.annotation.CriteriaInclude#value()}
+     * @param array       array of values (primitive or not)
+     */
+    void writeArray(String paramName, Class<?> wrappedType, Object array);
+
+}
@@ -0,0 +1,54 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.criteria;
+
+/**
+ * Write query params of one criteria class without reflection.
+ * <p>
+ * Implementations are usually generated by {@link org.blackdread.lib.restfilter.criteria.processor.CriteriaWriterProcessor}
+ * for classes annotated with {@link org.blackdread.lib.restfilter.criteria.annotation.CriteriaWriter} and are loaded with
+ * {@link java.util.ServiceLoader} by {@link CriteriaQueryParamBuilder}.
+ * <p>
+ * Formatting of values is not done by writer, it is done by the {@link CriteriaQueryParamSink} so options of {@link CriteriaQueryParamBuilder} still apply.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @param <T> criteria type
+ * @author Yoann CAPLAIN
+ */
+public interface CriteriaQueryParamWriter<T> {
+
+    /**
+     * @return exact criteria class supported, sub-classes are not supported
+     */
+    Class<T> getCriteriaClass();
+
+    /**
+     * Write each not null field/method value of criteria to the sink, fields first then methods (same order as reflection).
+     *
+     * @param criteria criteria, not null
+     * @param sink     receive each value to write
+     */
+    void write(T criteria, CriteriaQueryParamSink sink);
+
+}
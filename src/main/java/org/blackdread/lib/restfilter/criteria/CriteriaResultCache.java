@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.criteria;
+
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of results of searches keyed by {@link CriteriaFingerprint} (criteria with page and sort, etc).
+ * Each entry declares the tables its query reads so writes on a table invalidate the entries depending on it
+ * (see {@code JooqCacheInvalidationListener} for writes done with jOOQ).
+ * <p>Table names are compared ignoring case and schema.</p>
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ * @see CriteriaResultCacheBuilder
+ */
+public interface CriteriaResultCache<V> {
+
+    /**
+     * @return name of the cache (for logs and monitoring)
+     */
+    String getName();
+
+    /**
+     * Returns the cached value or loads it. Loading is done in caller thread without lock, a value loaded while one of its tables
+     * was invalidated is returned but not cached. Null values and exceptions are not cached.
+     *
+     * @param key    fingerprint of criteria, page, sort, etc
+     * @param tables tables read by the query of the loader
+     * @param loader query
+     * @return cached or loaded value
+     */
+    @Nullable
+    V get(CriteriaFingerprint key, Collection<String> tables, Supplier<? extends V> loader);
+
+    /**
+     * @param key fingerprint of criteria, page, sort, etc
+     * @return cached value if present and not expired
+     */
+    @Nullable
+    V getIfPresent(CriteriaFingerprint key);
+
+    /**
+     * @param key fingerprint of criteria, page, sort, etc
+     */
+    void invalidate(CriteriaFingerprint key);
+
+    /**
+     * Removes entries depending on that table and prevents loads in progress to cache values.
+     *
+     * @param table table name, can be qualified by schema
+     */
+    void invalidateTable(String table);
+
+    /**
+     * @param tables table names, can be qualified by schema
+     */
+    default void invalidateTables(final Collection<String> tables) {
+        for (final String table : tables) {
+            invalidateTable(table);
+        }
+    }
+
+    /**
+     * Removes all entries and prevents loads in progress to cache values.
+     */
+    void invalidateAll();
+
+    /**
+     * @return number of entries (expired entries not yet removed included)
+     */
+    int size();
+
+    /**
+     * @return snapshot of statistics since creation of cache
+     */
+    CriteriaResultCacheStats getStats();
+}
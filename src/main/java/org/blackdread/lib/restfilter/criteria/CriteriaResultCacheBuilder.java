@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.criteria;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Immutable builder, methods that would modify the builder creates a new builder copied and alters the copy before returning it.
+ * <pre>
+ * CriteriaResultCache&lt;Page&lt;ChildDto&gt;&gt; cache = CriteriaResultCacheBuilder.newBuilder()
+ *     .name("children")
+ *     .maximumSize(500)
+ *     .expireAfterWrite(Duration.ofSeconds(30))
+ *     .build();
+ * </pre>
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+@Immutable
+@ThreadSafe
+public class CriteriaResultCacheBuilder {
+
+    private String name = "criteria";
+
+    private int maximumSize = 1000;
+
+    private long expireAfterWriteNanos = Duration.ofMinutes(1).toNanos();
+
+    private LongSupplier ticker = System::nanoTime;
+
+    private CriteriaResultCacheBuilder() {
+    }
+
+    private CriteriaResultCacheBuilder(final CriteriaResultCacheBuilder copy) {
+        this.name = copy.name;
+        this.maximumSize = copy.maximumSize;
+        this.expireAfterWriteNanos = copy.expireAfterWriteNanos;
+        this.ticker = copy.ticker;
+    }
+
+    /**
+     * Constructs a new {@code CriteriaResultCacheBuilder} instance with default settings (1000 entries expiring after 1 minute).
+     *
+     * @return builder
+     */
+    public static CriteriaResultCacheBuilder newBuilder() {
+        return new CriteriaResultCacheBuilder();
+    }
+
+    /**
+     * @param name name of the cache (for logs and monitoring)
+     * @return new {@code CriteriaResultCacheBuilder} instance (for chaining)
+     */
+    public CriteriaResultCacheBuilder name(final String name) {
+        if (name == null)
+            throw new IllegalArgumentException("Name cannot be null");
+        final CriteriaResultCacheBuilder copy = new CriteriaResultCacheBuilder(this);
+        copy.name = name;
+        return copy;
+    }
+
+    /**
+     * @param maximumSize maximum number of entries, least recently used entries are evicted first
+     * @return new {@code CriteriaResultCacheBuilder} instance (for chaining)
+     */
+    public CriteriaResultCacheBuilder maximumSize(final int maximumSize) {
+        if (maximumSize < 0)
+            throw new IllegalArgumentException("Maximum size cannot be negative");
+        final CriteriaResultCacheBuilder copy = new CriteriaResultCacheBuilder(this);
+        copy.maximumSize = maximumSize;
+        return copy;
+    }
+
+    /**
+     * Time to live of entries, it bounds how stale a value can be when writes are not seen by invalidation.
+     *
+     * @param duration time after which an entry expires, zero for no expiration
+     * @return new {@code CriteriaResultCacheBuilder} instance (for chaining)
+     */
+    public CriteriaResultCacheBuilder expireAfterWrite(final Duration duration) {
+        if (duration == null || duration.isNegative())
+            throw new IllegalArgumentException("Duration cannot be null or negative");
+        final CriteriaResultCacheBuilder copy = new CriteriaResultCacheBuilder(this);
+        copy.expireAfterWriteNanos = duration.toNanos();
+        return copy;
+    }
+
+    /**
+     * @param ticker source of nano time, for tests
+     * @return new {@code CriteriaResultCacheBuilder} instance (for chaining)
+     */
+    CriteriaResultCacheBuilder ticker(final LongSupplier ticker) {
+        final CriteriaResultCacheBuilder copy = new CriteriaResultCacheBuilder(this);
+        copy.ticker = ticker;
+        return copy;
+    }
+
+    /**
+     * This method does not alter the state of this {@code CriteriaResultCacheBuilder} instance, so it can be
+     * invoked again to create multiple independent caches.
+     *
+     * @param <V> type of cached values
+     * @return a CriteriaResultCache with features specified in this builder
+     */
+    public <V> CriteriaResultCache<V> build() {
+        return new CriteriaResultCacheImpl<>(name, maximumSize, expireAfterWriteNanos, ticker);
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.criteria;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Least recently used entries are evicted first. Lookups and updates take a single lock, loaders are called outside of it.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+@ThreadSafe
+class CriteriaResultCacheImpl<V> implements CriteriaResultCache<V> {
+
+    private static final Logger log = LoggerFactory.getLogger(CriteriaResultCacheImpl.class);
+
+    private final String name;
+
+    private final int maximumSize;
+
+    /**
+     * 0 if entries do not expire
+     */
+    private final long expireAfterWriteNanos;
+
+    private final LongSupplier ticker;
+
+    private final Object lock = new Object();
+
+    @GuardedBy("lock")
+    private final LinkedHashMap<CriteriaFingerprint, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    @GuardedBy("lock")
+    private final Map<String, Set<CriteriaFingerprint>> keysByTable = new HashMap<>();
+
+    /**
+     * Epoch of last invalidation of each table, loads started before cannot be cached
+     */
+    @GuardedBy("lock")
+    private final Map<String, Long> invalidationEpochByTable = new HashMap<>();
+
+    @GuardedBy("lock")
+    private long epoch;
+
+    @GuardedBy("lock")
+    private long invalidateAllEpoch;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadSuccessCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder totalLoadTimeNanos = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder expirationCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+
+    CriteriaResultCacheImpl(final String name, final int maximumSize, final long expireAfterWriteNanos, final LongSupplier ticker) {
+        this.name = name;
+        this.maximumSize = maximumSize;
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.ticker = ticker;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Nullable
+    @Override
+    public V get(final CriteriaFingerprint key, final Collection<String> tables, final Supplier<? extends V> loader) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(loader, "loader");
+        final Set<String> tableNames = normalizeTableNames(tables);
+        final long loadEpoch;
+        synchronized (lock) {
+            final V value = getPresent(key);
+            if (value != null) {
+                return value;
+            }
+            loadEpoch = epoch;
+        }
+        final long start = ticker.getAsLong();
+        final V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            loadFailureCount.increment();
+            totalLoadTimeNanos.add(ticker.getAsLong() - start);
+            throw e;
+        }
+        final long end = ticker.getAsLong();
+        loadSuccessCount.increment();
+        totalLoadTimeNanos.add(end - start);
+        if (value == null) {
+            return null;
+        }
+        synchronized (lock) {
+            if (isInvalidatedSince(tableNames, loadEpoch)) {
+                log.debug("Cache '{}' did not keep value of {}, tables invalidated during load", name, key);
+                return value;
+            }
+            final Entry<V> previous = entries.put(key, new Entry<>(value, tableNames, end + expireAfterWriteNanos));
+            if (previous != null) {
+                unindex(key, previous);
+            }
+            for (final String table : tableNames) {
+                keysByTable.computeIfAbsent(table, t -> new HashSet<>()).add(key);
+            }
+            evictIfNeeded();
+        }
+        return value;
+    }
+
+    @Nullable
+    @Override
+    public V getIfPresent(final CriteriaFingerprint key) {
+        synchronized (lock) {
+            return getPresent(key);
+        }
+    }
+
+    @Override
+    public void invalidate(final CriteriaFingerprint key) {
+        synchronized (lock) {
+            final Entry<V> entry = entries.remove(key);
+            if (entry != null) {
+                unindex(key, entry);
+                invalidationCount.increment();
+            }
+        }
+    }
+
+    @Override
+    public void invalidateTable(final String table) {
+        final String tableName = normalizeTableName(table);
+        synchronized (lock) {
+            invalidationEpochByTable.put(tableName, ++epoch);
+            final Set<CriteriaFingerprint> keys = keysByTable.remove(tableName);
+            if (keys == null) {
+                return;
+            }
+            for (final CriteriaFingerprint key : keys) {
+                final Entry<V> entry = entries.remove(key);
+                if (entry != null) {
+                    unindex(key, entry);
+                    invalidationCount.increment();
+                }
+            }
+            log.debug("Cache '{}' invalidated {} entries of table {}", name, keys.size(), tableName);
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        synchronized (lock) {
+            invalidateAllEpoch = ++epoch;
+            invalidationCount.add(entries.size());
+            entries.clear();
+            keysByTable.clear();
+            // all loads started before are already rejected by invalidateAllEpoch
+            invalidationEpochByTable.clear();
+        }
+    }
+
+    @Override
+    public int size() {
+        synchronized (lock) {
+            return entries.size();
+        }
+    }
+
+    @Override
+    public CriteriaResultCacheStats getStats() {
+        return new CriteriaResultCacheStats(
+            hitCount.sum(),
+            missCount.sum(),
+            loadSuccessCount.sum(),
+            loadFailureCount.sum(),
+            totalLoadTimeNanos.sum(),
+            evictionCount.sum(),
+            expirationCount.sum(),
+            invalidationCount.sum(),
+            size());
+    }
+
+    /**
+     * Counts a hit or a miss, removes the entry if expired
+     */
+    @GuardedBy("lock")
+    @Nullable
+    private V getPresent(final CriteriaFingerprint key) {
+        final Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+        if (expireAfterWriteNanos > 0 && ticker.getAsLong() - entry.expireAtNanos >= 0) {
+            entries.remove(key);
+            unindex(key, entry);
+            expirationCount.increment();
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        return entry.value;
+    }
+
+    @GuardedBy("lock")
+    private boolean isInvalidatedSince(final Set<String> tableNames, final long loadEpoch) {
+        if (invalidateAllEpoch > loadEpoch) {
+            return true;
+        }
+        for (final String table : tableNames) {
+            final Long tableEpoch = invalidationEpochByTable.get(table);
+            if (tableEpoch != null && tableEpoch > loadEpoch) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @GuardedBy("lock")
+    private void evictIfNeeded() {
+        final Iterator<Map.Entry<CriteriaFingerprint, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maximumSize && iterator.hasNext()) {
+            final Map.Entry<CriteriaFingerprint, Entry<V>> eldest = iterator.next();
+            iterator.remove();
+            unindex(eldest.getKey(), eldest.getValue());
+            evictionCount.increment();
+        }
+    }
+
+    @GuardedBy("lock")
+    private void unindex(final CriteriaFingerprint key, final Entry<V> entry) {
+        for (final String table : entry.tables) {
+            final Set<CriteriaFingerprint> keys = keysByTable.get(table);
+            if (keys != null && keys.remove(key) && keys.isEmpty()) {
+                keysByTable.remove(table);
+            }
+        }
+    }
+
+    private static Set<String> normalizeTableNames(final Collection<String> tables) {
+        if (tables.isEmpty()) {
+            return Collections.emptySet();
+        }
+        final Set<String> tableNames = new HashSet<>(tables.size());
+        for (final String table : tables) {
+            tableNames.add(normalizeTableName(table));
+        }
+        return tableNames;
+    }
+
+    /**
+     * @param table table name, can be qualified by schema
+     * @return lower case name without schema
+     */
+    static String normalizeTableName(final String table) {
+        Objects.requireNonNull(table, "table");
+        return table.substring(table.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+
+        private final Set<String> tables;
+
+        private final long expireAtNanos;
+
+        private Entry(final V value, final Set<String> tables, final long expireAtNanos) {
+            this.value = value;
+            this.tables = tables;
+            this.expireAtNanos = expireAtNanos;
+        }
+    }
+}
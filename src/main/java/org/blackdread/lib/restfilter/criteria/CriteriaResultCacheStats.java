@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.criteria;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Statistics of a {@link CriteriaResultCache}, counts are since creation of cache.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+@Immutable
+@ThreadSafe
+public final class CriteriaResultCacheStats {
+
+    private final long hitCount;
+
+    private final long missCount;
+
+    private final long loadSuccessCount;
+
+    private final long loadFailureCount;
+
+    private final long totalLoadTimeNanos;
+
+    private final long evictionCount;
+
+    private final long expirationCount;
+
+    private final long invalidationCount;
+
+    private final long size;
+
+    CriteriaResultCacheStats(final long hitCount, final long missCount, final long loadSuccessCount, final long loadFailureCount, final long totalLoadTimeNanos,
+                             final long evictionCount, final long expirationCount, final long invalidationCount, final long size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.loadSuccessCount = loadSuccessCount;
+        this.loadFailureCount = loadFailureCount;
+        this.totalLoadTimeNanos = totalLoadTimeNanos;
+        this.evictionCount = evictionCount;
+        this.expirationCount = expirationCount;
+        this.invalidationCount = invalidationCount;
+        this.size = size;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * @return hits divided by requests, 1 if no request
+     */
+    public double getHitRate() {
+        final long requestCount = getRequestCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    public long getLoadSuccessCount() {
+        return loadSuccessCount;
+    }
+
+    public long getLoadFailureCount() {
+        return loadFailureCount;
+    }
+
+    /**
+     * @return time spent in loaders (success and failure)
+     */
+    public long getTotalLoadTimeNanos() {
+        return totalLoadTimeNanos;
+    }
+
+    /**
+     * @return average time of a load, 0 if no load
+     */
+    public double getAverageLoadPenaltyNanos() {
+        final long loadCount = loadSuccessCount + loadFailureCount;
+        return loadCount == 0 ? 0.0 : (double) totalLoadTimeNanos / loadCount;
+    }
+
+    /**
+     * @return entries removed because cache was full
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return entries removed because expired
+     */
+    public long getExpirationCount() {
+        return expirationCount;
+    }
+
+    /**
+     * @return entries removed by invalidation of key, table or all
+     */
+    public long getInvalidationCount() {
+        return invalidationCount;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "CriteriaResultCacheStats{" +
+            "hitCount=" + hitCount +
+            ", missCount=" + missCount +
+            ", loadSuccessCount=" + loadSuccessCount +
+            ", loadFailureCount=" + loadFailureCount +
+            ", totalLoadTimeNanos=" + totalLoadTimeNanos +
+            ", evictionCount=" + evictionCount +
+            ", expirationCount=" + expirationCount +
+            ", invalidationCount=" + invalidationCount +
+            ", size=" + size +
+            '}';
+    }
+}
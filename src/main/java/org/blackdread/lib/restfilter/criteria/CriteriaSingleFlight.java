@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.criteria;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Collapse identical concurrent searches into one execution: callers asking for a {@link CriteriaFingerprint} already being executed wait for
+ * that execution and get its result (or its exception) instead of executing again.
+ * <p>
+ * Nothing is kept once an execution completes, next callers execute again (use {@link CriteriaResultCache} to keep results).
+ * In-flight executions are tracked in a {@link ConcurrentHashMap}, no lock is shared between different keys.
+ * Results are shared between callers so should not be modified.
+ * <pre>
+ * CriteriaSingleFlight&lt;Page&lt;ChildDto&gt;&gt; singleFlight = new CriteriaSingleFlight&lt;&gt;("children");
+ *
+ * Page&lt;ChildDto&gt; page = singleFlight.execute(CriteriaFingerprintSpringUtil.fingerprint(criteria, pageable), () -&gt; queryService.findPage(...));
+ * </pre>
+ * A loader must not execute the same key again (recursively) in the same thread, it would wait for itself.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @param <V> type of results
+ * @author Yoann CAPLAIN
+ */
+@ThreadSafe
+public final class CriteriaSingleFlight<V> {
+
+    private static final Logger log = LoggerFactory.getLogger(CriteriaSingleFlight.class);
+
+    private final String name;
+
+    private final ConcurrentMap<CriteriaFingerprint, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder executionCount = new LongAdder();
+
+    private final LongAdder sharedCount = new LongAdder();
+
+    /**
+     * @param name name (for logs and monitoring)
+     */
+    public CriteriaSingleFlight(final String name) {
+        this.name = Objects.requireNonNull(name, "name");
+    }
+
+    /**
+     * Key is {@link CriteriaFingerprint#of(Object)} of the criteria, use {@link #execute(CriteriaFingerprint, Supplier)} with a fingerprint including page and sort
+     * if results depend on them.
+     *
+     * @param criteria criteria (can be null)
+     * @param loader   execution of the search
+     * @return result of this execution or of the identical one in flight
+     */
+    public V execute(@Nullable final Object criteria, final Supplier<? extends V> loader) {
+        return execute(CriteriaFingerprint.of(criteria), loader);
+    }
+
+    /**
+     * @param key    fingerprint of the search
+     * @param loader execution of the search, exceptions are rethrown to all callers waiting for it
+     * @return result of this execution or of the identical one in flight
+     * @throws IllegalStateException if interrupted while waiting for the execution in flight
+     */
+    public V execute(final CriteriaFingerprint key, final Supplier<? extends V> loader) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(loader, "loader");
+        final CompletableFuture<V> execution = new CompletableFuture<>();
+        final CompletableFuture<V> existing = inFlight.putIfAbsent(key, execution);
+        if (existing != null) {
+            sharedCount.increment();
+            log.trace("Search {} of {} already in flight, waiting for it", key, name);
+            return await(existing);
+        }
+        executionCount.increment();
+        final V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, execution);
+            execution.completeExceptionally(e);
+            throw e;
+        }
+        // removed before completion so nothing is shared once completed
+        inFlight.remove(key, execution);
+        execution.complete(value);
+        return value;
+    }
+
+    /**
+     * @return name (for logs and monitoring)
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return number of searches executed
+     */
+    public long getExecutionCount() {
+        return executionCount.sum();
+    }
+
+    /**
+     * @return number of callers that got the result of an execution in flight, so number of executions saved
+     */
+    public long getSharedCount() {
+        return sharedCount.sum();
+    }
+
+    /**
+     * @return number of executions in flight now
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private V await(final CompletableFuture<V> execution) {
+        try {
+            return execution.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for search of " + name, e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.criteria;
+
+import org.blackdread.lib.restfilter.filter.Filter;
+import org.blackdread.lib.restfilter.filter.RangeFilter;
+import org.blackdread.lib.restfilter.filter.StringFilter;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Formatter of filters supported by {@link FilterQueryParamUtil}, can build {@link FilterQueryParam} or write them directly.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+@Immutable
+@ThreadSafe
+final class DefaultFilterQueryParamFormatter implements FilterQueryParamFormatter {
+
+    enum FilterKind {
+        FILTER,
+        RANGE_FILTER,
+        STRING_FILTER
+    }
+
+    private final FilterKind filterKind;
+    private final Function<?, String> objectToStringFormatter;
+    private final Function<?, String> booleanFormatter;
+
+    DefaultFilterQueryParamFormatter(final FilterKind filterKind, final Function<?, String> objectToStringFormatter, final Function<?, String> booleanFormatter) {
+        this.filterKind = Objects.requireNonNull(filterKind);
+        this.objectToStringFormatter = objectToStringFormatter;
+        this.booleanFormatter = booleanFormatter;
+    }
+
+    static DefaultFilterQueryParamFormatter of(final Class<?> filterClass, final Function<?, String> objectToStringFormatter, final Function<?, String> booleanFormatter) {
+        if (StringFilter.class.isAssignableFrom(filterClass)) {
+            return new DefaultFilterQueryParamFormatter(FilterKind.STRING_FILTER, objectToStringFormatter, booleanFormatter);
+        } else if (RangeFilter.class.isAssignableFrom(filterClass)) {
+            return new DefaultFilterQueryParamFormatter(FilterKind.RANGE_FILTER, objectToStringFormatter, booleanFormatter);
+        } else if (Filter.class.isAssignableFrom(filterClass)) {
+            return new DefaultFilterQueryParamFormatter(FilterKind.FILTER, objectToStringFormatter, booleanFormatter);
+        }
+        throw new IllegalStateException("Unsupported filter class: " + filterClass.getName());
+    }
+
+    @Override
+    public List<FilterQueryParam> getFilterQueryParams(final String filterName, final Filter filter) {
+        switch (filterKind) {
+            case STRING_FILTER:
+                return FilterQueryParamUtil.buildStringFilterQueryParams(filterName, (StringFilter) filter, objectToStringFormatter, booleanFormatter);
+            case RANGE_FILTER:
+                return FilterQueryParamUtil.buildRangeFilterQueryParams(filterName, (RangeFilter<?>) filter, objectToStringFormatter, booleanFormatter);
+            case FILTER:
+                return FilterQueryParamUtil.buildFilterQueryParams(filterName, filter, objectToStringFormatter, booleanFormatter);
+            default:
+                throw new IllegalStateException("Unsupported filter kind: " + filterKind);
+        }
+    }
+
+    @Override
+    public void writeFilterQueryParams(final String filterName, final Filter<?> filter, final QueryStringWriter writer) {
+        switch (filterKind) {
+            case STRING_FILTER:
+                FilterQueryParamUtil.writeStringFilterQueryParams(writer, filterName, (StringFilter) filter, objectToStringFormatter, booleanFormatter);
+                break;
+            case RANGE_FILTER:
+                FilterQueryParamUtil.writeRangeFilterQueryParams(writer, filterName, (RangeFilter<?>) filter, objectToStringFormatter, booleanFormatter);
+                break;
+            case FILTER:
+                FilterQueryParamUtil.writeFilterQueryParams(writer, filterName, filter, objectToStringFormatter, booleanFormatter);
+                break;
+            default:
+                throw new IllegalStateException("Unsupported filter kind: " + filterKind);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultFilterQueryParamFormatter{" +
+            "filterKind=" + filterKind +
+            '}';
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.criteria;
+
+import org.blackdread.lib.restfilter.filter.Filter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Batch lookups by {@code equals} on the same field from concurrent callers into one {@code in} query, like a DataLoader.
+ * <p>
+ * The first caller of a batch waits up to {@code maxDelay} for other keys then executes the batch function with a filter having the
+ * {@code in} of all keys of the batch (given to {@link org.blackdread.lib.restfilter.jooq.JooqFilterUtil} or a {@code QueryService}),
+ * results are dispatched to each caller by key. A batch reaching {@code maxBatchSize} keys is executed at once by the caller adding the last key.
+ * No thread is created, batches are executed by callers, the first caller of a batch pays the delay.
+ * <p>
+ * The batch function runs on the thread of the caller executing the batch, so inside its transaction (if any): other callers of the batch read
+ * through the connection and isolation of another request, and a failure of the query can mark the transaction of that caller rollback-only.
+ * Use it for reads that do not depend on the transaction of callers, or give a batch function running in its own (read-only) transaction.
+ * <pre>
+ * FilterBatchLoader&lt;Long, ChildEntityRecord&gt; loader = new FilterBatchLoader&lt;&gt;(LongFilter::new,
+ *     filter -&gt; create.selectFrom(CHILD_ENTITY).where(JooqFilterUtil.buildCondition(filter, CHILD_ENTITY.ID)).fetch(),
+ *     ChildEntityRecord::getId, 100, Duration.ofMillis(2));
+ *
+ * Optional&lt;ChildEntityRecord&gt; child = loader.loadOne(id);
+ * </pre>
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @param <K> type of keys (field filtered)
+ * @param <V> type of results
+ * @author Yoann CAPLAIN
+ */
+@ThreadSafe
+public final class FilterBatchLoader<K, V> {
+
+    private static final Logger log = LoggerFactory.getLogger(FilterBatchLoader.class);
+
+    private final Supplier<? extends Filter<K>> filterFactory;
+
+    private final Function<? super Filter<K>, ? extends Collection<? extends V>> batchFunction;
+
+    private final Function<? super V, ? extends K> keyExtractor;
+
+    private final int maxBatchSize;
+
+    private final long maxDelayNanos;
+
+    private final Object lock = new Object();
+
+    @GuardedBy("lock")
+    @Nullable
+    private Batch<K, V> current;
+
+    private final LongAdder loadCount = new LongAdder();
+
+    private final LongAdder batchCount = new LongAdder();
+
+    /**
+     * @param filterFactory new filter of the field (like {@code LongFilter::new})
+     * @param batchFunction query of results matching the filter (only its {@code in} is set)
+     * @param keyExtractor  value of the field of a result, to dispatch it to callers
+     * @param maxBatchSize  max keys per batch
+     * @param maxDelay      max time the first caller of a batch waits for other keys
+     */
+    public FilterBatchLoader(final Supplier<? extends Filter<K>> filterFactory, final Function<? super Filter<K>, ? extends Collection<? extends V>> batchFunction,
+                             final Function<? super V, ? extends K> keyExtractor, final int maxBatchSize, final Duration maxDelay) {
+        if (maxBatchSize < 1)
+            throw new IllegalArgumentException("Max batch size must be at least 1");
+        if (maxDelay == null || maxDelay.isNegative())
+            throw new IllegalArgumentException("Max delay cannot be null or negative");
+        this.filterFactory = Objects.requireNonNull(filterFactory, "filterFactory");
+        this.batchFunction = Objects.requireNonNull(batchFunction, "batchFunction");
+        this.keyExtractor = Objects.requireNonNull(keyExtractor, "keyExtractor");
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+    }
+
+    /**
+     * @param key value of the field
+     * @return results having that value, empty if none
+     * @throws IllegalStateException if interrupted while waiting for the batch
+     */
+    public List<V> load(final K key) {
+        if (key == null)
+            throw new IllegalArgumentException("Key cannot be null");
+        loadCount.increment();
+        final Batch<K, V> batch;
+        final CompletableFuture<List<V>> result;
+        final boolean first;
+        final boolean full;
+        synchronized (lock) {
+            first = current == null;
+            if (first) {
+                current = new Batch<>();
+            }
+            batch = current;
+            result = batch.results.computeIfAbsent(key, k -> new CompletableFuture<>());
+            full = batch.results.size() >= maxBatchSize;
+            if (full) {
+                batch.closed = true;
+                current = null;
+            }
+        }
+        if (full) {
+            batch.full.countDown();
+            execute(batch);
+        } else if (first) {
+            boolean interrupted = false;
+            try {
+                batch.full.await(maxDelayNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                // other callers wait for this batch, execute it anyway
+                interrupted = true;
+            }
+            if (close(batch)) {
+                execute(batch);
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return await(result);
+    }
+
+    /**
+     * @param key value of the field
+     * @return the result having that value
+     * @throws IllegalStateException if more than one result has that value
+     */
+    public Optional<V> loadOne(final K key) {
+        final List<V> values = load(key);
+        if (values.size() > 1)
+            throw new IllegalStateException("Expected at most one result for " + key + " but got " + values.size());
+        return values.isEmpty() ? Optional.empty() : Optional.of(values.get(0));
+    }
+
+    /**
+     * Filters with only {@code equals} set (like from {@code CriteriaUtil.buildEqualsCriteria(Long)}) are batched, others are executed alone.
+     *
+     * @param filter filter of the field
+     * @return results matching the filter
+     */
+    public List<V> load(final Filter<K> filter) {
+        Objects.requireNonNull(filter, "filter");
+        if (isEqualsOnly(filter)) {
+            return load(filter.getEquals());
+        }
+        return new ArrayList<>(batchFunction.apply(filter));
+    }
+
+    /**
+     * @return number of keys loaded
+     */
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    /**
+     * @return number of batches executed (queries)
+     */
+    public long getBatchCount() {
+        return batchCount.sum();
+    }
+
+    private boolean isEqualsOnly(final Filter<K> filter) {
+        if (filter.getEquals() == null) {
+            return false;
+        }
+        final Filter<K> equalsOnly = filterFactory.get();
+        equalsOnly.setEquals(filter.getEquals());
+        return equalsOnly.equals(filter);
+    }
+
+    private boolean close(final Batch<K, V> batch) {
+        synchronized (lock) {
+            if (batch.closed) {
+                return false;
+            }
+            batch.closed = true;
+            if (current == batch) {
+                current = null;
+            }
+            return true;
+        }
+    }
+
+    private void execute(final Batch<K, V> batch) {
+        batchCount.increment();
+        // batch is closed, no key is added anymore
+        final Map<K, CompletableFuture<List<V>>> results = batch.results;
+        log.trace("Execute batch of {} keys", results.size());
+        final Map<K, List<V>> valuesByKey = new HashMap<>(results.size() * 2);
+        try {
+            // any failure must complete all results, other callers of the batch wait for them
+            final Filter<K> filter = filterFactory.get();
+            filter.setIn(new ArrayList<>(results.keySet()));
+            for (final V value : batchFunction.apply(filter)) {
+                valuesByKey.computeIfAbsent(keyExtractor.apply(value), k -> new ArrayList<>(1)).add(value);
+            }
+        } catch (RuntimeException | Error e) {
+            for (final CompletableFuture<List<V>> result : results.values()) {
+                result.completeExceptionally(e);
+            }
+            return;
+        }
+        for (final Map.Entry<K, CompletableFuture<List<V>>> entry : results.entrySet()) {
+            final List<V> values = valuesByKey.get(entry.getKey());
+            entry.getValue().complete(values == null ? Collections.emptyList() : Collections.unmodifiableList(values));
+        }
+    }
+
+    private static <T> T await(final CompletableFuture<T> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for batch", e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static final class Batch<K, V> {
+
+        // guarded by lock of loader until closed, then only read by the executing thread
+        private final Map<K, CompletableFuture<List<V>>> results = new LinkedHashMap<>();
+
+        private final CountDownLatch full = new CountDownLatch(1);
+
+        private boolean closed;
+    }
+}
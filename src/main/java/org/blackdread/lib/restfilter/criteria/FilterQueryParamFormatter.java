@@ -46,4 +46,17 @@ interface FilterQueryParamFormatter {
      */
     List<FilterQueryParam> getFilterQueryParams(String filterName, Filter filter);
 
+    /**
+     * Write query params of a filter without building {@link FilterQueryParam}, by default it writes result of {@link #getFilterQueryParams(String, Filter)}.
+     *
+     * @param filterName name of filter (from field/method/alias/etc)
+     * @param filter     filter to write (never null)
+     * @param writer     where to write
+     */
+    default void writeFilterQueryParams(final String filterName, final Filter<?> filter, final QueryStringWriter writer) {
+        for (final FilterQueryParam filterQueryParam : getFilterQueryParams(filterName, filter)) {
+            writer.write(filterQueryParam);
+        }
+    }
+
 }
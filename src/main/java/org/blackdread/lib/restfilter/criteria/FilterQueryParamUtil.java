@@ -26,6 +26,7 @@ package org.blackdread.lib.restfilter.criteria;
 import org.blackdread.lib.restfilter.filter.Filter;
 import org.blackdread.lib.restfilter.filter.RangeFilter;
 import org.blackdread.lib.restfilter.filter.StringFilter;
+import org.blackdread.lib.restfilter.util.SortedPrimitiveList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -122,6 +123,59 @@ public final class FilterQueryParamUtil {
         return applyFilterWildcard(criteriaName, filter, formatter, booleanFormatter);
     }
 
+    @SuppressWarnings("unchecked")
+    static void writeRangeFilterQueryParams(final QueryStringWriter writer, final String criteriaName, final RangeFilter filter, final Function objectToStringFormatter, final Function booleanFormatter) {
+        writeFilterQueryParams(writer, criteriaName, filter, objectToStringFormatter, booleanFormatter);
+        if (filter.getGreaterThan() != null) {
+            writer.write(criteriaName, CriteriaQueryParam.GREATER_THAN_FILTER, (String) objectToStringFormatter.apply(filter.getGreaterThan()));
+        }
+        if (filter.getGreaterThanOrEqual() != null) {
+            writer.write(criteriaName, CriteriaQueryParam.GREATER_THAN_OR_EQUAL_FILTER, (String) objectToStringFormatter.apply(filter.getGreaterThanOrEqual()));
+        }
+        if (filter.getLessThan() != null) {
+            writer.write(criteriaName, CriteriaQueryParam.LESS_THAN_FILTER, (String) objectToStringFormatter.apply(filter.getLessThan()));
+        }
+        if (filter.getLessThanOrEqual() != null) {
+            writer.write(criteriaName, CriteriaQueryParam.LESS_OR_EQUAL_THAN_FILTER, (String) objectToStringFormatter.apply(filter.getLessThanOrEqual()));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static void writeStringFilterQueryParams(final QueryStringWriter writer, final String criteriaName, final StringFilter filter, final Function stringToStringFormatter, final Function booleanToStringFormatter) {
+        writeFilterQueryParams(writer, criteriaName, filter, stringToStringFormatter, booleanToStringFormatter);
+        if (filter.getContains() != null) {
+            writer.write(criteriaName, CriteriaQueryParam.CONTAINS_FILTER, (String) stringToStringFormatter.apply(filter.getContains()));
+        }
+        if (filter.getNotContains() != null) {
+            writer.write(criteriaName, CriteriaQueryParam.NOT_CONTAINS_FILTER, (String) stringToStringFormatter.apply(filter.getNotContains()));
+        }
+        if (!filter.isIgnoreCase()) {
+            writer.write(criteriaName, CriteriaQueryParam.IGNORE_CASE_FILTER, (String) booleanToStringFormatter.apply(false));
+        }
+    }
+
+    /**
+     * Same as applyFilterWildcard but written directly, in/notIn values are not collected in a list.
+     */
+    @SuppressWarnings("unchecked")
+    static void writeFilterQueryParams(final QueryStringWriter writer, final String criteriaName, final Filter filter, final Function objectToStringFormatter, final Function booleanToStringFormatter) {
+        if (filter.getEquals() != null) {
+            writer.write(criteriaName, CriteriaQueryParam.EQUALS_FILTER, (String) objectToStringFormatter.apply(filter.getEquals()));
+        }
+        if (filter.getNotEquals() != null) {
+            writer.write(criteriaName, CriteriaQueryParam.NOT_EQUALS_FILTER, (String) objectToStringFormatter.apply(filter.getNotEquals()));
+        }
+        if (filter.getIn() != null) {
+            writeAll(writer, criteriaName, CriteriaQueryParam.IN_FILTER, filter.getIn(), objectToStringFormatter);
+        }
+        if (filter.getNotIn() != null) {
+            writeAll(writer, criteriaName, CriteriaQueryParam.NOT_IN_FILTER, filter.getNotIn(), objectToStringFormatter);
+        }
+        if (filter.getSpecified() != null) {
+            writer.write(criteriaName, CriteriaQueryParam.SPECIFIED_FILTER, (String) booleanToStringFormatter.apply(filter.getSpecified()));
+        }
+    }
+
 //    private static List<FilterQueryParam> applyFilterWildcard(final String criteriaName, final Filter<?> filter, final Function<?, String> objectToStringFormatter, final Function<?, String> booleanToStringFormatter) {
 //
 //    }
@@ -136,10 +190,10 @@ public final class FilterQueryParamUtil {
             filterQueryParams.add(ofNotEquals(criteriaName, (String) objectToStringFormatter.apply(filter.getNotEquals())));
         }
         if (filter.getIn() != null && !filter.getIn().isEmpty()) {
-            filterQueryParams.add(ofIn(criteriaName, (List<String>) filter.getIn().stream().map(objectToStringFormatter).collect(Collectors.toList())));
+            filterQueryParams.add(ofIn(criteriaName, formatAll(filter.getIn(), objectToStringFormatter)));
         }
         if (filter.getNotIn() != null && !filter.getNotIn().isEmpty()) {
-            filterQueryParams.add(ofNotIn(criteriaName, (List<String>) filter.getNotIn().stream().map(objectToStringFormatter).collect(Collectors.toList())));
+            filterQueryParams.add(ofNotIn(criteriaName, formatAll(filter.getNotIn(), objectToStringFormatter)));
         }
         if (filter.getSpecified() != null) {
             filterQueryParams.add(ofSpecified(criteriaName, (String) booleanToStringFormatter.apply(filter.getSpecified())));
@@ -147,4 +201,35 @@ public final class FilterQueryParamUtil {
         return filterQueryParams;
     }
 
+    @SuppressWarnings("unchecked")
+    private static void writeAll(final QueryStringWriter writer, final String criteriaName, final String filterPropertyName, final List<?> values, final Function formatter) {
+        if (isPrimitiveWithDefaultFormatter(values, formatter)) {
+            writer.writeAll(criteriaName, filterPropertyName, (SortedPrimitiveList<?>) values);
+        } else {
+            writer.writeAll(criteriaName, filterPropertyName, values, formatter);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> formatAll(final List<?> values, final Function formatter) {
+        if (isPrimitiveWithDefaultFormatter(values, formatter)) {
+            final SortedPrimitiveList<?> primitiveList = (SortedPrimitiveList<?>) values;
+            final List<String> formatted = new ArrayList<>(primitiveList.size());
+            for (int i = 0; i < primitiveList.size(); i++) {
+                formatted.add(primitiveList.format(i));
+            }
+            return formatted;
+        }
+        return (List<String>) values.stream().map(formatter).collect(Collectors.toList());
+    }
+
+    /**
+     * Default number formatters are plain {@code toString} so values of primitive filters can be formatted without boxing.
+     */
+    private static boolean isPrimitiveWithDefaultFormatter(final List<?> values, final Function formatter) {
+        return values instanceof SortedPrimitiveList &&
+            (formatter == CriteriaQueryParamBuilder.LONG_FORMATTER ||
+                formatter == CriteriaQueryParamBuilder.INTEGER_FORMATTER ||
+                formatter == CriteriaQueryParamBuilder.SHORT_FORMATTER);
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.criteria;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.IOException;
+
+/**
+ * Percent-encoding of RFC 3986 that does not create intermediate strings or byte arrays (unlike {@link java.net.URLEncoder}
+ * which also encodes space as '+').
+ * <p>
+ * Unpaired surrogates are encoded as '?' like {@link String#getBytes(java.nio.charset.Charset)} does.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+@Immutable
+@ThreadSafe
+final class PercentQueryParamEncoder implements QueryParamEncoder {
+
+    static final PercentQueryParamEncoder INSTANCE = new PercentQueryParamEncoder();
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private PercentQueryParamEncoder() {
+    }
+
+    @Override
+    public void encode(final CharSequence value, final Appendable appendable) throws IOException {
+        final int length = value.length();
+        int index = 0;
+        // most names and values do not need any encoding
+        while (index < length && isUnreserved(value.charAt(index))) {
+            index++;
+        }
+        if (index == length) {
+            appendable.append(value);
+            return;
+        }
+        appendable.append(value, 0, index);
+
+        for (; index < length; index++) {
+            final char c = value.charAt(index);
+            if (isUnreserved(c)) {
+                appendable.append(c);
+            } else if (c < 0x80) {
+                appendByte(c, appendable);
+            } else if (c < 0x800) {
+                appendByte(0xC0 | (c >> 6), appendable);
+                appendByte(0x80 | (c & 0x3F), appendable);
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && index + 1 < length && Character.isLowSurrogate(value.charAt(index + 1))) {
+                    final int codePoint = Character.toCodePoint(c, value.charAt(++index));
+                    appendByte(0xF0 | (codePoint >> 18), appendable);
+                    appendByte(0x80 | ((codePoint >> 12) & 0x3F), appendable);
+                    appendByte(0x80 | ((codePoint >> 6) & 0x3F), appendable);
+                    appendByte(0x80 | (codePoint & 0x3F), appendable);
+                } else {
+                    appendByte('?', appendable);
+                }
+            } else {
+                appendByte(0xE0 | (c >> 12), appendable);
+                appendByte(0x80 | ((c >> 6) & 0x3F), appendable);
+                appendByte(0x80 | (c & 0x3F), appendable);
+            }
+        }
+    }
+
+    private static boolean isUnreserved(final char c) {
+        return (c >= 'a' && c <= 'z')
+            || (c >= 'A' && c <= 'Z')
+            || (c >= '0' && c <= '9')
+            || c == '-' || c == '.' || c == '_' || c == '~';
+    }
+
+    private static void appendByte(final int b, final Appendable appendable) throws IOException {
+        appendable.append('%');
+        appendable.append(HEX[(b >> 4) & 0xF]);
+        appendable.append(HEX[b & 0xF]);
+    }
+}
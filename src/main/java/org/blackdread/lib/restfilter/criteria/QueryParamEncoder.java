@@ -0,0 +1,55 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.criteria;
+
+import java.io.IOException;
+
+/**
+ * Encode names and values of query params when written directly to a buffer with
+ * {@link CriteriaQueryParam#writeQueryParams(Object, Appendable, QueryParamEncoder)}.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+@FunctionalInterface
+public interface QueryParamEncoder {
+
+    /**
+     * Values are appended as is, for callers that encode the whole query string later (like Spring {@code UriComponentsBuilder}).
+     */
+    QueryParamEncoder NONE = (value, appendable) -> appendable.append(value);
+
+    /**
+     * Percent-encode (UTF-8) every character that is not unreserved as defined by RFC 3986 ({@code ALPHA / DIGIT / "-" / "." / "_" / "~"}).
+     */
+    QueryParamEncoder PERCENT_ENCODING = PercentQueryParamEncoder.INSTANCE;
+
+    /**
+     * @param value      name or value to encode, never null
+     * @param appendable where to append encoded value
+     * @throws IOException if {@code appendable} throws
+     */
+    void encode(CharSequence value, Appendable appendable) throws IOException;
+
+}
@@ -0,0 +1,188 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.criteria;
+
+import org.blackdread.lib.restfilter.util.SortedPrimitiveList;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Append query params as {@code name.filter=value} pairs separated by '&amp;' directly to an {@link Appendable}.
+ * <p>
+ * Multiple values are joined with ',' while written (each value is encoded but not the separator), nothing is written for empty values.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+@NotThreadSafe
+final class QueryStringWriter {
+
+    private static final char PARAM_SEPARATOR = '&';
+    private static final char VALUE_SEPARATOR = ',';
+
+    private final Appendable appendable;
+    private final QueryParamEncoder encoder;
+
+    private boolean first = true;
+
+    QueryStringWriter(final Appendable appendable, final QueryParamEncoder encoder) {
+        this.appendable = Objects.requireNonNull(appendable);
+        this.encoder = Objects.requireNonNull(encoder);
+    }
+
+    void writeNameOnly(final String paramName) {
+        try {
+            appendName(paramName, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param paramName          field/method/alias name
+     * @param filterPropertyName filter property name like 'equals' or null for non filter values
+     * @param paramValue         already formatted value
+     */
+    void write(final String paramName, @Nullable final String filterPropertyName, final String paramValue) {
+        try {
+            appendName(paramName, filterPropertyName);
+            appendable.append('=');
+            encoder.encode(paramValue, appendable);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param paramName          field/method/alias name
+     * @param filterPropertyName filter property name like 'in' or null for non filter values
+     * @param values             values to format then join, nothing is written if empty
+     * @param formatter          formatter of each value
+     */
+    void writeAll(final String paramName, @Nullable final String filterPropertyName, final Iterable<?> values, final Function<Object, String> formatter) {
+        try {
+            boolean firstValue = true;
+            for (final Object value : values) {
+                if (firstValue) {
+                    appendName(paramName, filterPropertyName);
+                    appendable.append('=');
+                    firstValue = false;
+                } else {
+                    appendable.append(VALUE_SEPARATOR);
+                }
+                encoder.encode(formatter.apply(value), appendable);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Same as {@link #writeAll(String, String, Iterable, Function)} but values are formatted by {@link SortedPrimitiveList#format(int)}, without boxing.
+     *
+     * @param paramName          field/method/alias name
+     * @param filterPropertyName filter property name like 'in' or null for non filter values
+     * @param values             values to join, nothing is written if empty
+     */
+    void writeAll(final String paramName, @Nullable final String filterPropertyName, final SortedPrimitiveList<?> values) {
+        final int size = values.size();
+        if (size == 0) {
+            return;
+        }
+        try {
+            appendName(paramName, filterPropertyName);
+            appendable.append('=');
+            for (int i = 0; i < size; i++) {
+                if (i > 0) {
+                    appendable.append(VALUE_SEPARATOR);
+                }
+                encoder.encode(values.format(i), appendable);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param paramName field/method/alias name
+     * @param array     array (primitive or not) of values to format then join, nothing is written if empty
+     * @param formatter formatter of each value
+     */
+    void writeArray(final String paramName, final Object array, final Function<Object, String> formatter) {
+        final int length = Array.getLength(array);
+        if (length == 0) {
+            return;
+        }
+        try {
+            appendName(paramName, null);
+            appendable.append('=');
+            for (int i = 0; i < length; i++) {
+                if (i > 0) {
+                    appendable.append(VALUE_SEPARATOR);
+                }
+                encoder.encode(formatter.apply(Array.get(array, i)), appendable);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write a query param already built (custom formatters), values are joined the same way as {@link #writeAll(String, String, Iterable, Function)}.
+     *
+     * @param queryParam query param
+     */
+    void write(final QueryParam queryParam) {
+        try {
+            appendName(queryParam.getParamName(), null);
+            boolean firstValue = true;
+            for (final String value : queryParam.getParamValues()) {
+                appendable.append(firstValue ? '=' : VALUE_SEPARATOR);
+                firstValue = false;
+                encoder.encode(value, appendable);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void appendName(final String paramName, @Nullable final String filterPropertyName) throws IOException {
+        if (first) {
+            first = false;
+        } else {
+            appendable.append(PARAM_SEPARATOR);
+        }
+        encoder.encode(paramName, appendable);
+        if (filterPropertyName != null) {
+            appendable.append(CriteriaQueryParam.FIELD_NAME_AND_FILTER_SEPARATOR);
+            appendable.append(filterPropertyName);
+        }
+    }
+}
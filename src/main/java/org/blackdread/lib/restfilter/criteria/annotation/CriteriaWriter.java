@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.criteria.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Ask the annotation processor {@link org.blackdread.lib.restfilter.criteria.processor.CriteriaWriterProcessor} to generate
+ * a {@link org.blackdread.lib.restfilter.criteria.CriteriaQueryParamWriter} for the annotated criteria class.
+ * <p>
+ * Generated writer follows the same rules as the reflection (fields then methods, {@link CriteriaInclude}, {@link CriteriaAlias}, {@link CriteriaIgnore})
+ * but reads fields and methods with plain calls. Private fields must have a public getter (like {@code getName()} or {@code isActive()}).
+ * <p>
+ * Generated writers are registered as service and picked up by {@link org.blackdread.lib.restfilter.criteria.CriteriaQueryParamBuilder}.
+ * Sub-classes of an annotated criteria are not handled by its writer, they use reflection unless annotated as well.
+ * <p>
+ * Examples:
+ * <pre>
+ * &#64;CriteriaWriter
+ * public class MyCriteria implements Criteria {
+ *   private LongFilter id;
+ *
+ *   &#64;CriteriaInclude
+ *   private boolean showHidden;
+ *
+ *   public LongFilter getId(){
+ *       // ...
+ *   }
+ *
+ *   public boolean isShowHidden(){
+ *       // ...
+ *   }
+ * }
+ * </pre>
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+@Documented
+public @interface CriteriaWriter {
+
+}
@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.criteria.parser;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+/**
+ * Build accessors once per field/method of criteria so reading a criteria does not go through reflection on each call.
+ * <p>
+ * {@link MethodHandle} are used when possible (no access check and no checked exception per call), reflection is
+ * kept as fallback in case the handle cannot be created (java 9+ modules not open to this library, etc).
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+final class CriteriaAccessorUtil {
+
+    private static final Logger log = LoggerFactory.getLogger(CriteriaAccessorUtil.class);
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private CriteriaAccessorUtil() {
+    }
+
+    /**
+     * @param field field of criteria, already made accessible by parser if needed
+     * @return function that takes the criteria instance and returns the field value
+     */
+    static Function<Object, Object> fieldAccessor(final Field field) {
+        final MethodHandle handle;
+        try {
+            handle = LOOKUP.unreflectGetter(field).asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            log.warn("Could not create method handle for field '{}', reflection is used instead", field, e);
+            return criteria -> {
+                try {
+                    return field.get(criteria);
+                } catch (IllegalAccessException ex) {
+                    throw new IllegalStateException("Could not access field", ex);
+                }
+            };
+        }
+        return criteria -> invoke(handle, criteria, "Could not access field");
+    }
+
+    /**
+     * @param method method of criteria with no parameter
+     * @return function that takes the criteria instance and returns the method return value
+     */
+    static Function<Object, Object> methodAccessor(final Method method) {
+        final MethodHandle handle;
+        try {
+            handle = unreflect(method).asType(GETTER_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            log.warn("Could not create method handle for method '{}', reflection is used instead", method, e);
+            return criteria -> {
+                try {
+                    return method.invoke(criteria);
+                } catch (IllegalAccessException | InvocationTargetException ex) {
+                    throw new IllegalStateException("Could not access/invoke method", ex);
+                }
+            };
+        }
+        return criteria -> invoke(handle, criteria, "Could not access/invoke method");
+    }
+
+    private static MethodHandle unreflect(final Method method) throws IllegalAccessException {
+        try {
+            return LOOKUP.unreflect(method);
+        } catch (IllegalAccessException e) {
+            // public method of a non-public class, same as fields, class should be open to this library
+            method.setAccessible(true);
+            return LOOKUP.unreflect(method);
+        }
+    }
+
+    private static Object invoke(final MethodHandle handle, final Object criteria, final String errorMessage) {
+        try {
+            return (Object) handle.invokeExact(criteria);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(errorMessage, e);
+        }
+    }
+}
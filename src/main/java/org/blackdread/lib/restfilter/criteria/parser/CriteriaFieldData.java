@@ -32,6 +32,7 @@ import javax.annotation.concurrent.ThreadSafe;
 import java.lang.reflect.Field;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * All data that can be extracted from field, annotations, etc
@@ -40,6 +41,7 @@ import java.util.Optional;
 @Immutable
 public final class CriteriaFieldData {
     private final Field field;
+    private final Function<Object, Object> fieldAccessor;
 
     private final boolean isValue;
     private final boolean isFilter;
@@ -68,6 +70,7 @@ public final class CriteriaFieldData {
         // extraction hard-coded as should not change based on user options/etc
         this.fieldType = field.getType();
         this.field = field;
+        this.fieldAccessor = CriteriaAccessorUtil.fieldAccessor(field);
         this.isIterable = CriteriaFieldParserUtil.isIterableType(fieldType);
         this.isFilter = CriteriaFieldParserUtil.isFilterType(fieldType);
         this.isArray = fieldType.isArray();
@@ -101,6 +104,18 @@ public final class CriteriaFieldData {
         return field;
     }
 
+    /**
+     * Same as {@link Field#get(Object)} but without reflection cost on each call
+     *
+     * @param criteria criteria instance of the class of this field
+     * @return field value
+     * @throws IllegalStateException if field could not be accessed
+     */
+    @Nullable
+    public Object getFieldValue(final Object criteria) {
+        return fieldAccessor.apply(criteria);
+    }
+
     /**
      * @return true when is none of {@link #isFilter()}, {@link #isIterable()} and {@link #isArray()}
      */
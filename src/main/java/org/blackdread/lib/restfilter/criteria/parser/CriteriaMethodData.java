@@ -32,6 +32,7 @@ import javax.annotation.concurrent.ThreadSafe;
 import java.lang.reflect.Method;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * All data that can be extracted from method, annotations, etc
@@ -40,6 +41,7 @@ import java.util.Optional;
 @Immutable
 public final class CriteriaMethodData {
     private final Method method;
+    private final Function<Object, Object> methodAccessor;
     private final Class<?> methodReturnType;
 
     private final boolean isValue;
@@ -68,6 +70,7 @@ public final class CriteriaMethodData {
     private CriteriaMethodData(final Method method) {
         // extraction hard-coded as should not change based on user options/etc
         this.method = method;
+        this.methodAccessor = CriteriaAccessorUtil.methodAccessor(method);
         this.methodReturnType = method.getReturnType();
 
         this.isIterable = CriteriaFieldParserUtil.isIterableType(methodReturnType);
@@ -104,6 +107,18 @@ public final class CriteriaMethodData {
         return method;
     }
 
+    /**
+     * Same as {@link Method#invoke(Object, Object...)} but without reflection cost on each call
+     *
+     * @param criteria criteria instance of the class of this method
+     * @return method return value
+     * @throws IllegalStateException if method could not be accessed or thrown an exception
+     */
+    @Nullable
+    public Object getMethodReturnValue(final Object criteria) {
+        return methodAccessor.apply(criteria);
+    }
+
     /**
      * Same as {@link Method#getReturnType()}
      *
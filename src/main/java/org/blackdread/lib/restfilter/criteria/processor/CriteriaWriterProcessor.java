@@ -0,0 +1,513 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.criteria.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generate a {@code CriteriaQueryParamWriter} for each class annotated with {@code CriteriaWriter} and register them in
+ * {@code META-INF/services} so {@code CriteriaQueryParamBuilder} picks them up.
+ * <p>
+ * Rules to find fields/methods and names of params are the same as {@code CriteriaFieldParserUtil}, only the access differs:
+ * fields are read directly when accessible from the package of the criteria, otherwise with their public getter.
+ * <p>
+ * Processor is optional and not registered in {@code META-INF/services} of the jar, enable it with
+ * {@code -processor org.blackdread.lib.restfilter.criteria.processor.CriteriaWriterProcessor}, without it reflection is used.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+public class CriteriaWriterProcessor extends AbstractProcessor {
+
+    static final String WRITER_SUFFIX = "_CriteriaWriter";
+
+    private static final String CRITERIA_WRITER_ANNOTATION = "org.blackdread.lib.restfilter.criteria.annotation.CriteriaWriter";
+    private static final String CRITERIA_INCLUDE_ANNOTATION = "org.blackdread.lib.restfilter.criteria.annotation.CriteriaInclude";
+    private static final String CRITERIA_ALIAS_ANNOTATION = "org.blackdread.lib.restfilter.criteria.annotation.CriteriaAlias";
+    private static final String CRITERIA_IGNORE_ANNOTATION = "org.blackdread.lib.restfilter.criteria.annotation.CriteriaIgnore";
+    private static final String FILTER_CLASS = "org.blackdread.lib.restfilter.filter.Filter";
+    private static final String WRITER_INTERFACE = "org.blackdread.lib.restfilter.criteria.CriteriaQueryParamWriter";
+    private static final String SINK_INTERFACE = "org.blackdread.lib.restfilter.criteria.CriteriaQueryParamSink";
+    private static final String SERVICE_FILE = "META-INF/services/" + WRITER_INTERFACE;
+
+    private final Set<String> generatedWriters = new LinkedHashSet<>();
+
+    private Elements elements;
+    private Types types;
+    private Filer filer;
+    private Messager messager;
+
+    private TypeMirror filterType;
+    private TypeMirror iterableType;
+
+    @Override
+    public synchronized void init(final ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(CRITERIA_WRITER_ANNOTATION);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (!generatedWriters.isEmpty()) {
+                writeServiceFile();
+            }
+            return false;
+        }
+        final TypeElement annotation = elements.getTypeElement(CRITERIA_WRITER_ANNOTATION);
+        if (annotation == null) {
+            return false;
+        }
+        final TypeElement filterElement = elements.getTypeElement(FILTER_CLASS);
+        if (filterElement == null) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Class not found in classpath: " + FILTER_CLASS);
+            return false;
+        }
+        filterType = types.erasure(filterElement.asType());
+        iterableType = types.erasure(elements.getTypeElement(Iterable.class.getCanonicalName()).asType());
+
+        for (final TypeElement criteriaClass : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+            if (isSupportedClass(criteriaClass)) {
+                generateWriter(criteriaClass);
+            }
+        }
+        return false;
+    }
+
+    private boolean isSupportedClass(final TypeElement criteriaClass) {
+        if (criteriaClass.getKind() != ElementKind.CLASS) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "CriteriaWriter is only supported on classes", criteriaClass);
+            return false;
+        }
+        Element element = criteriaClass;
+        while (element instanceof TypeElement) {
+            final TypeElement typeElement = (TypeElement) element;
+            if (typeElement.getModifiers().contains(Modifier.PRIVATE)) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "CriteriaWriter is not supported on private classes", criteriaClass);
+                return false;
+            }
+            if (typeElement.getNestingKind() == NestingKind.MEMBER && !typeElement.getModifiers().contains(Modifier.STATIC)) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "CriteriaWriter is not supported on inner classes, use a static nested class", criteriaClass);
+                return false;
+            }
+            if (typeElement.getNestingKind() == NestingKind.LOCAL || typeElement.getNestingKind() == NestingKind.ANONYMOUS) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "CriteriaWriter is not supported on local classes", criteriaClass);
+                return false;
+            }
+            element = typeElement.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private void generateWriter(final TypeElement criteriaClass) {
+        final String packageName = elements.getPackageOf(criteriaClass).getQualifiedName().toString();
+        final String criteriaName = types.erasure(criteriaClass.asType()).toString();
+        final String writerSimpleName = getWriterSimpleName(criteriaClass);
+        final String writerName = packageName.isEmpty() ? writerSimpleName : packageName + "." + writerSimpleName;
+
+        final List<String> statements = new ArrayList<>();
+        try {
+            addFieldStatements(criteriaClass, packageName, criteriaName, statements);
+            addMethodStatements(criteriaClass, criteriaName, statements);
+        } catch (IllegalArgumentException e) {
+            // error already reported on element
+            return;
+        }
+
+        final StringBuilder source = new StringBuilder(1024);
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+            .append(" * Generated by ").append(CriteriaWriterProcessor.class.getName()).append(", do not edit.\n")
+            .append(" */\n")
+            .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+            .append("public final class ").append(writerSimpleName)
+            .append(" implements ").append(WRITER_INTERFACE).append('<').append(criteriaName).append("> {\n\n")
+            .append("    @Override\n")
+            .append("    public Class<").append(criteriaName).append("> getCriteriaClass() {\n")
+            .append("        return (Class) ").append(criteriaName).append(".class;\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public void write(final ").append(criteriaName).append(" criteria, final ").append(SINK_INTERFACE).append(" sink) {\n");
+        for (final String statement : statements) {
+            source.append(statement);
+        }
+        source.append("    }\n")
+            .append("}\n");
+
+        try (Writer writer = filer.createSourceFile(writerName, criteriaClass).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Could not write " + writerName + ": " + e.getMessage(), criteriaClass);
+            return;
+        }
+        generatedWriters.add(writerName);
+    }
+
+    private void addFieldStatements(final TypeElement criteriaClass, final String packageName, final String criteriaName, final List<String> statements) {
+        // same order as reflection: fields of class first then fields of super classes
+        TypeElement clazz = criteriaClass;
+        while (clazz != null && !Object.class.getName().equals(clazz.getQualifiedName().toString())) {
+            for (final VariableElement field : ElementFilter.fieldsIn(clazz.getEnclosedElements())) {
+                if (hasAnnotation(field, CRITERIA_IGNORE_ANNOTATION)) {
+                    continue;
+                }
+                final TypeMirror fieldType = field.asType();
+                final AnnotationMirror include = getAnnotation(field, CRITERIA_INCLUDE_ANNOTATION);
+                if (include == null && !isFilter(fieldType)) {
+                    continue;
+                }
+                final String fieldName = field.getSimpleName().toString();
+                final String alias = getAliasValue(field);
+                final String paramName = alias != null ? formatFieldAlias(field, alias, isFilter(fieldType)) : fieldName;
+                final String access = getFieldAccess(criteriaClass, clazz, packageName, criteriaName, field);
+                addStatement(field, "field", fieldName, fieldType, include, paramName, access, statements);
+            }
+            clazz = getSuperclass(clazz);
+        }
+    }
+
+    private void addMethodStatements(final TypeElement criteriaClass, final String criteriaName, final List<String> statements) {
+        for (final ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(criteriaClass))) {
+            if (!method.getModifiers().contains(Modifier.PUBLIC) || !method.getParameters().isEmpty()) {
+                continue;
+            }
+            final AnnotationMirror include = getAnnotation(method, CRITERIA_INCLUDE_ANNOTATION);
+            if (include == null) {
+                continue;
+            }
+            final TypeMirror returnType = method.getReturnType();
+            if (returnType.getKind() == TypeKind.VOID || Void.class.getName().equals(types.erasure(returnType).toString())) {
+                // return value is always null so never written
+                continue;
+            }
+            final String methodName = method.getSimpleName().toString();
+            final String alias = getAliasValue(method);
+            final String paramName = alias != null ? alias : formatMethodName(method, methodName);
+            final String access = (method.getModifiers().contains(Modifier.STATIC) ? criteriaName : "criteria") + "." + methodName + "()";
+            addStatement(method, "method", methodName, returnType, include, paramName, access, statements);
+        }
+    }
+
+    private void addStatement(final Element element, final String elementKind, final String elementName, final TypeMirror type,
+                              final AnnotationMirror include, final String paramName, final String access, final List<String> statements) {
+        final String variable = "value" + statements.size();
+        final String paramNameLiteral = toStringLiteral(paramName);
+        final String typeName = types.erasure(type).toString();
+        final boolean isPrimitive = type.getKind().isPrimitive();
+
+        final StringBuilder statement = new StringBuilder(256);
+        statement.append("        final ").append(isPrimitive ? typeName : "Object").append(' ').append(variable).append(" = ").append(access).append(";\n");
+        final String indent;
+        if (isPrimitive) {
+            indent = "        ";
+        } else {
+            indent = "            ";
+            statement.append("        if (").append(variable).append(" != null) {\n");
+        }
+
+        final boolean keyOnly = include != null && getKeyOnly(include);
+        if (keyOnly && !("boolean".equals(typeName) || Boolean.class.getName().equals(typeName))) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Key only option is only available on boolean field and method return type", element);
+            throw new IllegalArgumentException();
+        }
+
+        if (isFilter(type)) {
+            statement.append(indent).append("sink.writeFilter(").append(paramNameLiteral).append(", (").append(FILTER_CLASS).append(") ").append(variable).append(");\n");
+        } else if (type.getKind() == TypeKind.ARRAY || isIterable(type)) {
+            final String wrappedType = include != null ? getWrappedType(include) : null;
+            if (wrappedType == null) {
+                // same exception as reflection, at runtime and only when value is not null
+                statement.append(indent).append("throw new java.util.NoSuchElementException(")
+                    .append(toStringLiteral(String.format("Iterable %s '%s' was not provided wrapped type class", elementKind, elementName))).append(");\n");
+            } else if (type.getKind() == TypeKind.ARRAY) {
+                statement.append(indent).append("sink.writeArray(").append(paramNameLiteral).append(", ").append(wrappedType).append(".class, ").append(variable).append(");\n");
+            } else {
+                statement.append(indent).append("sink.writeIterable(").append(paramNameLiteral).append(", ").append(wrappedType).append(".class, (Iterable) ").append(variable).append(");\n");
+            }
+        } else {
+            statement.append(indent).append("sink.writeValue(").append(paramNameLiteral).append(", ").append(typeName).append(".class, ")
+                .append(keyOnly).append(", ").append(variable).append(");\n");
+        }
+
+        if (!isPrimitive) {
+            statement.append("        }\n");
+        }
+        statements.add(statement.toString());
+    }
+
+    private String getFieldAccess(final TypeElement criteriaClass, final TypeElement declaringClass, final String packageName,
+                                  final String criteriaName, final VariableElement field) {
+        final Set<Modifier> modifiers = field.getModifiers();
+        final boolean samePackage = packageName.equals(elements.getPackageOf(declaringClass).getQualifiedName().toString());
+        final boolean accessible = modifiers.contains(Modifier.PUBLIC) || (!modifiers.contains(Modifier.PRIVATE) && samePackage);
+        final String fieldName = field.getSimpleName().toString();
+        if (accessible) {
+            if (modifiers.contains(Modifier.STATIC)) {
+                return types.erasure(declaringClass.asType()).toString() + "." + fieldName;
+            }
+            // cast in case field is hidden by a field with same name in a sub-class
+            return declaringClass.equals(criteriaClass) ?
+                "criteria." + fieldName :
+                "((" + types.erasure(declaringClass.asType()).toString() + ") criteria)." + fieldName;
+        }
+        final ExecutableElement getter = findGetter(criteriaClass, field);
+        if (getter == null) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Field is not accessible and has no public getter, add a getter or make it accessible from package '" + packageName + "'", field);
+            throw new IllegalArgumentException();
+        }
+        return (getter.getModifiers().contains(Modifier.STATIC) ? criteriaName : "criteria") + "." + getter.getSimpleName() + "()";
+    }
+
+    private ExecutableElement findGetter(final TypeElement criteriaClass, final VariableElement field) {
+        final String fieldName = field.getSimpleName().toString();
+        final String capitalized = Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+        final Set<String> candidates = new LinkedHashSet<>();
+        candidates.add("get" + capitalized);
+        candidates.add("get" + fieldName);
+        if (field.asType().getKind() == TypeKind.BOOLEAN) {
+            candidates.add("is" + capitalized);
+            candidates.add("is" + fieldName);
+        }
+        for (final ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(criteriaClass))) {
+            if (method.getModifiers().contains(Modifier.PUBLIC)
+                && method.getParameters().isEmpty()
+                && candidates.contains(method.getSimpleName().toString())
+                && types.isSameType(types.erasure(method.getReturnType()), types.erasure(field.asType()))) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private TypeElement getSuperclass(final TypeElement clazz) {
+        final TypeMirror superclass = clazz.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return (TypeElement) ((DeclaredType) superclass).asElement();
+    }
+
+    private boolean isFilter(final TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED && types.isAssignable(types.erasure(type), filterType);
+    }
+
+    private boolean isIterable(final TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED && types.isAssignable(types.erasure(type), iterableType);
+    }
+
+    private String getWriterSimpleName(final TypeElement criteriaClass) {
+        final StringBuilder name = new StringBuilder(criteriaClass.getSimpleName());
+        Element enclosing = criteriaClass.getEnclosingElement();
+        while (enclosing instanceof TypeElement) {
+            name.insert(0, enclosing.getSimpleName() + "_");
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.append(WRITER_SUFFIX).toString();
+    }
+
+    /**
+     * Same as {@code CriteriaFieldParserUtil#formatFieldAlias}
+     */
+    private String formatFieldAlias(final Element element, final String alias, final boolean isFilter) {
+        String result = alias;
+        if (isFilter && result.contains(".")) {
+            messager.printMessage(Diagnostic.Kind.WARNING, "Alias '" + alias + "' for filter field should not contain '.'", element);
+            result = result.substring(0, result.indexOf('.'));
+        }
+        result = result.trim();
+        if (result.isEmpty()) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Field alias cannot result to be blank, given alias: " + alias, element);
+            throw new IllegalArgumentException();
+        }
+        return result;
+    }
+
+    /**
+     * Same as {@code CriteriaFieldParserUtil#formatMethodName}
+     */
+    private String formatMethodName(final Element element, final String methodName) {
+        String result = methodName;
+        if (result.startsWith("get")) {
+            result = result.substring(3);
+        }
+        if (result.startsWith("is")) {
+            result = result.substring(2);
+        }
+        if (result.trim().isEmpty()) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Method name cannot result to be blank, given method name: " + methodName, element);
+            throw new IllegalArgumentException();
+        }
+        result = result.substring(0, 1).toLowerCase() + result.substring(1);
+        return result.trim();
+    }
+
+    private boolean hasAnnotation(final Element element, final String annotationName) {
+        return getAnnotation(element, annotationName) != null;
+    }
+
+    private AnnotationMirror getAnnotation(final Element element, final String annotationName) {
+        for (final AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+            if (annotationName.equals(((TypeElement) annotationMirror.getAnnotationType().asElement()).getQualifiedName().toString())) {
+                return annotationMirror;
+            }
+        }
+        return null;
+    }
+
+    private Object getAnnotationValue(final AnnotationMirror annotationMirror, final String name) {
+        for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotationMirror.getElementValues().entrySet()) {
+            if (name.equals(entry.getKey().getSimpleName().toString())) {
+                return entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    private String getAliasValue(final Element element) {
+        final AnnotationMirror alias = getAnnotation(element, CRITERIA_ALIAS_ANNOTATION);
+        return alias == null ? null : (String) getAnnotationValue(alias, "value");
+    }
+
+    private boolean getKeyOnly(final AnnotationMirror include) {
+        final Object keyOnly = getAnnotationValue(include, "keyOnly");
+        return keyOnly != null && (Boolean) keyOnly;
+    }
+
+    private String getWrappedType(final AnnotationMirror include) {
+        final Object value = getAnnotationValue(include, "value");
+        if (value == null) {
+            return null;
+        }
+        final String typeName = types.erasure((TypeMirror) value).toString();
+        return Void.class.getName().equals(typeName) ? null : typeName;
+    }
+
+    private static String toStringLiteral(final String value) {
+        final StringBuilder literal = new StringBuilder(value.length() + 2).append('"');
+        for (final char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                case '\t':
+                    literal.append("\\t");
+                    break;
+                default:
+                    literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    private void writeServiceFile() {
+        final Set<String> services = new LinkedHashSet<>();
+        // keep writers of a previous incremental compilation
+        try {
+            final FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (!line.isEmpty() && !line.startsWith("#")) {
+                        services.add(line);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // no file yet
+        }
+        services.addAll(generatedWriters);
+
+        try {
+            final FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = file.openWriter()) {
+                for (final String service : services) {
+                    writer.write(service);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Could not write " + SERVICE_FILE + ": " + e.getMessage());
+        }
+    }
+}
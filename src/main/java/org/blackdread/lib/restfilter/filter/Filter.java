@@ -25,6 +25,8 @@
  */
 package org.blackdread.lib.restfilter.filter;
 
+import org.blackdread.lib.restfilter.util.SortedPrimitiveList;
+
 import java.io.Serializable;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -68,12 +70,20 @@ public class Filter<FIELD_TYPE> implements Serializable {
         this.equals = filter.equals;
         this.notEquals = filter.notEquals;
         this.specified = filter.specified;
-        this.in = filter.in == null ? null : new ArrayList<>(filter.in);
-        this.notIn = filter.notIn == null ? null : new ArrayList<>(filter.notIn);
+        this.in = copyList(filter.in);
+        this.notIn = copyList(filter.notIn);
+    }
+
+    private static <T> List<T> copyList(final List<T> list) {
+        if (list == null) {
+            return null;
+        }
+        // immutable, shared instead of boxing every value again
+        return list instanceof SortedPrimitiveList ? list : new ArrayList<>(list);
     }
 
     /**
-     * @return new filter with all fields copied (deep copy), collections are copied (no just the reference)
+     * @return new filter with all fields copied (deep copy), collections are copied (no just the reference) except immutable ones
      */
     public Filter<FIELD_TYPE> copy() {
         return new Filter<>(this);
@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.filter;
+
+import org.blackdread.lib.restfilter.util.SortedLongList;
+
+import java.util.List;
+
+/**
+ * Same as {@link LongFilter} but {@code in} and {@code notIn} are stored as a sorted {@code long[]} of distinct values ({@link SortedLongList}),
+ * for large lists of ids: no boxes are kept, copies share the array and {@code equals}/{@code hashCode} do not box.
+ * <p>
+ * {@link #getIn()} and {@link #getNotIn()} return immutable views sorted in natural order, order and duplicates of the list set are not kept.
+ * A list with a null value is kept as given as {@code x not in (1, null)} never matches in SQL.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ * @see SortedLongList
+ */
+public class PrimitiveLongFilter extends LongFilter {
+
+    private static final long serialVersionUID = 1L;
+
+    public PrimitiveLongFilter() {
+    }
+
+    public PrimitiveLongFilter(final PrimitiveLongFilter filter) {
+        super(filter);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PrimitiveLongFilter copy() {
+        return new PrimitiveLongFilter(this);
+    }
+
+    /**
+     * @param in values in any order, duplicates are removed
+     * @return itself
+     */
+    public PrimitiveLongFilter inValues(final long... in) {
+        super.setIn(SortedLongList.of(in));
+        return this;
+    }
+
+    /**
+     * @param notIn values in any order, duplicates are removed
+     * @return itself
+     */
+    public PrimitiveLongFilter notInValues(final long... notIn) {
+        super.setNotIn(SortedLongList.of(notIn));
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PrimitiveLongFilter setIn(final List<Long> in) {
+        super.setIn(toSortedList(in));
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PrimitiveLongFilter setNotIn(final List<Long> notIn) {
+        super.setNotIn(toSortedList(notIn));
+        return this;
+    }
+
+    private static List<Long> toSortedList(final List<Long> values) {
+        if (values == null || containsNull(values)) {
+            return values;
+        }
+        return SortedLongList.of(values);
+    }
+
+    private static boolean containsNull(final List<Long> values) {
+        // not contains(null) as some immutable lists throw on null
+        for (final Long value : values) {
+            if (value == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.jooq;
+
+import org.blackdread.lib.restfilter.criteria.CriteriaResultCache;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.ExecuteType;
+import org.jooq.Query;
+import org.jooq.Table;
+import org.jooq.impl.QOM;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Invalidates tables of {@link CriteriaResultCache} when a statement executed by jOOQ writes into them
+ * (insert, update, delete, merge, truncate and records stored).
+ * Statements whose written tables are unknown (plain SQL, routines, DDL) invalidate all entries.
+ * <pre>
+ * configuration.set(new DefaultExecuteListenerProvider(new JooqCacheInvalidationListener(childCache, parentCache)));
+ * </pre>
+ * <p>Invalidation is done after execution and not after commit, a search running between the two can cache a value
+ * not yet committed, the expiration of entries bounds how long.</p>
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+@ThreadSafe
+public class JooqCacheInvalidationListener implements ExecuteListener {
+
+    private static final Logger log = LoggerFactory.getLogger(JooqCacheInvalidationListener.class);
+
+    private final List<CriteriaResultCache<?>> caches;
+
+    public JooqCacheInvalidationListener(final CriteriaResultCache<?>... caches) {
+        this(Arrays.asList(caches));
+    }
+
+    public JooqCacheInvalidationListener(final Collection<? extends CriteriaResultCache<?>> caches) {
+        this.caches = Collections.unmodifiableList(new ArrayList<>(caches));
+    }
+
+    /**
+     * @param tables tables read by a query
+     * @return names of tables to give to {@link CriteriaResultCache#get}
+     */
+    public static List<String> tableNames(final Table<?>... tables) {
+        final List<String> names = new ArrayList<>(tables.length);
+        for (final Table<?> table : tables) {
+            names.add(table.getName());
+        }
+        return names;
+    }
+
+    @Override
+    public void executeEnd(final ExecuteContext ctx) {
+        if (ctx.type() == ExecuteType.READ) {
+            return;
+        }
+        final Set<String> tables = new LinkedHashSet<>();
+        final Query[] batchQueries = ctx.batchQueries();
+        final boolean known;
+        if (batchQueries.length > 0) {
+            boolean allKnown = true;
+            for (final Query query : batchQueries) {
+                allKnown &= collectWrittenTables(query, tables);
+            }
+            known = allKnown;
+        } else {
+            known = collectWrittenTables(ctx.query(), tables);
+        }
+        if (known) {
+            for (final CriteriaResultCache<?> cache : caches) {
+                cache.invalidateTables(tables);
+            }
+        } else {
+            log.debug("Tables written by statement are unknown, invalidate all: {}", ctx.sql());
+            for (final CriteriaResultCache<?> cache : caches) {
+                cache.invalidateAll();
+            }
+        }
+    }
+
+    /**
+     * @return false if tables written by the query are unknown
+     */
+    private static boolean collectWrittenTables(@Nullable final Query query, final Set<String> tables) {
+        if (query instanceof QOM.Insert) {
+            return collectTable(((QOM.Insert<?>) query).$into(), tables);
+        }
+        if (query instanceof QOM.Update) {
+            return collectTable(((QOM.Update<?>) query).$table(), tables);
+        }
+        if (query instanceof QOM.Delete) {
+            return collectTable(((QOM.Delete<?>) query).$from(), tables);
+        }
+        if (query instanceof QOM.Merge) {
+            return collectTable(((QOM.Merge<?>) query).$into(), tables);
+        }
+        if (query instanceof QOM.Truncate) {
+            boolean known = true;
+            for (final Table<?> table : ((QOM.Truncate<?>) query).$table()) {
+                known &= collectTable(table, tables);
+            }
+            return known;
+        }
+        return false;
+    }
+
+    private static boolean collectTable(@Nullable final Table<?> table, final Set<String> tables) {
+        if (table == null) {
+            return false;
+        }
+        if (table instanceof QOM.TableAlias) {
+            return collectTable(((QOM.TableAlias<?>) table).$table(), tables);
+        }
+        if (table instanceof QOM.JoinTable) {
+            // update of a join can write any of its tables
+            final boolean known1 = collectTable(((QOM.JoinTable<?, ?>) table).$table1(), tables);
+            return collectTable(((QOM.JoinTable<?, ?>) table).$table2(), tables) && known1;
+        }
+        tables.add(table.getName());
+        return true;
+    }
+}
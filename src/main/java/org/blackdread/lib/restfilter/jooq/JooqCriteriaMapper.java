@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.jooq;
+
+import org.jooq.Condition;
+import org.jooq.Table;
+
+/**
+ * Build the jOOQ condition of all filters of a criteria at once.
+ * <p>
+ * Filter fields and filter methods of the criteria (see {@link org.blackdread.lib.restfilter.criteria.parser.CriteriaFieldParserUtil}) are bound to a jOOQ field
+ * by their param name (alias if defined, field name or formatted method name otherwise), binding is done once per criteria class (and table) then cached.
+ * <p>
+ * Conditions are built by {@link JooqFilterUtil} with the in list strategy of the builder, values are bound with the data type of the jOOQ field
+ * (same as {@code JooqQueryService.buildCondition}). Filters are optimized only if enabled with {@link JooqCriteriaMapperBuilder#filterOptimization(boolean)},
+ * like {@code JooqQueryService.isFilterOptimizationEnabled()}.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+public interface JooqCriteriaMapper {
+
+    /**
+     * @param criteria criteria to build condition from, null filters are ignored
+     * @return condition of all non null filters combined with AND, {@link org.jooq.impl.DSL#noCondition()} if none
+     * @throws IllegalStateException    if this was built without any alias
+     * @throws IllegalArgumentException if a filter of the criteria is not found in aliases. Behavior may be changed with option provided to builder
+     */
+    Condition buildCondition(final Object criteria);
+
+    /**
+     * If aliases were defined at creation of this {@link JooqCriteriaMapper}, those will match first instead of fields of the table.
+     *
+     * @param criteria criteria to build condition from, null filters are ignored
+     * @param table    table from which fields are looked up by name (so careful with field alias etc)
+     * @return condition of all non null filters combined with AND, {@link org.jooq.impl.DSL#noCondition()} if none
+     * @throws IllegalArgumentException if a filter of the criteria is not found in aliases or fields of the table. Behavior may be changed with option provided to builder
+     */
+    Condition buildCondition(final Object criteria, final Table<?> table);
+
+}
@@ -0,0 +1,174 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.jooq;
+
+import org.jooq.Field;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable builder, methods that would modify the builder creates a new builder copied and alters the copy before returning it.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+@Immutable
+@ThreadSafe
+public class JooqCriteriaMapperBuilder {
+
+    private boolean ignoreJooqPropertyCase = true;
+
+    private boolean enableJooqFieldExtraLookUp = true;
+
+    private final Map<String, Field<?>> fieldByAliasMap = new HashMap<>();
+
+    private boolean throwOnFilterNotFound = true;
+
+    private JooqInListStrategy inListStrategy = JooqInListStrategy.EXPAND;
+
+    private boolean filterOptimization;
+
+    private JooqCriteriaMapperBuilder() {
+    }
+
+    private JooqCriteriaMapperBuilder(final JooqCriteriaMapperBuilder copy) {
+        this.ignoreJooqPropertyCase = copy.ignoreJooqPropertyCase;
+        this.enableJooqFieldExtraLookUp = copy.enableJooqFieldExtraLookUp;
+        this.fieldByAliasMap.putAll(copy.fieldByAliasMap);
+        this.throwOnFilterNotFound = copy.throwOnFilterNotFound;
+        this.inListStrategy = copy.inListStrategy;
+        this.filterOptimization = copy.filterOptimization;
+    }
+
+    /**
+     * Constructs a new {@code JooqCriteriaMapperBuilder} instance with default settings.
+     *
+     * @return builder
+     */
+    public static JooqCriteriaMapperBuilder newBuilder() {
+        return new JooqCriteriaMapperBuilder();
+    }
+
+    /**
+     * If true, jooq field names are tested ignoring case.
+     * So jooq fields can return true for id == ID or my_column == MY_COLUMN
+     *
+     * @param ignoreJooqPropertyCase enable or not
+     * @return new {@code JooqCriteriaMapperBuilder} instance (for chaining)
+     */
+    public JooqCriteriaMapperBuilder ignoreJooqPropertyCase(final boolean ignoreJooqPropertyCase) {
+        final JooqCriteriaMapperBuilder copy = new JooqCriteriaMapperBuilder(this);
+        copy.ignoreJooqPropertyCase = ignoreJooqPropertyCase;
+        return copy;
+    }
+
+    /**
+     * If true, fields name from jOOQ will be tried with different combination (name extracted, camelCase, etc), depends on implementation.
+     * So jooq fields can return true for myColumn == MY_COLUMN or etc.
+     *
+     * @param enableJooqFieldExtraLookUp enable or not
+     * @return new {@code JooqCriteriaMapperBuilder} instance (for chaining)
+     */
+    public JooqCriteriaMapperBuilder enableJooqFieldExtraLookUp(final boolean enableJooqFieldExtraLookUp) {
+        final JooqCriteriaMapperBuilder copy = new JooqCriteriaMapperBuilder(this);
+        copy.enableJooqFieldExtraLookUp = enableJooqFieldExtraLookUp;
+        return copy;
+    }
+
+    /**
+     * The filter of the criteria with that param name will be applied on the field
+     *
+     * @param alias param name of the filter (alias if defined, field name or formatted method name otherwise)
+     * @param field field on which the filter is applied
+     * @return new {@code JooqCriteriaMapperBuilder} instance (for chaining)
+     */
+    public JooqCriteriaMapperBuilder addAlias(final String alias, final Field<?> field) {
+        if (field == null)
+            throw new IllegalArgumentException("Field cannot be null");
+        checkAliasNotAlreadyDefined(alias);
+        final JooqCriteriaMapperBuilder copy = new JooqCriteriaMapperBuilder(this);
+        copy.fieldByAliasMap.put(alias, field);
+        return copy;
+    }
+
+    /**
+     * @param filterNotFoundThrows will throw if a filter of the criteria is not found in aliases (or fields of the table), otherwise the filter is ignored
+     * @return new {@code JooqCriteriaMapperBuilder} instance (for chaining)
+     */
+    public JooqCriteriaMapperBuilder throwOnFilterNotFound(final boolean filterNotFoundThrows) {
+        final JooqCriteriaMapperBuilder copy = new JooqCriteriaMapperBuilder(this);
+        copy.throwOnFilterNotFound = filterNotFoundThrows;
+        return copy;
+    }
+
+    /**
+     * @param inListStrategy strategy used for {@code in} and {@code notIn} values of filters
+     * @return new {@code JooqCriteriaMapperBuilder} instance (for chaining)
+     */
+    public JooqCriteriaMapperBuilder withInListStrategy(final JooqInListStrategy inListStrategy) {
+        if (inListStrategy == null)
+            throw new IllegalArgumentException("In list strategy cannot be null");
+        final JooqCriteriaMapperBuilder copy = new JooqCriteriaMapperBuilder(this);
+        copy.inListStrategy = inListStrategy;
+        return copy;
+    }
+
+    /**
+     * Same as {@code JooqQueryService.isFilterOptimizationEnabled()}: filters are rewritten by {@link org.blackdread.lib.restfilter.criteria.CriteriaOptimizerUtil#optimize(org.blackdread.lib.restfilter.filter.Filter)}
+     * before building their condition and an unsatisfiable filter gives {@link org.jooq.impl.DSL#falseCondition()}, so both build the same SQL for the same criteria.
+     *
+     * @param filterOptimization enable or not (default is false)
+     * @return new {@code JooqCriteriaMapperBuilder} instance (for chaining)
+     */
+    public JooqCriteriaMapperBuilder filterOptimization(final boolean filterOptimization) {
+        final JooqCriteriaMapperBuilder copy = new JooqCriteriaMapperBuilder(this);
+        copy.filterOptimization = filterOptimization;
+        return copy;
+    }
+
+    /**
+     * This method does not alter the state of this {@code JooqCriteriaMapperBuilder} instance, so it can be
+     * invoked again to create multiple independent JooqCriteriaMapper.
+     *
+     * @return a JooqCriteriaMapper with features specified in this builder
+     */
+    public JooqCriteriaMapper build() {
+        return new JooqCriteriaMapperImpl(
+            ignoreJooqPropertyCase,
+            enableJooqFieldExtraLookUp,
+            fieldByAliasMap,
+            throwOnFilterNotFound,
+            inListStrategy,
+            filterOptimization
+        );
+    }
+
+    private void checkAliasNotAlreadyDefined(final String alias) {
+        if (fieldByAliasMap.containsKey(alias))
+            throw new IllegalStateException(String.format("Field alias \"%s\" already defined", alias));
+    }
+}
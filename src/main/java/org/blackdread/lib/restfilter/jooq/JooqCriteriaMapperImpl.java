@@ -0,0 +1,301 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.jooq;
+
+import org.apache.commons.text.CaseUtils;
+import org.blackdread.lib.restfilter.criteria.CriteriaOptimizerUtil;
+import org.blackdread.lib.restfilter.criteria.parser.CriteriaData;
+import org.blackdread.lib.restfilter.criteria.parser.CriteriaFieldData;
+import org.blackdread.lib.restfilter.criteria.parser.CriteriaFieldParserUtil;
+import org.blackdread.lib.restfilter.criteria.parser.CriteriaMethodData;
+import org.blackdread.lib.restfilter.filter.Filter;
+import org.blackdread.lib.restfilter.filter.RangeFilter;
+import org.blackdread.lib.restfilter.filter.StringFilter;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Bindings are cached per criteria class (and per table), so tables passed should be a limited set (generated tables, aliased tables created once, etc)
+ * and not created for each query.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+@Immutable
+@ThreadSafe
+class JooqCriteriaMapperImpl implements JooqCriteriaMapper {
+
+    private static final Logger log = LoggerFactory.getLogger(JooqCriteriaMapperImpl.class);
+
+    /**
+     * If true, fields name from jOOQ will be tested ignoring case.
+     */
+    private final boolean ignoreJooqPropertyCase;
+
+    /**
+     * If true, fields name from jOOQ will be tried with different combination (name extracted, camelCase, etc).
+     */
+    private final boolean enableJooqFieldExtraLookUp;
+
+    private final Map<String, Field<?>> fieldByAliasMap;
+
+    private final boolean throwOnFilterNotFound;
+
+    private final JooqInListStrategy inListStrategy;
+
+    private final boolean filterOptimization;
+
+    private final Map<Class<?>, List<FilterBinding>> bindingsByCriteriaClass = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, TableBindings> tableBindingsByCriteriaClass = new ConcurrentHashMap<>();
+
+    JooqCriteriaMapperImpl(boolean ignoreJooqPropertyCase, boolean enableJooqFieldExtraLookUp, Map<String, Field<?>> fieldByAliasMap, boolean throwOnFilterNotFound, JooqInListStrategy inListStrategy,
+                           boolean filterOptimization) {
+        this.ignoreJooqPropertyCase = ignoreJooqPropertyCase;
+        this.enableJooqFieldExtraLookUp = enableJooqFieldExtraLookUp;
+        this.fieldByAliasMap = Collections.unmodifiableMap(new HashMap<>(fieldByAliasMap));
+        this.throwOnFilterNotFound = throwOnFilterNotFound;
+        this.inListStrategy = inListStrategy;
+        this.filterOptimization = filterOptimization;
+    }
+
+    @Override
+    public Condition buildCondition(final Object criteria) {
+        Objects.requireNonNull(criteria, "criteria");
+        if (fieldByAliasMap.isEmpty()) {
+            throw new IllegalStateException("No alias was defined");
+        }
+        final List<FilterBinding> bindings = bindingsByCriteriaClass.computeIfAbsent(criteria.getClass(), clazz -> bind(clazz, Collections.emptyMap()));
+        return buildCondition(criteria, bindings);
+    }
+
+    @Override
+    public Condition buildCondition(final Object criteria, final Table<?> table) {
+        Objects.requireNonNull(criteria, "criteria");
+        Objects.requireNonNull(table, "table");
+        final Class<?> criteriaClass = criteria.getClass();
+        final List<FilterBinding> bindings = tableBindingsByCriteriaClass.computeIfAbsent(criteriaClass, clazz -> new TableBindings())
+            .get(table, t -> bind(criteriaClass, buildNameFieldMap(t)));
+        return buildCondition(criteria, bindings);
+    }
+
+    private Condition buildCondition(final Object criteria, final List<FilterBinding> bindings) {
+        // most filters of a criteria are usually null so list is not pre-sized
+        List<Condition> conditions = null;
+        for (final FilterBinding binding : bindings) {
+            Filter<?> filter = (Filter<?>) binding.accessor.apply(criteria);
+            if (filter == null) {
+                continue;
+            }
+            if (filterOptimization) {
+                // same path as JooqQueryService.buildCondition
+                filter = CriteriaOptimizerUtil.optimize(filter);
+                if (CriteriaOptimizerUtil.isNeverMatching(filter)) {
+                    return DSL.falseCondition();
+                }
+            }
+            if (conditions == null) {
+                conditions = new ArrayList<>();
+            }
+            conditions.add(binding.buildCondition(filter, inListStrategy));
+        }
+        if (conditions == null) {
+            return DSL.noCondition();
+        }
+        return conditions.size() == 1 ? conditions.get(0) : DSL.and(conditions);
+    }
+
+    private List<FilterBinding> bind(final Class<?> criteriaClass, final Map<String, Field<?>> nameFieldMap) {
+        final CriteriaData criteriaData = CriteriaFieldParserUtil.getCriteriaData(criteriaClass);
+        final List<FilterBinding> bindings = new ArrayList<>();
+        for (final CriteriaFieldData fieldData : criteriaData.getFields()) {
+            if (!fieldData.isFilter()) {
+                continue;
+            }
+            final String paramName = fieldData.getFormattedAliasName()
+                .orElse(fieldData.getFieldName());
+            final Field<?> field = findField(paramName, nameFieldMap);
+            if (field != null) {
+                bindings.add(FilterBinding.of(paramName, fieldData.getFieldType(), fieldData::getFieldValue, field));
+            }
+        }
+        for (final CriteriaMethodData methodData : criteriaData.getMethods()) {
+            if (!methodData.isFilter()) {
+                continue;
+            }
+            final String paramName = methodData.getMethodAliasName()
+                .orElse(methodData.getFormattedMethodName());
+            final Field<?> field = findField(paramName, nameFieldMap);
+            if (field != null) {
+                bindings.add(FilterBinding.of(paramName, methodData.getMethodReturnType(), methodData::getMethodReturnValue, field));
+            }
+        }
+        log.debug("Bound {} filters of {}", bindings.size(), criteriaClass);
+        return Collections.unmodifiableList(bindings);
+    }
+
+    @Nullable
+    private Field<?> findField(final String paramName, final Map<String, Field<?>> nameFieldMap) {
+        // aliases have priority over fields of table
+        Field<?> field = fieldByAliasMap.get(paramName);
+        if (field == null) {
+            field = nameFieldMap.get(paramName);
+        }
+        if (field == null && ignoreJooqPropertyCase) {
+            field = nameFieldMap.get(paramName.toLowerCase(Locale.ENGLISH));
+        }
+        if (field == null) {
+            if (throwOnFilterNotFound) {
+                throw new IllegalArgumentException(String.format("Filter '%s' not found", paramName));
+            }
+            log.info("Filter '{}' not found but ignored", paramName);
+        }
+        return field;
+    }
+
+    private Map<String, Field<?>> buildNameFieldMap(final Table<?> table) {
+        final Map<String, Field<?>> nameFieldMap = new HashMap<>();
+        for (final Field<?> field : table.fields()) {
+            final String fieldName = field.getName();
+            putIfNotHidden(nameFieldMap, fieldName, field);
+            if (ignoreJooqPropertyCase) {
+                putIfNotHidden(nameFieldMap, fieldName.toLowerCase(Locale.ENGLISH), field);
+            }
+            if (enableJooqFieldExtraLookUp) {
+                final String camelCase = CaseUtils.toCamelCase(fieldName, false, '_', '-');
+                putIfNotHidden(nameFieldMap, camelCase, field);
+                if (ignoreJooqPropertyCase) {
+                    // each extra field to be also not case sensitive
+                    putIfNotHidden(nameFieldMap, camelCase.toLowerCase(Locale.ENGLISH), field);
+                }
+            }
+        }
+        return nameFieldMap;
+    }
+
+    private static void putIfNotHidden(final Map<String, Field<?>> nameFieldMap, final String name, final Field<?> field) {
+        final Field<?> previous = nameFieldMap.putIfAbsent(name, field);
+        if (previous != null && previous != field) {
+            log.warn("Field '{}' is hidden by '{}' for name '{}'", field, previous, name);
+        }
+    }
+
+    /**
+     * Tables are not used as keys of a hash map as hashCode of derived/aliased tables may render the table each time.
+     * Few tables are expected per criteria class so a copy-on-write array is searched by identity then by equality.
+     */
+    private static final class TableBindings {
+
+        private volatile TableBinding[] entries = new TableBinding[0];
+
+        List<FilterBinding> get(final Table<?> table, final Function<Table<?>, List<FilterBinding>> binder) {
+            final TableBinding[] current = entries;
+            for (final TableBinding entry : current) {
+                if (entry.table == table) {
+                    return entry.bindings;
+                }
+            }
+            for (final TableBinding entry : current) {
+                if (entry.table.equals(table)) {
+                    return entry.bindings;
+                }
+            }
+            synchronized (this) {
+                for (final TableBinding entry : entries) {
+                    if (entry.table.equals(table)) {
+                        return entry.bindings;
+                    }
+                }
+                final List<FilterBinding> bindings = binder.apply(table);
+                final TableBinding[] copy = Arrays.copyOf(entries, entries.length + 1);
+                copy[entries.length] = new TableBinding(table, bindings);
+                entries = copy;
+                return bindings;
+            }
+        }
+    }
+
+    private static final class TableBinding {
+
+        private final Table<?> table;
+
+        private final List<FilterBinding> bindings;
+
+        private TableBinding(final Table<?> table, final List<FilterBinding> bindings) {
+            this.table = table;
+            this.bindings = bindings;
+        }
+    }
+
+    private static final class FilterBinding {
+
+        private final Function<Object, Object> accessor;
+
+        private final Field<?> field;
+
+        private final boolean isStringFilter;
+
+        private FilterBinding(final Function<Object, Object> accessor, final Field<?> field, final boolean isStringFilter) {
+            this.accessor = accessor;
+            this.field = field;
+            this.isStringFilter = isStringFilter;
+        }
+
+        static FilterBinding of(final String paramName, final Class<?> filterType, final Function<Object, Object> accessor, final Field<?> field) {
+            final boolean isStringFilter = StringFilter.class.isAssignableFrom(filterType);
+            if (isStringFilter && !String.class.equals(field.getType())) {
+                throw new IllegalStateException(String.format("StringFilter '%s' cannot be bound to field '%s' of type %s", paramName, field, field.getType().getName()));
+            }
+            return new FilterBinding(accessor, field, isStringFilter);
+        }
+
+        @SuppressWarnings("unchecked")
+        Condition buildCondition(final Filter<?> filter, final JooqInListStrategy inListStrategy) {
+            if (isStringFilter) {
+                return JooqFilterUtil.buildCondition((StringFilter) filter, (Field<String>) field, inListStrategy);
+            } else if (filter instanceof RangeFilter) {
+                return JooqFilterUtil.buildCondition((RangeFilter) filter, (Field) field, inListStrategy);
+            }
+            return JooqFilterUtil.buildCondition((Filter) filter, (Field) field, inListStrategy);
+        }
+    }
+}
@@ -30,6 +30,9 @@ import org.jooq.Condition;
 import org.jooq.Field;
 import org.jooq.impl.DSL;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 /**
@@ -43,17 +46,29 @@ import java.util.stream.Collectors;
 public class JooqFilterUtil {
 
     public static <X, T extends Field<X>> Condition buildCondition(final Filter<X> filter, final T field) {
+        return buildCondition(filter, field, JooqInListStrategy.EXPAND);
+    }
+
+    /**
+     * @param filter         filter
+     * @param field          field
+     * @param inListStrategy strategy used for {@code in} and {@code notIn} values
+     * @param <X>            filter type
+     * @param <T>            field type
+     * @return condition
+     */
+    public static <X, T extends Field<X>> Condition buildCondition(final Filter<X> filter, final T field, final JooqInListStrategy inListStrategy) {
         if (filter.getEquals() != null) {
             return field.equal(filter.getEquals());
         } else if (filter.getIn() != null) {
-            return field.in(filter.getIn());
+            return in(inListStrategy, field, filter.getIn());
         }
         Condition condition = DSL.noCondition();
         if (filter.getNotEquals() != null) {
             condition = condition.and(field.notEqual(filter.getNotEquals()));
         }
         if (filter.getNotIn() != null) {
-            condition = condition.and(field.notIn(filter.getNotIn()));
+            condition = condition.and(notIn(inListStrategy, field, filter.getNotIn()));
         }
         if (filter.getSpecified() != null) {
             condition = condition.and(filter.getSpecified() ? field.isNotNull() : field.isNull());
@@ -62,10 +77,22 @@ public class JooqFilterUtil {
     }
 
     public static <X extends Comparable<? super X>, T extends Field<X>> Condition buildCondition(final RangeFilter<X> filter, final T field) {
+        return buildCondition(filter, field, JooqInListStrategy.EXPAND);
+    }
+
+    /**
+     * @param filter         filter
+     * @param field          field
+     * @param inListStrategy strategy used for {@code in} and {@code notIn} values
+     * @param <X>            filter type
+     * @param <T>            field type
+     * @return condition
+     */
+    public static <X extends Comparable<? super X>, T extends Field<X>> Condition buildCondition(final RangeFilter<X> filter, final T field, final JooqInListStrategy inListStrategy) {
         if (filter.getEquals() != null) {
             return field.equal(filter.getEquals());
         } else if (filter.getIn() != null) {
-            return field.in(filter.getIn());
+            return in(inListStrategy, field, filter.getIn());
         }
 
         Condition condition = DSL.noCondition();
@@ -73,7 +100,7 @@ public class JooqFilterUtil {
             condition = condition.and(field.notEqual(filter.getNotEquals()));
         }
         if (filter.getNotIn() != null) {
-            condition = condition.and(field.notIn(filter.getNotIn()));
+            condition = condition.and(notIn(inListStrategy, field, filter.getNotIn()));
         }
         if (filter.getSpecified() != null) {
             condition = condition.and(filter.getSpecified() ? field.isNotNull() : field.isNull());
@@ -94,14 +121,25 @@ public class JooqFilterUtil {
     }
 
     public static <T extends Field<String>> Condition buildCondition(final StringFilter filter, final T field) {
+        return buildCondition(filter, field, JooqInListStrategy.EXPAND);
+    }
+
+    /**
+     * @param filter         filter
+     * @param field          field
+     * @param inListStrategy strategy used for {@code in} and {@code notIn} values (also when ignoring case)
+     * @param <T>            field type
+     * @return condition
+     */
+    public static <T extends Field<String>> Condition buildCondition(final StringFilter filter, final T field, final JooqInListStrategy inListStrategy) {
         if (filter.getEquals() != null) {
             return filter.isIgnoreCase() ?
                 field.equalIgnoreCase(filter.getEquals()) :
                 field.equal(filter.getEquals());
         } else if (filter.getIn() != null) {
             return filter.isIgnoreCase() ?
-                DSL.upper(field).in(filter.getIn().stream().map(String::toUpperCase).collect(Collectors.toSet())) :
-                field.in(filter.getIn());
+                in(inListStrategy, DSL.upper(field), toUpperCase(filter.getIn())) :
+                in(inListStrategy, field, filter.getIn());
         }
 
         Condition condition = DSL.noCondition();
@@ -112,8 +150,8 @@ public class JooqFilterUtil {
         }
         if (filter.getNotIn() != null) {
             condition = condition.and(filter.isIgnoreCase() ?
-                DSL.upper(field).notIn(filter.getNotIn().stream().map(String::toUpperCase).collect(Collectors.toSet())) :
-                field.notIn(filter.getNotIn()));
+                notIn(inListStrategy, DSL.upper(field), toUpperCase(filter.getNotIn())) :
+                notIn(inListStrategy, field, filter.getNotIn()));
         }
         if (filter.getSpecified() != null) {
             condition = condition.and(filter.getSpecified() ? field.isNotNull() : field.isNull());
@@ -167,6 +205,23 @@ public class JooqFilterUtil {
         return condition;
     }
 
+    private static <X> Condition in(final JooqInListStrategy inListStrategy, final Field<X> field, final Collection<? extends X> values) {
+        // strategies are given values only, an empty 'in' matches no row as with jOOQ
+        return values.isEmpty() ? DSL.falseCondition() : inListStrategy.in(field, values);
+    }
+
+    private static <X> Condition notIn(final JooqInListStrategy inListStrategy, final Field<X> field, final Collection<? extends X> values) {
+        return values.isEmpty() ? DSL.noCondition() : inListStrategy.notIn(field, values);
+    }
+
+    private static List<String> toUpperCase(final List<String> values) {
+        // list keeps order of values so the SQL text is stable
+        return values.stream()
+            .map(value -> value.toUpperCase(Locale.ROOT))
+            .distinct()
+            .collect(Collectors.toList());
+    }
+
     private JooqFilterUtil() {
     }
 }
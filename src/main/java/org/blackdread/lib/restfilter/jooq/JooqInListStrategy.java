@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.jooq;
+
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.SQLDialect;
+
+import java.util.Collection;
+
+/**
+ * How {@code in} and {@code notIn} values of filters are rendered by {@link JooqFilterUtil}.
+ * <p>
+ * By default jOOQ renders one bind variable per value, large lists may exceed driver parameter limits and each list size is a different SQL text for the statement cache.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+public interface JooqInListStrategy {
+
+    /**
+     * One bind variable per value: {@code field in (?, ?, ?)}
+     */
+    JooqInListStrategy EXPAND = new ExpandInListStrategy();
+
+    /**
+     * One bind variable per value but list is padded (with last value repeated) to the next power of two: {@code field in (?, ?, ?, ?)} for 3 values.
+     * <p>
+     * Same as jOOQ setting {@code Settings.inListPadding} but does not depend on the configuration of the query.
+     */
+    JooqInListStrategy PADDED = new PaddedInListStrategy();
+
+    /**
+     * Values bound as one array: {@code field = any(?)} and {@code field <> all(?)}.
+     * <p>
+     * Only for dialects supporting arrays as bind values (PostgreSQL family), jOOQ emulates it with {@code or}/{@code and} for other dialects, see {@link #forDialect(SQLDialect)}.
+     */
+    JooqInListStrategy ANY_ARRAY = new AnyArrayInListStrategy();
+
+    /**
+     * @param field  field
+     * @param values values, not empty ({@link JooqFilterUtil} does not call the strategy for empty lists)
+     * @param <T>    field type
+     * @return condition of field in values
+     */
+    <T> Condition in(final Field<T> field, final Collection<? extends T> values);
+
+    /**
+     * @param field  field
+     * @param values values, not empty ({@link JooqFilterUtil} does not call the strategy for empty lists)
+     * @param <T>    field type
+     * @return condition of field not in values
+     */
+    <T> Condition notIn(final Field<T> field, final Collection<? extends T> values);
+
+    /**
+     * @param dialect dialect of queries
+     * @return {@link #ANY_ARRAY} if dialect supports arrays as bind values, {@link #PADDED} otherwise
+     */
+    static JooqInListStrategy forDialect(final SQLDialect dialect) {
+        switch (dialect.family()) {
+            case POSTGRES:
+            case YUGABYTEDB:
+                return ANY_ARRAY;
+            default:
+                return PADDED;
+        }
+    }
+
+    /**
+     * Values are joined as a derived table above the threshold: {@code field in (select c from (values (?), (?)) v (c))}
+     * <p>
+     * Rows are padded like {@link #PADDED} (last value repeated up to the next power of two), one bind variable per row.
+     *
+     * @param threshold number of values from which values table is used
+     * @param below     strategy to use below the threshold
+     * @return strategy
+     * @throws IllegalArgumentException if threshold is lower than 1
+     */
+    static JooqInListStrategy valuesTable(final int threshold, final JooqInListStrategy below) {
+        return new ValuesTableInListStrategy(threshold, below);
+    }
+
+}
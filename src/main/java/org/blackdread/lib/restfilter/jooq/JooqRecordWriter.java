@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.jooq;
+
+import org.jooq.CSVFormat;
+import org.jooq.Fields;
+import org.jooq.JSONFormat;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Write records one by one to an output stream, used to export results without holding them in memory
+ * (see {@link org.blackdread.lib.restfilter.spring.sort.JooqStreamUtil}).
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+@FunctionalInterface
+public interface JooqRecordWriter<R extends Record> {
+
+    /**
+     * CSV with a header line, see {@link #csv(CSVFormat)}.
+     *
+     * @param <R> record
+     * @return writer
+     */
+    static <R extends Record> JooqRecordWriter<R> csv() {
+        return csv(CSVFormat.DEFAULT);
+    }
+
+    /**
+     * Header line is written if {@link CSVFormat#header()} is true, each record is a line formatted by {@link Record#formatCSV(CSVFormat)}.
+     *
+     * @param format csv format
+     * @param <R>    record
+     * @return writer of UTF-8 csv
+     */
+    static <R extends Record> JooqRecordWriter<R> csv(final CSVFormat format) {
+        Objects.requireNonNull(format, "format");
+        final CSVFormat recordFormat = format.header(false);
+        return new JooqRecordWriter<R>() {
+            @Override
+            public void writeHeader(final Fields fields, final OutputStream out) throws IOException {
+                if (format.header()) {
+                    // empty result formats as the header line only
+                    out.write(DSL.using(SQLDialect.DEFAULT).newResult(fields.fields()).formatCSV(format).getBytes(StandardCharsets.UTF_8));
+                }
+            }
+
+            @Override
+            public void write(final R record, final OutputStream out) throws IOException {
+                out.write(record.formatCSV(recordFormat).getBytes(StandardCharsets.UTF_8));
+            }
+        };
+    }
+
+    /**
+     * Newline delimited JSON objects, see {@link #ndjson(JSONFormat)}.
+     *
+     * @param <R> record
+     * @return writer
+     */
+    static <R extends Record> JooqRecordWriter<R> ndjson() {
+        return ndjson(JSONFormat.DEFAULT_FOR_RECORDS.recordFormat(JSONFormat.RecordFormat.OBJECT));
+    }
+
+    /**
+     * Each record is a line formatted by {@link Record#formatJSON(JSONFormat)}, format should not be indented.
+     *
+     * @param format json format
+     * @param <R>    record
+     * @return writer of UTF-8 newline delimited json
+     */
+    static <R extends Record> JooqRecordWriter<R> ndjson(final JSONFormat format) {
+        Objects.requireNonNull(format, "format");
+        if (format.format()) {
+            throw new IllegalArgumentException("Newline delimited json cannot be indented");
+        }
+        return (record, out) -> {
+            out.write(record.formatJSON(format).getBytes(StandardCharsets.UTF_8));
+            out.write('\n');
+        };
+    }
+
+    /**
+     * Called once before the first record, even if there is no record.
+     *
+     * @param fields fields of the records
+     * @param out    output
+     * @throws IOException if output fails (client disconnected, etc)
+     */
+    default void writeHeader(final Fields fields, final OutputStream out) throws IOException {
+    }
+
+    /**
+     * @param record record to write
+     * @param out    output
+     * @throws IOException if output fails (client disconnected, etc)
+     */
+    void write(final R record, final OutputStream out) throws IOException;
+
+    /**
+     * Called once after the last record.
+     *
+     * @param out output
+     * @throws IOException if output fails (client disconnected, etc)
+     */
+    default void writeFooter(final OutputStream out) throws IOException {
+    }
+}
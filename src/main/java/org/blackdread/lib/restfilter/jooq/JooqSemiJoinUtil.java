@@ -0,0 +1,183 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.jooq;
+
+import org.blackdread.lib.restfilter.criteria.CriteriaOptimizerUtil;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.OrderField;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SelectField;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+
+/**
+ * Filter parents by attributes of their children and fetch children nested in parent rows, all in the query of the parents.
+ * <p>
+ * A semi-join {@code exists (select 1 from child where <correlation> and <child condition>)} returns each parent once whatever
+ * the number of matching children, so no join then distinct (or deduplication in Java) is needed.
+ * <p>
+ * A {@code multiset (select ... from child where <correlation> and <child condition>)} field returns the children of each parent
+ * in the same round trip (emulated with JSON/XML on most databases by jOOQ), it replaces one query per parent to fetch children.
+ * <pre>{@code
+ * final Condition correlation = CHILD.PARENT_ID.eq(PARENT.ID);
+ * final Condition childCondition = childMapper.buildCondition(childCriteria, CHILD);
+ * create.select(PARENT.ID, PARENT.NAME, JooqSemiJoinUtil.multiset(CHILD, correlation, childCondition, CHILD.ID, CHILD.TOTAL).as("children"))
+ *     .from(PARENT)
+ *     .where(JooqSemiJoinUtil.existsIfFiltered(CHILD, correlation, childCondition))
+ *     .fetch();
+ * }</pre>
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+public class JooqSemiJoinUtil {
+
+    /**
+     * @param child          child table
+     * @param correlation    condition between child and parent, like {@code CHILD.PARENT_ID.eq(PARENT.ID)}
+     * @param childCondition condition on child table
+     * @return condition true if parent has at least one child matching childCondition
+     */
+    public static Condition exists(final Table<?> child, final Condition correlation, final Condition childCondition) {
+        Objects.requireNonNull(child, "child");
+        Objects.requireNonNull(correlation, "correlation");
+        Objects.requireNonNull(childCondition, "childCondition");
+        return DSL.exists(DSL.selectOne().from(child).where(correlation, childCondition));
+    }
+
+    /**
+     * @param child          child table
+     * @param correlation    condition between child and parent, like {@code CHILD.PARENT_ID.eq(PARENT.ID)}
+     * @param childCondition condition on child table
+     * @return condition true if parent has no child matching childCondition
+     */
+    public static Condition notExists(final Table<?> child, final Condition correlation, final Condition childCondition) {
+        Objects.requireNonNull(child, "child");
+        Objects.requireNonNull(correlation, "correlation");
+        Objects.requireNonNull(childCondition, "childCondition");
+        return DSL.notExists(DSL.selectOne().from(child).where(correlation, childCondition));
+    }
+
+    /**
+     * Same as {@link #exists(Table, Condition, Condition)} except that parents are not filtered if there is no child condition.
+     *
+     * @param child          child table
+     * @param correlation    condition between child and parent, like {@code CHILD.PARENT_ID.eq(PARENT.ID)}
+     * @param childCondition condition on child table
+     * @return {@link DSL#noCondition()} if childCondition is {@link DSL#noCondition()}, {@link DSL#falseCondition()} if childCondition is
+     * {@link DSL#falseCondition()}, exists condition otherwise
+     */
+    public static Condition existsIfFiltered(final Table<?> child, final Condition correlation, final Condition childCondition) {
+        if (DSL.noCondition().equals(childCondition)) {
+            return DSL.noCondition();
+        }
+        if (DSL.falseCondition().equals(childCondition)) {
+            return DSL.falseCondition();
+        }
+        return exists(child, correlation, childCondition);
+    }
+
+    /**
+     * Child criteria is mapped to a condition on child table by {@link JooqCriteriaMapper#buildCondition(Object, Table)}.
+     *
+     * @param mapper        mapper of child criteria
+     * @param childCriteria criteria on child table (can be null)
+     * @param child         child table
+     * @param correlation   condition between child and parent, like {@code CHILD.PARENT_ID.eq(PARENT.ID)}
+     * @return {@link DSL#noCondition()} if childCriteria is null or has no filter, {@link DSL#falseCondition()} if a filter of childCriteria
+     * can not match any child, exists condition otherwise
+     * @see #existsIfFiltered(Table, Condition, Condition)
+     */
+    public static Condition exists(final JooqCriteriaMapper mapper, @Nullable final Object childCriteria, final Table<?> child, final Condition correlation) {
+        return existsIfFiltered(child, correlation, buildChildCondition(mapper, childCriteria, child));
+    }
+
+    /**
+     * @param child          child table
+     * @param correlation    condition between child and parent, like {@code CHILD.PARENT_ID.eq(PARENT.ID)}
+     * @param childCondition condition on child table, {@link DSL#noCondition()} to fetch all children
+     * @param fields         fields of child to fetch
+     * @return field of children of each parent, to alias like {@code multiset(...).as("children")}
+     */
+    public static Field<Result<Record>> multiset(final Table<?> child, final Condition correlation, final Condition childCondition,
+                                                 final SelectField<?>... fields) {
+        return multiset(child, correlation, childCondition, Arrays.asList(fields), Collections.emptyList());
+    }
+
+    /**
+     * @param child          child table
+     * @param correlation    condition between child and parent, like {@code CHILD.PARENT_ID.eq(PARENT.ID)}
+     * @param childCondition condition on child table, {@link DSL#noCondition()} to fetch all children
+     * @param fields         fields of child to fetch
+     * @param orderBy        order of children, empty for no order
+     * @return field of children of each parent, to alias like {@code multiset(...).as("children")}
+     */
+    public static Field<Result<Record>> multiset(final Table<?> child, final Condition correlation, final Condition childCondition,
+                                                 final Collection<? extends SelectField<?>> fields, final Collection<? extends OrderField<?>> orderBy) {
+        Objects.requireNonNull(child, "child");
+        Objects.requireNonNull(correlation, "correlation");
+        Objects.requireNonNull(childCondition, "childCondition");
+        Objects.requireNonNull(orderBy, "orderBy");
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("At least one field of child is required");
+        }
+        return DSL.multiset(DSL.select(fields).from(child).where(correlation, childCondition).orderBy(orderBy));
+    }
+
+    /**
+     * @param mapper        mapper of child criteria
+     * @param childCriteria criteria on child table (can be null)
+     * @param child         child table
+     * @param correlation   condition between child and parent, like {@code CHILD.PARENT_ID.eq(PARENT.ID)}
+     * @param fields        fields of child to fetch
+     * @param orderBy       order of children, empty for no order
+     * @return field of children matching childCriteria of each parent, to alias like {@code multiset(...).as("children")}
+     */
+    public static Field<Result<Record>> multiset(final JooqCriteriaMapper mapper, @Nullable final Object childCriteria, final Table<?> child, final Condition correlation,
+                                                 final Collection<? extends SelectField<?>> fields, final Collection<? extends OrderField<?>> orderBy) {
+        return multiset(child, correlation, buildChildCondition(mapper, childCriteria, child), fields, orderBy);
+    }
+
+    private static Condition buildChildCondition(final JooqCriteriaMapper mapper, @Nullable final Object childCriteria, final Table<?> child) {
+        Objects.requireNonNull(mapper, "mapper");
+        if (childCriteria == null) {
+            return DSL.noCondition();
+        }
+        if (CriteriaOptimizerUtil.isAnyFilterUnsatisfiable(childCriteria)) {
+            return DSL.falseCondition();
+        }
+        return mapper.buildCondition(childCriteria, child);
+    }
+
+    private JooqSemiJoinUtil() {
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.jooq;
+
+import org.blackdread.lib.restfilter.util.InListUtil;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.Record1;
+import org.jooq.Row1;
+import org.jooq.Select;
+import org.jooq.impl.DSL;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+@Immutable
+@ThreadSafe
+final class ValuesTableInListStrategy implements JooqInListStrategy {
+
+    private final int threshold;
+
+    private final JooqInListStrategy below;
+
+    ValuesTableInListStrategy(final int threshold, final JooqInListStrategy below) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be greater than 0, given: " + threshold);
+        }
+        this.threshold = threshold;
+        this.below = Objects.requireNonNull(below, "below");
+    }
+
+    @Override
+    public <T> Condition in(final Field<T> field, final Collection<? extends T> values) {
+        if (values.size() < threshold) {
+            return below.in(field, values);
+        }
+        return field.in(valuesTable(field, values));
+    }
+
+    @Override
+    public <T> Condition notIn(final Field<T> field, final Collection<? extends T> values) {
+        if (values.size() < threshold) {
+            return below.notIn(field, values);
+        }
+        return field.notIn(valuesTable(field, values));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Select<Record1<T>> valuesTable(final Field<T> field, final Collection<? extends T> values) {
+        // padded like PADDED so lists of close sizes have the same SQL text and number of bind values
+        final Collection<? extends T> padded = InListUtil.pad(values);
+        final Row1<T>[] rows = (Row1<T>[]) new Row1<?>[padded.size()];
+        int i = 0;
+        for (final T value : padded) {
+            rows[i++] = DSL.row(DSL.val(value, field));
+        }
+        return DSL.selectFrom(DSL.values(rows).as("in_values", "value"));
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.memory;
+
+import java.util.function.Predicate;
+
+/**
+ * Build the in-memory predicate of all filters of a criteria at once, counterpart of {@link org.blackdread.lib.restfilter.jooq.JooqCriteriaMapper}
+ * so a criteria class can filter rows from database or elements of a collection already loaded with same results.
+ * <p>
+ * Filter fields and filter methods of the criteria (see {@link org.blackdread.lib.restfilter.criteria.parser.CriteriaFieldParserUtil}) are bound to an accessor
+ * by their param name (alias if defined, field name or formatted method name otherwise), binding is done once per criteria class then cached.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @param <T> type of elements tested
+ * @author Yoann CAPLAIN
+ */
+public interface PredicateCriteriaMapper<T> {
+
+    /**
+     * Filters are read once, predicate returned does not reflect later changes to the criteria.
+     *
+     * @param criteria criteria to build predicate from, null filters are ignored
+     * @return predicate of all non null filters combined with AND, always true if none
+     * @throws IllegalArgumentException if a filter of the criteria is not found in aliases. Behavior may be changed with option provided to builder
+     * @see PredicateFilterUtil
+     */
+    Predicate<T> buildPredicate(final Object criteria);
+
+}
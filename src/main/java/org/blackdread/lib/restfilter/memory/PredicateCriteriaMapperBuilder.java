@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.memory;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Immutable builder, methods that would modify the builder creates a new builder copied and alters the copy before returning it.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @param <T> type of elements tested
+ * @author Yoann CAPLAIN
+ */
+@Immutable
+@ThreadSafe
+public class PredicateCriteriaMapperBuilder<T> {
+
+    private final Map<String, Function<? super T, ?>> accessorByAliasMap = new HashMap<>();
+
+    private boolean throwOnFilterNotFound = true;
+
+    private PredicateCriteriaMapperBuilder() {
+    }
+
+    private PredicateCriteriaMapperBuilder(final PredicateCriteriaMapperBuilder<T> copy) {
+        this.accessorByAliasMap.putAll(copy.accessorByAliasMap);
+        this.throwOnFilterNotFound = copy.throwOnFilterNotFound;
+    }
+
+    /**
+     * Constructs a new {@code PredicateCriteriaMapperBuilder} instance with default settings.
+     *
+     * @param <T> type of elements tested
+     * @return builder
+     */
+    public static <T> PredicateCriteriaMapperBuilder<T> newBuilder() {
+        return new PredicateCriteriaMapperBuilder<>();
+    }
+
+    /**
+     * The filter of the criteria with that param name will be applied on the value returned by the accessor.
+     * Value returned must be of the type of the filter ({@code String} for {@link org.blackdread.lib.restfilter.filter.StringFilter}, etc).
+     *
+     * @param alias    param name of the filter (alias if defined, field name or formatted method name otherwise)
+     * @param accessor function reading the value filtered from the element tested
+     * @return new {@code PredicateCriteriaMapperBuilder} instance (for chaining)
+     */
+    public PredicateCriteriaMapperBuilder<T> addAlias(final String alias, final Function<? super T, ?> accessor) {
+        if (accessor == null)
+            throw new IllegalArgumentException("Accessor cannot be null");
+        checkAliasNotAlreadyDefined(alias);
+        final PredicateCriteriaMapperBuilder<T> copy = new PredicateCriteriaMapperBuilder<>(this);
+        copy.accessorByAliasMap.put(alias, accessor);
+        return copy;
+    }
+
+    /**
+     * @param filterNotFoundThrows will throw if a filter of the criteria is not found in aliases, otherwise the filter is ignored
+     * @return new {@code PredicateCriteriaMapperBuilder} instance (for chaining)
+     */
+    public PredicateCriteriaMapperBuilder<T> throwOnFilterNotFound(final boolean filterNotFoundThrows) {
+        final PredicateCriteriaMapperBuilder<T> copy = new PredicateCriteriaMapperBuilder<>(this);
+        copy.throwOnFilterNotFound = filterNotFoundThrows;
+        return copy;
+    }
+
+    /**
+     * This method does not alter the state of this {@code PredicateCriteriaMapperBuilder} instance, so it can be
+     * invoked again to create multiple independent PredicateCriteriaMapper.
+     *
+     * @return a PredicateCriteriaMapper with features specified in this builder
+     * @throws IllegalStateException if no alias was defined
+     */
+    public PredicateCriteriaMapper<T> build() {
+        if (accessorByAliasMap.isEmpty())
+            throw new IllegalStateException("No alias was defined");
+        return new PredicateCriteriaMapperImpl<>(
+            accessorByAliasMap,
+            throwOnFilterNotFound
+        );
+    }
+
+    private void checkAliasNotAlreadyDefined(final String alias) {
+        if (accessorByAliasMap.containsKey(alias))
+            throw new IllegalStateException(String.format("Accessor alias \"%s\" already defined", alias));
+    }
+}
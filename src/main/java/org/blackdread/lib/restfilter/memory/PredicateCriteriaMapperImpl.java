@@ -0,0 +1,171 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.memory;
+
+import org.blackdread.lib.restfilter.criteria.parser.CriteriaData;
+import org.blackdread.lib.restfilter.criteria.parser.CriteriaFieldData;
+import org.blackdread.lib.restfilter.criteria.parser.CriteriaFieldParserUtil;
+import org.blackdread.lib.restfilter.criteria.parser.CriteriaMethodData;
+import org.blackdread.lib.restfilter.filter.Filter;
+import org.blackdread.lib.restfilter.filter.RangeFilter;
+import org.blackdread.lib.restfilter.filter.StringFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Bindings are cached per criteria class, predicates are built for each criteria as filters are read once.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @param <T> type of elements tested
+ * @author Yoann CAPLAIN
+ */
+@Immutable
+@ThreadSafe
+class PredicateCriteriaMapperImpl<T> implements PredicateCriteriaMapper<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(PredicateCriteriaMapperImpl.class);
+
+    private final Map<String, Function<? super T, ?>> accessorByAliasMap;
+
+    private final boolean throwOnFilterNotFound;
+
+    private final Map<Class<?>, List<FilterBinding<T>>> bindingsByCriteriaClass = new ConcurrentHashMap<>();
+
+    PredicateCriteriaMapperImpl(final Map<String, Function<? super T, ?>> accessorByAliasMap, final boolean throwOnFilterNotFound) {
+        this.accessorByAliasMap = Collections.unmodifiableMap(new HashMap<>(accessorByAliasMap));
+        this.throwOnFilterNotFound = throwOnFilterNotFound;
+    }
+
+    @Override
+    public Predicate<T> buildPredicate(final Object criteria) {
+        Objects.requireNonNull(criteria, "criteria");
+        final List<FilterBinding<T>> bindings = bindingsByCriteriaClass.computeIfAbsent(criteria.getClass(), this::bind);
+        // most filters of a criteria are usually null so list is not pre-sized
+        List<Predicate<T>> predicates = null;
+        for (final FilterBinding<T> binding : bindings) {
+            final Filter<?> filter = (Filter<?>) binding.filterAccessor.apply(criteria);
+            if (filter == null) {
+                continue;
+            }
+            if (predicates == null) {
+                predicates = new ArrayList<>();
+            }
+            predicates.add(binding.buildPredicate(filter));
+        }
+        if (predicates == null) {
+            return element -> true;
+        }
+        if (predicates.size() == 1) {
+            return predicates.get(0);
+        }
+        @SuppressWarnings("unchecked") final Predicate<T>[] array = predicates.toArray(new Predicate[0]);
+        return element -> {
+            for (final Predicate<T> predicate : array) {
+                if (!predicate.test(element)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private List<FilterBinding<T>> bind(final Class<?> criteriaClass) {
+        final CriteriaData criteriaData = CriteriaFieldParserUtil.getCriteriaData(criteriaClass);
+        final List<FilterBinding<T>> bindings = new ArrayList<>();
+        for (final CriteriaFieldData fieldData : criteriaData.getFields()) {
+            if (!fieldData.isFilter()) {
+                continue;
+            }
+            final String paramName = fieldData.getFormattedAliasName()
+                .orElse(fieldData.getFieldName());
+            final Function<? super T, ?> accessor = findAccessor(paramName);
+            if (accessor != null) {
+                bindings.add(new FilterBinding<>(fieldData.getFieldType(), fieldData::getFieldValue, accessor));
+            }
+        }
+        for (final CriteriaMethodData methodData : criteriaData.getMethods()) {
+            if (!methodData.isFilter()) {
+                continue;
+            }
+            final String paramName = methodData.getMethodAliasName()
+                .orElse(methodData.getFormattedMethodName());
+            final Function<? super T, ?> accessor = findAccessor(paramName);
+            if (accessor != null) {
+                bindings.add(new FilterBinding<>(methodData.getMethodReturnType(), methodData::getMethodReturnValue, accessor));
+            }
+        }
+        log.debug("Bound {} filters of {}", bindings.size(), criteriaClass);
+        return Collections.unmodifiableList(bindings);
+    }
+
+    @Nullable
+    private Function<? super T, ?> findAccessor(final String paramName) {
+        final Function<? super T, ?> accessor = accessorByAliasMap.get(paramName);
+        if (accessor == null) {
+            if (throwOnFilterNotFound) {
+                throw new IllegalArgumentException(String.format("Filter '%s' not found", paramName));
+            }
+            log.info("Filter '{}' not found but ignored", paramName);
+        }
+        return accessor;
+    }
+
+    private static final class FilterBinding<T> {
+
+        private final Function<Object, Object> filterAccessor;
+
+        private final Function<? super T, ?> accessor;
+
+        private final boolean isStringFilter;
+
+        private FilterBinding(final Class<?> filterType, final Function<Object, Object> filterAccessor, final Function<? super T, ?> accessor) {
+            this.filterAccessor = filterAccessor;
+            this.accessor = accessor;
+            this.isStringFilter = StringFilter.class.isAssignableFrom(filterType);
+        }
+
+        @SuppressWarnings("unchecked")
+        Predicate<T> buildPredicate(final Filter<?> filter) {
+            if (isStringFilter) {
+                return PredicateFilterUtil.buildPredicate((StringFilter) filter, (Function<? super T, String>) accessor);
+            } else if (filter instanceof RangeFilter) {
+                return PredicateFilterUtil.buildPredicate((RangeFilter) filter, (Function) accessor);
+            }
+            return PredicateFilterUtil.buildPredicate((Filter) filter, (Function) accessor);
+        }
+    }
+}
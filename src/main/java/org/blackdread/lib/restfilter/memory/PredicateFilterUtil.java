@@ -0,0 +1,444 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.memory;
+
+import org.blackdread.lib.restfilter.filter.Filter;
+import org.blackdread.lib.restfilter.filter.RangeFilter;
+import org.blackdread.lib.restfilter.filter.StringFilter;
+import org.blackdread.lib.restfilter.util.SortedPrimitiveList;
+
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Build in-memory predicate based on filter passed, counterpart of {@link org.blackdread.lib.restfilter.jooq.JooqFilterUtil} to filter collections already loaded (cache, etc).
+ * <p>
+ * Predicates follow SQL semantics so same criteria returns same rows on both paths:
+ * <ul>
+ * <li>{@code equals} has priority over {@code in}, other values are ignored if one of them is set</li>
+ * <li>a null value only matches {@code specified=false}, any comparison with null is false (including {@code notEquals}, {@code notIn} and {@code notContains})</li>
+ * <li>{@code notIn} with a null element never matches, an empty {@code in} never matches and an empty {@code notIn} always matches</li>
+ * <li>{@link BigDecimal} are compared by value (scale ignored), {@link ZonedDateTime} and {@link OffsetDateTime} by instant</li>
+ * <li>{@link StringFilter#isIgnoreCase()} (true by default) folds case char by char, same as {@link String#equalsIgnoreCase(String)}</li>
+ * </ul>
+ * Filter values are read once when building the predicate, later changes to the filter are not reflected.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+public class PredicateFilterUtil {
+
+    private static final Predicate<Object> ALWAYS_TRUE = value -> true;
+
+    public static <X> Predicate<X> buildPredicate(final Filter<X> filter) {
+        Objects.requireNonNull(filter, "filter");
+        final Function<Object, Object> normalizer = normalizerOf(filter);
+        if (filter.getEquals() != null) {
+            return cast(equalsPredicate(filter.getEquals(), normalizer));
+        } else if (filter.getIn() != null) {
+            return cast(inPredicate(filter.getIn(), normalizer));
+        }
+        final List<Predicate<Object>> predicates = new ArrayList<>();
+        addNotPredicates(filter, normalizer, predicates);
+        return cast(and(predicates));
+    }
+
+    public static <X extends Comparable<? super X>> Predicate<X> buildPredicate(final RangeFilter<X> filter) {
+        Objects.requireNonNull(filter, "filter");
+        final Function<Object, Object> normalizer = normalizerOf(filter);
+        if (filter.getEquals() != null) {
+            final Comparable<Object> equals = comparable(normalizer.apply(filter.getEquals()));
+            return cast(value -> value != null && equals.compareTo(normalizer.apply(value)) == 0);
+        } else if (filter.getIn() != null) {
+            return cast(inPredicate(filter.getIn(), normalizer));
+        }
+        final List<Predicate<Object>> predicates = new ArrayList<>();
+        addNotPredicates(filter, normalizer, predicates);
+        final Bound lower = Bound.lower(normalizer, filter.getGreaterThan(), filter.getGreaterThanOrEqual());
+        if (lower != null) {
+            predicates.add(value -> value != null && lower.test(normalizer.apply(value)));
+        }
+        final Bound upper = Bound.upper(normalizer, filter.getLessThan(), filter.getLessThanOrEqual());
+        if (upper != null) {
+            predicates.add(value -> value != null && upper.test(normalizer.apply(value)));
+        }
+        return cast(and(predicates));
+    }
+
+    public static Predicate<String> buildPredicate(final StringFilter filter) {
+        Objects.requireNonNull(filter, "filter");
+        final boolean ignoreCase = filter.isIgnoreCase();
+        if (filter.getEquals() != null) {
+            final String equals = filter.getEquals();
+            return ignoreCase ?
+                value -> value != null && value.equalsIgnoreCase(equals) :
+                value -> value != null && value.equals(equals);
+        } else if (filter.getIn() != null) {
+            return ignoreCase ?
+                inIgnoreCasePredicate(filter.getIn()) :
+                cast(inPredicate(filter.getIn(), Function.identity()));
+        }
+
+        final List<Predicate<String>> predicates = new ArrayList<>();
+        if (filter.getNotEquals() != null) {
+            final String notEquals = filter.getNotEquals();
+            predicates.add(ignoreCase ?
+                value -> value != null && !value.equalsIgnoreCase(notEquals) :
+                value -> value != null && !value.equals(notEquals));
+        }
+        if (filter.getNotIn() != null) {
+            predicates.add(ignoreCase ?
+                notInIgnoreCasePredicate(filter.getNotIn()) :
+                cast(notInPredicate(filter.getNotIn(), Function.identity())));
+        }
+        if (filter.getSpecified() != null) {
+            predicates.add(cast(specifiedPredicate(filter.getSpecified())));
+        }
+        if (filter.getContains() != null) {
+            final ContainsMatcher matcher = new ContainsMatcher(filter.getContains(), ignoreCase);
+            predicates.add(value -> value != null && matcher.matches(value));
+        }
+        if (filter.getNotContains() != null) {
+            final ContainsMatcher matcher = new ContainsMatcher(filter.getNotContains(), ignoreCase);
+            predicates.add(value -> value != null && !matcher.matches(value));
+        }
+        return and(predicates);
+    }
+
+    /**
+     * @param filter   filter
+     * @param accessor function reading the value filtered from the element tested
+     * @param <T>      element type
+     * @param <X>      filter type
+     * @return predicate of elements
+     */
+    public static <T, X> Predicate<T> buildPredicate(final Filter<X> filter, final Function<? super T, ? extends X> accessor) {
+        return compose(buildPredicate(filter), accessor);
+    }
+
+    /**
+     * @param filter   filter
+     * @param accessor function reading the value filtered from the element tested
+     * @param <T>      element type
+     * @param <X>      filter type
+     * @return predicate of elements
+     */
+    public static <T, X extends Comparable<? super X>> Predicate<T> buildPredicate(final RangeFilter<X> filter, final Function<? super T, ? extends X> accessor) {
+        return compose(buildPredicate(filter), accessor);
+    }
+
+    /**
+     * @param filter   filter
+     * @param accessor function reading the value filtered from the element tested
+     * @param <T>      element type
+     * @return predicate of elements
+     */
+    public static <T> Predicate<T> buildPredicate(final StringFilter filter, final Function<? super T, String> accessor) {
+        return compose(buildPredicate(filter), accessor);
+    }
+
+    private static <T, X> Predicate<T> compose(final Predicate<X> predicate, final Function<? super T, ? extends X> accessor) {
+        Objects.requireNonNull(accessor, "accessor");
+        if (predicate == ALWAYS_TRUE) {
+            return cast(ALWAYS_TRUE);
+        }
+        return element -> predicate.test(accessor.apply(element));
+    }
+
+    private static void addNotPredicates(final Filter<?> filter, final Function<Object, Object> normalizer, final List<Predicate<Object>> predicates) {
+        if (filter.getNotEquals() != null) {
+            predicates.add(equalsPredicate(filter.getNotEquals(), normalizer).negate().and(Objects::nonNull));
+        }
+        if (filter.getNotIn() != null) {
+            predicates.add(notInPredicate(filter.getNotIn(), normalizer));
+        }
+        if (filter.getSpecified() != null) {
+            predicates.add(specifiedPredicate(filter.getSpecified()));
+        }
+    }
+
+    private static Predicate<Object> equalsPredicate(final Object equals, final Function<Object, Object> normalizer) {
+        final Object normalized = normalizer.apply(equals);
+        return value -> value != null && normalized.equals(normalizer.apply(value));
+    }
+
+    private static Predicate<Object> inPredicate(final Collection<?> in, final Function<Object, Object> normalizer) {
+        if (in instanceof SortedPrimitiveList) {
+            // binary search on the primitive array, no set of boxes
+            return value -> value != null && in.contains(value);
+        }
+        final Set<Object> values = toSet(in, normalizer);
+        if (values.isEmpty()) {
+            return value -> false;
+        }
+        return value -> value != null && values.contains(normalizer.apply(value));
+    }
+
+    private static Predicate<Object> notInPredicate(final Collection<?> notIn, final Function<Object, Object> normalizer) {
+        if (notIn.isEmpty()) {
+            return ALWAYS_TRUE;
+        }
+        if (notIn.contains(null)) {
+            // "x not in (a, null)" is never true in SQL
+            return value -> false;
+        }
+        if (notIn instanceof SortedPrimitiveList) {
+            return value -> value != null && !notIn.contains(value);
+        }
+        final Set<Object> values = toSet(notIn, normalizer);
+        return value -> value != null && !values.contains(normalizer.apply(value));
+    }
+
+    private static Predicate<String> inIgnoreCasePredicate(final Collection<String> in) {
+        final Set<Object> values = toSet(in, value -> ((String) value).toUpperCase(Locale.ROOT));
+        if (values.isEmpty()) {
+            return value -> false;
+        }
+        return value -> value != null && values.contains(value.toUpperCase(Locale.ROOT));
+    }
+
+    private static Predicate<String> notInIgnoreCasePredicate(final Collection<String> notIn) {
+        if (notIn.isEmpty()) {
+            return value -> true;
+        }
+        if (notIn.contains(null)) {
+            return value -> false;
+        }
+        final Set<Object> values = toSet(notIn, value -> ((String) value).toUpperCase(Locale.ROOT));
+        return value -> value != null && !values.contains(value.toUpperCase(Locale.ROOT));
+    }
+
+    private static Predicate<Object> specifiedPredicate(final boolean specified) {
+        return specified ? Objects::nonNull : Objects::isNull;
+    }
+
+    private static Set<Object> toSet(final Collection<?> values, final Function<Object, Object> normalizer) {
+        final Set<Object> set = new HashSet<>(Math.max(16, (int) (values.size() / .75f) + 1));
+        for (final Object value : values) {
+            if (value != null) {
+                set.add(normalizer.apply(value));
+            }
+        }
+        return set;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <X> Predicate<X> and(final List<? extends Predicate<? super X>> predicates) {
+        switch (predicates.size()) {
+            case 0:
+                return (Predicate<X>) ALWAYS_TRUE;
+            case 1:
+                return (Predicate<X>) predicates.get(0);
+            default:
+                final Predicate<? super X>[] array = predicates.toArray(new Predicate[0]);
+                return value -> {
+                    for (final Predicate<? super X> predicate : array) {
+                        if (!predicate.test(value)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                };
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <X> Predicate<X> cast(final Predicate<?> predicate) {
+        return (Predicate<X>) predicate;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> comparable(final Object value) {
+        return (Comparable<Object>) value;
+    }
+
+    /**
+     * Normalizer is chosen once from the values of the filter so testing an element does not check every type supported.
+     */
+    private static Function<Object, Object> normalizerOf(final Filter<?> filter) {
+        final Object sample = firstValue(filter);
+        if (sample instanceof BigDecimal) {
+            return value -> ((BigDecimal) value).stripTrailingZeros();
+        } else if (sample instanceof ZonedDateTime) {
+            return value -> ((ZonedDateTime) value).toInstant();
+        } else if (sample instanceof OffsetDateTime) {
+            return value -> ((OffsetDateTime) value).toInstant();
+        }
+        return Function.identity();
+    }
+
+    @Nullable
+    private static Object firstValue(final Filter<?> filter) {
+        if (filter.getEquals() != null) {
+            return filter.getEquals();
+        }
+        final Object inValue = firstNonNull(filter.getIn());
+        if (inValue != null) {
+            return inValue;
+        }
+        if (filter.getNotEquals() != null) {
+            return filter.getNotEquals();
+        }
+        final Object notInValue = firstNonNull(filter.getNotIn());
+        if (notInValue != null) {
+            return notInValue;
+        }
+        if (filter instanceof RangeFilter) {
+            final RangeFilter<?> rangeFilter = (RangeFilter<?>) filter;
+            if (rangeFilter.getGreaterThan() != null) {
+                return rangeFilter.getGreaterThan();
+            } else if (rangeFilter.getGreaterThanOrEqual() != null) {
+                return rangeFilter.getGreaterThanOrEqual();
+            } else if (rangeFilter.getLessThan() != null) {
+                return rangeFilter.getLessThan();
+            }
+            return rangeFilter.getLessThanOrEqual();
+        }
+        return null;
+    }
+
+    @Nullable
+    private static Object firstNonNull(@Nullable final Collection<?> values) {
+        if (values == null) {
+            return null;
+        }
+        for (final Object value : values) {
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@code greaterThan} and {@code greaterThanOrEqual} (or {@code lessThan} and {@code lessThanOrEqual}) are merged into the tightest bound,
+     * so each element is compared once per side.
+     */
+    private static final class Bound {
+
+        private final Comparable<Object> value;
+
+        private final boolean lower;
+
+        private final boolean inclusive;
+
+        private Bound(final Comparable<Object> value, final boolean lower, final boolean inclusive) {
+            this.value = value;
+            this.lower = lower;
+            this.inclusive = inclusive;
+        }
+
+        @Nullable
+        static Bound lower(final Function<Object, Object> normalizer, @Nullable final Object exclusive, @Nullable final Object inclusive) {
+            return merge(normalizer, exclusive, inclusive, true);
+        }
+
+        @Nullable
+        static Bound upper(final Function<Object, Object> normalizer, @Nullable final Object exclusive, @Nullable final Object inclusive) {
+            return merge(normalizer, exclusive, inclusive, false);
+        }
+
+        @Nullable
+        private static Bound merge(final Function<Object, Object> normalizer, @Nullable final Object exclusive, @Nullable final Object inclusive, final boolean lower) {
+            if (exclusive == null && inclusive == null) {
+                return null;
+            }
+            if (inclusive == null) {
+                return new Bound(comparable(normalizer.apply(exclusive)), lower, false);
+            }
+            final Comparable<Object> inclusiveValue = comparable(normalizer.apply(inclusive));
+            if (exclusive == null) {
+                return new Bound(inclusiveValue, lower, true);
+            }
+            final Comparable<Object> exclusiveValue = comparable(normalizer.apply(exclusive));
+            final int compare = inclusiveValue.compareTo(exclusiveValue);
+            // on same value, exclusive bound is the tightest
+            final boolean inclusiveIsTighter = lower ? compare > 0 : compare < 0;
+            return inclusiveIsTighter ?
+                new Bound(inclusiveValue, lower, true) :
+                new Bound(exclusiveValue, lower, false);
+        }
+
+        boolean test(final Object element) {
+            final int compare = value.compareTo(element);
+            if (lower) {
+                return inclusive ? compare <= 0 : compare < 0;
+            }
+            return inclusive ? compare >= 0 : compare > 0;
+        }
+    }
+
+    /**
+     * Substring search without allocation, case is only folded if the needle has letters with a case.
+     */
+    private static final class ContainsMatcher {
+
+        private final String needle;
+
+        private final boolean ignoreCase;
+
+        private ContainsMatcher(final String needle, final boolean ignoreCase) {
+            this.needle = needle;
+            this.ignoreCase = ignoreCase && hasCase(needle);
+        }
+
+        boolean matches(final String value) {
+            if (!ignoreCase) {
+                return value.contains(needle);
+            }
+            final int length = needle.length();
+            final int last = value.length() - length;
+            for (int i = 0; i <= last; i++) {
+                if (value.regionMatches(true, i, needle, 0, length)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean hasCase(final String needle) {
+            for (int i = 0; i < needle.length(); i++) {
+                final char c = needle.charAt(i);
+                if (Character.toUpperCase(c) != c || Character.toLowerCase(c) != c) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private PredicateFilterUtil() {
+    }
+}
@@ -0,0 +1,378 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.criteria;
+
+import org.blackdread.lib.restfilter.criteria.Criteria;
+import org.blackdread.lib.restfilter.criteria.CriteriaQueryParam;
+import org.blackdread.lib.restfilter.criteria.parser.CriteriaData;
+import org.blackdread.lib.restfilter.criteria.parser.CriteriaFieldData;
+import org.blackdread.lib.restfilter.criteria.parser.CriteriaFieldParserUtil;
+import org.blackdread.lib.restfilter.criteria.parser.CriteriaMethodData;
+import org.blackdread.lib.restfilter.filter.Filter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.ConversionNotSupportedException;
+import org.springframework.beans.MethodInvocationException;
+import org.springframework.beans.MutablePropertyValues;
+import org.springframework.beans.PropertyAccessException;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.Property;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.multipart.MultipartRequest;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ServletModelAttributeMethodProcessor;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Resolves criteria arguments of controllers like Spring does for non-annotated beans ({@link ServletModelAttributeMethodProcessor}) but request params
+ * are bound without going through property paths of {@link org.springframework.beans.BeanWrapper}.
+ * <p>
+ * For each criteria class, params {@code <property>.<filter property>} (and aliases of {@link org.blackdread.lib.restfilter.criteria.annotation.CriteriaAlias})
+ * are compiled once to the setters to call, values are converted with the binder (same conversion service and editors as Spring),
+ * errors are recorded in the binding result so validation and error handling are unchanged.
+ * <p>
+ * Request is bound by Spring as usual if the binder is customized (allowed/disallowed/required fields, direct field access, etc),
+ * if request is multipart, has field markers or if URI variables or headers match a property (Spring binds those too).
+ * Params matching a property but not compiled (nested beans, indexes, etc) are bound by Spring.
+ * Custom editors registered for a property path are not applied on compiled params and errors are recorded in order of params (Spring sorts them by name).
+ * <p>
+ * Register it with {@code WebMvcConfigurer#addArgumentResolvers}.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+@ThreadSafe
+public class CriteriaArgumentResolver extends ServletModelAttributeMethodProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(CriteriaArgumentResolver.class);
+
+    private final Predicate<Class<?>> criteriaTypePredicate;
+
+    private final Map<Class<?>, CriteriaBinding> bindingByCriteriaClass = new ConcurrentHashMap<>();
+
+    /**
+     * Resolves arguments implementing {@link Criteria}
+     */
+    public CriteriaArgumentResolver() {
+        this(Criteria.class::isAssignableFrom);
+    }
+
+    /**
+     * @param criteriaTypePredicate test the type of arguments to resolve
+     */
+    public CriteriaArgumentResolver(final Predicate<Class<?>> criteriaTypePredicate) {
+        super(true);
+        this.criteriaTypePredicate = Objects.requireNonNull(criteriaTypePredicate);
+    }
+
+    @Override
+    public boolean supportsParameter(final MethodParameter parameter) {
+        return criteriaTypePredicate.test(parameter.getNestedParameterType());
+    }
+
+    @Override
+    protected void bindRequestParameters(final WebDataBinder binder, final NativeWebRequest request) {
+        final Object target = binder.getTarget();
+        if (target == null || !isDefaultBinder(binder) || isMultipart(request)) {
+            super.bindRequestParameters(binder, request);
+            return;
+        }
+        final CriteriaBinding criteriaBinding = bindingByCriteriaClass.computeIfAbsent(target.getClass(), CriteriaBinding::new);
+        final Map<String, String[]> parameters = request.getParameterMap();
+        if (hasOtherBindValues(criteriaBinding, binder, request, parameters)) {
+            super.bindRequestParameters(binder, request);
+            return;
+        }
+        MutablePropertyValues otherValues = null;
+        for (final Map.Entry<String, String[]> entry : parameters.entrySet()) {
+            final String[] values = entry.getValue();
+            if (values == null || values.length == 0) {
+                continue;
+            }
+            // same as WebUtils.getParametersStartingWith used by Spring
+            final Object value = values.length == 1 ? values[0] : values;
+            final ParamBinding paramBinding = criteriaBinding.paramBindings.get(entry.getKey());
+            if (paramBinding != null) {
+                paramBinding.bind(binder, target, entry.getKey(), value);
+            } else if (criteriaBinding.isProperty(entry.getKey())) {
+                if (otherValues == null) {
+                    otherValues = new MutablePropertyValues();
+                }
+                otherValues.add(entry.getKey(), value);
+            }
+        }
+        if (otherValues != null) {
+            binder.bind(otherValues);
+        }
+    }
+
+    private static boolean isMultipart(final NativeWebRequest request) {
+        return request.getNativeRequest(MultipartRequest.class) != null
+            || StringUtils.startsWithIgnoreCase(request.getHeader("Content-Type"), "multipart/");
+    }
+
+    private static boolean isDefaultBinder(final WebDataBinder binder) {
+        return binder.isAutoGrowNestedPaths()
+            && binder.isIgnoreUnknownFields()
+            && !binder.isDeclarativeBinding()
+            && ObjectUtils.isEmpty(binder.getAllowedFields())
+            && ObjectUtils.isEmpty(binder.getDisallowedFields())
+            && ObjectUtils.isEmpty(binder.getRequiredFields())
+            && binder.getBindingResult() instanceof BeanPropertyBindingResult;
+    }
+
+    /**
+     * @return true if field markers/defaults are present or if URI variables or headers could be bound by Spring
+     */
+    private static boolean hasOtherBindValues(final CriteriaBinding criteriaBinding, final WebDataBinder binder, final NativeWebRequest request, final Map<String, String[]> parameters) {
+        final String fieldMarkerPrefix = binder.getFieldMarkerPrefix();
+        final String fieldDefaultPrefix = binder.getFieldDefaultPrefix();
+        for (final String name : parameters.keySet()) {
+            if ((fieldMarkerPrefix != null && name.startsWith(fieldMarkerPrefix)) || (fieldDefaultPrefix != null && name.startsWith(fieldDefaultPrefix))) {
+                return true;
+            }
+        }
+        final Object uriVariables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (uriVariables instanceof Map) {
+            for (final Object name : ((Map<?, ?>) uriVariables).keySet()) {
+                if (criteriaBinding.isProperty(String.valueOf(name))) {
+                    return true;
+                }
+            }
+        }
+        final Iterator<String> headerNames = request.getHeaderNames();
+        while (headerNames.hasNext()) {
+            // same normalization as ExtendedServletRequestDataBinder
+            if (criteriaBinding.isProperty(StringUtils.uncapitalize(headerNames.next().replace("-", "")))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Param bindings of a criteria class
+     */
+    private static final class CriteriaBinding {
+
+        private final Map<String, ParamBinding> paramBindings = new HashMap<>();
+
+        private final Set<String> propertyNames = new HashSet<>();
+
+        private CriteriaBinding(final Class<?> criteriaClass) {
+            for (final PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(criteriaClass)) {
+                propertyNames.add(descriptor.getName());
+                if (descriptor.getWriteMethod() == null) {
+                    continue;
+                }
+                final Class<?> propertyType = descriptor.getPropertyType();
+                if (Filter.class.isAssignableFrom(propertyType)) {
+                    addFilterBindings(criteriaClass, descriptor);
+                } else {
+                    paramBindings.put(descriptor.getName(), ParamBinding.ofValue(criteriaClass, descriptor));
+                }
+            }
+            addAliases(CriteriaFieldParserUtil.getCriteriaData(criteriaClass));
+            log.debug("Compiled {} params of {}", paramBindings.size(), criteriaClass);
+        }
+
+        private void addFilterBindings(final Class<?> criteriaClass, final PropertyDescriptor descriptor) {
+            final Class<?> filterType = descriptor.getPropertyType();
+            // Spring creates the filter with its default constructor when null, others are left to Spring
+            final Constructor<?> constructor = ClassUtils.getConstructorIfAvailable(filterType);
+            if (descriptor.getReadMethod() == null || constructor == null || Modifier.isAbstract(filterType.getModifiers())) {
+                log.debug("Filter property '{}' of {} is not compiled", descriptor.getName(), criteriaClass);
+                return;
+            }
+            for (final PropertyDescriptor filterDescriptor : BeanUtils.getPropertyDescriptors(filterType)) {
+                if (filterDescriptor.getWriteMethod() != null) {
+                    paramBindings.put(descriptor.getName() + CriteriaQueryParam.FIELD_NAME_AND_FILTER_SEPARATOR + filterDescriptor.getName(),
+                        ParamBinding.ofFilter(descriptor, constructor, filterDescriptor));
+                }
+            }
+        }
+
+        private void addAliases(final CriteriaData criteriaData) {
+            final Map<String, String> propertyNameByAlias = new HashMap<>();
+            for (final CriteriaFieldData fieldData : criteriaData.getFields()) {
+                fieldData.getFormattedAliasName().ifPresent(alias -> propertyNameByAlias.put(alias, fieldData.getFieldName()));
+            }
+            for (final CriteriaMethodData methodData : criteriaData.getMethods()) {
+                methodData.getMethodAliasName().ifPresent(alias -> propertyNameByAlias.put(alias, methodData.getFormattedMethodName()));
+            }
+            final List<Map.Entry<String, ParamBinding>> entries = new ArrayList<>(paramBindings.entrySet());
+            for (final Map.Entry<String, String> alias : propertyNameByAlias.entrySet()) {
+                final String filterPrefix = alias.getValue() + CriteriaQueryParam.FIELD_NAME_AND_FILTER_SEPARATOR;
+                for (final Map.Entry<String, ParamBinding> entry : entries) {
+                    final String paramName;
+                    if (entry.getKey().equals(alias.getValue())) {
+                        paramName = alias.getKey();
+                    } else if (entry.getKey().startsWith(filterPrefix)) {
+                        paramName = alias.getKey() + CriteriaQueryParam.FIELD_NAME_AND_FILTER_SEPARATOR + entry.getKey().substring(filterPrefix.length());
+                    } else {
+                        continue;
+                    }
+                    // properties have priority, Spring binds them
+                    final ParamBinding previous = paramBindings.putIfAbsent(paramName, entry.getValue());
+                    if (previous != null && previous != entry.getValue()) {
+                        log.warn("Alias param '{}' of '{}' is hidden by a property", paramName, alias.getValue());
+                    }
+                }
+            }
+        }
+
+        /**
+         * @param paramName param name
+         * @return true if first part of the name (before {@code .} or {@code [}) is a property, Spring may bind it
+         */
+        private boolean isProperty(final String paramName) {
+            int end = paramName.length();
+            for (int i = 0; i < paramName.length(); i++) {
+                final char c = paramName.charAt(i);
+                if (c == '.' || c == '[') {
+                    end = i;
+                    break;
+                }
+            }
+            return propertyNames.contains(end == paramName.length() ? paramName : paramName.substring(0, end));
+        }
+    }
+
+    /**
+     * Setter of a criteria property or of a property of a filter of the criteria
+     */
+    private static final class ParamBinding {
+
+        @Nullable
+        private final Method filterReadMethod;
+
+        @Nullable
+        private final Method filterWriteMethod;
+
+        @Nullable
+        private final Constructor<?> filterConstructor;
+
+        private final Method writeMethod;
+
+        private final TypeDescriptor typeDescriptor;
+
+        private ParamBinding(@Nullable final Method filterReadMethod, @Nullable final Method filterWriteMethod, @Nullable final Constructor<?> filterConstructor,
+                             final Method writeMethod, final TypeDescriptor typeDescriptor) {
+            this.filterReadMethod = filterReadMethod;
+            this.filterWriteMethod = filterWriteMethod;
+            this.filterConstructor = filterConstructor;
+            this.writeMethod = writeMethod;
+            this.typeDescriptor = typeDescriptor;
+        }
+
+        static ParamBinding ofValue(final Class<?> criteriaClass, final PropertyDescriptor descriptor) {
+            return new ParamBinding(null, null, null, accessible(descriptor.getWriteMethod()), typeDescriptor(criteriaClass, descriptor));
+        }
+
+        static ParamBinding ofFilter(final PropertyDescriptor descriptor, final Constructor<?> filterConstructor, final PropertyDescriptor filterDescriptor) {
+            ReflectionUtils.makeAccessible(filterConstructor);
+            return new ParamBinding(accessible(descriptor.getReadMethod()), accessible(descriptor.getWriteMethod()), filterConstructor,
+                accessible(filterDescriptor.getWriteMethod()), typeDescriptor(descriptor.getPropertyType(), filterDescriptor));
+        }
+
+        private static Method accessible(final Method method) {
+            ReflectionUtils.makeAccessible(method);
+            return method;
+        }
+
+        /**
+         * Same as BeanWrapper, generic types (FIELD_TYPE of filters) are resolved against the bean class
+         */
+        private static TypeDescriptor typeDescriptor(final Class<?> beanClass, final PropertyDescriptor descriptor) {
+            return new TypeDescriptor(new Property(beanClass, descriptor.getReadMethod(), descriptor.getWriteMethod(), descriptor.getName()));
+        }
+
+        void bind(final WebDataBinder binder, final Object criteria, final String paramName, final Object value) {
+            Object bean = criteria;
+            try {
+                if (filterReadMethod != null) {
+                    bean = filterReadMethod.invoke(criteria);
+                    if (bean == null) {
+                        bean = BeanUtils.instantiateClass(filterConstructor);
+                        filterWriteMethod.invoke(criteria, bean);
+                    }
+                }
+            } catch (InvocationTargetException e) {
+                processError(binder, new MethodInvocationException(new PropertyChangeEvent(criteria, paramName, null, value), e.getTargetException()));
+                return;
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Could not access filter of param " + paramName, e);
+            }
+            final Object convertedValue;
+            try {
+                convertedValue = binder.convertIfNecessary(value, typeDescriptor.getType(), typeDescriptor);
+            } catch (ConversionNotSupportedException e) {
+                processError(binder, new ConversionNotSupportedException(new PropertyChangeEvent(criteria, paramName, null, value), typeDescriptor.getType(), e.getCause()));
+                return;
+            } catch (TypeMismatchException e) {
+                processError(binder, new TypeMismatchException(new PropertyChangeEvent(criteria, paramName, null, value), typeDescriptor.getType(), e.getCause()));
+                return;
+            }
+            try {
+                writeMethod.invoke(bean, convertedValue);
+            } catch (InvocationTargetException e) {
+                processError(binder, new MethodInvocationException(new PropertyChangeEvent(criteria, paramName, null, value), e.getTargetException()));
+            } catch (IllegalAccessException | IllegalArgumentException e) {
+                processError(binder, new MethodInvocationException(new PropertyChangeEvent(criteria, paramName, null, value), e));
+            }
+        }
+
+        private static void processError(final WebDataBinder binder, final PropertyAccessException exception) {
+            binder.getBindingErrorProcessor().processPropertyAccessException(exception, binder.getBindingResult());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.criteria;
+
+import org.blackdread.lib.restfilter.criteria.CriteriaFingerprint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import javax.annotation.Nullable;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Fingerprint of criteria with page and sort, see {@link CriteriaFingerprint}.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+public final class CriteriaFingerprintSpringUtil {
+
+    private CriteriaFingerprintSpringUtil() {
+    }
+
+    /**
+     * @param criteria criteria (can be null)
+     * @param pageable page number, size and sort
+     * @return fingerprint of criteria and pageable
+     */
+    public static CriteriaFingerprint fingerprint(@Nullable final Object criteria, final Pageable pageable) {
+        return putPageable(CriteriaFingerprint.newHasher().putCriteria(criteria), pageable).fingerprint();
+    }
+
+    /**
+     * @param criteria criteria (can be null)
+     * @param sort     sort
+     * @return fingerprint of criteria and sort
+     */
+    public static CriteriaFingerprint fingerprint(@Nullable final Object criteria, final Sort sort) {
+        return putSort(CriteriaFingerprint.newHasher().putCriteria(criteria), sort).fingerprint();
+    }
+
+    /**
+     * Shape of criteria and pageable, see {@link CriteriaFingerprint#shapeOf(Object)}.
+     *
+     * @param criteria criteria (can be null)
+     * @param pageable page and sort
+     * @return shape of criteria and pageable
+     */
+    public static CriteriaFingerprint shape(@Nullable final Object criteria, final Pageable pageable) {
+        return putPageableShape(CriteriaFingerprint.newHasher().putCriteriaShape(criteria, IntUnaryOperator.identity()), pageable).fingerprint();
+    }
+
+    /**
+     * Page number and size are bind values so only whether it is paged and first page (no offset rendered) are kept, sort is kept.
+     *
+     * @param hasher   hasher
+     * @param pageable page and sort
+     * @return same hasher
+     */
+    public static CriteriaFingerprint.Hasher putPageableShape(final CriteriaFingerprint.Hasher hasher, final Pageable pageable) {
+        hasher.putString("PageableShape");
+        if (pageable.isUnpaged()) {
+            hasher.putLong(-1);
+        } else {
+            hasher.putBoolean(pageable.getOffset() == 0);
+        }
+        return putSort(hasher, pageable.getSort());
+    }
+
+    /**
+     * @param hasher   hasher
+     * @param pageable page number, size and sort
+     * @return same hasher
+     */
+    public static CriteriaFingerprint.Hasher putPageable(final CriteriaFingerprint.Hasher hasher, final Pageable pageable) {
+        hasher.putString("Pageable");
+        if (pageable.isUnpaged()) {
+            hasher.putLong(-1);
+        } else {
+            hasher.putLong(pageable.getPageNumber()).putLong(pageable.getPageSize());
+        }
+        return putSort(hasher, pageable.getSort());
+    }
+
+    /**
+     * Order of sort matters.
+     *
+     * @param hasher hasher
+     * @param sort   sort
+     * @return same hasher
+     */
+    public static CriteriaFingerprint.Hasher putSort(final CriteriaFingerprint.Hasher hasher, final Sort sort) {
+        hasher.putString("Sort");
+        long count = 0;
+        for (final Sort.Order order : sort) {
+            hasher.putString(order.getProperty())
+                .putBoolean(order.isAscending())
+                .putBoolean(order.isIgnoreCase())
+                .putLong(order.getNullHandling().ordinal());
+            count++;
+        }
+        return hasher.putLong(count);
+    }
+
+    /**
+     * @return true if value was a {@link Pageable} or a {@link Sort} and was added to hasher
+     */
+    static boolean putIfPageableOrSort(final CriteriaFingerprint.Hasher hasher, final Object value) {
+        if (value instanceof Pageable) {
+            putPageable(hasher, (Pageable) value);
+            return true;
+        }
+        if (value instanceof Sort) {
+            putSort(hasher, (Sort) value);
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.criteria;
+
+import org.blackdread.lib.restfilter.criteria.Criteria;
+import org.blackdread.lib.restfilter.criteria.CriteriaFingerprint;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.util.ClassUtils;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Key of Spring caches from parameters of the method, criteria are keyed with their {@link CriteriaFingerprint} so criteria matching the same rows
+ * share cache entries, {@code Pageable} and {@code Sort} with their page, size and orders. Like {@code SimpleKeyGenerator}, target and method are not part of the key.
+ * <pre>
+ * &#64;Cacheable(cacheNames = "children", keyGenerator = "criteriaKeyGenerator")
+ * public Page&lt;ChildDto&gt; findAll(ChildCriteria criteria, Pageable pageable)
+ * </pre>
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+@ThreadSafe
+public class CriteriaKeyGenerator implements KeyGenerator {
+
+    private static final boolean SPRING_DATA_PRESENT = ClassUtils.isPresent("org.springframework.data.domain.Pageable", CriteriaKeyGenerator.class.getClassLoader());
+
+    private final Predicate<Class<?>> criteriaTypePredicate;
+
+    /**
+     * Parameters implementing {@link Criteria} are fingerprinted as criteria.
+     */
+    public CriteriaKeyGenerator() {
+        this(Criteria.class::isAssignableFrom);
+    }
+
+    /**
+     * @param criteriaTypePredicate true for parameter types to fingerprint as criteria
+     */
+    public CriteriaKeyGenerator(final Predicate<Class<?>> criteriaTypePredicate) {
+        this.criteriaTypePredicate = Objects.requireNonNull(criteriaTypePredicate);
+    }
+
+    @Override
+    public CriteriaFingerprint generate(final Object target, final Method method, final Object... params) {
+        final CriteriaFingerprint.Hasher hasher = CriteriaFingerprint.newHasher();
+        for (final Object param : params) {
+            putParam(hasher, param);
+        }
+        return hasher.fingerprint();
+    }
+
+    /**
+     * Override to add other types of parameters.
+     *
+     * @param hasher hasher
+     * @param param  parameter (can be null)
+     */
+    protected void putParam(final CriteriaFingerprint.Hasher hasher, @Nullable final Object param) {
+        if (param == null) {
+            hasher.putValue(null);
+        } else if (criteriaTypePredicate.test(param.getClass())) {
+            hasher.putCriteria(param);
+        } else if (!SPRING_DATA_PRESENT || !CriteriaFingerprintSpringUtil.putIfPageableOrSort(hasher, param)) {
+            hasher.putValue(param);
+        }
+    }
+}
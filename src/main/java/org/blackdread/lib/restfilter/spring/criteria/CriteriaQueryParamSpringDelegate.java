@@ -27,6 +27,7 @@ import org.blackdread.lib.restfilter.criteria.Criteria;
 import org.blackdread.lib.restfilter.criteria.CriteriaQueryParam;
 import org.blackdread.lib.restfilter.criteria.FilterQueryParam;
 import org.blackdread.lib.restfilter.criteria.QueryParam;
+import org.blackdread.lib.restfilter.criteria.QueryParamEncoder;
 import org.blackdread.lib.restfilter.filter.Filter;
 import org.blackdread.lib.restfilter.util.MultiValueMap;
 import org.slf4j.Logger;
@@ -71,6 +72,21 @@ class CriteriaQueryParamSpringDelegate implements CriteriaQueryParamSpring {
         return delegate.buildQueryParams(criteria);
     }
 
+    @Override
+    public String buildQueryString(final Object criteria) {
+        return delegate.buildQueryString(criteria);
+    }
+
+    @Override
+    public void writeQueryParams(final Object criteria, final StringBuilder stringBuilder) {
+        delegate.writeQueryParams(criteria, stringBuilder);
+    }
+
+    @Override
+    public void writeQueryParams(final Object criteria, final Appendable appendable, final QueryParamEncoder encoder) {
+        delegate.writeQueryParams(criteria, appendable, encoder);
+    }
+
     @Override
     public List<FilterQueryParam> getFilterQueryParams(final Map<String, Filter> filtersByFilterName) {
         return delegate.getFilterQueryParams(filtersByFilterName);
@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.filter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+@Immutable
+@ThreadSafe
+final class ArrayFunctionJpaInListStrategy implements JpaInListStrategy {
+
+    private static final Logger log = LoggerFactory.getLogger(ArrayFunctionJpaInListStrategy.class);
+
+    /**
+     * {@code value(T)} of Hibernate 6 criteria builder, bound as a parameter
+     */
+    private static final Map<Class<?>, Optional<Method>> VALUE_METHOD_BY_BUILDER_CLASS = new ConcurrentHashMap<>();
+
+    private final String functionName;
+
+    ArrayFunctionJpaInListStrategy(final String functionName) {
+        if (functionName == null || functionName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Function name cannot be null/blank");
+        }
+        this.functionName = functionName;
+    }
+
+    @Override
+    public <X> Predicate in(final CriteriaBuilder builder, final Expression<? extends X> expression, final Collection<? extends X> values) {
+        final Class<?> javaType = expression.getJavaType();
+        // primitive attributes give values of wrapper type, could not be stored in a primitive array
+        final Class<?> componentType = javaType == null || javaType.isPrimitive() ? Object.class : javaType;
+        final Object[] array = values.toArray((Object[]) Array.newInstance(componentType, values.size()));
+        return builder.isTrue(builder.function(functionName, Boolean.class, boundValue(builder, array), expression));
+    }
+
+    /**
+     * JPA has no expression of a value bound as a parameter without access to the query: {@code literal} is inlined by Hibernate 6 (one SQL text per
+     * list of values) so its {@code value} method is used when present, Hibernate 5 binds non-numeric literals by default.
+     */
+    private static Expression<?> boundValue(final CriteriaBuilder builder, final Object array) {
+        final Optional<Method> valueMethod = VALUE_METHOD_BY_BUILDER_CLASS.computeIfAbsent(builder.getClass(), ArrayFunctionJpaInListStrategy::findValueMethod);
+        if (!valueMethod.isPresent()) {
+            return builder.literal(array);
+        }
+        try {
+            return (Expression<?>) valueMethod.get().invoke(builder, array);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Failed to bind array of in list", e);
+        }
+    }
+
+    private static Optional<Method> findValueMethod(final Class<?> builderClass) {
+        try {
+            final Method method = builderClass.getMethod("value", Object.class);
+            if (Expression.class.isAssignableFrom(method.getReturnType())) {
+                return Optional.of(method);
+            }
+        } catch (NoSuchMethodException e) {
+            log.debug("No value method on criteria builder {}, array of in list is a literal", builderClass);
+        }
+        return Optional.empty();
+    }
+}
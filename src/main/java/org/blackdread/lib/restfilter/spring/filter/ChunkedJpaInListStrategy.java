@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.filter;
+
+import org.blackdread.lib.restfilter.util.InListUtil;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+@Immutable
+@ThreadSafe
+final class ChunkedJpaInListStrategy implements JpaInListStrategy {
+
+    private final int maxSize;
+
+    private final JpaInListStrategy chunkStrategy;
+
+    ChunkedJpaInListStrategy(final int maxSize, final JpaInListStrategy chunkStrategy) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Max size must be greater than 0, given: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.chunkStrategy = Objects.requireNonNull(chunkStrategy, "chunkStrategy");
+    }
+
+    @Override
+    public <X> Predicate in(final CriteriaBuilder builder, final Expression<? extends X> expression, final Collection<? extends X> values) {
+        if (values.size() <= maxSize) {
+            return chunkStrategy.in(builder, expression, values);
+        }
+        final List<List<X>> chunks = InListUtil.chunk(values, maxSize);
+        final Predicate[] predicates = new Predicate[chunks.size()];
+        for (int i = 0; i < predicates.length; i++) {
+            predicates[i] = chunkStrategy.in(builder, expression, chunks.get(i));
+        }
+        return builder.or(predicates);
+    }
+}
@@ -23,14 +23,35 @@
  */
 package org.blackdread.lib.restfilter.spring.filter;
 
+import org.blackdread.lib.restfilter.criteria.CriteriaOptimizerUtil;
 import org.blackdread.lib.restfilter.filter.Filter;
 import org.blackdread.lib.restfilter.filter.RangeFilter;
 import org.blackdread.lib.restfilter.filter.StringFilter;
 import org.blackdread.lib.restfilter.jooq.JooqFilterUtil;
+import org.blackdread.lib.restfilter.jooq.JooqRecordWriter;
+import org.blackdread.lib.restfilter.spring.sort.ConcurrentPageExecutor;
+import org.blackdread.lib.restfilter.spring.sort.JooqPageUtil;
+import org.blackdread.lib.restfilter.spring.sort.JooqStreamUtil;
 import org.jooq.Condition;
+import org.jooq.DSLContext;
 import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Select;
+import org.jooq.SortField;
+import org.jooq.impl.DSL;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.LongSupplier;
+
 /**
  * Service contract for constructing and executing complex queries with jOOQ.
  * Build condition based on filter passed, for more complex conditions, might require to manually write it instead of using this class.
@@ -42,15 +63,56 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public interface JooqQueryService {
 
+    /**
+     * Override to enable optimization of filters by {@link CriteriaOptimizerUtil#optimize(Filter)} before building conditions,
+     * filters match the same rows with or without it. Opt-in as filters are copied and rewritten on each query and the SQL changes (tighter bounds, sorted in lists, etc).
+     *
+     * @return true if filters are optimized, default is false
+     */
+    default boolean isFilterOptimizationEnabled() {
+        return false;
+    }
+
+    /**
+     * Check criteria before querying, if true an empty page can be returned without querying the database.
+     *
+     * @param criteria criteria (can be null)
+     * @return true if any filter of the criteria can not match any row
+     */
+    default boolean isAnyFilterUnsatisfiable(@Nullable final Object criteria) {
+        return CriteriaOptimizerUtil.isAnyFilterUnsatisfiable(criteria);
+    }
+
     default <X, T extends Field<X>> Condition buildCondition(final Filter<X> filter, final T field) {
+        if (isFilterOptimizationEnabled()) {
+            final Filter<X> optimized = CriteriaOptimizerUtil.optimize(filter);
+            if (CriteriaOptimizerUtil.isNeverMatching(optimized)) {
+                return DSL.falseCondition();
+            }
+            return JooqFilterUtil.buildCondition(optimized, field);
+        }
         return JooqFilterUtil.buildCondition(filter, field);
     }
 
     default <X extends Comparable<? super X>, T extends Field<X>> Condition buildCondition(final RangeFilter<X> filter, final T field) {
+        if (isFilterOptimizationEnabled()) {
+            final RangeFilter<X> optimized = CriteriaOptimizerUtil.optimize(filter);
+            if (CriteriaOptimizerUtil.isNeverMatching(optimized)) {
+                return DSL.falseCondition();
+            }
+            return JooqFilterUtil.buildCondition(optimized, field);
+        }
         return JooqFilterUtil.buildCondition(filter, field);
     }
 
     default <T extends Field<String>> Condition buildCondition(final StringFilter filter, final T field) {
+        if (isFilterOptimizationEnabled()) {
+            final StringFilter optimized = CriteriaOptimizerUtil.optimize(filter);
+            if (CriteriaOptimizerUtil.isNeverMatching(optimized)) {
+                return DSL.falseCondition();
+            }
+            return JooqFilterUtil.buildCondition(optimized, field);
+        }
         return JooqFilterUtil.buildCondition(filter, field);
     }
 
@@ -63,7 +125,133 @@ public interface JooqQueryService {
      * @deprecated not sure of API, could add a boolean in StringFilter so user of API can specify ignore case in url, would not be another field in a criteria class or other to make the distinction
      */
     default <T extends Field<String>> Condition buildConditionIgnoreCase(final StringFilter filter, final T field) {
+        if (isFilterOptimizationEnabled()) {
+            // optimize values as compared by this method whatever the flag of the filter
+            final StringFilter ignoreCaseFilter = filter.copy();
+            ignoreCaseFilter.setIgnoreCase(true);
+            final StringFilter optimized = CriteriaOptimizerUtil.optimize(ignoreCaseFilter);
+            if (CriteriaOptimizerUtil.isNeverMatching(optimized)) {
+                return DSL.falseCondition();
+            }
+            return JooqFilterUtil.buildConditionIgnoreCase(optimized, field);
+        }
         return JooqFilterUtil.buildConditionIgnoreCase(filter, field);
     }
 
+    /**
+     * Override to run content and count queries of {@link #fetchPage(DSLContext, Select, List, Pageable, LongSupplier)} concurrently,
+     * each on its own connection outside of the transaction of this service. Return the same instance on each call (one per endpoint to limit each).
+     *
+     * @return executor of page queries, default is null to run them sequentially
+     */
+    @Nullable
+    default ConcurrentPageExecutor getPageExecutor() {
+        return null;
+    }
+
+    /**
+     * See {@link JooqPageUtil#fetchPage(DSLContext, Select, List, Pageable, LongSupplier)}, give a count of
+     * {@link org.blackdread.lib.restfilter.criteria.CriteriaCountCache} so next pages do not count again.
+     * Queries run concurrently if {@link #getPageExecutor()} is not null.
+     *
+     * @param create   dsl context
+     * @param select   select without order, offset and limit
+     * @param orderBy  order of the page
+     * @param pageable page to fetch
+     * @param count    total count, called only when needed
+     * @param <R>      record
+     * @return page
+     */
+    default <R extends Record> Page<R> fetchPage(final DSLContext create, final Select<R> select, final List<? extends SortField<?>> orderBy,
+                                                 final Pageable pageable, final LongSupplier count) {
+        final ConcurrentPageExecutor pageExecutor = getPageExecutor();
+        if (pageExecutor != null) {
+            return JooqPageUtil.fetchPage(create, select, orderBy, pageable, count, pageExecutor);
+        }
+        return JooqPageUtil.fetchPage(create, select, orderBy, pageable, count);
+    }
+
+    /**
+     * Same as {@link #fetchPage(DSLContext, Select, List, Pageable, LongSupplier)} but returns an empty page without querying
+     * if {@link #isAnyFilterUnsatisfiable(Object)} of the criteria.
+     *
+     * @param create   dsl context
+     * @param criteria criteria of the select (can be null)
+     * @param select   select without order, offset and limit
+     * @param orderBy  order of the page
+     * @param pageable page to fetch
+     * @param count    total count, called only when needed
+     * @param <R>      record
+     * @return page
+     */
+    default <R extends Record> Page<R> fetchPage(final DSLContext create, @Nullable final Object criteria, final Select<R> select,
+                                                 final List<? extends SortField<?>> orderBy, final Pageable pageable, final LongSupplier count) {
+        if (isAnyFilterUnsatisfiable(criteria)) {
+            return Page.empty(pageable);
+        }
+        return fetchPage(create, select, orderBy, pageable, count);
+    }
+
+    /**
+     * See {@link JooqPageUtil#fetchSlice(DSLContext, Select, List, Pageable)}, fetches size + 1 rows and never counts.
+     *
+     * @param create   dsl context
+     * @param select   select without order, offset and limit
+     * @param orderBy  order of the slice
+     * @param pageable slice to fetch
+     * @param <R>      record
+     * @return slice
+     */
+    default <R extends Record> Slice<R> fetchSlice(final DSLContext create, final Select<R> select, final List<? extends SortField<?>> orderBy,
+                                                   final Pageable pageable) {
+        return JooqPageUtil.fetchSlice(create, select, orderBy, pageable);
+    }
+
+    /**
+     * Same as {@link #fetchSlice(DSLContext, Select, List, Pageable)} but returns an empty slice without querying
+     * if {@link #isAnyFilterUnsatisfiable(Object)} of the criteria.
+     *
+     * @param create   dsl context
+     * @param criteria criteria of the select (can be null)
+     * @param select   select without order, offset and limit
+     * @param orderBy  order of the slice
+     * @param pageable slice to fetch
+     * @param <R>      record
+     * @return slice
+     */
+    default <R extends Record> Slice<R> fetchSlice(final DSLContext create, @Nullable final Object criteria, final Select<R> select,
+                                                   final List<? extends SortField<?>> orderBy, final Pageable pageable) {
+        if (isAnyFilterUnsatisfiable(criteria)) {
+            return new SliceImpl<>(Collections.emptyList(), pageable, false);
+        }
+        return fetchSlice(create, select, orderBy, pageable);
+    }
+
+    /**
+     * Override to change the JDBC fetch size of {@link #stream(DSLContext, Select, List, OutputStream, JooqRecordWriter)}.
+     *
+     * @return rows read per round trip by a streaming query, default is 1000
+     */
+    default int getStreamFetchSize() {
+        return 1000;
+    }
+
+    /**
+     * See {@link JooqStreamUtil#stream(DSLContext, Select, List, int, OutputStream, JooqRecordWriter)}, rows are written one by one
+     * with {@link #getStreamFetchSize()} as fetch size.
+     *
+     * @param create  dsl context
+     * @param select  select without order
+     * @param orderBy order of rows
+     * @param out     output, flushed but not closed
+     * @param writer  writer of rows (see {@link JooqRecordWriter#csv()} and {@link JooqRecordWriter#ndjson()})
+     * @param <R>     record
+     * @return number of rows written
+     * @throws IOException if output fails (client disconnected, etc), cursor is closed
+     */
+    default <R extends Record> long stream(final DSLContext create, final Select<R> select, final List<? extends SortField<?>> orderBy,
+                                           final OutputStream out, final JooqRecordWriter<? super R> writer) throws IOException {
+        return JooqStreamUtil.stream(create, select, orderBy, getStreamFetchSize(), out, writer);
+    }
+
 }
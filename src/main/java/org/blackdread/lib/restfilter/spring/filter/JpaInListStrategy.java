@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.filter;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+import java.util.Collection;
+
+/**
+ * How {@code in} and {@code notIn} values of filters are added to JPA criteria queries by {@link QueryService} and {@link SpecificationPlan}.
+ * <p>
+ * By default one parameter per value is added, each list size is a different JPQL/SQL text and so a different entry in the query plan cache.
+ * {@code notIn} is the negation of the predicate returned.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+public interface JpaInListStrategy {
+
+    /**
+     * One parameter per value: {@code column in (?, ?, ?)}
+     */
+    JpaInListStrategy EXPAND = new ExpandJpaInListStrategy();
+
+    /**
+     * One parameter per value but list is padded (with last value repeated) to the next power of two: {@code column in (?, ?, ?, ?)} for 3 values.
+     * <p>
+     * Same as Hibernate setting {@code hibernate.query.in_clause_parameter_padding} but does not depend on the JPA provider.
+     */
+    JpaInListStrategy PADDED = new PaddedJpaInListStrategy();
+
+    /**
+     * @param builder    criteria builder
+     * @param expression expression (column) to test
+     * @param values     values, not empty
+     * @param <X>        type of values
+     * @return predicate of expression in values
+     */
+    <X> Predicate in(final CriteriaBuilder builder, final Expression<? extends X> expression, final Collection<? extends X> values);
+
+    /**
+     * Values are split in chunks (of {@code maxSize} at most) that are or-ed: {@code (column in (?, ?) or column in (?))}.
+     * Useful for databases limiting the number of values of an in list (like 1000 for Oracle).
+     *
+     * @param maxSize       max number of values in one in list
+     * @param chunkStrategy strategy for each chunk
+     * @return strategy
+     * @throws IllegalArgumentException if maxSize is lower than 1
+     */
+    static JpaInListStrategy chunked(final int maxSize, final JpaInListStrategy chunkStrategy) {
+        return new ChunkedJpaInListStrategy(maxSize, chunkStrategy);
+    }
+
+    /**
+     * Values are bound as one array parameter and passed to a boolean function: {@code functionName(?, column)}.
+     * <p>
+     * Function must be known by the JPA provider and database with arguments (array, value), like {@code array_contains} of Hibernate 6 or H2.
+     * Values are bound with the array type of the expression java type so provider must support binding arrays of that type.
+     * Array is bound as one parameter with Hibernate (its {@code value} method for Hibernate 6, literal for Hibernate 5), other providers may inline it as a literal.
+     *
+     * @param functionName name of the function
+     * @return strategy
+     */
+    static JpaInListStrategy arrayFunction(final String functionName) {
+        return new ArrayFunctionJpaInListStrategy(functionName);
+    }
+
+}
@@ -0,0 +1,46 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.filter;
+
+/**
+ * How filters on one-to-many or many-to-many references are added to JPA criteria queries by
+ * {@link QueryService#buildReferringEntitySpecification(org.blackdread.lib.restfilter.filter.Filter, java.util.function.Function, java.util.function.Function)}.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+public enum JpaToManyMode {
+
+    /**
+     * Inner join of the reference per operator of a filter, a row is returned once per matching referenced entity (query needs a distinct).
+     * Operators and filters on the same reference share the join only if {@link QueryService#isJoinReuseEnabled()}, they then apply to the same referenced entity.
+     */
+    JOIN,
+
+    /**
+     * Correlated subquery {@code exists (select 1 from ... where ...)} per filter, rows are not multiplied and no distinct is needed.
+     * Operators of a filter apply to the same referenced entity, filters on the same reference can match different referenced entities.
+     */
+    EXISTS
+}
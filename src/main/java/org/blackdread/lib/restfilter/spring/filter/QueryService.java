@@ -23,21 +23,38 @@
  */
 package org.blackdread.lib.restfilter.spring.filter;
 
+import org.blackdread.lib.restfilter.criteria.CriteriaOptimizerUtil;
 import org.blackdread.lib.restfilter.filter.Filter;
 import org.blackdread.lib.restfilter.filter.RangeFilter;
 import org.blackdread.lib.restfilter.filter.StringFilter;
+import org.blackdread.lib.restfilter.spring.sort.ConcurrentPageExecutor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.transaction.annotation.Transactional;
 
-import javax.persistence.criteria.CriteriaBuilder;
+import javax.annotation.Nullable;
+import javax.persistence.EntityManager;
 import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 import javax.persistence.criteria.SetJoin;
+import javax.persistence.criteria.Subquery;
 import javax.persistence.metamodel.SetAttribute;
 import javax.persistence.metamodel.SingularAttribute;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
 
 /**
  * Base service for constructing and executing complex queries.
@@ -73,6 +90,12 @@ public interface QueryService<ENTITY> {
      * @return a Specification
      */
     default <X> Specification<ENTITY> buildSpecification(Filter<X> filter, Function<Root<ENTITY>, Expression<X>> metaclassFunction) {
+        if (isFilterOptimizationEnabled()) {
+            filter = CriteriaOptimizerUtil.optimize(filter);
+            if (CriteriaOptimizerUtil.isNeverMatching(filter)) {
+                return neverMatchingSpecification();
+            }
+        }
         if (filter.getEquals() != null) {
             return equalsSpecification(metaclassFunction, filter.getEquals());
         } else if (filter.getIn() != null) {
@@ -113,6 +136,12 @@ public interface QueryService<ENTITY> {
      * @return a Specification
      */
     default Specification<ENTITY> buildSpecification(StringFilter filter, Function<Root<ENTITY>, Expression<String>> metaclassFunction) {
+        if (isFilterOptimizationEnabled()) {
+            filter = CriteriaOptimizerUtil.optimize(filter);
+            if (CriteriaOptimizerUtil.isNeverMatching(filter)) {
+                return neverMatchingSpecification();
+            }
+        }
         if (filter.getEquals() != null) {
             return filter.isIgnoreCase() ?
                 equalsIgnoreCaseSpecification(metaclassFunction, filter.getEquals()) :
@@ -187,6 +216,12 @@ public interface QueryService<ENTITY> {
      */
     default <X extends Comparable<? super X>> Specification<ENTITY> buildSpecification(RangeFilter<X> filter,
                                                                                        Function<Root<ENTITY>, Expression<X>> metaclassFunction) {
+        if (isFilterOptimizationEnabled()) {
+            filter = CriteriaOptimizerUtil.optimize(filter);
+            if (CriteriaOptimizerUtil.isNeverMatching(filter)) {
+                return neverMatchingSpecification();
+            }
+        }
         if (filter.getEquals() != null) {
             return equalsSpecification(metaclassFunction, filter.getEquals());
         } else if (filter.getIn() != null) {
@@ -267,7 +302,7 @@ public interface QueryService<ENTITY> {
     default <OTHER, X> Specification<ENTITY> buildReferringEntitySpecification(Filter<X> filter,
                                                                                SetAttribute<ENTITY, OTHER> reference,
                                                                                SingularAttribute<OTHER, X> valueField) {
-        return buildReferringEntitySpecification(filter, root -> root.join(reference), entity -> entity.get(valueField));
+        return buildReferringEntitySpecification(filter, root -> joinSet(root, reference), entity -> entity.get(valueField));
     }
 
     /**
@@ -297,25 +332,37 @@ public interface QueryService<ENTITY> {
     default <OTHER, MISC, X> Specification<ENTITY> buildReferringEntitySpecification(Filter<X> filter,
                                                                                      Function<Root<ENTITY>, SetJoin<MISC, OTHER>> functionToEntity,
                                                                                      Function<SetJoin<MISC, OTHER>, Expression<X>> entityToColumn) {
-        if (filter.getEquals() != null) {
-            return equalsSpecification(functionToEntity.andThen(entityToColumn), filter.getEquals());
-        } else if (filter.getIn() != null) {
-            return valueIn(functionToEntity.andThen(entityToColumn), filter.getIn());
+        if (filter.getEquals() == null && filter.getIn() == null && filter.getNotEquals() == null && filter.getNotIn() == null
+            && filter.getSpecified() == null) {
+            return Specification.where(null);
         }
+        final Function<Function<Root<ENTITY>, SetJoin<MISC, OTHER>>, Specification<ENTITY>> specification = toEntity -> {
+            final Function<Root<ENTITY>, Expression<X>> column = toEntity.andThen(entityToColumn);
+            if (filter.getEquals() != null) {
+                return equalsSpecification(column, filter.getEquals());
+            } else if (filter.getIn() != null) {
+                return valueIn(column, filter.getIn());
+            }
 
-        Specification<ENTITY> result = Specification.where(null);
-        if (filter.getNotEquals() != null) {
-            result = result.and(notEqualsSpecification(functionToEntity.andThen(entityToColumn), filter.getNotEquals()));
-        }
-        if (filter.getNotIn() != null) {
-            result = result.and(valueNotIn(functionToEntity.andThen(entityToColumn), filter.getNotIn()));
-        }
-        if (filter.getSpecified() != null) {
-            // Interestingly, 'functionToEntity' doesn't work, we need the longer lambda formula
-            result = result.and(byFieldSpecified(root -> functionToEntity.apply(root), filter.getSpecified()));
+            Specification<ENTITY> result = Specification.where(null);
+            if (filter.getNotEquals() != null) {
+                result = result.and(notEqualsSpecification(column, filter.getNotEquals()));
+            }
+            if (filter.getNotIn() != null) {
+                result = result.and(valueNotIn(column, filter.getNotIn()));
+            }
+            if (filter.getSpecified() != null) {
+                // Interestingly, 'functionToEntity' doesn't work, we need the longer lambda formula
+                result = result.and(byFieldSpecified(root -> toEntity.apply(root), filter.getSpecified()));
+            }
+            return result;
+        };
+        if (getToManyMode() == JpaToManyMode.JOIN && !isJoinReuseEnabled()) {
+            // one join per operator, each operator can match a different referenced entity
+            return specification.apply(functionToEntity);
         }
-
-        return result;
+        // join or exists resolved once per query, all operators of the filter apply to the same referenced entity
+        return toManySpecification(functionToEntity, join -> specification.apply(root -> join));
     }
 
     /**
@@ -343,7 +390,7 @@ public interface QueryService<ENTITY> {
     default <OTHER, X extends Comparable<? super X>> Specification<ENTITY> buildReferringEntitySpecification(RangeFilter<X> filter,
                                                                                                              SetAttribute<ENTITY, OTHER> reference,
                                                                                                              SingularAttribute<OTHER, X> valueField) {
-        return buildReferringEntitySpecification(filter, root -> root.join(reference), entity -> entity.get(valueField));
+        return buildReferringEntitySpecification(filter, root -> joinSet(root, reference), entity -> entity.get(valueField));
     }
 
     /**
@@ -377,36 +424,96 @@ public interface QueryService<ENTITY> {
         Function<Root<ENTITY>, SetJoin<MISC, OTHER>> functionToEntity,
         Function<SetJoin<MISC, OTHER>, Expression<X>> entityToColumn) {
 
-        Function<Root<ENTITY>, Expression<X>> fused = functionToEntity.andThen(entityToColumn);
-        if (filter.getEquals() != null) {
-            return equalsSpecification(fused, filter.getEquals());
-        } else if (filter.getIn() != null) {
-            return valueIn(fused, filter.getIn());
+        if (filter.getEquals() == null && filter.getIn() == null && filter.getNotEquals() == null && filter.getNotIn() == null
+            && filter.getSpecified() == null && filter.getGreaterThan() == null && filter.getGreaterThanOrEqual() == null
+            && filter.getLessThan() == null && filter.getLessThanOrEqual() == null) {
+            return Specification.where(null);
         }
-        Specification<ENTITY> result = Specification.where(null);
-        if (filter.getNotEquals() != null) {
-            result = result.and(notEqualsSpecification(fused, filter.getNotEquals()));
-        }
-        if (filter.getNotIn() != null) {
-            result = result.and(valueNotIn(fused, filter.getNotIn()));
-        }
-        if (filter.getSpecified() != null) {
-            // Interestingly, 'functionToEntity' doesn't work, we need the longer lambda formula
-            result = result.and(byFieldSpecified(root -> functionToEntity.apply(root), filter.getSpecified()));
-        }
-        if (filter.getGreaterThan() != null) {
-            result = result.and(greaterThan(fused, filter.getGreaterThan()));
+        final Function<Function<Root<ENTITY>, SetJoin<MISC, OTHER>>, Specification<ENTITY>> specification = toEntity -> {
+            final Function<Root<ENTITY>, Expression<X>> fused = toEntity.andThen(entityToColumn);
+            if (filter.getEquals() != null) {
+                return equalsSpecification(fused, filter.getEquals());
+            } else if (filter.getIn() != null) {
+                return valueIn(fused, filter.getIn());
+            }
+            Specification<ENTITY> result = Specification.where(null);
+            if (filter.getNotEquals() != null) {
+                result = result.and(notEqualsSpecification(fused, filter.getNotEquals()));
+            }
+            if (filter.getNotIn() != null) {
+                result = result.and(valueNotIn(fused, filter.getNotIn()));
+            }
+            if (filter.getSpecified() != null) {
+                result = result.and(byFieldSpecified(root -> toEntity.apply(root), filter.getSpecified()));
+            }
+            if (filter.getGreaterThan() != null) {
+                result = result.and(greaterThan(fused, filter.getGreaterThan()));
+            }
+            if (filter.getGreaterThanOrEqual() != null) {
+                result = result.and(greaterThanOrEqualTo(fused, filter.getGreaterThanOrEqual()));
+            }
+            if (filter.getLessThan() != null) {
+                result = result.and(lessThan(fused, filter.getLessThan()));
+            }
+            if (filter.getLessThanOrEqual() != null) {
+                result = result.and(lessThanOrEqualTo(fused, filter.getLessThanOrEqual()));
+            }
+            return result;
+        };
+        if (getToManyMode() == JpaToManyMode.JOIN && !isJoinReuseEnabled()) {
+            // one join per operator, each operator can match a different referenced entity
+            return specification.apply(functionToEntity);
         }
-        if (filter.getGreaterThanOrEqual() != null) {
-            result = result.and(greaterThanOrEqualTo(fused, filter.getGreaterThanOrEqual()));
+        // join or exists resolved once per query, all operators of the filter apply to the same referenced entity
+        return toManySpecification(functionToEntity, join -> specification.apply(root -> join));
+    }
+
+    /**
+     * Specification on a one-to-many or many-to-many reference, rendered as a join or a correlated {@code exists} depending on {@link #getToManyMode()}.
+     *
+     * @param functionToEntity  the function, which joins the current entity to the entity set
+     * @param joinSpecification specification of the filter on the joined entity set
+     * @param <OTHER>           The type of the referenced entity.
+     * @param <MISC>            The type of the entity which is the last before the OTHER in the chain.
+     * @return a Specification
+     */
+    default <OTHER, MISC> Specification<ENTITY> toManySpecification(Function<Root<ENTITY>, SetJoin<MISC, OTHER>> functionToEntity,
+                                                                    Function<SetJoin<MISC, OTHER>, Specification<ENTITY>> joinSpecification) {
+        if (getToManyMode() == JpaToManyMode.EXISTS) {
+            return (root, query, builder) -> {
+                final Subquery<Integer> subquery = query.subquery(Integer.class);
+                final Root<ENTITY> correlated = subquery.correlate(root);
+                final Predicate predicate = joinSpecification.apply(functionToEntity.apply(correlated)).toPredicate(correlated, query, builder);
+                subquery.select(builder.literal(1));
+                if (predicate != null) {
+                    subquery.where(predicate);
+                }
+                return builder.exists(subquery);
+            };
         }
-        if (filter.getLessThan() != null) {
-            result = result.and(lessThan(fused, filter.getLessThan()));
+        return (root, query, builder) -> joinSpecification.apply(functionToEntity.apply(root)).toPredicate(root, query, builder);
+    }
+
+    /**
+     * Inner join of the root on the attribute, if {@link #isJoinReuseEnabled()} an inner join already done on that attribute (without {@code on} condition) is reused.
+     * Use it in the {@code functionToEntity} of {@code buildReferringEntitySpecification}: {@code root -> joinSet(root, Project_.employees)}.
+     *
+     * @param root      root of the query
+     * @param attribute set attribute of the root entity
+     * @param <OTHER>   The type of the referenced entity.
+     * @return existing or new join
+     */
+    @SuppressWarnings("unchecked")
+    default <OTHER> SetJoin<ENTITY, OTHER> joinSet(Root<ENTITY> root, SetAttribute<? super ENTITY, OTHER> attribute) {
+        if (!isJoinReuseEnabled()) {
+            return root.join(attribute);
         }
-        if (filter.getLessThanOrEqual() != null) {
-            result = result.and(lessThanOrEqualTo(fused, filter.getLessThanOrEqual()));
+        for (final Join<ENTITY, ?> join : root.getJoins()) {
+            if (join instanceof SetJoin && attribute.equals(join.getAttribute()) && join.getJoinType() == JoinType.INNER && join.getOn() == null) {
+                return (SetJoin<ENTITY, OTHER>) join;
+            }
         }
-        return result;
+        return root.join(attribute);
     }
 
     /**
@@ -479,48 +586,183 @@ public interface QueryService<ENTITY> {
             (root, query, builder) -> builder.isEmpty(metaclassFunction.apply(root));
     }
 
+    /**
+     * Override to enable optimization of filters by {@link CriteriaOptimizerUtil#optimize(Filter)} before building specifications,
+     * filters match the same rows with or without it. Opt-in as filters are copied and rewritten on each query and the SQL changes (tighter bounds, sorted in lists, etc).
+     *
+     * @return true if filters are optimized, default is false
+     */
+    default boolean isFilterOptimizationEnabled() {
+        return false;
+    }
+
+    /**
+     * Check criteria before querying, if true an empty page can be returned without querying the database.
+     *
+     * @param criteria criteria (can be null)
+     * @return true if any filter of the criteria can not match any row
+     */
+    default boolean isAnyFilterUnsatisfiable(@Nullable Object criteria) {
+        return CriteriaOptimizerUtil.isAnyFilterUnsatisfiable(criteria);
+    }
+
+    /**
+     * @return specification matching no row
+     */
+    default Specification<ENTITY> neverMatchingSpecification() {
+        return (root, query, builder) -> builder.disjunction();
+    }
+
+    /**
+     * Override to run content and count queries of {@link #findPage(EntityManager, Class, Specification, Pageable, LongSupplier)} concurrently,
+     * each on its own connection outside of the transaction of this service. Return the same instance on each call (one per endpoint to limit each).
+     *
+     * @return executor of page queries, default is null to run them sequentially
+     */
+    @Nullable
+    default ConcurrentPageExecutor getPageExecutor() {
+        return null;
+    }
+
+    /**
+     * Page without the count of {@code JpaSpecificationExecutor#findAll(Specification, Pageable)}, count is only called if it cannot be deduced
+     * from the content (first page not full, last page, etc). Give a count of {@link org.blackdread.lib.restfilter.criteria.CriteriaCountCache}
+     * so next pages of the same criteria do not count again.
+     * Content and count queries run concurrently if {@link #getPageExecutor()} is not null, entity manager must then be the shared
+     * one of Spring (injected with {@code PersistenceContext}) so each thread gets its own.
+     *
+     * @param entityManager entity manager
+     * @param type          entity class
+     * @param specification specification (can be null)
+     * @param pageable      page to fetch
+     * @param count         total count, like {@code () -> repository.count(specification)}
+     * @return page
+     */
+    default Page<ENTITY> findPage(EntityManager entityManager, Class<ENTITY> type, @Nullable Specification<ENTITY> specification,
+                                  Pageable pageable, LongSupplier count) {
+        final ConcurrentPageExecutor pageExecutor = getPageExecutor();
+        if (pageExecutor != null) {
+            return pageExecutor.fetchPage(pageable,
+                () -> JpaPageQueryUtil.fetchContent(entityManager, type, specification, pageable, pageable.isPaged() ? pageable.getPageSize() : 0), count);
+        }
+        final List<ENTITY> content = JpaPageQueryUtil.fetchContent(entityManager, type, specification, pageable, pageable.isPaged() ? pageable.getPageSize() : 0);
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(content, pageable, content.size());
+        }
+        return PageableExecutionUtils.getPage(content, pageable, count);
+    }
+
+    /**
+     * Same as {@link #findPage(EntityManager, Class, Specification, Pageable, LongSupplier)} but returns an empty page without querying
+     * if {@link #isAnyFilterUnsatisfiable(Object)} of the criteria.
+     *
+     * @param entityManager entity manager
+     * @param type          entity class
+     * @param criteria      criteria of the specification (can be null)
+     * @param specification specification (can be null)
+     * @param pageable      page to fetch
+     * @param count         total count, like {@code () -> repository.count(specification)}
+     * @return page
+     */
+    default Page<ENTITY> findPage(EntityManager entityManager, Class<ENTITY> type, @Nullable Object criteria, @Nullable Specification<ENTITY> specification,
+                                  Pageable pageable, LongSupplier count) {
+        if (isAnyFilterUnsatisfiable(criteria)) {
+            return Page.empty(pageable);
+        }
+        return findPage(entityManager, type, specification, pageable, count);
+    }
+
+    /**
+     * Fetches size + 1 entities to know if there is a next slice, never counts.
+     *
+     * @param entityManager entity manager
+     * @param type          entity class
+     * @param specification specification (can be null)
+     * @param pageable      slice to fetch
+     * @return slice
+     */
+    default Slice<ENTITY> findSlice(EntityManager entityManager, Class<ENTITY> type, @Nullable Specification<ENTITY> specification, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(JpaPageQueryUtil.fetchContent(entityManager, type, specification, pageable, 0), pageable, false);
+        }
+        final List<ENTITY> content = JpaPageQueryUtil.fetchContent(entityManager, type, specification, pageable, pageable.getPageSize() + 1);
+        final boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    /**
+     * Same as {@link #findSlice(EntityManager, Class, Specification, Pageable)} but returns an empty slice without querying
+     * if {@link #isAnyFilterUnsatisfiable(Object)} of the criteria.
+     *
+     * @param entityManager entity manager
+     * @param type          entity class
+     * @param criteria      criteria of the specification (can be null)
+     * @param specification specification (can be null)
+     * @param pageable      slice to fetch
+     * @return slice
+     */
+    default Slice<ENTITY> findSlice(EntityManager entityManager, Class<ENTITY> type, @Nullable Object criteria, @Nullable Specification<ENTITY> specification,
+                                    Pageable pageable) {
+        if (isAnyFilterUnsatisfiable(criteria)) {
+            return new SliceImpl<>(Collections.emptyList(), pageable, false);
+        }
+        return findSlice(entityManager, type, specification, pageable);
+    }
+
+    /**
+     * Override to filter one-to-many or many-to-many references with correlated {@code exists} subqueries instead of joins.
+     *
+     * @return mode used by {@code buildReferringEntitySpecification} on entity sets, default is {@link JpaToManyMode#JOIN}
+     */
+    default JpaToManyMode getToManyMode() {
+        return JpaToManyMode.JOIN;
+    }
+
+    /**
+     * Override to share one join between operators of a filter and between filters on the same entity set in {@link JpaToManyMode#JOIN} mode
+     * (see {@link #joinSet(Root, SetAttribute)}), fewer joins and rows but it changes results: all operators and filters on the attribute must match
+     * the same referenced entity, same as one {@code exists} per attribute with all its filters. By default each operator has its own join,
+     * each one can match a different referenced entity.
+     *
+     * @return true if joins on the same entity set are reused, default is false
+     */
+    default boolean isJoinReuseEnabled() {
+        return false;
+    }
+
+    /**
+     * Override to change how {@code in} and {@code notIn} values are added to queries (padding, chunks, etc).
+     *
+     * @return strategy used by {@link #valueIn(Function, Collection)} and other in/notIn methods
+     */
+    default JpaInListStrategy getInListStrategy() {
+        return JpaInListStrategy.EXPAND;
+    }
+
     default <X> Specification<ENTITY> valueIn(Function<Root<ENTITY>, Expression<X>> metaclassFunction,
                                               Collection<X> values) {
-        return (root, query, builder) -> {
-            CriteriaBuilder.In<X> in = builder.in(metaclassFunction.apply(root));
-            for (X value : values) {
-                in = in.value(value);
-            }
-            return in;
-        };
+        final JpaInListStrategy inListStrategy = getInListStrategy();
+        return (root, query, builder) -> inListStrategy.in(builder, metaclassFunction.apply(root), values);
     }
 
     default <X> Specification<ENTITY> valueNotIn(Function<Root<ENTITY>, Expression<X>> metaclassFunction,
                                                  Collection<X> values) {
-        return (root, query, builder) -> {
-            CriteriaBuilder.In<X> in = builder.in(metaclassFunction.apply(root));
-            for (X value : values) {
-                in = in.value(value);
-            }
-            return in.not();
-        };
+        final JpaInListStrategy inListStrategy = getInListStrategy();
+        return (root, query, builder) -> inListStrategy.in(builder, metaclassFunction.apply(root), values).not();
     }
 
     default Specification<ENTITY> valueInIgnoreCase(Function<Root<ENTITY>, Expression<String>> metaclassFunction,
                                                     Collection<String> values) {
-        return (root, query, builder) -> {
-            CriteriaBuilder.In<String> in = builder.in(builder.upper(metaclassFunction.apply(root)));
-            for (String value : values) {
-                in = in.value(value.toUpperCase());
-            }
-            return in;
-        };
+        final JpaInListStrategy inListStrategy = getInListStrategy();
+        final List<String> upperValues = values.stream().map(String::toUpperCase).collect(Collectors.toList());
+        return (root, query, builder) -> inListStrategy.in(builder, builder.upper(metaclassFunction.apply(root)), upperValues);
     }
 
     default Specification<ENTITY> valueNotInIgnoreCase(Function<Root<ENTITY>, Expression<String>> metaclassFunction,
                                                        Collection<String> values) {
-        return (root, query, builder) -> {
-            CriteriaBuilder.In<String> in = builder.in(metaclassFunction.apply(root));
-            for (String value : values) {
-                in = in.value(value.toUpperCase());
-            }
-            return in.not();
-        };
+        final JpaInListStrategy inListStrategy = getInListStrategy();
+        final List<String> upperValues = values.stream().map(String::toUpperCase).collect(Collectors.toList());
+        return (root, query, builder) -> inListStrategy.in(builder, builder.upper(metaclassFunction.apply(root)), upperValues).not();
     }
 
     default <X extends Comparable<? super X>> Specification<ENTITY> greaterThanOrEqualTo(Function<Root<ENTITY>, Expression<X>> metaclassFunction,
@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.filter;
+
+import org.blackdread.lib.restfilter.criteria.CriteriaOptimizerUtil;
+import org.blackdread.lib.restfilter.spring.sort.JooqReactivePageUtil;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Select;
+import org.jooq.SortField;
+import org.reactivestreams.Publisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * Reactive counterpart of {@link JooqQueryService} to execute queries built from criteria (with {@link org.blackdread.lib.restfilter.jooq.JooqCriteriaMapper}
+ * or {@link org.blackdread.lib.restfilter.jooq.JooqFilterUtil}) through jOOQ R2DBC integration, see {@link JooqReactivePageUtil}.
+ * <p>
+ * Results are {@link Publisher}, wrap them with {@code Flux.from(...)}/{@code Mono.from(...)} of Reactor.
+ * Not annotated with {@code Transactional} as jOOQ R2DBC queries are not bound to Spring transactions, use {@code create.transactionPublisher(...)} if needed.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+public interface ReactiveJooqQueryService {
+
+    /**
+     * Check criteria before querying, if true an empty page can be returned without querying the database.
+     *
+     * @param criteria criteria (can be null)
+     * @return true if any filter of the criteria can not match any row
+     */
+    default boolean isAnyFilterUnsatisfiable(@Nullable final Object criteria) {
+        return CriteriaOptimizerUtil.isAnyFilterUnsatisfiable(criteria);
+    }
+
+    /**
+     * See {@link JooqReactivePageUtil#fetch(DSLContext, Select, List)}, rows are read as requested.
+     *
+     * @param create  dsl context
+     * @param select  select without order
+     * @param orderBy order of rows
+     * @param <R>     record
+     * @return all rows
+     */
+    default <R extends Record> Publisher<R> fetch(final DSLContext create, final Select<R> select, final List<? extends SortField<?>> orderBy) {
+        return JooqReactivePageUtil.fetch(create, select, orderBy);
+    }
+
+    /**
+     * See {@link JooqReactivePageUtil#fetchPage(DSLContext, Select, List, Pageable)}, content and count are queried concurrently.
+     *
+     * @param create   dsl context
+     * @param select   select without order, offset and limit
+     * @param orderBy  order of the page
+     * @param pageable page to fetch
+     * @param <R>      record
+     * @return one page
+     */
+    default <R extends Record> Publisher<Page<R>> fetchPage(final DSLContext create, final Select<R> select, final List<? extends SortField<?>> orderBy,
+                                                            final Pageable pageable) {
+        return JooqReactivePageUtil.fetchPage(create, select, orderBy, pageable);
+    }
+
+    /**
+     * See {@link JooqReactivePageUtil#fetchPage(DSLContext, Select, List, Pageable, Publisher)}.
+     *
+     * @param create   dsl context
+     * @param select   select without order, offset and limit
+     * @param orderBy  order of the page
+     * @param pageable page to fetch
+     * @param count    total count, cancelled if not needed
+     * @param <R>      record
+     * @return one page
+     */
+    default <R extends Record> Publisher<Page<R>> fetchPage(final DSLContext create, final Select<R> select, final List<? extends SortField<?>> orderBy,
+                                                            final Pageable pageable, final Publisher<? extends Number> count) {
+        return JooqReactivePageUtil.fetchPage(create, select, orderBy, pageable, count);
+    }
+
+    /**
+     * See {@link JooqReactivePageUtil#fetchSlice(DSLContext, Select, List, Pageable)}, fetches size + 1 rows and never counts.
+     *
+     * @param create   dsl context
+     * @param select   select without order, offset and limit
+     * @param orderBy  order of the slice
+     * @param pageable slice to fetch
+     * @param <R>      record
+     * @return one slice
+     */
+    default <R extends Record> Publisher<Slice<R>> fetchSlice(final DSLContext create, final Select<R> select, final List<? extends SortField<?>> orderBy,
+                                                              final Pageable pageable) {
+        return JooqReactivePageUtil.fetchSlice(create, select, orderBy, pageable);
+    }
+}
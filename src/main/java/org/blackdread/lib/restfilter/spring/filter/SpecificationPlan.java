@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.filter;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Mapping of filters of a criteria class to columns of an entity, built once (see {@link SpecificationPlanBuilder}) then
+ * applied to each criteria received.
+ * <p>
+ * Compared to combining {@link QueryService#buildSpecification} results with {@link Specification#and(Specification)}:
+ * <ul>
+ * <li>no {@link Specification} is created per filter operator, only one per call of {@link #toSpecification(Object)}</li>
+ * <li>path of a column is resolved once per filter even if multiple operators are set (like greaterThan and lessThan)</li>
+ * <li>all predicates are combined with a single {@link CriteriaBuilder#and(Predicate...)} instead of nested binary and</li>
+ * </ul>
+ * Predicates are the same as the ones of {@link QueryService}: 'equals' then 'in' short-circuit other operators of a filter.
+ * <p>
+ * Example:
+ * <pre>
+ * private static final SpecificationPlan&lt;MyCriteria, MyEntity&gt; PLAN = SpecificationPlan.builder(MyCriteria.class, MyEntity.class)
+ *     .withRangeFilter(MyCriteria::getId, root -&gt; root.get(MyEntity_.id))
+ *     .withStringFilter(MyCriteria::getName, root -&gt; root.get(MyEntity_.name))
+ *     .withFilter(MyCriteria::getActive, root -&gt; root.get(MyEntity_.active))
+ *     .build();
+ *
+ * public Page&lt;MyEntity&gt; findByCriteria(MyCriteria criteria, Pageable page) {
+ *     return repository.findAll(PLAN.toSpecification(criteria), page);
+ * }
+ * </pre>
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @param <CRITERIA> the type of the criteria
+ * @param <ENTITY>   the type of the entity which is queried
+ * @author Yoann CAPLAIN
+ */
+@Immutable
+@ThreadSafe
+public final class SpecificationPlan<CRITERIA, ENTITY> {
+
+    private final List<SpecificationPlanBuilder.ColumnBinding<CRITERIA, ENTITY>> bindings;
+
+    private final JpaInListStrategy inListStrategy;
+
+    SpecificationPlan(final List<SpecificationPlanBuilder.ColumnBinding<CRITERIA, ENTITY>> bindings, final JpaInListStrategy inListStrategy) {
+        this.bindings = Collections.unmodifiableList(new ArrayList<>(bindings));
+        this.inListStrategy = inListStrategy;
+    }
+
+    /**
+     * @param criteriaClass class of criteria (only used for type inference)
+     * @param entityClass   class of entity (only used for type inference)
+     * @param <CRITERIA>    the type of the criteria
+     * @param <ENTITY>      the type of the entity which is queried
+     * @return a new builder
+     */
+    public static <CRITERIA, ENTITY> SpecificationPlanBuilder<CRITERIA, ENTITY> builder(final Class<CRITERIA> criteriaClass, final Class<ENTITY> entityClass) {
+        return new SpecificationPlanBuilder<>();
+    }
+
+    /**
+     * @param criteria criteria, may be null
+     * @return specification of all filters of criteria not null, predicate of the specification is null if no filter is set
+     */
+    public Specification<ENTITY> toSpecification(@Nullable final CRITERIA criteria) {
+        return (root, query, builder) -> toPredicate(criteria, root, query, builder);
+    }
+
+    /**
+     * @param criteria criteria, may be null
+     * @param root     root
+     * @param query    query
+     * @param builder  builder
+     * @return single predicate if only one, 'and' of all predicates or null if no filter is set
+     */
+    @Nullable
+    public Predicate toPredicate(@Nullable final CRITERIA criteria, final Root<ENTITY> root, final CriteriaQuery<?> query, final CriteriaBuilder builder) {
+        if (criteria == null) {
+            return null;
+        }
+        final List<Predicate> predicates = new ArrayList<>(bindings.size());
+        for (final SpecificationPlanBuilder.ColumnBinding<CRITERIA, ENTITY> binding : bindings) {
+            binding.addPredicates(criteria, root, builder, inListStrategy, predicates);
+        }
+        switch (predicates.size()) {
+            case 0:
+                return null;
+            case 1:
+                return predicates.get(0);
+            default:
+                return builder.and(predicates.toArray(new Predicate[0]));
+        }
+    }
+
+    /**
+     * @return number of filters mapped
+     */
+    public int size() {
+        return bindings.size();
+    }
+
+    @Override
+    public String toString() {
+        return "SpecificationPlan{" +
+            "bindings=" + bindings.size() +
+            '}';
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.filter;
+
+import org.blackdread.lib.restfilter.filter.Filter;
+import org.blackdread.lib.restfilter.filter.RangeFilter;
+import org.blackdread.lib.restfilter.filter.StringFilter;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Declare which filter of a criteria applies to which column of an entity, see {@link SpecificationPlan}.
+ * <p>
+ * Filters are applied in declaration order.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @param <CRITERIA> the type of the criteria
+ * @param <ENTITY>   the type of the entity which is queried
+ * @author Yoann CAPLAIN
+ */
+@NotThreadSafe
+public class SpecificationPlanBuilder<CRITERIA, ENTITY> {
+
+    private final List<ColumnBinding<CRITERIA, ENTITY>> bindings = new ArrayList<>();
+
+    private JpaInListStrategy inListStrategy = JpaInListStrategy.EXPAND;
+
+    SpecificationPlanBuilder() {
+    }
+
+    /**
+     * Filter where equality, and null/non-null conditions are supported.
+     *
+     * @param filterGetter      getter of filter from criteria, filter may be null
+     * @param metaclassFunction the function, which navigates from the current entity to a column, for which the filter applies.
+     * @param <X>               The type of the attribute which is filtered.
+     * @return same {@code SpecificationPlanBuilder} instance (for chaining)
+     */
+    public <X> SpecificationPlanBuilder<CRITERIA, ENTITY> withFilter(final Function<? super CRITERIA, ? extends Filter<X>> filterGetter,
+                                                                     final Function<Root<ENTITY>, Expression<X>> metaclassFunction) {
+        bindings.add(new FilterBinding<>(filterGetter, metaclassFunction));
+        return this;
+    }
+
+    /**
+     * Filter where equality, less than, greater than and less-than-or-equal-to and greater-than-or-equal-to and null/non-null conditions are supported.
+     *
+     * @param filterGetter      getter of filter from criteria, filter may be null
+     * @param metaclassFunction the function, which navigates from the current entity to a column, for which the filter applies.
+     * @param <X>               The type of the attribute which is filtered.
+     * @return same {@code SpecificationPlanBuilder} instance (for chaining)
+     */
+    public <X extends Comparable<? super X>> SpecificationPlanBuilder<CRITERIA, ENTITY> withRangeFilter(final Function<? super CRITERIA, ? extends RangeFilter<X>> filterGetter,
+                                                                                                        final Function<Root<ENTITY>, Expression<X>> metaclassFunction) {
+        bindings.add(new RangeFilterBinding<>(filterGetter, metaclassFunction));
+        return this;
+    }
+
+    /**
+     * Filter where equality, containment, and null/non-null conditions are supported (case is ignored by default).
+     *
+     * @param filterGetter      getter of filter from criteria, filter may be null
+     * @param metaclassFunction the function, which navigates from the current entity to a column, for which the filter applies.
+     * @return same {@code SpecificationPlanBuilder} instance (for chaining)
+     */
+    public SpecificationPlanBuilder<CRITERIA, ENTITY> withStringFilter(final Function<? super CRITERIA, ? extends StringFilter> filterGetter,
+                                                                       final Function<Root<ENTITY>, Expression<String>> metaclassFunction) {
+        bindings.add(new StringFilterBinding<>(filterGetter, metaclassFunction));
+        return this;
+    }
+
+    /**
+     * @param inListStrategy strategy used for {@code in} and {@code notIn} values of all filters
+     * @return same {@code SpecificationPlanBuilder} instance (for chaining)
+     */
+    public SpecificationPlanBuilder<CRITERIA, ENTITY> withInListStrategy(final JpaInListStrategy inListStrategy) {
+        this.inListStrategy = Objects.requireNonNull(inListStrategy, "inListStrategy");
+        return this;
+    }
+
+    public SpecificationPlan<CRITERIA, ENTITY> build() {
+        return new SpecificationPlan<>(bindings, inListStrategy);
+    }
+
+    /**
+     * One filter of criteria mapped to one column
+     */
+    interface ColumnBinding<CRITERIA, ENTITY> {
+
+        /**
+         * Add predicates of the filter if not null, path of column is resolved at most once.
+         *
+         * @param criteria       criteria, not null
+         * @param root           root
+         * @param builder        builder
+         * @param inListStrategy strategy for in and notIn values
+         * @param predicates     where to add predicates
+         */
+        void addPredicates(CRITERIA criteria, Root<ENTITY> root, CriteriaBuilder builder, JpaInListStrategy inListStrategy, List<Predicate> predicates);
+    }
+
+    private static class FilterBinding<CRITERIA, ENTITY, X, FILTER extends Filter<X>> implements ColumnBinding<CRITERIA, ENTITY> {
+
+        private final Function<? super CRITERIA, ? extends FILTER> filterGetter;
+        private final Function<Root<ENTITY>, Expression<X>> metaclassFunction;
+
+        FilterBinding(final Function<? super CRITERIA, ? extends FILTER> filterGetter, final Function<Root<ENTITY>, Expression<X>> metaclassFunction) {
+            this.filterGetter = Objects.requireNonNull(filterGetter);
+            this.metaclassFunction = Objects.requireNonNull(metaclassFunction);
+        }
+
+        @Override
+        public void addPredicates(final CRITERIA criteria, final Root<ENTITY> root, final CriteriaBuilder builder, final JpaInListStrategy inListStrategy, final List<Predicate> predicates) {
+            final FILTER filter = filterGetter.apply(criteria);
+            if (filter == null || !hasAnyValue(filter)) {
+                return;
+            }
+            final Expression<X> path = metaclassFunction.apply(root);
+            if (filter.getEquals() != null) {
+                predicates.add(builder.equal(path, filter.getEquals()));
+                return;
+            } else if (filter.getIn() != null) {
+                predicates.add(inListStrategy.in(builder, path, filter.getIn()));
+                return;
+            }
+            if (filter.getNotEquals() != null) {
+                predicates.add(builder.notEqual(path, filter.getNotEquals()));
+            }
+            if (filter.getNotIn() != null) {
+                predicates.add(builder.not(inListStrategy.in(builder, path, filter.getNotIn())));
+            }
+            if (filter.getSpecified() != null) {
+                predicates.add(filter.getSpecified() ? builder.isNotNull(path) : builder.isNull(path));
+            }
+            addOtherPredicates(filter, path, builder, predicates);
+        }
+
+        boolean hasAnyValue(final FILTER filter) {
+            return filter.getEquals() != null
+                || filter.getIn() != null
+                || filter.getNotEquals() != null
+                || filter.getNotIn() != null
+                || filter.getSpecified() != null;
+        }
+
+        /**
+         * Predicates of sub-classes of filter, only called if 'equals' and 'in' are null
+         */
+        void addOtherPredicates(final FILTER filter, final Expression<X> path, final CriteriaBuilder builder, final List<Predicate> predicates) {
+        }
+    }
+
+    private static final class RangeFilterBinding<CRITERIA, ENTITY, X extends Comparable<? super X>> extends FilterBinding<CRITERIA, ENTITY, X, RangeFilter<X>> {
+
+        RangeFilterBinding(final Function<? super CRITERIA, ? extends RangeFilter<X>> filterGetter, final Function<Root<ENTITY>, Expression<X>> metaclassFunction) {
+            super(filterGetter, metaclassFunction);
+        }
+
+        @Override
+        boolean hasAnyValue(final RangeFilter<X> filter) {
+            return super.hasAnyValue(filter)
+                || filter.getGreaterThan() != null
+                || filter.getGreaterThanOrEqual() != null
+                || filter.getLessThan() != null
+                || filter.getLessThanOrEqual() != null;
+        }
+
+        @Override
+        void addOtherPredicates(final RangeFilter<X> filter, final Expression<X> path, final CriteriaBuilder builder, final List<Predicate> predicates) {
+            if (filter.getGreaterThan() != null) {
+                predicates.add(builder.greaterThan(path, filter.getGreaterThan()));
+            }
+            if (filter.getGreaterThanOrEqual() != null) {
+                predicates.add(builder.greaterThanOrEqualTo(path, filter.getGreaterThanOrEqual()));
+            }
+            if (filter.getLessThan() != null) {
+                predicates.add(builder.lessThan(path, filter.getLessThan()));
+            }
+            if (filter.getLessThanOrEqual() != null) {
+                predicates.add(builder.lessThanOrEqualTo(path, filter.getLessThanOrEqual()));
+            }
+        }
+    }
+
+    private static final class StringFilterBinding<CRITERIA, ENTITY> implements ColumnBinding<CRITERIA, ENTITY> {
+
+        private final Function<? super CRITERIA, ? extends StringFilter> filterGetter;
+        private final Function<Root<ENTITY>, Expression<String>> metaclassFunction;
+
+        StringFilterBinding(final Function<? super CRITERIA, ? extends StringFilter> filterGetter, final Function<Root<ENTITY>, Expression<String>> metaclassFunction) {
+            this.filterGetter = Objects.requireNonNull(filterGetter);
+            this.metaclassFunction = Objects.requireNonNull(metaclassFunction);
+        }
+
+        @Override
+        public void addPredicates(final CRITERIA criteria, final Root<ENTITY> root, final CriteriaBuilder builder, final JpaInListStrategy inListStrategy, final List<Predicate> predicates) {
+            final StringFilter filter = filterGetter.apply(criteria);
+            if (filter == null || !hasAnyValue(filter)) {
+                return;
+            }
+            final Expression<String> path = metaclassFunction.apply(root);
+            final boolean ignoreCase = filter.isIgnoreCase();
+            // upper of column is created once and only if needed
+            final Expression<String> column = ignoreCase && needsUpper(filter) ? builder.upper(path) : path;
+
+            if (filter.getEquals() != null) {
+                predicates.add(builder.equal(column, ignoreCase ? filter.getEquals().toUpperCase(Locale.ROOT) : filter.getEquals()));
+                return;
+            } else if (filter.getIn() != null) {
+                predicates.add(inListStrategy.in(builder, column, ignoreCase ? toUpperCase(filter.getIn()) : filter.getIn()));
+                return;
+            }
+            if (filter.getNotEquals() != null) {
+                predicates.add(builder.notEqual(column, ignoreCase ? filter.getNotEquals().toUpperCase(Locale.ROOT) : filter.getNotEquals()));
+            }
+            if (filter.getNotIn() != null) {
+                predicates.add(builder.not(inListStrategy.in(builder, column, ignoreCase ? toUpperCase(filter.getNotIn()) : filter.getNotIn())));
+            }
+            if (filter.getSpecified() != null) {
+                predicates.add(filter.getSpecified() ? builder.isNotNull(path) : builder.isNull(path));
+            }
+            if (filter.getContains() != null) {
+                predicates.add(builder.like(column, wrapLike(filter.getContains(), ignoreCase)));
+            }
+            if (filter.getNotContains() != null) {
+                predicates.add(builder.notLike(column, wrapLike(filter.getNotContains(), ignoreCase)));
+            }
+        }
+
+        private static boolean hasAnyValue(final StringFilter filter) {
+            return filter.getSpecified() != null || needsUpper(filter);
+        }
+
+        private static boolean needsUpper(final StringFilter filter) {
+            return filter.getEquals() != null
+                || filter.getIn() != null
+                || filter.getNotEquals() != null
+                || filter.getNotIn() != null
+                || filter.getContains() != null
+                || filter.getNotContains() != null;
+        }
+
+        private static List<String> toUpperCase(final Collection<String> values) {
+            final List<String> result = new ArrayList<>(values.size());
+            for (final String value : values) {
+                result.add(value.toUpperCase(Locale.ROOT));
+            }
+            return result;
+        }
+
+        private static String wrapLike(final String value, final boolean ignoreCase) {
+            return "%" + (ignoreCase ? value.toUpperCase(Locale.ROOT) : value) + '%';
+        }
+    }
+}
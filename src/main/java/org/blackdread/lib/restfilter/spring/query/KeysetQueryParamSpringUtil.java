@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.query;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.util.UriBuilder;
+
+import javax.annotation.Nullable;
+
+/**
+ * Query params of keyset pagination, an opaque {@code after} cursor replaces {@code page}.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+public final class KeysetQueryParamSpringUtil {
+
+    private static final String AFTER_KEY = "after";
+
+    private KeysetQueryParamSpringUtil() {
+    }
+
+    /**
+     * @param after    cursor of the next page, null for the first page
+     * @param pageable page size and sort, page number is ignored
+     * @param builder  builder
+     * @return builder with {@code after}, {@code size} and {@code sort} params
+     */
+    public static UriBuilder addAfterAndSortQueryParams(@Nullable final String after, final Pageable pageable, UriBuilder builder) {
+        if (pageable.isUnpaged())
+            return builder;
+        builder = addAfterOnlyQueryParams(after, pageable, builder);
+        return SortQueryParamSpringUtil.addSortQueryParams(pageable.getSort(), builder);
+    }
+
+    /**
+     * @param after    cursor of the next page, null for the first page
+     * @param pageable page size, page number is ignored
+     * @param builder  builder
+     * @return builder with {@code after} and {@code size} params
+     */
+    public static UriBuilder addAfterOnlyQueryParams(@Nullable final String after, final Pageable pageable, UriBuilder builder) {
+        if (pageable.isUnpaged())
+            return builder;
+        if (after != null) {
+            builder = builder.queryParam(AFTER_KEY, after);
+        }
+        return builder.queryParam("size", pageable.getPageSize());
+    }
+
+    public static String formatAfter(final String after) {
+        return AFTER_KEY + "=" + after;
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.sort;
+
+import org.jooq.SortField;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+/**
+ * {@link JooqSort} with fields of the select already given, lookup of properties is built once.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ * @see JooqSort#compile(java.util.Collection)
+ */
+public interface CompiledJooqSort {
+
+    /**
+     * Same as {@link JooqSort#buildOrderBy(Sort, java.util.Collection)} with fields given when compiled.
+     *
+     * @param sort the sort to use (from REST usually), property names must match aliases or field name (so careful with field alias etc)
+     * @return Sort fields to be used in the orderBy query of jooq
+     * @throws IllegalArgumentException if {@code sort} contains properties that are not found in aliases or fields. Behavior may be changed with option provided to builder
+     */
+    List<? extends SortField<?>> buildOrderBy(final Sort sort);
+
+}
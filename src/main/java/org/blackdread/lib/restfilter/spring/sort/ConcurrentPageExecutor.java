@@ -0,0 +1,237 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.sort;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Runs the content and the count queries of a page at the same time on an executor (virtual threads by default when available),
+ * so latency of a page is the slowest of both instead of their sum.
+ * <p>
+ * Each query runs on its own thread so gets its own connection (outside of the transaction of the caller), when one fails the other is cancelled
+ * (interrupted, JDBC drivers may still finish the statement), the count is also cancelled when the total can be deduced from the content.
+ * <p>
+ * At most {@code maxConcurrentPages} pages (so twice as many connections) run concurrently per instance, create one instance per endpoint to limit each
+ * endpoint. A page that does not get a permit in time runs its queries one after the other in the caller thread instead,
+ * so a burst of searches cannot exhaust the connection pool.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ * @see ConcurrentPageExecutorBuilder
+ */
+@ThreadSafe
+public final class ConcurrentPageExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrentPageExecutor.class);
+
+    private final String name;
+
+    private final Executor executor;
+
+    private final int maxConcurrentPages;
+
+    private final Semaphore permits;
+
+    private final long acquireTimeoutNanos;
+
+    ConcurrentPageExecutor(final String name, final Executor executor, final int maxConcurrentPages, final long acquireTimeoutNanos) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.maxConcurrentPages = maxConcurrentPages;
+        this.permits = new Semaphore(maxConcurrentPages);
+        this.acquireTimeoutNanos = acquireTimeoutNanos;
+    }
+
+    /**
+     * @param pageable page to fetch
+     * @param content  content of the page (query with offset and limit)
+     * @param count    total count, cancelled if the total can be deduced from the content
+     * @param <T>      type of content
+     * @return page
+     * @throws IllegalStateException if the caller thread is interrupted while waiting, queries are cancelled
+     */
+    public <T> Page<T> fetchPage(final Pageable pageable, final Supplier<List<T>> content, final LongSupplier count) {
+        Objects.requireNonNull(pageable, "pageable");
+        Objects.requireNonNull(content, "content");
+        Objects.requireNonNull(count, "count");
+        if (pageable.isUnpaged()) {
+            final List<T> all = content.get();
+            return new PageImpl<>(all, pageable, all.size());
+        }
+        if (!acquire()) {
+            log.debug("No permit available for page of {}, queries run sequentially", name);
+            return PageableExecutionUtils.getPage(content.get(), pageable, count);
+        }
+        final AtomicInteger remaining = new AtomicInteger(2);
+        final LinkedTask<List<T>> contentTask = new LinkedTask<>(content::get, remaining);
+        final LinkedTask<Long> countTask = new LinkedTask<>(count::getAsLong, remaining);
+        contentTask.sibling = countTask;
+        countTask.sibling = contentTask;
+        if (!submit(contentTask)) {
+            permits.release();
+            return PageableExecutionUtils.getPage(content.get(), pageable, count);
+        }
+        if (!submit(countTask)) {
+            // content is already running, count runs in the caller thread meanwhile
+            countTask.run();
+        }
+        final List<T> rows = await(contentTask, countTask);
+        final Page<T> page = PageableExecutionUtils.getPage(rows, pageable, () -> await(countTask, contentTask));
+        // total was deduced from content, count is not needed
+        countTask.cancel(true);
+        return page;
+    }
+
+    /**
+     * @return name (for logs and monitoring)
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return max pages running their queries concurrently
+     */
+    public int getMaxConcurrentPages() {
+        return maxConcurrentPages;
+    }
+
+    /**
+     * @return pages that can start concurrently now
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    private boolean acquire() {
+        if (acquireTimeoutNanos == 0) {
+            return permits.tryAcquire();
+        }
+        try {
+            return permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a permit of " + name, e);
+        }
+    }
+
+    private boolean submit(final LinkedTask<?> task) {
+        try {
+            executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.warn("Executor of {} rejected a query, queries run sequentially", name, e);
+            return false;
+        }
+    }
+
+    private <V> V await(final Future<V> task, final Future<?> sibling) {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            sibling.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for page of " + name, e);
+        } catch (CancellationException e) {
+            // cancelled because sibling failed
+            if (sibling.isDone() && !sibling.isCancelled()) {
+                try {
+                    sibling.get();
+                } catch (ExecutionException siblingFailure) {
+                    throw rethrow(siblingFailure);
+                } catch (InterruptedException | CancellationException ignored) {
+                    // sibling is done, cannot happen
+                }
+            }
+            throw new IllegalStateException("Query of " + name + " was cancelled", e);
+        } catch (ExecutionException e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static RuntimeException rethrow(final ExecutionException e) {
+        final Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    /**
+     * Cancels its sibling if it fails, releases the permit once both tasks ran (even cancelled, the query may still be running until then).
+     */
+    private final class LinkedTask<V> extends FutureTask<V> {
+
+        private final AtomicInteger remaining;
+
+        private volatile Future<?> sibling;
+
+        private LinkedTask(final Callable<V> callable, final AtomicInteger remaining) {
+            super(callable);
+            this.remaining = remaining;
+        }
+
+        @Override
+        public void run() {
+            try {
+                super.run();
+            } finally {
+                if (remaining.decrementAndGet() == 0) {
+                    permits.release();
+                }
+            }
+        }
+
+        @Override
+        protected void setException(final Throwable t) {
+            super.setException(t);
+            sibling.cancel(true);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.sort;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Immutable builder, methods that would modify the builder creates a new builder copied and alters the copy before returning it.
+ * <pre>
+ * ConcurrentPageExecutor pageExecutor = ConcurrentPageExecutorBuilder.newBuilder()
+ *     .name("children-search")
+ *     .maxConcurrentPages(8)
+ *     .acquireTimeout(Duration.ofMillis(50))
+ *     .build();
+ * </pre>
+ * Without executor given, queries run on virtual threads if the JVM has them (Java 21+), otherwise on a pool of {@code 2 * maxConcurrentPages}
+ * daemon threads of the built executor.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+@Immutable
+@ThreadSafe
+public class ConcurrentPageExecutorBuilder {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrentPageExecutorBuilder.class);
+
+    private String name = "page";
+
+    private int maxConcurrentPages = 10;
+
+    private long acquireTimeoutNanos = 0;
+
+    @Nullable
+    private Executor executor;
+
+    private boolean virtualThreads = true;
+
+    private ConcurrentPageExecutorBuilder() {
+    }
+
+    private ConcurrentPageExecutorBuilder(final ConcurrentPageExecutorBuilder copy) {
+        this.name = copy.name;
+        this.maxConcurrentPages = copy.maxConcurrentPages;
+        this.acquireTimeoutNanos = copy.acquireTimeoutNanos;
+        this.executor = copy.executor;
+        this.virtualThreads = copy.virtualThreads;
+    }
+
+    /**
+     * Constructs a new {@code ConcurrentPageExecutorBuilder} instance with default settings (10 concurrent pages, no wait for a permit).
+     *
+     * @return builder
+     */
+    public static ConcurrentPageExecutorBuilder newBuilder() {
+        return new ConcurrentPageExecutorBuilder();
+    }
+
+    /**
+     * @param name name of the executor (for logs and thread names)
+     * @return new {@code ConcurrentPageExecutorBuilder} instance (for chaining)
+     */
+    public ConcurrentPageExecutorBuilder name(final String name) {
+        if (name == null)
+            throw new IllegalArgumentException("Name cannot be null");
+        final ConcurrentPageExecutorBuilder copy = new ConcurrentPageExecutorBuilder(this);
+        copy.name = name;
+        return copy;
+    }
+
+    /**
+     * Each concurrent page uses two connections, keep it well below the size of the connection pool.
+     *
+     * @param maxConcurrentPages max pages running their queries concurrently, others run sequentially in the caller thread
+     * @return new {@code ConcurrentPageExecutorBuilder} instance (for chaining)
+     */
+    public ConcurrentPageExecutorBuilder maxConcurrentPages(final int maxConcurrentPages) {
+        if (maxConcurrentPages < 1)
+            throw new IllegalArgumentException("Max concurrent pages must be at least 1");
+        final ConcurrentPageExecutorBuilder copy = new ConcurrentPageExecutorBuilder(this);
+        copy.maxConcurrentPages = maxConcurrentPages;
+        return copy;
+    }
+
+    /**
+     * @param duration time to wait for a permit before running queries sequentially, zero to not wait
+     * @return new {@code ConcurrentPageExecutorBuilder} instance (for chaining)
+     */
+    public ConcurrentPageExecutorBuilder acquireTimeout(final Duration duration) {
+        if (duration == null || duration.isNegative())
+            throw new IllegalArgumentException("Duration cannot be null or negative");
+        final ConcurrentPageExecutorBuilder copy = new ConcurrentPageExecutorBuilder(this);
+        copy.acquireTimeoutNanos = duration.toNanos();
+        return copy;
+    }
+
+    /**
+     * @param executor executor of queries (can be shared by executors of several endpoints), its lifecycle is not managed
+     * @return new {@code ConcurrentPageExecutorBuilder} instance (for chaining)
+     */
+    public ConcurrentPageExecutorBuilder executor(final Executor executor) {
+        if (executor == null)
+            throw new IllegalArgumentException("Executor cannot be null");
+        final ConcurrentPageExecutorBuilder copy = new ConcurrentPageExecutorBuilder(this);
+        copy.executor = executor;
+        return copy;
+    }
+
+    /**
+     * @param virtualThreads false to use a pool of platform threads even if virtual threads are available, ignored if an executor is given
+     * @return new {@code ConcurrentPageExecutorBuilder} instance (for chaining)
+     */
+    public ConcurrentPageExecutorBuilder virtualThreads(final boolean virtualThreads) {
+        final ConcurrentPageExecutorBuilder copy = new ConcurrentPageExecutorBuilder(this);
+        copy.virtualThreads = virtualThreads;
+        return copy;
+    }
+
+    /**
+     * This method does not alter the state of this {@code ConcurrentPageExecutorBuilder} instance, so it can be
+     * invoked again to create multiple independent executors (with their own permits).
+     *
+     * @return a ConcurrentPageExecutor with features specified in this builder
+     */
+    public ConcurrentPageExecutor build() {
+        return new ConcurrentPageExecutor(name, executor != null ? executor : createExecutor(), maxConcurrentPages, acquireTimeoutNanos);
+    }
+
+    private Executor createExecutor() {
+        if (virtualThreads) {
+            final ExecutorService virtualThreadExecutor = newVirtualThreadPerTaskExecutor();
+            if (virtualThreadExecutor != null) {
+                return virtualThreadExecutor;
+            }
+        }
+        final int threads = maxConcurrentPages * 2;
+        final ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new DaemonThreadFactory(name));
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    @Nullable
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            // Java 21+, source is Java 8
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            return null;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("Virtual threads not available, a pool of threads is used", e);
+            return null;
+        }
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+
+        private final String prefix;
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        private DaemonThreadFactory(final String name) {
+            this.prefix = name + "-query-";
+        }
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.sort;
+
+import org.jooq.Condition;
+import org.jooq.Converter;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.SortField;
+import org.jooq.SortOrder;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConverterProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keyset (seek) pagination: instead of skipping {@code offset} rows, next page is read with a condition on the values of the last row of the previous page,
+ * so deep pages cost the same as the first one if an index matches the order.
+ * <p>
+ * Sort fields are usually built with {@link JooqSort#buildOrderBy(org.springframework.data.domain.Sort, java.util.Collection)}, the last one should be unique (like the primary key)
+ * otherwise rows with same values are skipped. Values of sorted columns must not be null.
+ * <p>
+ * Cursors are opaque url-safe strings of the values of the last row, they are not signed (values are only bound as parameters of the condition).
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+public final class JooqKeysetUtil {
+
+    private static final Logger log = LoggerFactory.getLogger(JooqKeysetUtil.class);
+
+    private static final DefaultConverterProvider CONVERTER_PROVIDER = new DefaultConverterProvider();
+
+    private static final Map<Class<?>, Converter<String, ?>> CONVERTER_BY_TYPE = new ConcurrentHashMap<>();
+
+    private static final char LENGTH_SEPARATOR = ':';
+
+    private JooqKeysetUtil() {
+    }
+
+    /**
+     * All fields in same direction are compared as a row value {@code (a, b) > (?, ?)}, mixed directions are expanded {@code a > ? or (a = ? and b < ?)}.
+     *
+     * @param sortFields sort fields of the query
+     * @param values     values of the last row read, in the same order as sort fields
+     * @return condition selecting rows after the values
+     * @throws IllegalArgumentException if number of values does not match sort fields or a value is null
+     */
+    public static Condition seekCondition(final List<? extends SortField<?>> sortFields, final Object... values) {
+        Objects.requireNonNull(sortFields, "sortFields");
+        Objects.requireNonNull(values, "values");
+        if (sortFields.isEmpty()) {
+            throw new IllegalArgumentException("Keyset pagination requires at least one sort field");
+        }
+        if (sortFields.size() != values.length) {
+            throw new IllegalArgumentException(String.format("Expected %d keyset values but got %d", sortFields.size(), values.length));
+        }
+        final int size = sortFields.size();
+        final Field<?>[] fields = new Field<?>[size];
+        final Field<?>[] binds = new Field<?>[size];
+        boolean sameOrder = true;
+        for (int i = 0; i < size; i++) {
+            final SortField<?> sortField = sortFields.get(i);
+            fields[i] = sortField.$field();
+            binds[i] = bind(fields[i], values[i]);
+            sameOrder &= isDesc(sortField) == isDesc(sortFields.get(0));
+        }
+        if (size == 1) {
+            return compare(fields[0], binds[0], isDesc(sortFields.get(0)));
+        }
+        if (sameOrder) {
+            return isDesc(sortFields.get(0))
+                ? DSL.row(fields).lt(DSL.row(binds))
+                : DSL.row(fields).gt(DSL.row(binds));
+        }
+        final List<Condition> conditions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final List<Condition> equalsAndCompare = new ArrayList<>(i + 1);
+            for (int j = 0; j < i; j++) {
+                equalsAndCompare.add(equal(fields[j], binds[j]));
+            }
+            equalsAndCompare.add(compare(fields[i], binds[i], isDesc(sortFields.get(i))));
+            conditions.add(DSL.and(equalsAndCompare));
+        }
+        return DSL.or(conditions);
+    }
+
+    /**
+     * @param sortFields sort fields of the query
+     * @param cursor     cursor from {@link #encodeCursor(List, Object...)}, null for the first page
+     * @return condition selecting rows after the cursor or no condition if cursor is null
+     * @throws IllegalArgumentException if cursor is invalid or was not created for the same sort fields
+     */
+    public static Condition seekAfter(final List<? extends SortField<?>> sortFields, @Nullable final String cursor) {
+        if (cursor == null) {
+            return DSL.noCondition();
+        }
+        return seekCondition(sortFields, decodeCursor(sortFields, cursor));
+    }
+
+    /**
+     * @param sortFields sort fields of the query, fields must be part of the record (sort ignoring case is on {@code upper(field)} which is not)
+     * @param lastRecord last record of the page
+     * @return cursor of the next page
+     * @throws IllegalArgumentException if a field is not part of the record or a value is null
+     */
+    public static String encodeCursor(final List<? extends SortField<?>> sortFields, final Record lastRecord) {
+        Objects.requireNonNull(lastRecord, "lastRecord");
+        final Object[] values = new Object[sortFields.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = lastRecord.get(sortFields.get(i).$field());
+        }
+        return encodeCursor(sortFields, values);
+    }
+
+    /**
+     * @param sortFields sort fields of the query
+     * @param values     values of the last row of the page, in the same order as sort fields
+     * @return cursor of the next page
+     * @throws IllegalArgumentException if number of values does not match sort fields or a value is null
+     */
+    public static String encodeCursor(final List<? extends SortField<?>> sortFields, final Object... values) {
+        Objects.requireNonNull(sortFields, "sortFields");
+        if (sortFields.size() != values.length) {
+            throw new IllegalArgumentException(String.format("Expected %d keyset values but got %d", sortFields.size(), values.length));
+        }
+        final StringBuilder builder = new StringBuilder();
+        appendPart(builder, signature(sortFields));
+        for (int i = 0; i < values.length; i++) {
+            final Field<?> field = sortFields.get(i).$field();
+            appendPart(builder, toString(field, checkNotNull(field, values[i])));
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param sortFields sort fields of the query
+     * @param cursor     cursor from {@link #encodeCursor(List, Object...)}
+     * @return values of the cursor converted to the type of sort fields
+     * @throws IllegalArgumentException if cursor is invalid or was not created for the same sort fields
+     */
+    public static Object[] decodeCursor(final List<? extends SortField<?>> sortFields, final String cursor) {
+        Objects.requireNonNull(sortFields, "sortFields");
+        Objects.requireNonNull(cursor, "cursor");
+        final String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+        final List<String> parts = readParts(decoded);
+        if (parts.size() != sortFields.size() + 1 || !signature(sortFields).equals(parts.get(0))) {
+            throw new IllegalArgumentException("Cursor does not match sort");
+        }
+        final Object[] values = new Object[sortFields.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = fromString(sortFields.get(i).$field(), parts.get(i + 1));
+        }
+        return values;
+    }
+
+    private static boolean isDesc(final SortField<?> sortField) {
+        return sortField.getOrder() == SortOrder.DESC;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Field<?> bind(final Field<?> field, final Object value) {
+        return DSL.val(checkNotNull(field, value), (Field<Object>) field);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Condition compare(final Field<?> field, final Field<?> bind, final boolean desc) {
+        return desc ? ((Field<Object>) field).lt((Field<Object>) bind) : ((Field<Object>) field).gt((Field<Object>) bind);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Condition equal(final Field<?> field, final Field<?> bind) {
+        return ((Field<Object>) field).eq((Field<Object>) bind);
+    }
+
+    private static Object checkNotNull(final Field<?> field, @Nullable final Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException(String.format("Keyset value of '%s' is null, keyset pagination requires not null columns", field.getName()));
+        }
+        return value;
+    }
+
+    /**
+     * Hash of names and directions, so a cursor of a different sort is rejected instead of returning wrong rows.
+     */
+    private static String signature(final List<? extends SortField<?>> sortFields) {
+        int hash = 1;
+        for (final SortField<?> sortField : sortFields) {
+            hash = 31 * hash + sortField.getName().hashCode();
+            hash = 31 * hash + (isDesc(sortField) ? 1 : 0);
+        }
+        return Integer.toHexString(hash);
+    }
+
+    private static void appendPart(final StringBuilder builder, final String part) {
+        builder.append(part.length()).append(LENGTH_SEPARATOR).append(part);
+    }
+
+    private static List<String> readParts(final String decoded) {
+        final List<String> parts = new ArrayList<>();
+        int index = 0;
+        while (index < decoded.length()) {
+            final int separator = decoded.indexOf(LENGTH_SEPARATOR, index);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            final int length;
+            try {
+                length = Integer.parseInt(decoded.substring(index, separator));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor", e);
+            }
+            final int end = separator + 1 + length;
+            if (length < 0 || end > decoded.length()) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            parts.add(decoded.substring(separator + 1, end));
+            index = end;
+        }
+        return parts;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String toString(final Field<?> field, final Object value) {
+        return ((Converter<String, Object>) converter(field)).to(value);
+    }
+
+    private static Object fromString(final Field<?> field, final String value) {
+        try {
+            return converter(field).from(value);
+        } catch (RuntimeException e) {
+            log.debug("Failed to convert cursor value of '{}'", field.getName(), e);
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    private static Converter<String, ?> converter(final Field<?> field) {
+        return CONVERTER_BY_TYPE.computeIfAbsent(field.getType(), type -> {
+            final Converter<String, ?> converter = CONVERTER_PROVIDER.provide(String.class, type);
+            if (converter == null) {
+                throw new IllegalArgumentException(String.format("Type %s of '%s' is not supported for keyset cursor", type.getName(), field.getName()));
+            }
+            return converter;
+        });
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.sort;
+
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Select;
+import org.jooq.SortField;
+import org.jooq.impl.DSL;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Pages and slices of a select without order and limit (usually {@code create.select(...).from(...).where(condition)}).
+ * The select given is not modified, order, offset and limit are applied on a copy.
+ * <p>
+ * Count of a page is only queried if it cannot be deduced from the content (first page not full, last page, etc),
+ * give a count from {@link org.blackdread.lib.restfilter.criteria.CriteriaCountCache} to not count again on next pages.
+ * A slice reads one more row to know if there is a next slice and never counts.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+public final class JooqPageUtil {
+
+    private JooqPageUtil() {
+    }
+
+    /**
+     * @param create   dsl context
+     * @param select   select without order, offset and limit
+     * @param orderBy  order of the page (see {@link JooqSortUtil#buildOrderBy(org.springframework.data.domain.Sort, org.jooq.Field[])})
+     * @param pageable page to fetch
+     * @param count    total count, called only when needed
+     * @param <R>      record
+     * @return page
+     */
+    public static <R extends Record> Page<R> fetchPage(final DSLContext create, final Select<R> select, final List<? extends SortField<?>> orderBy,
+                                                       final Pageable pageable, final LongSupplier count) {
+        Objects.requireNonNull(count, "count");
+        if (pageable.isUnpaged()) {
+            final List<R> content = create.fetch(select.$orderBy(orderBy));
+            return new PageImpl<>(content, pageable, content.size());
+        }
+        return PageableExecutionUtils.getPage(fetchContent(create, select, orderBy, pageable, pageable.getPageSize()), pageable, count);
+    }
+
+    /**
+     * Counts with {@link #count(DSLContext, Select)} when needed.
+     *
+     * @param create   dsl context
+     * @param select   select without order, offset and limit
+     * @param orderBy  order of the page
+     * @param pageable page to fetch
+     * @param <R>      record
+     * @return page
+     */
+    public static <R extends Record> Page<R> fetchPage(final DSLContext create, final Select<R> select, final List<? extends SortField<?>> orderBy,
+                                                       final Pageable pageable) {
+        return fetchPage(create, select, orderBy, pageable, count(create, select));
+    }
+
+    /**
+     * Content and count queries run concurrently on the executor when it has a permit available, see {@link ConcurrentPageExecutor}.
+     *
+     * @param create       dsl context (each query gets its own connection from it)
+     * @param select       select without order, offset and limit
+     * @param orderBy      order of the page
+     * @param pageable     page to fetch
+     * @param count        total count, cancelled if not needed
+     * @param pageExecutor executor of the queries
+     * @param <R>          record
+     * @return page
+     */
+    public static <R extends Record> Page<R> fetchPage(final DSLContext create, final Select<R> select, final List<? extends SortField<?>> orderBy,
+                                                       final Pageable pageable, final LongSupplier count, final ConcurrentPageExecutor pageExecutor) {
+        Objects.requireNonNull(pageExecutor, "pageExecutor");
+        return pageExecutor.fetchPage(pageable, () -> pageable.isUnpaged()
+            ? create.fetch(select.$orderBy(orderBy))
+            : fetchContent(create, select, orderBy, pageable, pageable.getPageSize()), count);
+    }
+
+    /**
+     * Fetches size + 1 rows, the extra row only tells there is a next slice.
+     *
+     * @param create   dsl context
+     * @param select   select without order, offset and limit
+     * @param orderBy  order of the slice
+     * @param pageable slice to fetch
+     * @param <R>      record
+     * @return slice
+     */
+    public static <R extends Record> Slice<R> fetchSlice(final DSLContext create, final Select<R> select, final List<? extends SortField<?>> orderBy,
+                                                         final Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(create.fetch(select.$orderBy(orderBy)), pageable, false);
+        }
+        final List<R> content = fetchContent(create, select, orderBy, pageable, pageable.getPageSize() + 1);
+        final boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    /**
+     * @param create dsl context
+     * @param select select without order, offset and limit
+     * @return lazy exact count of rows of select
+     */
+    public static LongSupplier count(final DSLContext create, final Select<?> select) {
+        return () -> create.fetchCount(select);
+    }
+
+    /**
+     * Estimation of the database from the query plan ({@code EXPLAIN}), much cheaper than counting large results but can be far from exact.
+     *
+     * @param create dsl context
+     * @param select select without order, offset and limit
+     * @return estimated count of rows of select
+     */
+    public static long estimateCount(final DSLContext create, final Select<?> select) {
+        return (long) Math.ceil(create.explain(select).rows());
+    }
+
+    private static <R extends Record> List<R> fetchContent(final DSLContext create, final Select<R> select, final List<? extends SortField<?>> orderBy,
+                                                           final Pageable pageable, final int limit) {
+        return create.fetch(select
+            .$orderBy(orderBy)
+            .$limit(DSL.val(limit))
+            .$offset(DSL.val(pageable.getOffset())));
+    }
+}
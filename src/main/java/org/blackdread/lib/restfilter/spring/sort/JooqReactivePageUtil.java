@@ -0,0 +1,196 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.sort;
+
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.ResultQuery;
+import org.jooq.Select;
+import org.jooq.SortField;
+import org.jooq.impl.DSL;
+import org.reactivestreams.Publisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+/**
+ * Reactive counterpart of {@link JooqPageUtil}: queries are {@link Publisher} executed by jOOQ on subscription, through R2DBC when the
+ * {@link DSLContext} is created from a {@code io.r2dbc.spi.ConnectionFactory} (on JDBC, jOOQ blocks a thread of its executor).
+ * Wrap results with {@code Flux.from(...)}/{@code Mono.from(...)} of Reactor.
+ * <p>
+ * Rows of {@link #fetch(DSLContext, Select, List)} are requested from the database as the subscriber requests them.
+ * Content and count of a page are subscribed at the same time so both queries run concurrently, count is cancelled
+ * if the total can be deduced from the content (first page not full, last page, etc).
+ * The select given is not modified, order, offset and limit are applied on a copy.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+public final class JooqReactivePageUtil {
+
+    private JooqReactivePageUtil() {
+    }
+
+    /**
+     * @param create  dsl context
+     * @param select  select without order
+     * @param orderBy order of rows
+     * @param <R>     record
+     * @return all rows, with back-pressure
+     */
+    public static <R extends Record> Publisher<R> fetch(final DSLContext create, final Select<R> select, final List<? extends SortField<?>> orderBy) {
+        return attach(create, select.$orderBy(orderBy));
+    }
+
+    /**
+     * @param create   dsl context
+     * @param select   select without order, offset and limit
+     * @param orderBy  order of the page
+     * @param pageable page to fetch
+     * @param count    total count (like a cached count), subscribed with the content and cancelled if not needed
+     * @param <R>      record
+     * @return one page
+     */
+    public static <R extends Record> Publisher<Page<R>> fetchPage(final DSLContext create, final Select<R> select, final List<? extends SortField<?>> orderBy,
+                                                                  final Pageable pageable, final Publisher<? extends Number> count) {
+        Objects.requireNonNull(count, "count");
+        return fetchPage(create, select, orderBy, pageable, count, Number::longValue);
+    }
+
+    /**
+     * Counts with {@code select count(*) from (select ...)} when needed.
+     *
+     * @param create   dsl context
+     * @param select   select without order, offset and limit
+     * @param orderBy  order of the page
+     * @param pageable page to fetch
+     * @param <R>      record
+     * @return one page
+     */
+    public static <R extends Record> Publisher<Page<R>> fetchPage(final DSLContext create, final Select<R> select, final List<? extends SortField<?>> orderBy,
+                                                                  final Pageable pageable) {
+        return fetchPage(create, select, orderBy, pageable, attach(create, DSL.selectCount().from(select)), record -> record.value1().longValue());
+    }
+
+    /**
+     * Fetches size + 1 rows, the extra row only tells there is a next slice.
+     *
+     * @param create   dsl context
+     * @param select   select without order, offset and limit
+     * @param orderBy  order of the slice
+     * @param pageable slice to fetch
+     * @param <R>      record
+     * @return one slice
+     */
+    public static <R extends Record> Publisher<Slice<R>> fetchSlice(final DSLContext create, final Select<R> select, final List<? extends SortField<?>> orderBy,
+                                                                    final Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PagePublisher<>(fetch(create, select, orderBy), null, Number::longValue, new SliceAssembler<>(pageable));
+        }
+        return new PagePublisher<>(fetchContent(create, select, orderBy, pageable, pageable.getPageSize() + 1),
+            null, Number::longValue, new SliceAssembler<>(pageable));
+    }
+
+    private static <R extends Record, C> Publisher<Page<R>> fetchPage(final DSLContext create, final Select<R> select, final List<? extends SortField<?>> orderBy,
+                                                                      final Pageable pageable, final Publisher<? extends C> count,
+                                                                      final ToLongFunction<? super C> countMapper) {
+        if (pageable.isUnpaged()) {
+            return new PagePublisher<>(fetch(create, select, orderBy), null, countMapper, new PageAssembler<>(pageable));
+        }
+        return new PagePublisher<>(fetchContent(create, select, orderBy, pageable, pageable.getPageSize()),
+            count, countMapper, new PageAssembler<>(pageable));
+    }
+
+    private static <R extends Record> Publisher<R> fetchContent(final DSLContext create, final Select<R> select, final List<? extends SortField<?>> orderBy,
+                                                                final Pageable pageable, final int limit) {
+        return attach(create, select
+            .$orderBy(orderBy)
+            .$limit(DSL.val(limit))
+            .$offset(DSL.val(pageable.getOffset())));
+    }
+
+    private static <R extends Record, Q extends ResultQuery<R>> Q attach(final DSLContext create, final Q query) {
+        create.attach(query);
+        return query;
+    }
+
+    /**
+     * Same deduction of total as {@link org.springframework.data.support.PageableExecutionUtils}.
+     */
+    private static final class PageAssembler<R> implements PagePublisher.Assembler<R, Page<R>> {
+
+        private final Pageable pageable;
+
+        private PageAssembler(final Pageable pageable) {
+            this.pageable = pageable;
+        }
+
+        @Nullable
+        @Override
+        public Page<R> assemble(final List<R> content) {
+            if (pageable.isUnpaged() || (pageable.getOffset() == 0 && content.size() < pageable.getPageSize())) {
+                return new PageImpl<>(content, pageable, content.size());
+            }
+            if (!content.isEmpty() && content.size() < pageable.getPageSize()) {
+                return new PageImpl<>(content, pageable, pageable.getOffset() + content.size());
+            }
+            return null;
+        }
+
+        @Override
+        public Page<R> assemble(final List<R> content, final long total) {
+            return new PageImpl<>(content, pageable, total);
+        }
+    }
+
+    private static final class SliceAssembler<R> implements PagePublisher.Assembler<R, Slice<R>> {
+
+        private final Pageable pageable;
+
+        private SliceAssembler(final Pageable pageable) {
+            this.pageable = pageable;
+        }
+
+        @Override
+        public Slice<R> assemble(final List<R> content) {
+            if (pageable.isUnpaged()) {
+                return new SliceImpl<>(content, pageable, false);
+            }
+            final boolean hasNext = content.size() > pageable.getPageSize();
+            return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+        }
+
+        @Override
+        public Slice<R> assemble(final List<R> content, final long total) {
+            return assemble(content);
+        }
+    }
+}
@@ -27,6 +27,8 @@ import org.jooq.Field;
 import org.jooq.SortField;
 import org.springframework.data.domain.Sort;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
@@ -70,6 +72,27 @@ public interface JooqSort {
      */
     List<? extends SortField<?>> buildOrderBy(final Sort sort, final Collection<Field<?>> fields);
 
+    /**
+     * Build once the lookup of properties for those fields, to be used when the same fields are passed on each call (same select).
+     * Implementation may cache the result by identity of fields.
+     *
+     * @param fields fields that are part of the select so can be ordered
+     * @return a reusable sort for those fields
+     */
+    default CompiledJooqSort compile(final Collection<Field<?>> fields) {
+        final List<Field<?>> copy = new ArrayList<>(fields);
+        return sort -> buildOrderBy(sort, copy);
+    }
+
+    /**
+     * @param fields fields that are part of the select so can be ordered
+     * @return a reusable sort for those fields
+     * @see #compile(Collection)
+     */
+    default CompiledJooqSort compile(final Field<?>... fields) {
+        return compile(Arrays.asList(fields));
+    }
+
     // todo add support for sort by index (inline) -> kind of already part of buildOrderBy/etc
 //    Collection<? extends SortField<?>> buildOrderByInline(final Sort sort, ...);
 }
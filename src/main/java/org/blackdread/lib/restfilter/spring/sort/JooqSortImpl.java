@@ -38,11 +38,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.unmodifiableList;
@@ -59,6 +61,8 @@ class JooqSortImpl implements JooqSort {
 
     private static final Logger log = LoggerFactory.getLogger(JooqSortImpl.class);
 
+    private static final int MAX_CACHED_COMPILED_SORTS = 64;
+
     /*
      * If true, all property (alias, etc) are tested ignoring case.
      */
@@ -97,6 +101,8 @@ class JooqSortImpl implements JooqSort {
 
     private final boolean throwOnAliasNotFound;
 
+    private final Map<FieldsKey, CompiledJooqSort> compiledSortByFields = new ConcurrentHashMap<>();
+
     JooqSortImpl(boolean ignoreJooqPropertyCase, boolean enableJooqFieldExtraLookUp, Map<String, Collection<Field<?>>> fieldByAliasMap, Map<String, Collection<Param<Integer>>> inlineByAliasMap, @Nullable Sort defaultSort, @Nullable Collection<? extends SortField<?>> defaultSortFields, boolean enableCaseInsensitiveSort, boolean enableNullHandling, boolean throwOnSortPropertyNotFound, boolean throwOnAliasNotFound) {
         this.ignoreJooqPropertyCase = ignoreJooqPropertyCase;
         this.enableJooqFieldExtraLookUp = enableJooqFieldExtraLookUp;
@@ -201,82 +207,22 @@ class JooqSortImpl implements JooqSort {
 
     @Override
     public List<? extends SortField<?>> buildOrderBy(final Sort sort, final Collection<Field<?>> fields) {
-        final List<? extends SortField<?>> result = getSortFields(sort, fields);
+        return compile(fields).buildOrderBy(sort);
+    }
 
-        if (!result.isEmpty()) {
-            return result;
+    @Override
+    public CompiledJooqSort compile(final Collection<Field<?>> fields) {
+        final FieldsKey key = new FieldsKey(fields.toArray(new Field<?>[0]));
+        final CompiledJooqSort compiled = compiledSortByFields.get(key);
+        if (compiled != null) {
+            return compiled;
         }
-
-        // Below both default sort are supported at the same time
-        List<? extends SortField<?>> resultWithDefault = Collections.emptyList();
-        if (defaultSort != null) {
-            resultWithDefault = getSortFields(defaultSort, fields);
+        if (compiledSortByFields.size() >= MAX_CACHED_COMPILED_SORTS) {
+            // fields are probably created for each query, caching would only fill memory
+            log.debug("Compiled sort cache is full, fields are not cached");
+            return new CompiledJooqSortImpl(key.fields);
         }
-        if (defaultSortFields != null && resultWithDefault.isEmpty()) {
-            return defaultSortFields;
-        }
-        return resultWithDefault;
-    }
-
-    private List<? extends SortField<?>> getSortFields(final Sort sort, final Collection<Field<?>> fields) {
-        // in collection field name may be same for different fields but fully qualified name would be different
-        warnIfFieldMayHideEachOther(fields);
-        final Map<String, ? extends Field<?>> nameFieldMap = fields.stream()
-            .flatMap(field -> {
-                final List<Pair<Field<?>>> pairs = new ArrayList<>();
-                final String fieldName = field.getName();
-                pairs.add(new Pair<>(fieldName, field));
-                if (ignoreJooqPropertyCase) {
-                    pairs.add(new Pair<>(fieldName.toLowerCase(Locale.ENGLISH), field));
-                }
-                if (enableJooqFieldExtraLookUp) {
-                    final String camelCase = CaseUtils.toCamelCase(fieldName, false, '_', '-');
-                    pairs.add(new Pair<>(camelCase, field));
-                    if (ignoreJooqPropertyCase) {
-                        // each extra field to be also not case sensitive
-                        pairs.add(new Pair<>(camelCase.toLowerCase(Locale.ENGLISH), field));
-                    }
-                }
-                return pairs.stream();
-            })
-            .distinct()
-            .collect(Collectors.toMap(pair -> pair.key, pair -> pair.value));
-
-        return sort.stream()
-            .map(order -> {
-                final String property = order.getProperty();
-                final Collection<Param<Integer>> aliasParams = inlineByAliasMap.get(property);
-                final Collection<Field<?>> aliasFields = fieldByAliasMap.get(property);
-
-                // aliases have priority over fields passed
-                if (aliasParams != null) {
-                    return aliasParams.stream()
-                        .map(param -> convertToSortField(param, order))
-                        .collect(Collectors.toList());
-                } else if (aliasFields != null) {
-                    return aliasFields.stream()
-                        .map(field -> convertToSortField(field, order))
-                        .collect(Collectors.toList());
-                } else if (!fields.isEmpty()) {
-                    Field<?> field = nameFieldMap.get(property);
-                    if (field == null && ignoreJooqPropertyCase) {
-                        field = nameFieldMap.get(property.toLowerCase(Locale.ENGLISH));
-                    }
-                    if (field != null) {
-                        final SortField<?> sortField = convertToSortField(field, order);
-                        return Collections.singletonList(sortField);
-                    }
-                }
-
-                if (throwOnSortPropertyNotFound) {
-                    throw new IllegalArgumentException(String.format("Property '%s' not found", property));
-                }
-                log.info("Property '{}' not found but ignored", property);
-                return null;
-            })
-            .filter(Objects::nonNull)
-            .flatMap(Collection::stream)
-            .collect(Collectors.toList());
+        return compiledSortByFields.computeIfAbsent(key, k -> new CompiledJooqSortImpl(k.fields));
     }
 
     private <T> SortField<T> convertToSortField(final Field<T> field, final Sort.Order order) {
@@ -298,40 +244,133 @@ class JooqSortImpl implements JooqSort {
         return sortField;
     }
 
-    private void warnIfFieldMayHideEachOther(final Collection<Field<?>> fields) {
-        final Set<String> uniqueNames = fields.stream().map(Field::getName).collect(Collectors.toSet());
-        if (uniqueNames.size() != fields.size()) {
+    private void warnIfFieldMayHideEachOther(final Field<?>[] fields) {
+        final Set<String> uniqueNames = Arrays.stream(fields).map(Field::getName).collect(Collectors.toSet());
+        if (uniqueNames.size() != fields.length) {
             log.warn("Some fields will hide each others due to same name: {}", uniqueNames);
         }
     }
 
     /**
-     * Just to keep data through the stream, have no access to Map.Entry -> need java > 8
-     * Key is String, no reason to make it generic.
-     * The equals is based on the key only, important when building map that will aggregate potentially on same key, could use the mergeFunction otherwise to not throw on duplicate key
-     *
-     * @param <V> value
+     * Lookup of properties built once for the fields, aliases and field names are resolved with a single hash lookup.
      */
-    private static class Pair<V> {
-        final String key;
-        final V value;
+    private final class CompiledJooqSortImpl implements CompiledJooqSort {
+
+        /**
+         * Aliases (priority) then field names and their extra look up names
+         */
+        private final Map<String, Collection<? extends Field<?>>> fieldsByProperty;
+
+        /**
+         * Only field names, used with lower cased property if property is not found and jooq property case is ignored
+         */
+        private final Map<String, Field<?>> fieldByLowerCaseName;
+
+        private CompiledJooqSortImpl(final Field<?>[] fields) {
+            // in collection field name may be same for different fields but fully qualified name would be different
+            warnIfFieldMayHideEachOther(fields);
+            final Map<String, Field<?>> nameFieldMap = new HashMap<>();
+            for (final Field<?> field : fields) {
+                final String fieldName = field.getName();
+                nameFieldMap.putIfAbsent(fieldName, field);
+                if (ignoreJooqPropertyCase) {
+                    nameFieldMap.putIfAbsent(fieldName.toLowerCase(Locale.ENGLISH), field);
+                }
+                if (enableJooqFieldExtraLookUp) {
+                    final String camelCase = CaseUtils.toCamelCase(fieldName, false, '_', '-');
+                    nameFieldMap.putIfAbsent(camelCase, field);
+                    if (ignoreJooqPropertyCase) {
+                        // each extra field to be also not case sensitive
+                        nameFieldMap.putIfAbsent(camelCase.toLowerCase(Locale.ENGLISH), field);
+                    }
+                }
+            }
+            final Map<String, Collection<? extends Field<?>>> byProperty = new HashMap<>();
+            nameFieldMap.forEach((name, field) -> byProperty.put(name, Collections.singletonList(field)));
+            // aliases have priority over fields passed
+            byProperty.putAll(fieldByAliasMap);
+            byProperty.putAll(inlineByAliasMap);
+            this.fieldsByProperty = unmodifiableMap(byProperty);
+            this.fieldByLowerCaseName = unmodifiableMap(nameFieldMap);
+        }
+
+        @Override
+        public List<? extends SortField<?>> buildOrderBy(final Sort sort) {
+            final List<? extends SortField<?>> result = getSortFields(sort);
+
+            if (!result.isEmpty()) {
+                return result;
+            }
+
+            // Below both default sort are supported at the same time
+            List<? extends SortField<?>> resultWithDefault = Collections.emptyList();
+            if (defaultSort != null) {
+                resultWithDefault = getSortFields(defaultSort);
+            }
+            if (defaultSortFields != null && resultWithDefault.isEmpty()) {
+                return defaultSortFields;
+            }
+            return resultWithDefault;
+        }
+
+        private List<SortField<?>> getSortFields(final Sort sort) {
+            final List<SortField<?>> result = new ArrayList<>();
+            for (final Sort.Order order : sort) {
+                final String property = order.getProperty();
+                final Collection<? extends Field<?>> fields = fieldsByProperty.get(property);
+                if (fields != null) {
+                    for (final Field<?> field : fields) {
+                        result.add(convertToSortField(field, order));
+                    }
+                    continue;
+                }
+                final Field<?> field = ignoreJooqPropertyCase ? fieldByLowerCaseName.get(property.toLowerCase(Locale.ENGLISH)) : null;
+                if (field != null) {
+                    result.add(convertToSortField(field, order));
+                    continue;
+                }
+                if (throwOnSortPropertyNotFound) {
+                    throw new IllegalArgumentException(String.format("Property '%s' not found", property));
+                }
+                log.info("Property '{}' not found but ignored", property);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Fields compared by identity, same fields in same order give the same key
+     */
+    private static final class FieldsKey {
+
+        private final Field<?>[] fields;
+
+        private final int hash;
 
-        private Pair(String key, V value) {
-            this.key = Objects.requireNonNull(key);
-            this.value = Objects.requireNonNull(value);
+        private FieldsKey(final Field<?>[] fields) {
+            this.fields = fields;
+            int h = 1;
+            for (final Field<?> field : fields) {
+                h = 31 * h + System.identityHashCode(field);
+            }
+            this.hash = h;
         }
 
         @Override
-        public boolean equals(Object o) {
+        public boolean equals(final Object o) {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
-            Pair<?> pair = (Pair<?>) o;
-            return key.equals(pair.key);
+            final FieldsKey that = (FieldsKey) o;
+            if (hash != that.hash || fields.length != that.fields.length) return false;
+            for (int i = 0; i < fields.length; i++) {
+                if (fields[i] != that.fields[i]) return false;
+            }
+            return true;
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(key);
+            return hash;
         }
     }
 }
@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.sort;
+
+import org.blackdread.lib.restfilter.jooq.JooqRecordWriter;
+import org.jooq.Cursor;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.ResultQuery;
+import org.jooq.Select;
+import org.jooq.SortField;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Export all rows of a select (usually {@code create.select(...).from(...).where(condition)}) without holding them in memory.
+ * The select given is not modified, order and fetch size are applied on a copy.
+ * <p>
+ * Rows are read from a lazy {@link Cursor} with the given JDBC fetch size and written one by one, memory stays the same whatever the
+ * number of rows. The cursor (result set and statement) is closed when all rows are written or as soon as writing fails, like when the client disconnects.
+ * <p>
+ * Some drivers ignore the fetch size unless conditions are met, PostgreSQL needs a transaction (auto-commit off) and MySQL needs
+ * {@code useCursorFetch=true} (or {@link Integer#MIN_VALUE} as fetch size), otherwise all rows are loaded by the driver.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+public final class JooqStreamUtil {
+
+    private static final Logger log = LoggerFactory.getLogger(JooqStreamUtil.class);
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private JooqStreamUtil() {
+    }
+
+    /**
+     * Output is flushed at the end but not closed.
+     *
+     * @param create    dsl context
+     * @param select    select without order
+     * @param orderBy   order of rows (see {@link JooqSortUtil#buildOrderBy(org.springframework.data.domain.Sort, org.jooq.Field[])})
+     * @param fetchSize JDBC fetch size, 0 for the driver default
+     * @param out       output
+     * @param writer    writer of rows
+     * @param <R>       record
+     * @return number of rows written
+     * @throws IOException if output fails (client disconnected, etc), cursor is closed
+     */
+    public static <R extends Record> long stream(final DSLContext create, final Select<R> select, final List<? extends SortField<?>> orderBy,
+                                                 final int fetchSize, final OutputStream out, final JooqRecordWriter<? super R> writer) throws IOException {
+        Objects.requireNonNull(out, "out");
+        Objects.requireNonNull(writer, "writer");
+        if (fetchSize < 0 && fetchSize != Integer.MIN_VALUE) {
+            throw new IllegalArgumentException("Fetch size must be positive or 0 (was " + fetchSize + ")");
+        }
+        final ResultQuery<R> query = select.$orderBy(orderBy).fetchSize(fetchSize);
+        final BufferedOutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+        long count = 0;
+        try (Cursor<R> cursor = create.fetchLazy(query)) {
+            writer.writeHeader(cursor, buffered);
+            for (final R record : cursor) {
+                writer.write(record, buffered);
+                count++;
+            }
+            writer.writeFooter(buffered);
+        } catch (IOException e) {
+            log.debug("Stream stopped after {} rows", count, e);
+            throw e;
+        }
+        buffered.flush();
+        log.debug("Streamed {} rows", count);
+        return count;
+    }
+
+    /**
+     * Query is executed when the body is written, after the controller method returned, so outside of its transaction.
+     * Needs spring-webmvc (optional dependency), use {@link #stream(DSLContext, Select, List, int, OutputStream, JooqRecordWriter)} otherwise.
+     *
+     * @param create    dsl context
+     * @param select    select without order
+     * @param orderBy   order of rows
+     * @param fetchSize JDBC fetch size, 0 for the driver default
+     * @param writer    writer of rows
+     * @param <R>       record
+     * @return body that streams all rows
+     * @see #stream(DSLContext, Select, List, int, OutputStream, JooqRecordWriter)
+     */
+    public static <R extends Record> StreamingResponseBody streamingResponseBody(final DSLContext create, final Select<R> select, final List<? extends SortField<?>> orderBy,
+                                                                                 final int fetchSize, final JooqRecordWriter<? super R> writer) {
+        Objects.requireNonNull(create, "create");
+        Objects.requireNonNull(select, "select");
+        Objects.requireNonNull(writer, "writer");
+        return out -> stream(create, select, orderBy, fetchSize, out, writer);
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.sort;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToLongFunction;
+
+/**
+ * Emits one page (or slice) built from rows of a content publisher and, if needed, the total of a count publisher.
+ * Both are subscribed at the same time on first request so the queries run concurrently, the count is cancelled
+ * if the page can be built from its content only. Each subscriber gets its own subscriptions (cold publisher).
+ * <p>
+ * Content and count are requested without bound, content must already be bounded (query with limit) as rows are kept until the page is emitted.
+ * A bounded request of exactly the limit would not be enough, a publisher may only signal completion on the next request.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @param <R> row
+ * @param <C> count element
+ * @param <P> page
+ * @author Yoann CAPLAIN
+ */
+final class PagePublisher<R, C, P> implements Publisher<P> {
+
+    /**
+     * Builds the page from its content.
+     *
+     * @param <R> row
+     * @param <P> page
+     */
+    interface Assembler<R, P> {
+
+        /**
+         * @param content rows
+         * @return page or null if total is needed
+         */
+        @Nullable
+        P assemble(List<R> content);
+
+        /**
+         * @param content rows
+         * @param total   total of count publisher
+         * @return page
+         */
+        P assemble(List<R> content, long total);
+    }
+
+    private final Publisher<? extends R> content;
+
+    @Nullable
+    private final Publisher<? extends C> count;
+
+    private final ToLongFunction<? super C> countMapper;
+
+    private final Assembler<R, P> assembler;
+
+    PagePublisher(final Publisher<? extends R> content, @Nullable final Publisher<? extends C> count,
+                  final ToLongFunction<? super C> countMapper, final Assembler<R, P> assembler) {
+        this.content = Objects.requireNonNull(content, "content");
+        this.count = count;
+        this.countMapper = Objects.requireNonNull(countMapper, "countMapper");
+        this.assembler = Objects.requireNonNull(assembler, "assembler");
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super P> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        subscriber.onSubscribe(new PageSubscription(subscriber));
+    }
+
+    @ThreadSafe
+    private final class PageSubscription implements Subscription {
+
+        private final Subscriber<? super P> downstream;
+
+        private final AtomicBoolean started = new AtomicBoolean();
+
+        private final AtomicBoolean terminated = new AtomicBoolean();
+
+        @GuardedBy("this")
+        private final List<R> rows = new ArrayList<>();
+
+        @GuardedBy("this")
+        private boolean contentDone;
+
+        @GuardedBy("this")
+        @Nullable
+        private Long total;
+
+        @GuardedBy("this")
+        @Nullable
+        private Subscription contentSubscription;
+
+        @GuardedBy("this")
+        @Nullable
+        private Subscription countSubscription;
+
+        private PageSubscription(final Subscriber<? super P> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException("Request must be positive (was " + n + ")"));
+                return;
+            }
+            if (!started.compareAndSet(false, true)) {
+                return;
+            }
+            content.subscribe(new ContentSubscriber());
+            if (count != null) {
+                count.subscribe(new CountSubscriber());
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (terminated.compareAndSet(false, true)) {
+                cancelUpstream();
+            }
+        }
+
+        private void onContentSubscribe(final Subscription subscription) {
+            synchronized (this) {
+                contentSubscription = subscription;
+            }
+            if (terminated.get()) {
+                subscription.cancel();
+            } else {
+                subscription.request(Long.MAX_VALUE);
+            }
+        }
+
+        private synchronized void onRow(final R row) {
+            rows.add(row);
+        }
+
+        private void onContentComplete() {
+            synchronized (this) {
+                contentDone = true;
+            }
+            tryEmit();
+        }
+
+        private void onCountSubscribe(final Subscription subscription) {
+            synchronized (this) {
+                countSubscription = subscription;
+            }
+            if (terminated.get()) {
+                subscription.cancel();
+            } else {
+                subscription.request(Long.MAX_VALUE);
+            }
+        }
+
+        private void onCount(final C value) {
+            synchronized (this) {
+                if (total == null) {
+                    total = countMapper.applyAsLong(value);
+                }
+            }
+        }
+
+        private void onCountComplete() {
+            final boolean missing;
+            synchronized (this) {
+                missing = total == null;
+            }
+            if (missing) {
+                fail(new IllegalStateException("Count completed without any value"));
+            } else {
+                tryEmit();
+            }
+        }
+
+        private void tryEmit() {
+            final P page;
+            synchronized (this) {
+                if (!contentDone) {
+                    return;
+                }
+                final P withoutTotal = assembler.assemble(rows);
+                if (withoutTotal != null) {
+                    page = withoutTotal;
+                } else if (total != null) {
+                    page = assembler.assemble(rows, total);
+                } else if (count == null) {
+                    page = null;
+                } else {
+                    // wait for count
+                    return;
+                }
+            }
+            if (page == null) {
+                fail(new IllegalStateException("Page cannot be built without count"));
+                return;
+            }
+            if (terminated.compareAndSet(false, true)) {
+                // count is not needed anymore if not done yet
+                cancelUpstream();
+                downstream.onNext(page);
+                downstream.onComplete();
+            }
+        }
+
+        private void fail(final Throwable error) {
+            if (terminated.compareAndSet(false, true)) {
+                cancelUpstream();
+                downstream.onError(error);
+            }
+        }
+
+        private void cancelUpstream() {
+            final Subscription contentToCancel;
+            final Subscription countToCancel;
+            synchronized (this) {
+                contentToCancel = contentSubscription;
+                countToCancel = countSubscription;
+            }
+            if (contentToCancel != null) {
+                contentToCancel.cancel();
+            }
+            if (countToCancel != null) {
+                countToCancel.cancel();
+            }
+        }
+
+        private final class ContentSubscriber implements Subscriber<R> {
+
+            @Override
+            public void onSubscribe(final Subscription subscription) {
+                onContentSubscribe(subscription);
+            }
+
+            @Override
+            public void onNext(final R row) {
+                onRow(row);
+            }
+
+            @Override
+            public void onError(final Throwable error) {
+                fail(error);
+            }
+
+            @Override
+            public void onComplete() {
+                onContentComplete();
+            }
+        }
+
+        private final class CountSubscriber implements Subscriber<C> {
+
+            @Override
+            public void onSubscribe(final Subscription subscription) {
+                onCountSubscribe(subscription);
+            }
+
+            @Override
+            public void onNext(final C value) {
+                onCount(value);
+            }
+
+            @Override
+            public void onError(final Throwable error) {
+                fail(error);
+            }
+
+            @Override
+            public void onComplete() {
+                onCountComplete();
+            }
+        }
+    }
+}
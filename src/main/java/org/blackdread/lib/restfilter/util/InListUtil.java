@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Helpers for values of {@code in} and {@code notIn} filters rendered in queries.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+public final class InListUtil {
+
+    private InListUtil() {
+    }
+
+    /**
+     * @param size number of values
+     * @return next power of two (or size if already a power of two), 0 and 1 are not changed
+     */
+    public static int paddedSize(final int size) {
+        if (size <= 1) {
+            return size;
+        }
+        final int highestOneBit = Integer.highestOneBit(size);
+        return highestOneBit == size ? size : highestOneBit << 1;
+    }
+
+    /**
+     * Pad values by repeating the last one up to {@link #paddedSize(int)} so queries with close number of values have the same SQL text.
+     *
+     * @param values values
+     * @param <T>    type of values
+     * @return values if already padded, a new list otherwise
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Collection<? extends T> pad(final Collection<? extends T> values) {
+        final int size = values.size();
+        final int paddedSize = paddedSize(size);
+        if (paddedSize == size) {
+            return values;
+        }
+        if (values instanceof SortedPrimitiveList) {
+            // view, values are not boxed into a new list
+            return (Collection<? extends T>) ((SortedPrimitiveList<?>) values).padded(paddedSize);
+        }
+        final List<T> padded = new ArrayList<>(paddedSize);
+        padded.addAll(values);
+        final T last = padded.get(size - 1);
+        while (padded.size() < paddedSize) {
+            padded.add(last);
+        }
+        return padded;
+    }
+
+    /**
+     * @param values  values
+     * @param maxSize max size of each chunk
+     * @param <T>     type of values
+     * @return chunks of values in iteration order, last chunk may be smaller
+     * @throws IllegalArgumentException if maxSize is lower than 1
+     */
+    public static <T> List<List<T>> chunk(final Collection<? extends T> values, final int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Max size must be greater than 0, given: " + maxSize);
+        }
+        if (values.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (values instanceof SortedPrimitiveList) {
+            // immutable so chunks are views
+            return chunkView((SortedPrimitiveList<?>) values, maxSize);
+        }
+        final List<List<T>> chunks = new ArrayList<>((values.size() + maxSize - 1) / maxSize);
+        List<T> chunk = null;
+        for (final T value : values) {
+            if (chunk == null || chunk.size() == maxSize) {
+                chunk = new ArrayList<>(maxSize);
+                chunks.add(chunk);
+            }
+            chunk.add(value);
+        }
+        return chunks;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<List<T>> chunkView(final SortedPrimitiveList<?> values, final int maxSize) {
+        final int size = values.size();
+        final List<List<T>> chunks = new ArrayList<>((size + maxSize - 1) / maxSize);
+        for (int from = 0; from < size; from += maxSize) {
+            chunks.add((List<T>) values.subList(from, Math.min(size, from + maxSize)));
+        }
+        return chunks;
+    }
+}
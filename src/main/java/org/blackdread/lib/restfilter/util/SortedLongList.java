@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable sorted list of distinct {@code long} values.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ * @see SortedPrimitiveList
+ */
+public final class SortedLongList extends SortedPrimitiveList<Long> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long[] values;
+
+    private SortedLongList(final long[] values) {
+        this.values = values;
+    }
+
+    /**
+     * @param values values in any order, duplicates are removed
+     * @return sorted list of distinct values
+     */
+    public static SortedLongList of(final long... values) {
+        final long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return new SortedLongList(distinct(sorted));
+    }
+
+    /**
+     * @param values values in any order, duplicates are removed
+     * @return sorted list of distinct values
+     * @throws NullPointerException if a value is null
+     */
+    public static SortedLongList of(final Collection<Long> values) {
+        if (values instanceof SortedLongList) {
+            return (SortedLongList) values;
+        }
+        final long[] sorted = new long[values.size()];
+        int i = 0;
+        for (final Long value : values) {
+            sorted[i++] = value;
+        }
+        Arrays.sort(sorted);
+        return new SortedLongList(distinct(sorted));
+    }
+
+    public long getLong(final int index) {
+        return values[index];
+    }
+
+    public boolean containsLong(final long value) {
+        return Arrays.binarySearch(values, value) >= 0;
+    }
+
+    /**
+     * @return copy of values
+     */
+    public long[] toLongArray() {
+        return values.clone();
+    }
+
+    @Override
+    public Long get(final int index) {
+        return values[index];
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public String format(final int index) {
+        return Long.toString(values[index]);
+    }
+
+    @Override
+    int indexOfValue(final Object o) {
+        if (!(o instanceof Long)) {
+            return -1;
+        }
+        final int index = Arrays.binarySearch(values, (Long) o);
+        return index < 0 ? -1 : index;
+    }
+
+    @Override
+    int computeHashCode() {
+        int hashCode = 1;
+        for (final long value : values) {
+            hashCode = 31 * hashCode + Long.hashCode(value);
+        }
+        return hashCode;
+    }
+
+    @Override
+    boolean arrayEquals(final SortedPrimitiveList<?> other) {
+        return Arrays.equals(values, ((SortedLongList) other).values);
+    }
+
+    private static long[] distinct(final long[] sorted) {
+        if (sorted.length < 2) {
+            return sorted;
+        }
+        int size = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[size - 1]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return size == sorted.length ? sorted : Arrays.copyOf(sorted, size);
+    }
+}
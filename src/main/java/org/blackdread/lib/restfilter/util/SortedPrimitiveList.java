@@ -0,0 +1,147 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.util;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list view of a sorted array of distinct primitive values, elements are boxed only when read through the {@link List} API.
+ * <p>
+ * {@link #contains(Object)} and {@link #indexOf(Object)} are binary searches, {@link #equals(Object)} and {@link #hashCode()} compare/hash the array directly
+ * (hash is the same as any other list of the same boxed values).
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @param <T> boxed type of elements
+ * @author Yoann CAPLAIN
+ */
+public abstract class SortedPrimitiveList<T extends Number & Comparable<T>> extends AbstractList<T> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Lazily computed (no lock used), 0 means not computed.
+     */
+    private transient int hash;
+
+    SortedPrimitiveList() {
+    }
+
+    /**
+     * @param index index
+     * @return value at index formatted in base 10 without boxing
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public abstract String format(int index);
+
+    /**
+     * @param size size to pad to, greater or equal to {@link #size()}
+     * @return view of values followed by the last value repeated up to size
+     * @see InListUtil#pad(java.util.Collection)
+     */
+    public List<T> padded(final int size) {
+        final int actualSize = size();
+        if (size < actualSize) {
+            throw new IllegalArgumentException(String.format("Padded size %d is lower than size %d", size, actualSize));
+        }
+        if (size == actualSize) {
+            return this;
+        }
+        return new PaddedView<>(this, size);
+    }
+
+    @Override
+    public int indexOf(final Object o) {
+        return o instanceof Number ? indexOfValue(o) : -1;
+    }
+
+    @Override
+    public int lastIndexOf(final Object o) {
+        // values are distinct
+        return indexOf(o);
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = computeHashCode();
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o != null && o.getClass() == getClass()) {
+            return arrayEquals((SortedPrimitiveList<?>) o);
+        }
+        return super.equals(o);
+    }
+
+    /**
+     * @param o number of the boxed type of this list
+     * @return index of value or negative if not found
+     */
+    abstract int indexOfValue(Object o);
+
+    abstract int computeHashCode();
+
+    abstract boolean arrayEquals(SortedPrimitiveList<?> other);
+
+    private static final class PaddedView<T extends Number & Comparable<T>> extends AbstractList<T> implements RandomAccess {
+
+        private final SortedPrimitiveList<T> values;
+
+        private final int size;
+
+        private PaddedView(final SortedPrimitiveList<T> values, final int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        public T get(final int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return values.get(Math.min(index, values.size() - 1));
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
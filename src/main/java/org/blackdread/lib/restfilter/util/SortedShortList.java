@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable sorted list of distinct {@code short} values.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ * @see SortedPrimitiveList
+ */
+public final class SortedShortList extends SortedPrimitiveList<Short> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final short[] values;
+
+    private SortedShortList(final short[] values) {
+        this.values = values;
+    }
+
+    /**
+     * @param values values in any order, duplicates are removed
+     * @return sorted list of distinct values
+     */
+    public static SortedShortList of(final short... values) {
+        final short[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return new SortedShortList(distinct(sorted));
+    }
+
+    /**
+     * @param values values in any order, duplicates are removed
+     * @return sorted list of distinct values
+     * @throws NullPointerException if a value is null
+     */
+    public static SortedShortList of(final Collection<Short> values) {
+        if (values instanceof SortedShortList) {
+            return (SortedShortList) values;
+        }
+        final short[] sorted = new short[values.size()];
+        int i = 0;
+        for (final Short value : values) {
+            sorted[i++] = value;
+        }
+        Arrays.sort(sorted);
+        return new SortedShortList(distinct(sorted));
+    }
+
+    public short getShort(final int index) {
+        return values[index];
+    }
+
+    public boolean containsShort(final short value) {
+        return Arrays.binarySearch(values, value) >= 0;
+    }
+
+    /**
+     * @return copy of values
+     */
+    public short[] toShortArray() {
+        return values.clone();
+    }
+
+    @Override
+    public Short get(final int index) {
+        return values[index];
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public String format(final int index) {
+        return Short.toString(values[index]);
+    }
+
+    @Override
+    int indexOfValue(final Object o) {
+        if (!(o instanceof Short)) {
+            return -1;
+        }
+        final int index = Arrays.binarySearch(values, (Short) o);
+        return index < 0 ? -1 : index;
+    }
+
+    @Override
+    int computeHashCode() {
+        int hashCode = 1;
+        for (final short value : values) {
+            hashCode = 31 * hashCode + Short.hashCode(value);
+        }
+        return hashCode;
+    }
+
+    @Override
+    boolean arrayEquals(final SortedPrimitiveList<?> other) {
+        return Arrays.equals(values, ((SortedShortList) other).values);
+    }
+
+    private static short[] distinct(final short[] sorted) {
+        if (sorted.length < 2) {
+            return sorted;
+        }
+        int size = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[size - 1]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return size == sorted.length ? sorted : Arrays.copyOf(sorted, size);
+    }
+}
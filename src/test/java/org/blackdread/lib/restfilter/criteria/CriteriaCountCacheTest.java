@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.criteria;
+
+import org.blackdread.lib.restfilter.filter.LongFilter;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+class CriteriaCountCacheTest {
+
+    private final AtomicInteger exactCounts = new AtomicInteger();
+
+    @Test
+    void countOncePerCriteria() {
+        final CriteriaCountCache countCache = new CriteriaCountCache(CriteriaResultCacheBuilder.newBuilder().build(), Collections.singletonList("item"));
+
+        assertEquals(42L, countCache.count(criteria(1L, 2L), () -> exactCount(42L)));
+        assertEquals(42L, countCache.count(criteria(2L, 1L), () -> exactCount(43L)));
+        assertEquals(42L, countCache.counter(criteria(1L, 2L), () -> exactCount(44L)).getAsLong());
+        assertEquals(1, exactCounts.get());
+
+        assertEquals(7L, countCache.count(criteria(3L), () -> exactCount(7L)));
+        assertEquals(2, exactCounts.get());
+
+        countCache.getCache().invalidateTable("item");
+        assertEquals(8L, countCache.count(criteria(3L), () -> exactCount(8L)));
+    }
+
+    @Test
+    void estimateAboveThreshold() {
+        final CriteriaCountCache countCache = new CriteriaCountCache(CriteriaResultCacheBuilder.newBuilder().build(), Collections.emptyList(), 1000L);
+
+        assertEquals(5000L, countCache.count(criteria(1L), () -> exactCount(4900L), () -> 5000L));
+        assertEquals(0, exactCounts.get());
+
+        assertEquals(90L, countCache.count(criteria(2L), () -> exactCount(90L), () -> 100L));
+        assertEquals(1, exactCounts.get());
+
+        // without estimate supplier
+        assertEquals(4900L, countCache.count(criteria(3L), () -> exactCount(4900L)));
+
+        assertThrows(IllegalArgumentException.class, () -> new CriteriaCountCache(CriteriaResultCacheBuilder.newBuilder().build(), Collections.emptyList(), -1L));
+    }
+
+    @Test
+    void noEstimateByDefault() {
+        final CriteriaCountCache countCache = new CriteriaCountCache(CriteriaResultCacheBuilder.newBuilder().build(), Collections.emptyList());
+        assertEquals(4900L, countCache.count(criteria(1L), () -> exactCount(4900L), () -> 5000L));
+    }
+
+    private long exactCount(final long count) {
+        exactCounts.incrementAndGet();
+        return count;
+    }
+
+    private static MyCriteria criteria(final Long... ids) {
+        final MyCriteria criteria = new MyCriteria();
+        criteria.id = new LongFilter();
+        criteria.id.setIn(Arrays.asList(ids));
+        return criteria;
+    }
+
+    static class MyCriteria implements Criteria {
+
+        private LongFilter id;
+
+        @Override
+        public Criteria copy() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.criteria;
+
+import org.blackdread.lib.restfilter.criteria.annotation.CriteriaInclude;
+import org.blackdread.lib.restfilter.filter.BigDecimalFilter;
+import org.blackdread.lib.restfilter.filter.LongFilter;
+import org.blackdread.lib.restfilter.filter.PrimitiveLongFilter;
+import org.blackdread.lib.restfilter.filter.StringFilter;
+import org.blackdread.lib.restfilter.util.InListUtil;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+class CriteriaFingerprintTest {
+
+    @Test
+    void sameForSameCriteria() {
+        assertEquals(CriteriaFingerprint.of(criteria(1L, 2L)), CriteriaFingerprint.of(criteria(1L, 2L)));
+        assertEquals(CriteriaFingerprint.of(null), CriteriaFingerprint.of(null));
+        assertNotEquals(CriteriaFingerprint.of(null), CriteriaFingerprint.of(new MyCriteria()));
+    }
+
+    @Test
+    void inIsWithoutOrder() {
+        assertEquals(CriteriaFingerprint.of(criteria(1L, 2L, 3L)), CriteriaFingerprint.of(criteria(3L, 1L, 2L, 1L)));
+        assertNotEquals(CriteriaFingerprint.of(criteria(1L, 2L)), CriteriaFingerprint.of(criteria(1L, 3L)));
+        assertNotEquals(CriteriaFingerprint.of(criteria(1L, 2L)), CriteriaFingerprint.of(criteria(1L, 2L, 3L)));
+    }
+
+    @Test
+    void primitiveFilterSameAsBoxedFilter() {
+        final MyCriteria criteria = new MyCriteria();
+        criteria.ids = new PrimitiveLongFilter().inValues(3, 1, 2);
+        final MyCriteria other = new MyCriteria();
+        other.ids = new PrimitiveLongFilter();
+        other.ids.setIn(Arrays.asList(1L, 2L, 3L));
+        assertEquals(CriteriaFingerprint.of(criteria), CriteriaFingerprint.of(other));
+    }
+
+    @Test
+    void filterWithoutValueIsSameAsNoFilter() {
+        final MyCriteria criteria = new MyCriteria();
+        criteria.name = new StringFilter();
+        assertEquals(CriteriaFingerprint.of(new MyCriteria()), CriteriaFingerprint.of(criteria));
+    }
+
+    @Test
+    void filterIsCanonical() {
+        final MyCriteria criteria = new MyCriteria();
+        criteria.id = new LongFilter();
+        criteria.id.setGreaterThan(1L);
+        criteria.id.setGreaterThanOrEqual(3L);
+        criteria.id.setSpecified(true);
+        final MyCriteria other = new MyCriteria();
+        other.id = new LongFilter();
+        other.id.setGreaterThanOrEqual(3L);
+        assertEquals(CriteriaFingerprint.of(criteria), CriteriaFingerprint.of(other));
+
+        criteria.total = new BigDecimalFilter();
+        criteria.total.setEquals(new BigDecimal("1.50"));
+        other.total = new BigDecimalFilter();
+        other.total.setEquals(new BigDecimal("1.5"));
+        assertEquals(CriteriaFingerprint.of(criteria), CriteriaFingerprint.of(other));
+    }
+
+    @Test
+    void stringIgnoreCase() {
+        final MyCriteria criteria = new MyCriteria();
+        criteria.name = new StringFilter();
+        criteria.name.setEquals("abc");
+        final MyCriteria other = new MyCriteria();
+        other.name = new StringFilter();
+        other.name.setEquals("ABC");
+        assertEquals(CriteriaFingerprint.of(criteria), CriteriaFingerprint.of(other));
+
+        other.name.setIgnoreCase(false);
+        assertNotEquals(CriteriaFingerprint.of(criteria), CriteriaFingerprint.of(other));
+    }
+
+    @Test
+    void includedValues() {
+        final MyCriteria criteria = criteria(1L);
+        criteria.limit = 5L;
+        criteria.tags = Arrays.asList("a", "b");
+        final MyCriteria other = criteria(1L);
+        other.limit = 5L;
+        other.tags = Arrays.asList("b", "a");
+        // list of values keeps its order
+        assertNotEquals(CriteriaFingerprint.of(criteria), CriteriaFingerprint.of(other));
+        other.tags = Arrays.asList("a", "b");
+        assertEquals(CriteriaFingerprint.of(criteria), CriteriaFingerprint.of(other));
+        other.limit = 6L;
+        assertNotEquals(CriteriaFingerprint.of(criteria), CriteriaFingerprint.of(other));
+    }
+
+    @Test
+    void valuesAreTyped() {
+        assertNotEquals(CriteriaFingerprint.newHasher().putValue(1L).fingerprint(), CriteriaFingerprint.newHasher().putValue("1").fingerprint());
+        assertEquals(CriteriaFingerprint.newHasher().putValue(1L).fingerprint(), CriteriaFingerprint.newHasher().putValue(1).fingerprint());
+        assertNotEquals(CriteriaFingerprint.newHasher().putValue("ab").putValue("c").fingerprint(), CriteriaFingerprint.newHasher().putValue("a").putValue("bc").fingerprint());
+        assertEquals(CriteriaFingerprint.newHasher().putValue(new HashSet<>(Arrays.asList(1, 2))).fingerprint(),
+            CriteriaFingerprint.newHasher().putValue(new HashSet<>(Arrays.asList(2, 1))).fingerprint());
+    }
+
+    @Test
+    void hasherCanContinueAfterFingerprint() {
+        final CriteriaFingerprint.Hasher hasher = CriteriaFingerprint.newHasher().putCriteria(criteria(1L));
+        final CriteriaFingerprint first = hasher.fingerprint();
+        assertEquals(first, hasher.fingerprint());
+        assertNotEquals(first, hasher.putLong(7).fingerprint());
+        assertEquals(CriteriaFingerprint.newHasher().putCriteria(criteria(1L)).putLong(7).fingerprint(), hasher.fingerprint());
+    }
+
+    @Test
+    void shapeIgnoresValues() {
+        assertEquals(CriteriaFingerprint.shapeOf(criteria(1L, 2L)), CriteriaFingerprint.shapeOf(criteria(3L, 4L)));
+        assertNotEquals(CriteriaFingerprint.shapeOf(criteria(1L, 2L)), CriteriaFingerprint.shapeOf(criteria(1L, 2L, 3L)));
+        assertEquals(CriteriaFingerprint.newHasher().putCriteriaShape(criteria(1L, 2L, 3L), InListUtil::paddedSize).fingerprint(),
+            CriteriaFingerprint.newHasher().putCriteriaShape(criteria(1L, 2L, 3L, 4L), InListUtil::paddedSize).fingerprint());
+        assertNotEquals(CriteriaFingerprint.shapeOf(criteria(1L)), CriteriaFingerprint.shapeOf(new MyCriteria()));
+
+        final MyCriteria criteria = new MyCriteria();
+        criteria.name = new StringFilter();
+        criteria.name.setContains("abc");
+        criteria.name.setSpecified(true);
+        final MyCriteria other = new MyCriteria();
+        other.name = new StringFilter();
+        other.name.setContains("def");
+        other.name.setSpecified(true);
+        assertEquals(CriteriaFingerprint.shapeOf(criteria), CriteriaFingerprint.shapeOf(other));
+
+        // change the SQL
+        other.name.setSpecified(false);
+        assertNotEquals(CriteriaFingerprint.shapeOf(criteria), CriteriaFingerprint.shapeOf(other));
+        other.name.setSpecified(true);
+        other.name.setIgnoreCase(false);
+        assertNotEquals(CriteriaFingerprint.shapeOf(criteria), CriteriaFingerprint.shapeOf(other));
+        other.name.setIgnoreCase(true);
+        other.limit = 5L;
+        assertNotEquals(CriteriaFingerprint.shapeOf(criteria), CriteriaFingerprint.shapeOf(other));
+    }
+
+    @Test
+    void shapeOfOptimizedFilter() {
+        final MyCriteria criteria = new MyCriteria();
+        criteria.id = new LongFilter();
+        criteria.id.setGreaterThan(1L);
+        criteria.id.setGreaterThanOrEqual(2L);
+        final MyCriteria other = new MyCriteria();
+        other.id = new LongFilter();
+        other.id.setGreaterThan(5L);
+        other.id.setGreaterThanOrEqual(2L);
+        // optimized filters keep 'greaterThanOrEqual' and 'greaterThan'
+        assertNotEquals(CriteriaFingerprint.shapeOf(criteria), CriteriaFingerprint.shapeOf(other));
+
+        other.id.setGreaterThan(0L);
+        assertEquals(CriteriaFingerprint.shapeOf(criteria), CriteriaFingerprint.shapeOf(other));
+
+        // never matching
+        other.id.setLessThan(1L);
+        criteria.id.setLessThan(3L);
+        assertNotEquals(CriteriaFingerprint.shapeOf(criteria), CriteriaFingerprint.shapeOf(other));
+    }
+
+    @Test
+    void hexString() {
+        final CriteriaFingerprint fingerprint = new CriteriaFingerprint(0x0123456789abcdefL, -1L);
+        assertEquals("0123456789abcdefffffffffffffffff", fingerprint.toHexString());
+        assertEquals(fingerprint.toHexString(), fingerprint.toString());
+    }
+
+    @Test
+    void noCollision() {
+        final Random random = new Random(42);
+        final Set<CriteriaFingerprint> fingerprints = new HashSet<>();
+        final Set<MyCriteria> criteriaSet = new HashSet<>();
+        for (int i = 0; i < 50_000; i++) {
+            final MyCriteria criteria = new MyCriteria();
+            criteria.id = new LongFilter();
+            criteria.id.setGreaterThanOrEqual((long) random.nextInt(100_000));
+            criteria.name = new StringFilter();
+            criteria.name.setContains(Integer.toString(random.nextInt(1_000)));
+            if (criteriaSet.add(criteria)) {
+                assertTrue(fingerprints.add(CriteriaFingerprint.of(criteria)), criteria::toString);
+            }
+        }
+    }
+
+    private static MyCriteria criteria(final Long... ids) {
+        final MyCriteria criteria = new MyCriteria();
+        criteria.id = new LongFilter();
+        criteria.id.setIn(Arrays.asList(ids));
+        return criteria;
+    }
+
+    static class MyCriteria implements Criteria {
+
+        private LongFilter id;
+
+        private PrimitiveLongFilter ids;
+
+        private StringFilter name;
+
+        private BigDecimalFilter total;
+
+        @CriteriaInclude
+        private Long limit;
+
+        @CriteriaInclude
+        private List<String> tags;
+
+        @Override
+        public Criteria copy() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final MyCriteria that = (MyCriteria) o;
+            return Objects.equals(id, that.id) && Objects.equals(name, that.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, name);
+        }
+
+        @Override
+        public String toString() {
+            return "MyCriteria{id=" + id + ", name=" + name + '}';
+        }
+    }
+}
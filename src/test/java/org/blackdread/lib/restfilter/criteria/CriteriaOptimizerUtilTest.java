@@ -0,0 +1,369 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.criteria;
+
+import org.blackdread.lib.restfilter.filter.BigDecimalFilter;
+import org.blackdread.lib.restfilter.filter.LongFilter;
+import org.blackdread.lib.restfilter.filter.StringFilter;
+import org.blackdread.lib.restfilter.memory.PredicateFilterUtil;
+import org.blackdread.lib.restfilter.util.SortedLongList;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+class CriteriaOptimizerUtilTest {
+
+    private static final List<Long> LONG_VALUES = Arrays.asList(null, -1L, 0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L);
+
+    private static final List<String> STRING_VALUES = Arrays.asList(null, "", "a", "A", "b", "ab", "Ab", "x");
+
+    @Test
+    void nullFilter() {
+        assertNull(CriteriaOptimizerUtil.optimize(null));
+        assertFalse(CriteriaOptimizerUtil.isUnsatisfiable(null));
+        assertFalse(CriteriaOptimizerUtil.isAnyFilterUnsatisfiable(null));
+    }
+
+    @Test
+    void filterIsNotModified() {
+        final LongFilter filter = new LongFilter();
+        filter.setGreaterThan(1L);
+        filter.setGreaterThanOrEqual(3L);
+        filter.setNotIn(Arrays.asList(9L, 5L));
+        final LongFilter copy = filter.copy();
+
+        final LongFilter optimized = CriteriaOptimizerUtil.optimize(filter);
+
+        assertNotSame(filter, optimized);
+        assertEquals(copy, filter);
+    }
+
+    @Test
+    void rangeBoundsAreMerged() {
+        final LongFilter filter = new LongFilter();
+        filter.setGreaterThan(1L);
+        filter.setGreaterThanOrEqual(3L);
+        filter.setLessThan(8L);
+        filter.setLessThanOrEqual(8L);
+
+        final LongFilter optimized = CriteriaOptimizerUtil.optimize(filter);
+
+        assertNull(optimized.getGreaterThan());
+        assertEquals(3L, optimized.getGreaterThanOrEqual());
+        assertEquals(8L, optimized.getLessThan());
+        assertNull(optimized.getLessThanOrEqual());
+    }
+
+    @Test
+    void rangeOfSingleValueIsEquals() {
+        final LongFilter filter = new LongFilter();
+        filter.setGreaterThanOrEqual(5L);
+        filter.setLessThanOrEqual(5L);
+        filter.setSpecified(true);
+        filter.setNotIn(Arrays.asList(1L, 9L));
+
+        final LongFilter expected = new LongFilter();
+        expected.setEquals(5L);
+        assertEquals(expected, CriteriaOptimizerUtil.optimize(filter));
+
+        filter.setNotEquals(5L);
+        assertTrue(CriteriaOptimizerUtil.isUnsatisfiable(filter));
+    }
+
+    @Test
+    void emptyRangeIsUnsatisfiable() {
+        final LongFilter filter = new LongFilter();
+        filter.setGreaterThan(10L);
+        filter.setLessThan(5L);
+        assertTrue(CriteriaOptimizerUtil.isUnsatisfiable(filter));
+
+        final LongFilter sameBound = new LongFilter();
+        sameBound.setGreaterThanOrEqual(5L);
+        sameBound.setLessThan(5L);
+        assertTrue(CriteriaOptimizerUtil.isUnsatisfiable(sameBound));
+
+        final LongFilter optimized = CriteriaOptimizerUtil.optimize(filter);
+        assertTrue(CriteriaOptimizerUtil.isNeverMatching(optimized));
+        assertNull(optimized.getGreaterThan());
+        assertNull(optimized.getLessThan());
+    }
+
+    @Test
+    void valuesOutsideRangeAreRemoved() {
+        final LongFilter filter = new LongFilter();
+        filter.setGreaterThan(2L);
+        filter.setLessThanOrEqual(8L);
+        filter.setNotIn(Arrays.asList(1L, 9L, 5L, 2L, 5L, 8L));
+        filter.setNotEquals(10L);
+
+        final LongFilter optimized = CriteriaOptimizerUtil.optimize(filter);
+
+        assertEquals(Arrays.asList(5L, 8L), optimized.getNotIn());
+        assertNull(optimized.getNotEquals());
+
+        filter.setNotIn(Arrays.asList(1L, 9L));
+        assertNull(CriteriaOptimizerUtil.optimize(filter).getNotIn());
+    }
+
+    @Test
+    void notEqualsInNotInIsRemoved() {
+        final LongFilter filter = new LongFilter();
+        filter.setNotIn(Arrays.asList(3L, 1L));
+        filter.setNotEquals(3L);
+
+        final LongFilter optimized = CriteriaOptimizerUtil.optimize(filter);
+
+        assertNull(optimized.getNotEquals());
+        assertEquals(Arrays.asList(1L, 3L), optimized.getNotIn());
+    }
+
+    @Test
+    void specifiedFalseWithComparisonIsUnsatisfiable() {
+        final LongFilter filter = new LongFilter();
+        filter.setSpecified(false);
+        assertFalse(CriteriaOptimizerUtil.isUnsatisfiable(filter));
+        filter.setNotIn(Collections.emptyList());
+        assertFalse(CriteriaOptimizerUtil.isUnsatisfiable(filter));
+        filter.setGreaterThan(1L);
+        assertTrue(CriteriaOptimizerUtil.isUnsatisfiable(filter));
+        filter.setGreaterThan(null);
+        filter.setNotEquals(1L);
+        assertTrue(CriteriaOptimizerUtil.isUnsatisfiable(filter));
+    }
+
+    @Test
+    void specifiedTrueWithComparisonIsRemoved() {
+        final LongFilter filter = new LongFilter();
+        filter.setSpecified(true);
+        filter.setLessThan(3L);
+        assertNull(CriteriaOptimizerUtil.optimize(filter).getSpecified());
+    }
+
+    @Test
+    void equalsTakesPrecedence() {
+        final LongFilter filter = new LongFilter();
+        filter.setEquals(3L);
+        filter.setIn(Arrays.asList(1L, 2L));
+        filter.setSpecified(false);
+        filter.setGreaterThan(10L);
+
+        final LongFilter expected = new LongFilter();
+        expected.setEquals(3L);
+        assertEquals(expected, CriteriaOptimizerUtil.optimize(filter));
+        assertFalse(CriteriaOptimizerUtil.isUnsatisfiable(filter));
+    }
+
+    @Test
+    void inIsDistinctAndSorted() {
+        final LongFilter filter = new LongFilter();
+        filter.setIn(Arrays.asList(3L, null, 1L, 3L));
+        filter.setGreaterThan(10L);
+
+        final LongFilter optimized = CriteriaOptimizerUtil.optimize(filter);
+
+        assertEquals(Arrays.asList(1L, 3L), optimized.getIn());
+        assertTrue(optimized.getIn() instanceof SortedLongList);
+        assertNull(optimized.getGreaterThan());
+
+        filter.setIn(Arrays.asList(4L, 4L));
+        assertEquals(4L, CriteriaOptimizerUtil.optimize(filter).getEquals());
+        assertNull(CriteriaOptimizerUtil.optimize(filter).getIn());
+
+        filter.setIn(Collections.singletonList(null));
+        assertTrue(CriteriaOptimizerUtil.isUnsatisfiable(filter));
+        filter.setIn(Collections.emptyList());
+        assertTrue(CriteriaOptimizerUtil.isUnsatisfiable(filter));
+    }
+
+    @Test
+    void notInWithNullIsUnsatisfiable() {
+        final LongFilter filter = new LongFilter();
+        filter.setNotIn(Arrays.asList(1L, null));
+        assertTrue(CriteriaOptimizerUtil.isUnsatisfiable(filter));
+    }
+
+    @Test
+    void bigDecimalValuesAreComparedAsNumbers() {
+        final BigDecimalFilter filter = new BigDecimalFilter();
+        filter.setIn(Arrays.asList(new BigDecimal("2"), new BigDecimal("1.0"), new BigDecimal("1.00")));
+        assertEquals(Arrays.asList(new BigDecimal("1.0"), new BigDecimal("2")), CriteriaOptimizerUtil.optimize(filter).getIn());
+    }
+
+    @Test
+    void stringIn() {
+        final StringFilter filter = new StringFilter();
+        filter.setIn(Arrays.asList("b", "A", "a"));
+        assertEquals(Arrays.asList("A", "b"), CriteriaOptimizerUtil.optimize(filter).getIn());
+
+        filter.setIn(Collections.singletonList("a"));
+        assertEquals(Collections.singletonList("a"), CriteriaOptimizerUtil.optimize(filter).getIn());
+
+        filter.setIgnoreCase(false);
+        filter.setIn(Arrays.asList("b", "A", "a"));
+        assertEquals(Arrays.asList("A", "a", "b"), CriteriaOptimizerUtil.optimize(filter).getIn());
+        filter.setIn(Collections.singletonList("a"));
+        assertEquals("a", CriteriaOptimizerUtil.optimize(filter).getEquals());
+    }
+
+    @Test
+    void stringContains() {
+        final StringFilter filter = new StringFilter();
+        filter.setNotContains("");
+        assertTrue(CriteriaOptimizerUtil.isUnsatisfiable(filter));
+
+        filter.setContains("abc");
+        filter.setNotContains("b");
+        assertTrue(CriteriaOptimizerUtil.isUnsatisfiable(filter));
+
+        filter.setContains("");
+        filter.setNotContains(null);
+        final StringFilter optimized = CriteriaOptimizerUtil.optimize(filter);
+        assertNull(optimized.getContains());
+        assertEquals(true, optimized.getSpecified());
+    }
+
+    @Test
+    void sameRowsAsBeforeOptimizationForLongFilter() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            final LongFilter filter = randomLongFilter(random);
+            final LongFilter optimized = CriteriaOptimizerUtil.optimize(filter);
+            final Predicate<Long> expected = PredicateFilterUtil.buildPredicate(filter);
+            final Predicate<Long> actual = PredicateFilterUtil.buildPredicate(optimized);
+            for (final Long value : LONG_VALUES) {
+                assertEquals(expected.test(value), actual.test(value), () -> filter + " -> " + optimized + " for " + value);
+            }
+            if (CriteriaOptimizerUtil.isNeverMatching(optimized)) {
+                assertTrue(LONG_VALUES.stream().noneMatch(expected), filter::toString);
+            }
+        }
+    }
+
+    @Test
+    void sameRowsAsBeforeOptimizationForStringFilter() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            final StringFilter filter = randomStringFilter(random);
+            final StringFilter optimized = CriteriaOptimizerUtil.optimize(filter);
+            final Predicate<String> expected = PredicateFilterUtil.buildPredicate(filter);
+            final Predicate<String> actual = PredicateFilterUtil.buildPredicate(optimized);
+            for (final String value : STRING_VALUES) {
+                assertEquals(expected.test(value), actual.test(value), () -> filter + " -> " + optimized + " for " + value);
+            }
+        }
+    }
+
+    @Test
+    void criteria() {
+        final MyCriteria criteria = new MyCriteria();
+        criteria.name = new StringFilter();
+        criteria.name.setIn(Arrays.asList("b", "a", "b"));
+        assertFalse(CriteriaOptimizerUtil.isAnyFilterUnsatisfiable(criteria));
+
+        final MyCriteria optimized = CriteriaOptimizerUtil.optimizeFilters(criteria);
+        assertNotSame(criteria, optimized);
+        assertEquals(Arrays.asList("b", "a", "b"), criteria.name.getIn());
+        assertEquals(Arrays.asList("a", "b"), optimized.name.getIn());
+        assertNull(optimized.id);
+
+        criteria.id = new LongFilter();
+        criteria.id.setGreaterThan(10L);
+        criteria.id.setLessThan(5L);
+        assertTrue(CriteriaOptimizerUtil.isAnyFilterUnsatisfiable(criteria));
+        assertTrue(CriteriaOptimizerUtil.isNeverMatching(CriteriaOptimizerUtil.optimizeFilters(criteria).id));
+    }
+
+    private static LongFilter randomLongFilter(final Random random) {
+        final LongFilter filter = new LongFilter();
+        if (random.nextInt(5) == 0) filter.setEquals(randomLong(random));
+        if (random.nextInt(5) == 0) filter.setIn(randomList(random, () -> randomLong(random)));
+        if (random.nextInt(3) == 0) filter.setNotEquals(randomLong(random));
+        if (random.nextInt(3) == 0) filter.setNotIn(randomList(random, () -> randomLong(random)));
+        if (random.nextInt(4) == 0) filter.setSpecified(random.nextBoolean());
+        if (random.nextInt(3) == 0) filter.setGreaterThan(randomLong(random));
+        if (random.nextInt(3) == 0) filter.setGreaterThanOrEqual(randomLong(random));
+        if (random.nextInt(3) == 0) filter.setLessThan(randomLong(random));
+        if (random.nextInt(3) == 0) filter.setLessThanOrEqual(randomLong(random));
+        return filter;
+    }
+
+    private static StringFilter randomStringFilter(final Random random) {
+        final StringFilter filter = new StringFilter();
+        filter.setIgnoreCase(random.nextBoolean());
+        if (random.nextInt(5) == 0) filter.setEquals(randomString(random));
+        if (random.nextInt(5) == 0) filter.setIn(randomList(random, () -> randomString(random)));
+        if (random.nextInt(3) == 0) filter.setNotEquals(randomString(random));
+        if (random.nextInt(3) == 0) filter.setNotIn(randomList(random, () -> randomString(random)));
+        if (random.nextInt(4) == 0) filter.setSpecified(random.nextBoolean());
+        if (random.nextInt(3) == 0) filter.setContains(randomString(random));
+        if (random.nextInt(3) == 0) filter.setNotContains(randomString(random));
+        return filter;
+    }
+
+    private static Long randomLong(final Random random) {
+        return (long) random.nextInt(7);
+    }
+
+    private static String randomString(final Random random) {
+        return STRING_VALUES.get(1 + random.nextInt(STRING_VALUES.size() - 1));
+    }
+
+    private static <T> List<T> randomList(final Random random, final Supplier<T> supplier) {
+        final int size = random.nextInt(4);
+        final List<T> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(random.nextInt(15) == 0 ? null : supplier.get());
+        }
+        return values;
+    }
+
+    static class MyCriteria implements Criteria {
+
+        private LongFilter id;
+
+        private StringFilter name;
+
+        @Override
+        public MyCriteria copy() {
+            final MyCriteria copy = new MyCriteria();
+            copy.id = id == null ? null : id.copy();
+            copy.name = name == null ? null : name.copy();
+            return copy;
+        }
+    }
+}
@@ -26,6 +26,7 @@ package org.blackdread.lib.restfilter.criteria;
 import org.blackdread.lib.restfilter.List2;
 import org.blackdread.lib.restfilter.criteria.annotation.CriteriaInclude;
 import org.blackdread.lib.restfilter.filter.LongFilter;
+import org.blackdread.lib.restfilter.filter.PrimitiveLongFilter;
 import org.blackdread.lib.restfilter.util.LinkedMultiValueMap;
 import org.blackdread.lib.restfilter.util.MultiValueMap;
 import org.junit.jupiter.api.AfterEach;
@@ -131,6 +132,26 @@ class CriteriaQueryParamLongTest {
         assertEquals(expected, result);
     }
 
+    @ValueSource(booleans = {true, false})
+    @ParameterizedTest
+    void withPrimitiveLongFilter(boolean matchSubclass) {
+        PrimitiveFilterCriteria criteria = new PrimitiveFilterCriteria();
+
+        final CriteriaQueryParam criteriaQueryParam = builder
+            .matchSubclassForDefaultFilterFormatters(matchSubclass)
+            .build();
+        MultiValueMap<String, String> result = criteriaQueryParam.buildQueryParamsMap(criteria);
+
+        MultiValueMap<String, String> expected = new LinkedMultiValueMap<>();
+        expected.add("filter.in", "-1");
+        expected.add("filter.in", "2");
+        expected.add("filter.in", "3");
+        expected.add("filter.notIn", "7");
+
+        assertEquals(expected, result);
+        assertEquals("filter.in=-1,2,3&filter.notIn=7", criteriaQueryParam.buildQueryString(criteria));
+    }
+
     static class FilterCriteria {
 
         public FilterCriteria() {
@@ -148,6 +169,12 @@ class CriteriaQueryParamLongTest {
 
     }
 
+    static class PrimitiveFilterCriteria {
+
+        PrimitiveLongFilter filter = new PrimitiveLongFilter().inValues(3L, -1L, 2L).notInValues(7L);
+
+    }
+
     static class ValueCriteria {
 
         @CriteriaInclude
@@ -0,0 +1,278 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.criteria;
+
+import org.blackdread.lib.restfilter.criteria.annotation.CriteriaInclude;
+import org.blackdread.lib.restfilter.filter.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.net.URLEncoder;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+class CriteriaQueryParamQueryStringTest {
+
+    private CriteriaQueryParamBuilder builder;
+
+    @BeforeEach
+    void setUp() {
+        builder = new CriteriaQueryParamBuilder();
+    }
+
+    @ValueSource(booleans = {true, false})
+    @ParameterizedTest
+    void queryStringIsSameAsQueryParams(boolean matchSubclass) {
+        final CriteriaQueryParamTest.MyCriteria criteria = new CriteriaQueryParamTest.MyCriteria();
+        criteria.myEnum = new CriteriaQueryParamTest.MyEnumFilter();
+        CriteriaUtilTest.fillAll(criteria.myEnum, CriteriaQueryParamTest.MyEnum.ENUM_VAL_1, CriteriaQueryParamTest.MyEnum.ENUM_VAL_2);
+        criteria.id = new LongFilter();
+        CriteriaUtilTest.fillAll(criteria.id);
+        criteria.name = new StringFilter();
+        CriteriaUtilTest.fillAll(criteria.name);
+        criteria.name.setIgnoreCase(false);
+        criteria.createTime = new InstantFilter();
+        CriteriaUtilTest.fillAll(criteria.createTime, Instant.parse("2019-10-19T10:00:00Z"), Instant.parse("2019-10-20T10:00:00Z"));
+        criteria.total = new BigDecimalFilter();
+        CriteriaUtilTest.fillAll(criteria.total, BigDecimal.ONE, BigDecimal.TEN);
+        criteria.count = new IntegerFilter();
+        CriteriaUtilTest.fillAll(criteria.count, 1, 2);
+        criteria.localDate = new LocalDateFilter();
+        CriteriaUtilTest.fillAll(criteria.localDate, LocalDate.of(2019, 10, 19), LocalDate.of(2019, 10, 20));
+        criteria.active = new BooleanFilter();
+        CriteriaUtilTest.fillAll(criteria.active, true, false);
+        criteria.uuid = new UUIDFilter();
+        CriteriaUtilTest.fillAll(criteria.uuid, UUID.randomUUID(), UUID.randomUUID());
+        criteria.duration = new DurationFilter();
+        CriteriaUtilTest.fillAll(criteria.duration, Duration.ofSeconds(5), Duration.ofMinutes(5));
+        criteria.zonedDateTime = new ZonedDateTimeFilter();
+        CriteriaUtilTest.fillAll(criteria.zonedDateTime, ZonedDateTime.of(2019, 10, 19, 10, 0, 0, 0, ZoneOffset.ofHours(2)), ZonedDateTime.of(2019, 10, 20, 10, 0, 0, 0, ZoneOffset.UTC));
+
+        final CriteriaQueryParam criteriaQueryParam = builder
+            .matchSubclassForDefaultFilterFormatters(matchSubclass)
+            .build();
+
+        assertEquals(toQueryString(criteriaQueryParam.buildQueryParams(criteria)), criteriaQueryParam.buildQueryString(criteria));
+    }
+
+    @Test
+    void queryStringIsSameAsQueryParamsForValuesArraysAndIterables() {
+        final ValueCriteria criteria = new ValueCriteria();
+        final CriteriaQueryParam criteriaQueryParam = builder.build();
+
+        assertEquals(toQueryString(criteriaQueryParam.buildQueryParams(criteria)), criteriaQueryParam.buildQueryString(criteria));
+    }
+
+    @Test
+    void queryStringOfCustomFormatterIsSameAsQueryParams() {
+        final CriteriaQueryParamTest.MyCriteria criteria = new CriteriaQueryParamTest.MyCriteria();
+        criteria.id = new LongFilter();
+        criteria.id.setEquals(5L);
+        criteria.id.setIn(Arrays.asList(1L, 2L));
+
+        final CriteriaQueryParam criteriaQueryParam = builder
+            .putCustomQueryParamFormatter(LongFilter.class, (filterName, filter) -> FilterQueryParamUtil.buildQueryParams(filterName, (LongFilter) filter, aLong -> "n" + aLong))
+            .build();
+
+        assertEquals("id.equals=n5&id.in=n1,n2", criteriaQueryParam.buildQueryString(criteria));
+        assertEquals(toQueryString(criteriaQueryParam.buildQueryParams(criteria)), criteriaQueryParam.buildQueryString(criteria));
+    }
+
+    @Test
+    void valuesAndNamesAreEncoded() {
+        final EncodingCriteria criteria = new EncodingCriteria();
+        criteria.name = new StringFilter();
+        criteria.name.setEquals("a b&c=d");
+        criteria.name.setIn(Arrays.asList("x,y", "é", "😀"));
+        criteria.name.setContains("100%");
+
+        assertEquals("name.equals=a%20b%26c%3Dd&name.in=x%2Cy,%C3%A9,%F0%9F%98%80&name.contains=100%25&key&list=a~b,c%2Fd",
+            builder.build().buildQueryString(criteria));
+        assertEquals("name.equals=a b&c=d&name.in=x,y,é,😀&name.contains=100%&key&list=a~b,c/d",
+            writeQueryParams(criteria, QueryParamEncoder.NONE));
+    }
+
+    @Test
+    void emptyValuesAreNotWritten() {
+        final EncodingCriteria criteria = new EncodingCriteria();
+        criteria.name = new StringFilter();
+        criteria.name.setIn(Collections.emptyList());
+        criteria.name.setNotIn(Collections.emptyList());
+        criteria.key = false;
+        criteria.list = Collections.emptyList();
+
+        assertEquals("", builder.build().buildQueryString(criteria));
+        assertEquals("", builder.build().buildQueryString(null));
+    }
+
+    @Test
+    void appendToExistingBuffer() {
+        final CriteriaQueryParamTest.MyCriteria criteria = new CriteriaQueryParamTest.MyCriteria();
+        criteria.id = new LongFilter();
+        criteria.id.setEquals(5L);
+        criteria.count = new IntegerFilter();
+        criteria.count.setGreaterThan(2);
+
+        final StringBuilder url = new StringBuilder("https://example.com/api/entities?");
+        builder.build().writeQueryParams(criteria, url);
+
+        assertEquals("https://example.com/api/entities?id.equals=5&count.greaterThan=2", url.toString());
+    }
+
+    @Test
+    void ioExceptionIsRethrownUnchecked() {
+        final CriteriaQueryParamTest.MyCriteria criteria = new CriteriaQueryParamTest.MyCriteria();
+        criteria.id = new LongFilter();
+        criteria.id.setEquals(5L);
+        final Writer failingWriter = new Writer() {
+            @Override
+            public void write(final char[] cbuf, final int off, final int len) throws IOException {
+                throw new IOException("closed");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        final CriteriaQueryParam criteriaQueryParam = builder.build();
+        final UncheckedIOException ex = assertThrows(UncheckedIOException.class, () -> criteriaQueryParam.writeQueryParams(criteria, failingWriter, QueryParamEncoder.PERCENT_ENCODING));
+        assertEquals("closed", ex.getCause().getMessage());
+    }
+
+    @ValueSource(strings = {"", "abc-._~XYZ019", "a b", "a+b", "*'()!", "&=,;/?:@#[]$", "é à ç", "日本語", "😀 👍", "\t\n%"})
+    @ParameterizedTest
+    void percentEncodingIsSameAsUrlEncoderOfRfc3986(final String value) throws IOException {
+        final StringBuilder result = new StringBuilder();
+        QueryParamEncoder.PERCENT_ENCODING.encode(value, result);
+
+        assertEquals(urlEncodeRfc3986(value), result.toString());
+    }
+
+    @Test
+    void percentEncodingOfUnpairedSurrogate() throws IOException {
+        final StringBuilder result = new StringBuilder();
+        QueryParamEncoder.PERCENT_ENCODING.encode("a\uD83Db", result);
+
+        assertEquals("a%3Fb", result.toString());
+    }
+
+    private String writeQueryParams(final Object criteria, final QueryParamEncoder encoder) {
+        final StringBuilder result = new StringBuilder();
+        builder.build().writeQueryParams(criteria, result, encoder);
+        return result.toString();
+    }
+
+    private static String toQueryString(final List<QueryParam> queryParams) {
+        return queryParams.stream()
+            .map(queryParam -> {
+                final String name = urlEncodeRfc3986(queryParam.getParamName());
+                if (!queryParam.hasParamValue()) {
+                    return name;
+                }
+                return name + "=" + queryParam.getParamValues().stream()
+                    .map(CriteriaQueryParamQueryStringTest::urlEncodeRfc3986)
+                    .collect(Collectors.joining(","));
+            })
+            .collect(Collectors.joining("&"));
+    }
+
+    private static String urlEncodeRfc3986(final String value) {
+        try {
+            return URLEncoder.encode(value, "UTF-8")
+                .replace("+", "%20")
+                .replace("*", "%2A")
+                .replace("%7E", "~");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static class ValueCriteria {
+
+        @CriteriaInclude
+        Long objectLong = 1L;
+
+        @CriteriaInclude
+        Instant instant = Instant.parse("2019-10-19T10:00:00Z");
+
+        @CriteriaInclude
+        CriteriaQueryParamTest.MyEnum myEnum = CriteriaQueryParamTest.MyEnum.ENUM_VAL_2;
+
+        @CriteriaInclude(Long.class)
+        long[] arrayPrimitiveLong = new long[]{1L, 2L};
+
+        @CriteriaInclude(Long.class)
+        Long[] arrayObjectLong = new Long[]{3L, 4L};
+
+        @CriteriaInclude(Integer.class)
+        List<Integer> listInteger = Arrays.asList(5, 6);
+
+        @CriteriaInclude
+        public String getComputed() {
+            return "computed value";
+        }
+
+    }
+
+    static class EncodingCriteria {
+
+        StringFilter name;
+
+        @CriteriaInclude(keyOnly = true)
+        Boolean key = true;
+
+        @CriteriaInclude(String.class)
+        List<String> list = Arrays.asList("a~b", "c/d");
+
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.criteria;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+class CriteriaResultCacheTest {
+
+    private static final List<String> CHILD = Collections.singletonList("child_entity");
+
+    private static final List<String> CHILD_AND_PARENT = Arrays.asList("public.CHILD_ENTITY", "parent_entity");
+
+    private final AtomicLong time = new AtomicLong();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final CriteriaResultCache<String> cache = CriteriaResultCacheBuilder.newBuilder()
+        .name("test")
+        .maximumSize(3)
+        .expireAfterWrite(Duration.ofSeconds(10))
+        .ticker(time::get)
+        .build();
+
+    @Test
+    void loadsOnce() {
+        assertEquals("a", cache.get(key(1), CHILD, () -> load("a")));
+        assertEquals("a", cache.get(key(1), CHILD, () -> load("b")));
+        assertEquals("a", cache.getIfPresent(key(1)));
+        assertEquals(1, loads.get());
+        assertNull(cache.getIfPresent(key(2)));
+
+        final CriteriaResultCacheStats stats = cache.getStats();
+        assertEquals(2, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(0.5, stats.getHitRate());
+        assertEquals(1, stats.getLoadSuccessCount());
+        assertEquals(1, stats.getSize());
+        assertEquals("test", cache.getName());
+    }
+
+    @Test
+    void nullAndExceptionAreNotCached() {
+        assertNull(cache.get(key(1), CHILD, () -> load(null)));
+        assertThrows(IllegalStateException.class, () -> cache.get(key(1), CHILD, () -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getStats().getLoadFailureCount());
+    }
+
+    @Test
+    void leastRecentlyUsedIsEvicted() {
+        cache.get(key(1), CHILD, () -> load("1"));
+        cache.get(key(2), CHILD, () -> load("2"));
+        cache.get(key(3), CHILD, () -> load("3"));
+        cache.getIfPresent(key(1));
+        cache.get(key(4), CHILD, () -> load("4"));
+
+        assertEquals(3, cache.size());
+        assertNull(cache.getIfPresent(key(2)));
+        assertEquals("1", cache.getIfPresent(key(1)));
+        assertEquals(1, cache.getStats().getEvictionCount());
+    }
+
+    @Test
+    void entryExpires() {
+        cache.get(key(1), CHILD, () -> load("a"));
+        time.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertEquals("a", cache.getIfPresent(key(1)));
+        time.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertNull(cache.getIfPresent(key(1)));
+        assertEquals("b", cache.get(key(1), CHILD, () -> load("b")));
+        assertEquals(1, cache.getStats().getExpirationCount());
+    }
+
+    @Test
+    void noExpiration() {
+        final CriteriaResultCache<String> neverExpire = CriteriaResultCacheBuilder.newBuilder()
+            .expireAfterWrite(Duration.ZERO)
+            .ticker(time::get)
+            .build();
+        neverExpire.get(key(1), CHILD, () -> load("a"));
+        time.addAndGet(Duration.ofDays(365).toNanos());
+        assertEquals("a", neverExpire.getIfPresent(key(1)));
+    }
+
+    @Test
+    void invalidateTable() {
+        cache.get(key(1), CHILD, () -> load("1"));
+        cache.get(key(2), CHILD_AND_PARENT, () -> load("2"));
+        cache.get(key(3), Collections.singletonList("other"), () -> load("3"));
+
+        cache.invalidateTable("PARENT_ENTITY");
+        assertEquals("1", cache.getIfPresent(key(1)));
+        assertNull(cache.getIfPresent(key(2)));
+
+        cache.invalidateTable("other_schema.child_entity");
+        assertNull(cache.getIfPresent(key(1)));
+        assertEquals("3", cache.getIfPresent(key(3)));
+        assertEquals(2, cache.getStats().getInvalidationCount());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void valueLoadedDuringInvalidationIsNotCached() {
+        assertEquals("a", cache.get(key(1), CHILD_AND_PARENT, () -> {
+            cache.invalidateTable("parent_entity");
+            return load("a");
+        }));
+        assertNull(cache.getIfPresent(key(1)));
+
+        assertEquals("b", cache.get(key(1), CHILD, () -> {
+            cache.invalidateAll();
+            return load("b");
+        }));
+        assertNull(cache.getIfPresent(key(1)));
+
+        // invalidation of other tables do not prevent caching
+        assertEquals("c", cache.get(key(1), CHILD, () -> {
+            cache.invalidateTable("parent_entity");
+            return load("c");
+        }));
+        assertEquals("c", cache.getIfPresent(key(1)));
+    }
+
+    private String load(final String value) {
+        loads.incrementAndGet();
+        return value;
+    }
+
+    private static CriteriaFingerprint key(final long value) {
+        return CriteriaFingerprint.newHasher().putLong(value).fingerprint();
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.criteria;
+
+import org.blackdread.lib.restfilter.filter.LongFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+class CriteriaSingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentIdenticalSearchesShareOneExecution() throws Exception {
+        final CriteriaSingleFlight<List<Long>> singleFlight = new CriteriaSingleFlight<>("children");
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final List<Future<List<Long>>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            // same filter values in different order
+            final MyCriteria criteria = i % 2 == 0 ? criteria(1L, 2L) : criteria(2L, 1L);
+            results.add(executor.submit(() -> singleFlight.execute(criteria, () -> {
+                executions.incrementAndGet();
+                await(release);
+                return Arrays.asList(1L, 2L);
+            })));
+        }
+        awaitShared(singleFlight, CALLERS - 1);
+        assertEquals(1, singleFlight.getInFlightCount());
+        release.countDown();
+
+        final List<Long> first = results.get(0).get(10, TimeUnit.SECONDS);
+        for (final Future<List<Long>> result : results) {
+            assertSame(first, result.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1, executions.get());
+        assertEquals(1L, singleFlight.getExecutionCount());
+        assertEquals(CALLERS - 1, singleFlight.getSharedCount());
+        assertEquals(0, singleFlight.getInFlightCount());
+
+        // nothing kept after completion
+        singleFlight.execute(criteria(1L, 2L), () -> {
+            executions.incrementAndGet();
+            return Arrays.asList(1L, 2L);
+        });
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void failureIsSharedAndNotKept() throws Exception {
+        final CriteriaSingleFlight<String> singleFlight = new CriteriaSingleFlight<>("children");
+        final CountDownLatch release = new CountDownLatch(1);
+        final CriteriaFingerprint key = CriteriaFingerprint.of(criteria(3L));
+
+        final Future<String> executing = executor.submit(() -> singleFlight.execute(key, () -> {
+            await(release);
+            throw new IllegalArgumentException("failed");
+        }));
+        awaitInFlight(singleFlight);
+        final Future<String> waiting = executor.submit(() -> singleFlight.execute(key, () -> "not executed"));
+        awaitShared(singleFlight, 1);
+        release.countDown();
+
+        assertEquals("failed", assertThrows(ExecutionException.class, () -> executing.get(10, TimeUnit.SECONDS)).getCause().getMessage());
+        assertEquals("failed", assertThrows(ExecutionException.class, () -> waiting.get(10, TimeUnit.SECONDS)).getCause().getMessage());
+
+        assertEquals("executed", singleFlight.execute(key, () -> "executed"));
+        assertEquals(0, singleFlight.getInFlightCount());
+    }
+
+    @Test
+    void differentSearchesAreNotShared() {
+        final CriteriaSingleFlight<Long> singleFlight = new CriteriaSingleFlight<>("children");
+        final Long outer = singleFlight.execute(criteria(1L), () -> singleFlight.execute(criteria(2L), () -> 2L) + 1L);
+        assertEquals(3L, outer);
+        assertEquals(2L, singleFlight.getExecutionCount());
+        assertEquals(0L, singleFlight.getSharedCount());
+    }
+
+    private static void awaitShared(final CriteriaSingleFlight<?> singleFlight, final long expected) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (singleFlight.getSharedCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(expected, singleFlight.getSharedCount());
+    }
+
+    private static void awaitInFlight(final CriteriaSingleFlight<?> singleFlight) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (singleFlight.getInFlightCount() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(1, singleFlight.getInFlightCount());
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MyCriteria criteria(final Long... ids) {
+        final MyCriteria criteria = new MyCriteria();
+        criteria.id = new LongFilter();
+        criteria.id.setIn(Arrays.asList(ids));
+        return criteria;
+    }
+
+    static class MyCriteria implements Criteria {
+
+        private LongFilter id;
+
+        @Override
+        public Criteria copy() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -47,6 +47,17 @@ public class DebugController {
         return dto;
     }
 
+    @GetMapping("/api/test-resolver")
+    public MyDTO testResolver(MyResolvedDTO dto) {
+        return dto;
+    }
+
+    /**
+     * Bound by {@link org.blackdread.lib.restfilter.spring.criteria.CriteriaArgumentResolver}
+     */
+    public static class MyResolvedDTO extends MyDTO {
+    }
+
     public static class MyDTO {
         private InstantFilter instantFilter;
         private LocalDateFilter localDateFilter;
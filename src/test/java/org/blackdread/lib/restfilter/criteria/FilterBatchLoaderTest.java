@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.criteria;
+
+import org.blackdread.lib.restfilter.filter.Filter;
+import org.blackdread.lib.restfilter.filter.LongFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+class FilterBatchLoaderTest {
+
+    private static final int CALLERS = 8;
+
+    // key of a child is its id divided by 10
+    private static final List<Long> CHILDREN = Arrays.asList(10L, 20L, 30L, 31L, 32L, 40L);
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    private final List<Filter<Long>> executed = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentLookupsAreBatchedInOneInQuery() throws Exception {
+        // batch is full (so executed) only once all callers added their key
+        final FilterBatchLoader<Long, Long> loader = loader(CALLERS, Duration.ofSeconds(10));
+
+        final List<Future<List<Long>>> results = new ArrayList<>();
+        for (long key = 1; key <= CALLERS; key++) {
+            final long id = key;
+            results.add(executor.submit(() -> id % 2 == 0 ? loader.load(CriteriaUtil.buildEqualsCriteria(id)) : loader.load(id)));
+        }
+
+        assertEquals(Collections.singletonList(10L), results.get(0).get(10, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList(20L), results.get(1).get(10, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(30L, 31L, 32L), results.get(2).get(10, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList(40L), results.get(3).get(10, TimeUnit.SECONDS));
+        for (int i = 4; i < CALLERS; i++) {
+            assertEquals(Collections.emptyList(), results.get(i).get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1, executed.size());
+        assertEquals(new HashSet<>(Arrays.asList(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L)), new HashSet<>(executed.get(0).getIn()));
+        assertNull(executed.get(0).getEquals());
+        assertEquals(CALLERS, loader.getLoadCount());
+        assertEquals(1, loader.getBatchCount());
+    }
+
+    @Test
+    void partialBatchIsExecutedAfterDelay() {
+        final FilterBatchLoader<Long, Long> loader = loader(100, Duration.ofMillis(1));
+
+        assertEquals(Arrays.asList(30L, 31L, 32L), loader.load(3L));
+        assertEquals(Optional.of(20L), loader.loadOne(2L));
+        assertEquals(Optional.empty(), loader.loadOne(9L));
+        assertThrows(IllegalStateException.class, () -> loader.loadOne(3L));
+        assertEquals(4, loader.getBatchCount());
+        assertThrows(IllegalArgumentException.class, () -> loader.load((Long) null));
+    }
+
+    @Test
+    void failureIsDispatchedToAllCallersOfBatch() throws Exception {
+        final FilterBatchLoader<Long, Long> loader = new FilterBatchLoader<>(LongFilter::new, filter -> {
+            throw new IllegalArgumentException("failed");
+        }, child -> child / 10, 2, Duration.ofSeconds(10));
+
+        final Future<List<Long>> first = executor.submit(() -> loader.load(1L));
+        final Future<List<Long>> second = executor.submit(() -> loader.load(2L));
+
+        assertEquals("failed", assertThrows(ExecutionException.class, () -> first.get(10, TimeUnit.SECONDS)).getCause().getMessage());
+        assertEquals("failed", assertThrows(ExecutionException.class, () -> second.get(10, TimeUnit.SECONDS)).getCause().getMessage());
+        assertEquals(1, loader.getBatchCount());
+    }
+
+    @Test
+    void filterFactoryFailureIsDispatchedToAllCallersOfBatch() throws Exception {
+        final FilterBatchLoader<Long, Long> loader = new FilterBatchLoader<>(() -> {
+            throw new IllegalStateException("no filter");
+        }, filter -> Collections.emptyList(), child -> child / 10, 2, Duration.ofSeconds(10));
+
+        final Future<List<Long>> first = executor.submit(() -> loader.load(1L));
+        final Future<List<Long>> second = executor.submit(() -> loader.load(2L));
+
+        assertEquals("no filter", assertThrows(ExecutionException.class, () -> first.get(10, TimeUnit.SECONDS)).getCause().getMessage());
+        assertEquals("no filter", assertThrows(ExecutionException.class, () -> second.get(10, TimeUnit.SECONDS)).getCause().getMessage());
+    }
+
+    @Test
+    void otherFiltersAreNotBatched() {
+        final FilterBatchLoader<Long, Long> loader = loader(100, Duration.ofSeconds(10));
+        final LongFilter filter = new LongFilter();
+        filter.setIn(Arrays.asList(1L, 2L));
+
+        assertEquals(Arrays.asList(10L, 20L), loader.load(filter));
+        assertSame(filter, executed.get(0));
+        assertEquals(0, loader.getBatchCount());
+    }
+
+    private FilterBatchLoader<Long, Long> loader(final int maxBatchSize, final Duration maxDelay) {
+        return new FilterBatchLoader<>(LongFilter::new, filter -> {
+            executed.add(filter);
+            return CHILDREN.stream()
+                .filter(child -> filter.getIn().contains(child / 10))
+                .collect(Collectors.toList());
+        }, child -> child / 10, maxBatchSize, maxDelay);
+    }
+}
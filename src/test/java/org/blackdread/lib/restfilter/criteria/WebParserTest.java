@@ -292,4 +292,29 @@ class WebParserTest {
             .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void resolverParseIn() throws Exception {
+        this.mockMvc.perform(get("/api/test-resolver?instantFilter.in=2019-10-19T15:50:10Z,2017-05-19T15:50:10Z&zonedDateTimeFilter.in=2007-12-03T10:15:30+01:00&zonedDateTimeFilter.in=2007-05-03T10:15:30+08:00&localDateFilter.equals=2019-10-19&durationFilter.equals=P2DT20S"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.instantFilter.in").value(contains("2019-10-19T15:50:10Z", "2017-05-19T15:50:10Z")))
+            .andExpect(jsonPath("$.localDateFilter.equals").value("2019-10-19"))
+            .andExpect(jsonPath("$.zonedDateTimeFilter.in").value(contains("2007-12-03T10:15:30+01:00", "2007-05-03T10:15:30+08:00")))
+            .andExpect(jsonPath("$.durationFilter.equals").value("PT48H20S"));
+    }
+
+    @Test
+    void resolverParseDate() throws Exception {
+        this.mockMvc.perform(get("/api/test-resolver?zonedDateTimeFilter.equals=2019-10-19"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.zonedDateTimeFilter.equals").value("2019-10-19T00:00:00Z"))
+            .andExpect(jsonPath("$.instantFilter").hasJsonPath());
+    }
+
+    @Test
+    void resolverParseMs() throws Exception {
+        this.mockMvc.perform(get("/api/test-resolver?durationFilter.equals=5000"))
+            .andExpect(status().isBadRequest());
+    }
+
 }
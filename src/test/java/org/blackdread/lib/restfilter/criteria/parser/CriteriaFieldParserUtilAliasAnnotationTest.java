@@ -23,6 +23,7 @@
  */
 package org.blackdread.lib.restfilter.criteria.parser;
 
+import org.blackdread.lib.restfilter.List2;
 import org.blackdread.lib.restfilter.criteria.parser.criteria.AliasAnnotationCriteria;
 import org.blackdread.lib.restfilter.filter.LongFilter;
 import org.junit.jupiter.api.AfterEach;
@@ -34,7 +35,9 @@ import org.slf4j.LoggerFactory;
 import java.util.List;
 
 import static org.blackdread.lib.restfilter.criteria.parser.CriteriaFieldDataUtil.*;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
 /**
@@ -92,4 +95,35 @@ class CriteriaFieldParserUtilAliasAnnotationTest {
         checkValue(result.getFields(), 7, "primitiveLong", long.class, "primitiveLongAlias", null);
     }
 
+    @Test
+    void fieldAndMethodValuesAreRead() {
+        final AliasAnnotationCriteria criteria = AliasAnnotationCriteria.allWithValue();
+
+        final CriteriaData result = CriteriaFieldParserUtil.getCriteriaData(criteria);
+
+        assertArrayEquals(new long[]{1L, 2L}, (long[]) getField(result, "arrayPrimitiveLong").getFieldValue(criteria));
+        assertSame(criteria.getListLong(), getField(result, "listLong").getFieldValue(criteria));
+        assertSame(criteria.getLongFilter(), getField(result, "longFilter").getFieldValue(criteria));
+        assertEquals(1L, getField(result, "primitiveLong").getFieldValue(criteria));
+        assertNull(getField(result, "objectLong").getFieldValue(new AliasAnnotationCriteria()));
+
+        assertEquals(1L, getMethod(result, "getComputed1").getMethodReturnValue(criteria));
+        assertEquals(1L, getMethod(result, "getComputed2").getMethodReturnValue(criteria));
+        assertEquals(List2.of(1L, 2L), getMethod(result, "withDotIn2").getMethodReturnValue(criteria));
+    }
+
+    private static CriteriaFieldData getField(final CriteriaData data, final String fieldName) {
+        return data.getFields().stream()
+            .filter(fieldData -> fieldData.getFieldName().equals(fieldName))
+            .findFirst()
+            .orElseThrow(IllegalStateException::new);
+    }
+
+    private static CriteriaMethodData getMethod(final CriteriaData data, final String methodName) {
+        return data.getMethods().stream()
+            .filter(methodData -> methodData.getMethodName().equals(methodName))
+            .findFirst()
+            .orElseThrow(IllegalStateException::new);
+    }
+
 }
@@ -0,0 +1,241 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.criteria.processor;
+
+import org.blackdread.lib.restfilter.criteria.CriteriaQueryParamBuilder;
+import org.blackdread.lib.restfilter.criteria.CriteriaQueryParamWriter;
+import org.blackdread.lib.restfilter.criteria.annotation.CriteriaWriter;
+import org.blackdread.lib.restfilter.filter.LongFilter;
+import org.blackdread.lib.restfilter.filter.StringFilter;
+import org.blackdread.lib.restfilter.util.MultiValueMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+class CriteriaWriterProcessorTest {
+
+    private static final String PACKAGE = "org.blackdread.lib.restfilter.criteria.processor.sample";
+
+    private static final String PARENT_SOURCE = "" +
+        "package " + PACKAGE + ";\n" +
+        "import org.blackdread.lib.restfilter.filter.*;\n" +
+        "public class ParentCriteria {\n" +
+        "    private LongFilter parentId;\n" +
+        "    public LongFilter getParentId() { return parentId; }\n" +
+        "    public void setParentId(LongFilter parentId) { this.parentId = parentId; }\n" +
+        "}\n";
+
+    private static final String CRITERIA_SOURCE = "" +
+        "package " + PACKAGE + ";\n" +
+        "import org.blackdread.lib.restfilter.criteria.annotation.*;\n" +
+        "import org.blackdread.lib.restfilter.filter.*;\n" +
+        "import java.time.Instant;\n" +
+        "import java.util.List;\n" +
+        "@CriteriaWriter\n" +
+        "public class MyCriteria extends ParentCriteria {\n" +
+        "    private LongFilter id;\n" +
+        "    StringFilter name;\n" +
+        "    @CriteriaAlias(\"other\")\n" +
+        "    public StringFilter otherName;\n" +
+        "    @CriteriaIgnore\n" +
+        "    public StringFilter ignored;\n" +
+        "    @CriteriaInclude(keyOnly = true)\n" +
+        "    private boolean active;\n" +
+        "    @CriteriaInclude\n" +
+        "    Instant createdAt;\n" +
+        "    @CriteriaInclude(Long.class)\n" +
+        "    long[] ids;\n" +
+        "    @CriteriaInclude(String.class)\n" +
+        "    List<String> tags;\n" +
+        "    String notIncluded = \"a\";\n" +
+        "    public LongFilter getId() { return id; }\n" +
+        "    public void setId(LongFilter id) { this.id = id; }\n" +
+        "    public boolean isActive() { return active; }\n" +
+        "    public void setActive(boolean active) { this.active = active; }\n" +
+        "    @CriteriaInclude\n" +
+        "    public Integer getComputed() { return 42; }\n" +
+        "    @CriteriaInclude\n" +
+        "    @CriteriaAlias(\"aliasMethod\")\n" +
+        "    public String getSomething() { return \"something\"; }\n" +
+        "    @CriteriaInclude\n" +
+        "    public String getNull() { return null; }\n" +
+        "}\n";
+
+    private static final String PRIVATE_NO_GETTER_SOURCE = "" +
+        "package " + PACKAGE + ";\n" +
+        "import org.blackdread.lib.restfilter.criteria.annotation.*;\n" +
+        "import org.blackdread.lib.restfilter.filter.*;\n" +
+        "@CriteriaWriter\n" +
+        "public class NoGetterCriteria {\n" +
+        "    private LongFilter id;\n" +
+        "}\n";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void generatedWriterWritesSameAsReflection() throws Exception {
+        final DiagnosticCollector<JavaFileObject> diagnostics = compile(Arrays.asList(PARENT_SOURCE, CRITERIA_SOURCE));
+        assertNoError(diagnostics);
+
+        final Path serviceFile = tempDir.resolve("classes/META-INF/services/" + CriteriaQueryParamWriter.class.getName());
+        assertTrue(Files.exists(serviceFile));
+        assertEquals(Collections.singletonList(PACKAGE + ".MyCriteria" + CriteriaWriterProcessor.WRITER_SUFFIX),
+            Files.readAllLines(serviceFile, StandardCharsets.UTF_8));
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{tempDir.resolve("classes").toUri().toURL()}, getClass().getClassLoader())) {
+            final Class<?> criteriaClass = classLoader.loadClass(PACKAGE + ".MyCriteria");
+            final Object criteria = criteriaClass.getConstructor().newInstance();
+            final LongFilter id = new LongFilter();
+            id.setEquals(5L);
+            id.setIn(Arrays.asList(1L, 2L));
+            criteriaClass.getMethod("setId", LongFilter.class).invoke(criteria, id);
+            final LongFilter parentId = new LongFilter();
+            parentId.setGreaterThan(10L);
+            criteriaClass.getMethod("setParentId", LongFilter.class).invoke(criteria, parentId);
+            criteriaClass.getMethod("setActive", boolean.class).invoke(criteria, true);
+            final StringFilter name = new StringFilter();
+            name.setContains("abc");
+            setField(criteriaClass, criteria, "name", name);
+            final StringFilter otherName = new StringFilter();
+            otherName.setEquals("other");
+            setField(criteriaClass, criteria, "otherName", otherName);
+            setField(criteriaClass, criteria, "ignored", otherName);
+            setField(criteriaClass, criteria, "createdAt", Instant.parse("2019-10-27T10:00:00Z"));
+            setField(criteriaClass, criteria, "ids", new long[]{3L, 4L});
+            setField(criteriaClass, criteria, "tags", Arrays.asList("x", "y"));
+
+            final CriteriaQueryParamWriter<?> writer = (CriteriaQueryParamWriter<?>) classLoader
+                .loadClass(PACKAGE + ".MyCriteria" + CriteriaWriterProcessor.WRITER_SUFFIX)
+                .getConstructor()
+                .newInstance();
+            assertEquals(criteriaClass, writer.getCriteriaClass());
+
+            final MultiValueMap<String, String> reflection = new CriteriaQueryParamBuilder()
+                .enableGeneratedWriters(false)
+                .build()
+                .buildQueryParamsMap(criteria);
+            final MultiValueMap<String, String> generated = new CriteriaQueryParamBuilder()
+                .enableGeneratedWriters(false)
+                .withCriteriaWriter(writer)
+                .build()
+                .buildQueryParamsMap(criteria);
+
+            assertFalse(reflection.isEmpty());
+            assertEquals(reflection, generated);
+            assertEquals(Collections.singletonList("42"), generated.get("computed"));
+            assertEquals(Collections.singletonList("something"), generated.get("aliasMethod"));
+            assertEquals(Arrays.asList("3", "4"), generated.get("ids"));
+            assertTrue(generated.containsKey("active"));
+            assertFalse(generated.containsKey("ignored.equals"));
+        }
+    }
+
+    @Test
+    void errorWhenPrivateFieldHasNoGetter() throws Exception {
+        final DiagnosticCollector<JavaFileObject> diagnostics = compile(Collections.singletonList(PRIVATE_NO_GETTER_SOURCE));
+
+        final List<String> errors = diagnostics.getDiagnostics().stream()
+            .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+            .map(d -> d.getMessage(null))
+            .collect(Collectors.toList());
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).startsWith("Field is not accessible and has no public getter"), errors.get(0));
+    }
+
+    private DiagnosticCollector<JavaFileObject> compile(final List<String> sources) throws IOException, URISyntaxException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertNotNull(compiler, "Tests must run on a JDK");
+        final Path sourceDir = Files.createDirectories(tempDir.resolve("src"));
+        final Path classesDir = Files.createDirectories(tempDir.resolve("classes"));
+        final Path generatedDir = Files.createDirectories(tempDir.resolve("generated"));
+        final List<Path> files = new ArrayList<>();
+        for (final String source : sources) {
+            final String simpleName = source.substring(source.indexOf("public class ") + 13, source.indexOf(' ', source.indexOf("public class ") + 13));
+            final Path file = sourceDir.resolve(simpleName + ".java");
+            Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+            files.add(file);
+        }
+
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            final List<String> options = Arrays.asList(
+                // java.class.path is not reliable with test runners (manifest only jar, etc)
+                "-classpath", Paths.get(CriteriaWriter.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString(),
+                "-d", classesDir.toString(),
+                "-s", generatedDir.toString());
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                fileManager.getJavaFileObjectsFromFiles(files.stream().map(Path::toFile).collect(Collectors.toList())));
+            task.setProcessors(Collections.singletonList(new CriteriaWriterProcessor()));
+            task.call();
+        }
+        return diagnostics;
+    }
+
+    private static void assertNoError(final DiagnosticCollector<JavaFileObject> diagnostics) {
+        final List<String> errors = diagnostics.getDiagnostics().stream()
+            .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+            .map(Object::toString)
+            .collect(Collectors.toList());
+        assertEquals(Collections.emptyList(), errors);
+    }
+
+    private static void setField(final Class<?> clazz, final Object instance, final String name, final Object value) throws ReflectiveOperationException {
+        final Field field = clazz.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(instance, value);
+    }
+
+}
@@ -60,6 +60,9 @@ public class JooqChildEntityQueryService {
     }
 
     public long count(ChildCriteria criteria) {
+        if (jooqQueryService.isAnyFilterUnsatisfiable(criteria)) {
+            return 0L;
+        }
         Condition condition = createCondition(criteria);
         // could optionally join parent based on criteria but easier this way
         return create.selectCount()
@@ -102,6 +105,10 @@ public class JooqChildEntityQueryService {
      * We return the record directly but you could have your services to return a DTO, using jooq mapper or MapStruct
      */
     public Page<ChildEntityRecord> findAll(ChildCriteria criteria, Pageable pageable) {
+        if (jooqQueryService.isAnyFilterUnsatisfiable(criteria)) {
+            // contradictory filters, no need to query
+            return Page.empty(pageable);
+        }
         Condition condition = createCondition(criteria);
         // could optionally join parent based on criteria but easier this way
         return new PageImpl<>(create.select(CHILD_ENTITY.fields())
@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.filter;
+
+import org.blackdread.lib.restfilter.util.SortedLongList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+class PrimitiveLongFilterTest {
+
+    private PrimitiveLongFilter filter;
+
+    @BeforeEach
+    void setup() {
+        filter = new PrimitiveLongFilter();
+    }
+
+    @Test
+    void setInIsSortedAndDistinct() {
+        final PrimitiveLongFilter chain = filter.setIn(Arrays.asList(3L, 1L, 3L, 2L));
+        Assertions.assertSame(filter, chain);
+        Assertions.assertTrue(filter.getIn() instanceof SortedLongList);
+        Assertions.assertEquals(Arrays.asList(1L, 2L, 3L), filter.getIn());
+
+        filter.setNotIn(Arrays.asList(9L, 8L));
+        Assertions.assertEquals(Arrays.asList(8L, 9L), filter.getNotIn());
+
+        filter.setIn(null);
+        Assertions.assertNull(filter.getIn());
+    }
+
+    @Test
+    void inValues() {
+        filter.inValues(5L, 4L).notInValues(1L);
+        Assertions.assertEquals(Arrays.asList(4L, 5L), filter.getIn());
+        Assertions.assertEquals(Arrays.asList(1L), filter.getNotIn());
+    }
+
+    @Test
+    void listWithNullIsKept() {
+        final ArrayList<Long> notIn = new ArrayList<>(Arrays.asList(2L, null));
+        filter.setNotIn(notIn);
+        Assertions.assertSame(notIn, filter.getNotIn());
+    }
+
+    @Test
+    void copySharesValues() {
+        filter.inValues(1L, 2L, 3L);
+        filter.setGreaterThan(0L);
+        final PrimitiveLongFilter copy = filter.copy();
+        Assertions.assertNotSame(filter, copy);
+        Assertions.assertSame(filter.getIn(), copy.getIn());
+        Assertions.assertEquals(filter, copy);
+        Assertions.assertEquals(filter.hashCode(), copy.hashCode());
+    }
+
+    @Test
+    void notEqualToLongFilter() {
+        filter.inValues(1L);
+        final LongFilter longFilter = new LongFilter();
+        longFilter.setIn(Arrays.asList(1L));
+        Assertions.assertNotEquals(longFilter, filter);
+        Assertions.assertEquals(Long.class, filter.obtainGenericClass());
+    }
+
+    @Test
+    void testToString() {
+        filter.inValues(2L, 1L);
+        Assertions.assertEquals("PrimitiveLongFilter [in=[1, 2]]", filter.toString());
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.jooq;
+
+import org.blackdread.lib.restfilter.criteria.CriteriaFingerprint;
+import org.blackdread.lib.restfilter.criteria.CriteriaResultCache;
+import org.blackdread.lib.restfilter.criteria.CriteriaResultCacheBuilder;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.jooq.impl.SQLDataType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+class JooqCacheInvalidationListenerTest {
+
+    private static final Table<?> ITEM = DSL.table(DSL.name("item"));
+
+    private static final Table<?> OWNER = DSL.table(DSL.name("owner"));
+
+    private static final Field<Long> ID = DSL.field(DSL.name("id"), Long.class);
+
+    private final CriteriaResultCache<Integer> cache = CriteriaResultCacheBuilder.newBuilder().build();
+
+    private Connection connection;
+
+    private DSLContext dsl;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:cache-invalidation");
+        dsl = DSL.using(new DefaultConfiguration()
+            .set(connection)
+            .set(SQLDialect.H2)
+            .set(new DefaultExecuteListenerProvider(new JooqCacheInvalidationListener(cache))));
+        dsl.createTable(ITEM).column(ID, SQLDataType.BIGINT).execute();
+        dsl.createTable(OWNER).column(ID, SQLDataType.BIGINT).execute();
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void writeInvalidatesTable() {
+        final List<String> itemTables = JooqCacheInvalidationListener.tableNames(ITEM);
+        final List<String> ownerTables = JooqCacheInvalidationListener.tableNames(OWNER);
+
+        load(1, itemTables);
+        load(2, ownerTables);
+        dsl.insertInto(ITEM, ID).values(1L).execute();
+        assertNull(cache.getIfPresent(key(1)));
+        assertEquals(2, cache.getIfPresent(key(2)));
+
+        load(1, itemTables);
+        dsl.selectCount().from(ITEM).fetchOne();
+        assertEquals(1, cache.getIfPresent(key(1)));
+        dsl.update(ITEM.as("i")).set(ID, 2L).execute();
+        assertNull(cache.getIfPresent(key(1)));
+
+        load(1, itemTables);
+        dsl.deleteFrom(ITEM).where(ID.eq(2L)).execute();
+        assertNull(cache.getIfPresent(key(1)));
+        assertEquals(2, cache.getIfPresent(key(2)));
+
+        dsl.truncate(OWNER).execute();
+        assertNull(cache.getIfPresent(key(2)));
+    }
+
+    @Test
+    void batchAndPlainSql() {
+        load(1, JooqCacheInvalidationListener.tableNames(ITEM));
+        load(2, JooqCacheInvalidationListener.tableNames(OWNER));
+        dsl.batch(dsl.insertInto(OWNER, ID).values(1L), dsl.insertInto(OWNER, ID).values(2L)).execute();
+        assertEquals(1, cache.getIfPresent(key(1)));
+        assertNull(cache.getIfPresent(key(2)));
+
+        load(2, Arrays.asList("owner"));
+        dsl.execute("delete from \"owner\"");
+        assertNull(cache.getIfPresent(key(1)));
+        assertNull(cache.getIfPresent(key(2)));
+    }
+
+    @Test
+    void otherStatementInvalidatesAll() throws IOException {
+        final Path script = Files.createTempFile("cache-invalidation", ".sql");
+        try {
+            Files.write(script, Collections.singletonList("insert into \"item\" values (1);"), StandardCharsets.UTF_8);
+            load(1, JooqCacheInvalidationListener.tableNames(ITEM));
+            load(2, JooqCacheInvalidationListener.tableNames(OWNER));
+            // vendor command executed as ExecuteType.OTHER, tables written are unknown
+            dsl.execute("runscript from '" + script.toAbsolutePath() + "'");
+            assertEquals(1, dsl.fetchCount(ITEM));
+            assertNull(cache.getIfPresent(key(1)));
+            assertNull(cache.getIfPresent(key(2)));
+        } finally {
+            Files.delete(script);
+        }
+    }
+
+    private void load(final int value, final List<String> tables) {
+        cache.get(key(value), tables, () -> value);
+    }
+
+    private static CriteriaFingerprint key(final long value) {
+        return CriteriaFingerprint.newHasher().putLong(value).fingerprint();
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.jooq;
+
+import org.blackdread.lib.restfilter.criteria.annotation.CriteriaAlias;
+import org.blackdread.lib.restfilter.criteria.annotation.CriteriaInclude;
+import org.blackdread.lib.restfilter.filter.IntegerFilter;
+import org.blackdread.lib.restfilter.filter.LongFilter;
+import org.blackdread.lib.restfilter.filter.StringFilter;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+/**
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+class JooqCriteriaMapperTest {
+
+    private final Field<Long> idField = DSL.field(DSL.name("t", "ID"), Long.class);
+
+    private final Field<String> nameField = DSL.field(DSL.name("t", "MY_NAME"), String.class);
+
+    private final Field<Integer> totalField = DSL.field(DSL.name("t", "TOTAL"), Integer.class);
+
+    private final Table<?> table = DSL.select(
+        DSL.inline(1L).as("ID"),
+        DSL.inline("a").as("MY_NAME"),
+        DSL.inline(1).as("TOTAL"))
+        .asTable("t");
+
+    private MyCriteria criteria;
+
+    @BeforeEach
+    void setUp() {
+        criteria = new MyCriteria();
+    }
+
+    @Test
+    void buildConditionNoFilter() {
+        final JooqCriteriaMapper mapper = JooqCriteriaMapperBuilder.newBuilder().build();
+        Assertions.assertEquals(DSL.noCondition(), mapper.buildCondition(criteria, table));
+    }
+
+    @Test
+    void buildConditionFromTableFields() {
+        criteria.id = new LongFilter();
+        criteria.id.setEquals(1L);
+        criteria.myName = new StringFilter();
+        criteria.myName.setContains("b");
+        criteria.count = new IntegerFilter();
+        criteria.count.setGreaterThan(5);
+
+        final JooqCriteriaMapper mapper = JooqCriteriaMapperBuilder.newBuilder().build();
+        final Condition condition = mapper.buildCondition(criteria, table);
+
+        final Condition expected = DSL.and(
+            JooqFilterUtil.buildCondition(criteria.id, idField),
+            JooqFilterUtil.buildCondition(criteria.myName, nameField),
+            JooqFilterUtil.buildCondition(criteria.count, totalField));
+        Assertions.assertEquals(expected.toString(), condition.toString());
+    }
+
+    @Test
+    void buildConditionSingleFilterIsNotWrapped() {
+        criteria.id = new LongFilter();
+        criteria.id.setIn(Arrays.asList(1L, 2L));
+
+        final JooqCriteriaMapper mapper = JooqCriteriaMapperBuilder.newBuilder().build();
+        Assertions.assertEquals(idField.in(1L, 2L).toString(), mapper.buildCondition(criteria, table).toString());
+    }
+
+    @Test
+    void buildConditionIsStableAcrossCalls() {
+        final JooqCriteriaMapper mapper = JooqCriteriaMapperBuilder.newBuilder().build();
+        criteria.id = new LongFilter();
+        criteria.id.setEquals(1L);
+        Assertions.assertEquals(idField.eq(1L).toString(), mapper.buildCondition(criteria, table).toString());
+
+        final MyCriteria other = new MyCriteria();
+        other.id = new LongFilter();
+        other.id.setEquals(2L);
+        Assertions.assertEquals(idField.eq(2L).toString(), mapper.buildCondition(other, table).toString());
+    }
+
+    @Test
+    void buildConditionAliasHasPriority() {
+        final Field<Long> otherIdField = DSL.field(DSL.name("other", "id"), Long.class);
+        final JooqCriteriaMapper mapper = JooqCriteriaMapperBuilder.newBuilder()
+            .addAlias("id", otherIdField)
+            .build();
+        criteria.id = new LongFilter();
+        criteria.id.setEquals(1L);
+
+        Assertions.assertEquals(otherIdField.eq(1L).toString(), mapper.buildCondition(criteria, table).toString());
+    }
+
+    @Test
+    void buildConditionWithAliasesOnly() {
+        final JooqCriteriaMapper mapper = JooqCriteriaMapperBuilder.newBuilder()
+            .addAlias("id", idField)
+            .throwOnFilterNotFound(false)
+            .build();
+        criteria.id = new LongFilter();
+        criteria.id.setNotEquals(3L);
+        criteria.myName = new StringFilter();
+        criteria.myName.setEquals("ignored");
+
+        Assertions.assertEquals(idField.ne(3L).toString(), mapper.buildCondition(criteria).toString());
+    }
+
+    @Test
+    void buildConditionFilterOptimization() {
+        criteria.id = new LongFilter();
+        criteria.id.setGreaterThan(1L);
+        criteria.id.setGreaterThanOrEqual(3L);
+
+        final JooqCriteriaMapper mapper = JooqCriteriaMapperBuilder.newBuilder().build();
+        Assertions.assertEquals(DSL.and(idField.gt(1L), idField.ge(3L)).toString(), mapper.buildCondition(criteria, table).toString());
+
+        final JooqCriteriaMapper optimizedMapper = JooqCriteriaMapperBuilder.newBuilder().filterOptimization(true).build();
+        Assertions.assertEquals(idField.ge(3L).toString(), optimizedMapper.buildCondition(criteria, table).toString());
+        // filter of criteria is not changed
+        Assertions.assertEquals(1L, criteria.id.getGreaterThan());
+
+        criteria.id.setLessThan(2L);
+        Assertions.assertEquals(DSL.falseCondition(), optimizedMapper.buildCondition(criteria, table));
+    }
+
+    @Test
+    void buildConditionWithoutAliasThrows() {
+        final JooqCriteriaMapper mapper = JooqCriteriaMapperBuilder.newBuilder().build();
+        Assertions.assertThrows(IllegalStateException.class, () -> mapper.buildCondition(criteria));
+    }
+
+    @Test
+    void buildConditionFilterNotFoundThrows() {
+        final JooqCriteriaMapper mapper = JooqCriteriaMapperBuilder.newBuilder()
+            .enableJooqFieldExtraLookUp(false)
+            .build();
+        // MY_NAME cannot match myName without extra look up
+        Assertions.assertThrows(IllegalArgumentException.class, () -> mapper.buildCondition(criteria, table));
+    }
+
+    @Test
+    void buildConditionStringFilterOnNonStringFieldThrows() {
+        final JooqCriteriaMapper mapper = JooqCriteriaMapperBuilder.newBuilder()
+            .addAlias("myName", idField)
+            .build();
+        Assertions.assertThrows(IllegalStateException.class, () -> mapper.buildCondition(criteria, table));
+    }
+
+    @Test
+    void addAliasTwiceThrows() {
+        final JooqCriteriaMapperBuilder builder = JooqCriteriaMapperBuilder.newBuilder()
+            .addAlias("id", idField);
+        Assertions.assertThrows(IllegalStateException.class, () -> builder.addAlias("id", idField));
+    }
+
+    public static class MyCriteria {
+
+        private LongFilter id;
+
+        private StringFilter myName;
+
+        @CriteriaAlias("total")
+        private IntegerFilter count;
+
+        @CriteriaInclude
+        private Long notAFilter;
+
+    }
+}
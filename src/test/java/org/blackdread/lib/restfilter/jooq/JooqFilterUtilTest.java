@@ -278,7 +278,7 @@ class JooqFilterUtilTest {
     void buildStringConditionIn() {
         stringFilter.setEquals(null);
         final Condition condition = JooqFilterUtil.buildCondition(stringFilter, stringField);
-        Assertions.assertEquals(DSL.upper(stringField).in(Stream.of("any", "any2").map(String::toUpperCase).collect(Collectors.toSet())), condition);
+        Assertions.assertEquals(DSL.upper(stringField).in(Stream.of("any", "any2").map(String::toUpperCase).collect(Collectors.toList())), condition);
     }
 
     @Test
@@ -298,7 +298,7 @@ class JooqFilterUtilTest {
         stringFilter.setContains(null);
         stringFilter.setNotContains(null);
         final Condition condition = JooqFilterUtil.buildCondition(stringFilter, stringField);
-        Assertions.assertEquals(DSL.upper(stringField).notIn(Stream.of("any3", "any4").map(String::toUpperCase).collect(Collectors.toSet())), condition);
+        Assertions.assertEquals(DSL.upper(stringField).notIn(Stream.of("any3", "any4").map(String::toUpperCase).collect(Collectors.toList())), condition);
     }
 
     @Test
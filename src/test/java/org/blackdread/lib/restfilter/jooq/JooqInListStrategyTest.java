@@ -0,0 +1,203 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.jooq;
+
+import org.blackdread.lib.restfilter.filter.LongFilter;
+import org.blackdread.lib.restfilter.filter.StringFilter;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+class JooqInListStrategyTest {
+
+    private final Field<Long> longField = DSL.field(DSL.name("myLong"), Long.class);
+
+    private final Field<String> stringField = DSL.field(DSL.name("myString"), String.class);
+
+    private final DSLContext postgres = DSL.using(SQLDialect.POSTGRES);
+
+    @Test
+    void expandIsDefault() {
+        final LongFilter filter = new LongFilter();
+        filter.setIn(Arrays.asList(1L, 2L, 3L));
+        Assertions.assertEquals(longField.in(1L, 2L, 3L), JooqFilterUtil.buildCondition(filter, longField));
+        Assertions.assertEquals(longField.in(1L, 2L, 3L), JooqFilterUtil.buildCondition(filter, longField, JooqInListStrategy.EXPAND));
+    }
+
+    @Test
+    void paddedRepeatsLastValue() {
+        final LongFilter filter = new LongFilter();
+        filter.setIn(Arrays.asList(1L, 2L, 3L));
+        filter.setEquals(null);
+        Assertions.assertEquals(longField.in(1L, 2L, 3L, 3L), JooqFilterUtil.buildCondition(filter, longField, JooqInListStrategy.PADDED));
+
+        filter.setIn(null);
+        filter.setNotIn(Arrays.asList(1L, 2L, 3L, 4L, 5L));
+        Assertions.assertEquals(longField.notIn(1L, 2L, 3L, 4L, 5L, 5L, 5L, 5L), JooqFilterUtil.buildCondition(filter, longField, JooqInListStrategy.PADDED));
+    }
+
+    @Test
+    void paddedSameSqlForSameBucket() {
+        final LongFilter filter3 = new LongFilter();
+        filter3.setIn(Arrays.asList(1L, 2L, 3L));
+        final LongFilter filter4 = new LongFilter();
+        filter4.setIn(Arrays.asList(5L, 6L, 7L, 8L));
+        Assertions.assertEquals(
+            postgres.render(JooqFilterUtil.buildCondition(filter4, longField, JooqInListStrategy.PADDED)),
+            postgres.render(JooqFilterUtil.buildCondition(filter3, longField, JooqInListStrategy.PADDED)));
+    }
+
+    @Test
+    void anyArrayBindsOneArray() {
+        final LongFilter filter = new LongFilter();
+        filter.setIn(Arrays.asList(1L, 2L, 3L));
+        final Condition in = JooqFilterUtil.buildCondition(filter, longField, JooqInListStrategy.ANY_ARRAY);
+        Assertions.assertEquals("\"myLong\" = any (cast(? as bigint[]))", postgres.render(in));
+        Assertions.assertEquals(1, postgres.extractBindValues(in).size());
+
+        filter.setIn(null);
+        filter.setNotIn(Arrays.asList(1L, 2L, 3L));
+        final Condition notIn = JooqFilterUtil.buildCondition(filter, longField, JooqInListStrategy.ANY_ARRAY);
+        Assertions.assertEquals("\"myLong\" <> all (cast(? as bigint[]))", postgres.render(notIn));
+    }
+
+    @Test
+    void anyArrayIgnoreCase() {
+        final StringFilter filter = new StringFilter();
+        filter.setIn(Collections.singletonList("a"));
+        filter.setNotIn(Collections.singletonList("b"));
+        Assertions.assertEquals("upper(\"myString\") = any (cast(? as varchar[]))",
+            postgres.render(JooqFilterUtil.buildCondition(filter, stringField, JooqInListStrategy.ANY_ARRAY)));
+
+        filter.setIn(null);
+        Assertions.assertEquals("upper(\"myString\") <> all (cast(? as varchar[]))",
+            postgres.render(JooqFilterUtil.buildCondition(filter, stringField, JooqInListStrategy.ANY_ARRAY)));
+    }
+
+    @Test
+    void ignoreCaseKeepsOrderOfDistinctValues() {
+        final StringFilter filter = new StringFilter();
+        filter.setIgnoreCase(true);
+        filter.setIn(Arrays.asList("c", "a", "C", "b"));
+        Assertions.assertEquals(DSL.upper(stringField).in("C", "A", "B", "B"),
+            JooqFilterUtil.buildCondition(filter, stringField, JooqInListStrategy.PADDED));
+    }
+
+    @Test
+    void emptyListIsNotGivenToStrategy() {
+        final JooqInListStrategy failing = new JooqInListStrategy() {
+            @Override
+            public <T> Condition in(final Field<T> field, final Collection<? extends T> values) {
+                throw new AssertionError("in");
+            }
+
+            @Override
+            public <T> Condition notIn(final Field<T> field, final Collection<? extends T> values) {
+                throw new AssertionError("notIn");
+            }
+        };
+        final LongFilter filter = new LongFilter();
+        filter.setIn(Collections.emptyList());
+        Assertions.assertEquals(DSL.falseCondition(), JooqFilterUtil.buildCondition(filter, longField, failing));
+
+        filter.setIn(null);
+        filter.setNotIn(Collections.emptyList());
+        Assertions.assertEquals(DSL.noCondition(), JooqFilterUtil.buildCondition(filter, longField, failing));
+    }
+
+    @Test
+    void forDialect() {
+        Assertions.assertSame(JooqInListStrategy.ANY_ARRAY, JooqInListStrategy.forDialect(SQLDialect.POSTGRES));
+        Assertions.assertSame(JooqInListStrategy.PADDED, JooqInListStrategy.forDialect(SQLDialect.H2));
+        Assertions.assertSame(JooqInListStrategy.PADDED, JooqInListStrategy.forDialect(SQLDialect.MYSQL));
+    }
+
+    @Test
+    void valuesTableAboveThreshold() {
+        final JooqInListStrategy strategy = JooqInListStrategy.valuesTable(3, JooqInListStrategy.EXPAND);
+        final LongFilter filter = new LongFilter();
+        filter.setIn(Arrays.asList(1L, 2L));
+        Assertions.assertEquals(longField.in(1L, 2L), JooqFilterUtil.buildCondition(filter, longField, strategy));
+
+        filter.setIn(Arrays.asList(1L, 2L, 3L));
+        Assertions.assertEquals("\"myLong\" in (select \"in_values\".\"value\" from (values (?), (?), (?), (?)) as \"in_values\" (\"value\"))",
+            postgres.render(JooqFilterUtil.buildCondition(filter, longField, strategy)));
+
+        filter.setIn(null);
+        filter.setNotIn(Arrays.asList(1L, 2L, 3L));
+        Assertions.assertEquals("\"myLong\" not in (select \"in_values\".\"value\" from (values (?), (?), (?), (?)) as \"in_values\" (\"value\"))",
+            postgres.render(JooqFilterUtil.buildCondition(filter, longField, strategy)));
+    }
+
+    @Test
+    void valuesTableSameSqlAndBindCountForSameBucket() {
+        final JooqInListStrategy strategy = JooqInListStrategy.valuesTable(3, JooqInListStrategy.EXPAND);
+        final LongFilter filter5 = new LongFilter();
+        filter5.setIn(Arrays.asList(1L, 2L, 3L, 4L, 5L));
+        final LongFilter filter8 = new LongFilter();
+        filter8.setIn(Arrays.asList(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L));
+        final Condition in5 = JooqFilterUtil.buildCondition(filter5, longField, strategy);
+        final Condition in8 = JooqFilterUtil.buildCondition(filter8, longField, strategy);
+
+        Assertions.assertEquals(postgres.render(in8), postgres.render(in5));
+        Assertions.assertEquals(8, postgres.extractBindValues(in5).size());
+        Assertions.assertEquals(8, postgres.extractBindValues(in8).size());
+    }
+
+    @Test
+    void valuesTableInvalidThreshold() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> JooqInListStrategy.valuesTable(0, JooqInListStrategy.EXPAND));
+    }
+
+    @Test
+    void criteriaMapperUsesStrategy() {
+        final JooqCriteriaMapper mapper = JooqCriteriaMapperBuilder.newBuilder()
+            .addAlias("id", longField)
+            .withInListStrategy(JooqInListStrategy.PADDED)
+            .build();
+        final IdCriteria criteria = new IdCriteria();
+        criteria.id = new LongFilter();
+        criteria.id.setIn(Arrays.asList(1L, 2L, 3L));
+        Assertions.assertEquals(longField.in(1L, 2L, 3L, 3L), mapper.buildCondition(criteria));
+    }
+
+    public static class IdCriteria {
+
+        private LongFilter id;
+
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.jooq;
+
+import org.blackdread.lib.restfilter.filter.LongFilter;
+import org.jooq.CloseableDSLContext;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+class JooqSemiJoinUtilTest {
+
+    private static final Table<?> PARENT = DSL.table(DSL.name("parent"));
+
+    private static final Field<Long> PARENT_ID = DSL.field(DSL.name("parent", "id"), Long.class);
+
+    private static final Table<?> CHILD = DSL.table(DSL.name("child"));
+
+    private static final Field<Long> CHILD_ID = DSL.field(DSL.name("child", "id"), Long.class);
+
+    private static final Field<Long> CHILD_PARENT_ID = DSL.field(DSL.name("child", "parent_id"), Long.class);
+
+    private static final Field<Long> CHILD_TOTAL = DSL.field(DSL.name("child", "total"), Long.class);
+
+    private static final Condition CORRELATION = CHILD_PARENT_ID.eq(PARENT_ID);
+
+    private static final JooqCriteriaMapper CHILD_MAPPER = JooqCriteriaMapperBuilder.newBuilder()
+        .addAlias("id", CHILD_ID)
+        .addAlias("total", CHILD_TOTAL)
+        .build();
+
+    private static CloseableDSLContext dsl;
+
+    @BeforeAll
+    static void setUp() {
+        dsl = DSL.using("jdbc:h2:mem:jooq-semi-join-util");
+        dsl.createTable(PARENT).column(DSL.name("id"), SQLDataType.BIGINT).execute();
+        dsl.createTable(CHILD)
+            .column(DSL.name("id"), SQLDataType.BIGINT)
+            .column(DSL.name("parent_id"), SQLDataType.BIGINT)
+            .column(DSL.name("total"), SQLDataType.BIGINT)
+            .execute();
+        for (long parentId = 1; parentId <= 4; parentId++) {
+            dsl.insertInto(PARENT).columns(DSL.field(DSL.name("id"))).values(parentId).execute();
+        }
+        // parent 1: totals 5, 15, 25 - parent 2: total 8 - parent 3: totals 20, 30 - parent 4: no child
+        insertChild(1L, 1L, 5L);
+        insertChild(2L, 1L, 15L);
+        insertChild(3L, 1L, 25L);
+        insertChild(4L, 2L, 8L);
+        insertChild(5L, 3L, 20L);
+        insertChild(6L, 3L, 30L);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dsl.close();
+    }
+
+    @Test
+    void exists() {
+        assertEquals(Arrays.asList(1L, 3L), parentIds(JooqSemiJoinUtil.exists(CHILD, CORRELATION, CHILD_TOTAL.gt(10L))));
+        assertEquals(Arrays.asList(1L, 2L, 3L), parentIds(JooqSemiJoinUtil.exists(CHILD, CORRELATION, DSL.noCondition())));
+        assertEquals(Arrays.asList(2L, 4L), parentIds(JooqSemiJoinUtil.notExists(CHILD, CORRELATION, CHILD_TOTAL.gt(10L))));
+    }
+
+    @Test
+    void existsFromCriteria() {
+        final ChildCriteria criteria = new ChildCriteria();
+        criteria.total = new LongFilter();
+        criteria.total.setGreaterThan(10L);
+        criteria.total.setLessThan(22L);
+        assertEquals(Arrays.asList(1L, 3L), parentIds(JooqSemiJoinUtil.exists(CHILD_MAPPER, criteria, CHILD, CORRELATION)));
+
+        // no filter does not restrict parents
+        assertEquals(DSL.noCondition(), JooqSemiJoinUtil.exists(CHILD_MAPPER, new ChildCriteria(), CHILD, CORRELATION));
+        assertEquals(DSL.noCondition(), JooqSemiJoinUtil.exists(CHILD_MAPPER, null, CHILD, CORRELATION));
+
+        final ChildCriteria unsatisfiable = new ChildCriteria();
+        unsatisfiable.id = new LongFilter();
+        unsatisfiable.id.setIn(Collections.emptyList());
+        assertEquals(DSL.falseCondition(), JooqSemiJoinUtil.exists(CHILD_MAPPER, unsatisfiable, CHILD, CORRELATION));
+    }
+
+    @Test
+    void multiset() {
+        final ChildCriteria criteria = new ChildCriteria();
+        criteria.total = new LongFilter();
+        criteria.total.setGreaterThan(10L);
+
+        final Field<Result<Record>> children = JooqSemiJoinUtil.multiset(CHILD_MAPPER, criteria, CHILD, CORRELATION,
+            Arrays.asList(CHILD_ID, CHILD_TOTAL), Collections.singletonList(CHILD_TOTAL.desc())).as("children");
+        final List<List<Long>> childTotals = dsl.select(PARENT_ID, children)
+            .from(PARENT)
+            .where(JooqSemiJoinUtil.exists(CHILD_MAPPER, criteria, CHILD, CORRELATION))
+            .orderBy(PARENT_ID)
+            .fetch(record -> record.value2().stream().map(child -> child.get(1, Long.class)).collect(Collectors.toList()));
+        assertEquals(Arrays.asList(Arrays.asList(25L, 15L), Arrays.asList(30L, 20L)), childTotals);
+
+        final List<Integer> childCounts = dsl.select(PARENT_ID, JooqSemiJoinUtil.multiset(CHILD, CORRELATION, DSL.noCondition(), CHILD_ID))
+            .from(PARENT)
+            .orderBy(PARENT_ID)
+            .fetch(record -> record.value2().size());
+        assertEquals(Arrays.asList(3, 1, 2, 0), childCounts);
+
+        assertThrows(IllegalArgumentException.class, () -> JooqSemiJoinUtil.multiset(CHILD, CORRELATION, DSL.noCondition()));
+    }
+
+    private static List<Long> parentIds(final Condition condition) {
+        return dsl.select(PARENT_ID).from(PARENT).where(condition).orderBy(PARENT_ID).fetch(PARENT_ID);
+    }
+
+    private static void insertChild(final long id, final long parentId, final long total) {
+        dsl.insertInto(CHILD).columns(DSL.field(DSL.name("id")), DSL.field(DSL.name("parent_id")), DSL.field(DSL.name("total")))
+            .values(id, parentId, total)
+            .execute();
+    }
+
+    static class ChildCriteria {
+
+        private LongFilter id;
+
+        private LongFilter total;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.memory;
+
+import org.blackdread.lib.restfilter.criteria.annotation.CriteriaAlias;
+import org.blackdread.lib.restfilter.criteria.annotation.CriteriaInclude;
+import org.blackdread.lib.restfilter.filter.IntegerFilter;
+import org.blackdread.lib.restfilter.filter.LongFilter;
+import org.blackdread.lib.restfilter.filter.StringFilter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+class PredicateCriteriaMapperTest {
+
+    private final List<Item> items = Arrays.asList(
+        new Item(1L, "first", 10),
+        new Item(2L, "second", 20),
+        new Item(3L, "third", null)
+    );
+
+    private final PredicateCriteriaMapper<Item> mapper = PredicateCriteriaMapperBuilder.<Item>newBuilder()
+        .addAlias("id", item -> item.id)
+        .addAlias("myName", item -> item.name)
+        .addAlias("count", item -> item.total)
+        .addAlias("methodFilter", item -> item.id)
+        .build();
+
+    private MyCriteria criteria;
+
+    @BeforeEach
+    void setUp() {
+        criteria = new MyCriteria();
+    }
+
+    @Test
+    void buildPredicateNoFilter() {
+        Assertions.assertEquals(Arrays.asList(1L, 2L, 3L), filterIds(mapper.buildPredicate(criteria)));
+    }
+
+    @Test
+    void buildPredicateCombinesFilters() {
+        criteria.id = new LongFilter();
+        criteria.id.setIn(Arrays.asList(1L, 2L, 3L));
+        criteria.myName = new StringFilter();
+        criteria.myName.setContains("IR");
+        Assertions.assertEquals(Arrays.asList(1L, 3L), filterIds(mapper.buildPredicate(criteria)));
+
+        criteria.total = new IntegerFilter();
+        criteria.total.setLessThan(15);
+        Assertions.assertEquals(Arrays.asList(1L), filterIds(mapper.buildPredicate(criteria)));
+    }
+
+    @Test
+    void buildPredicateUsesMethodFilter() {
+        criteria.methodValue = 2L;
+        Assertions.assertEquals(Arrays.asList(2L), filterIds(mapper.buildPredicate(criteria)));
+    }
+
+    @Test
+    void filterNotFoundThrows() {
+        final PredicateCriteriaMapper<Item> idOnly = PredicateCriteriaMapperBuilder.<Item>newBuilder()
+            .addAlias("id", item -> item.id)
+            .build();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> idOnly.buildPredicate(criteria));
+
+        criteria.id = new LongFilter();
+        criteria.id.setEquals(3L);
+        criteria.myName = new StringFilter();
+        criteria.myName.setEquals("none");
+        final PredicateCriteriaMapper<Item> ignoring = PredicateCriteriaMapperBuilder.<Item>newBuilder()
+            .addAlias("id", item -> item.id)
+            .throwOnFilterNotFound(false)
+            .build();
+        Assertions.assertEquals(Arrays.asList(3L), filterIds(ignoring.buildPredicate(criteria)));
+    }
+
+    @Test
+    void builderChecks() {
+        Assertions.assertThrows(IllegalStateException.class, () -> PredicateCriteriaMapperBuilder.newBuilder().build());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PredicateCriteriaMapperBuilder.newBuilder().addAlias("id", null));
+        Assertions.assertThrows(IllegalStateException.class, () -> PredicateCriteriaMapperBuilder.<Item>newBuilder()
+            .addAlias("id", item -> item.id)
+            .addAlias("id", item -> item.id));
+    }
+
+    private List<Long> filterIds(final Predicate<Item> predicate) {
+        return items.stream()
+            .filter(predicate)
+            .map(item -> item.id)
+            .collect(Collectors.toList());
+    }
+
+    private static final class Item {
+
+        private final Long id;
+
+        private final String name;
+
+        private final Integer total;
+
+        private Item(final Long id, final String name, final Integer total) {
+            this.id = id;
+            this.name = name;
+            this.total = total;
+        }
+    }
+
+    public static class MyCriteria {
+
+        private LongFilter id;
+
+        private StringFilter myName;
+
+        @CriteriaAlias("count")
+        private IntegerFilter total;
+
+        private Long methodValue;
+
+        @CriteriaInclude
+        public LongFilter methodFilter() {
+            if (methodValue == null) {
+                return null;
+            }
+            final LongFilter filter = new LongFilter();
+            filter.setEquals(methodValue);
+            return filter;
+        }
+    }
+}
@@ -0,0 +1,308 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.memory;
+
+import org.blackdread.lib.restfilter.filter.BigDecimalFilter;
+import org.blackdread.lib.restfilter.filter.Filter;
+import org.blackdread.lib.restfilter.filter.LongFilter;
+import org.blackdread.lib.restfilter.filter.PrimitiveLongFilter;
+import org.blackdread.lib.restfilter.filter.RangeFilter;
+import org.blackdread.lib.restfilter.filter.StringFilter;
+import org.blackdread.lib.restfilter.filter.ZonedDateTimeFilter;
+import org.blackdread.lib.restfilter.jooq.JooqFilterUtil;
+import org.jooq.CloseableDSLContext;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Predicates must select the same rows as conditions of {@link JooqFilterUtil} run on a database.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+class PredicateFilterUtilTest {
+
+    private static final Table<?> ITEM = DSL.table(DSL.name("item"));
+
+    private static final Field<Long> ID = DSL.field(DSL.name("id"), Long.class);
+
+    private static final Field<String> NAME = DSL.field(DSL.name("name"), String.class);
+
+    private static final Field<BigDecimal> TOTAL = DSL.field(DSL.name("total"), BigDecimal.class);
+
+    private static final List<Item> ITEMS = Arrays.asList(
+        new Item(1L, "Apple", new BigDecimal("1.5")),
+        new Item(2L, "apple pie", new BigDecimal("2.00")),
+        new Item(3L, "BANANA", new BigDecimal("10")),
+        new Item(4L, null, null),
+        new Item(5L, "cherry", new BigDecimal("-3.25")),
+        new Item(6L, "50%", new BigDecimal("1.50"))
+    );
+
+    private static CloseableDSLContext dsl;
+
+    @BeforeAll
+    static void setUp() {
+        dsl = DSL.using("jdbc:h2:mem:predicate-filter-util");
+        dsl.createTable(ITEM)
+            .column(ID, SQLDataType.BIGINT)
+            .column(NAME, SQLDataType.VARCHAR(50))
+            .column(TOTAL, SQLDataType.DECIMAL(10, 2))
+            .execute();
+        for (final Item item : ITEMS) {
+            dsl.insertInto(ITEM, ID, NAME, TOTAL).values(item.id, item.name, item.total).execute();
+        }
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dsl.close();
+    }
+
+    @Test
+    void sameAsSqlForFilter() {
+        final LongFilter filter = new LongFilter();
+        filter.setIn(Arrays.asList(1L, 3L, 9L));
+        assertSameAsSql(filter);
+        filter.setEquals(2L);
+        assertSameAsSql(filter);
+
+        final LongFilter notFilter = new LongFilter();
+        notFilter.setNotEquals(1L);
+        notFilter.setNotIn(Arrays.asList(2L, 5L));
+        assertSameAsSql(notFilter);
+        notFilter.setSpecified(true);
+        assertSameAsSql(notFilter);
+        notFilter.setGreaterThan(2L);
+        notFilter.setGreaterThanOrEqual(4L);
+        assertSameAsSql(notFilter);
+        notFilter.setLessThanOrEqual(5L);
+        notFilter.setLessThan(5L);
+        assertSameAsSql(notFilter);
+    }
+
+    @Test
+    void sameAsSqlForPrimitiveFilter() {
+        final PrimitiveLongFilter filter = new PrimitiveLongFilter().inValues(6L, 2L, 9L);
+        assertSameAsSql(filter);
+        filter.setIn(null);
+        filter.notInValues(1L, 3L);
+        assertSameAsSql(filter);
+    }
+
+    @Test
+    void sameAsSqlForRangeFilterWithScale() {
+        final BigDecimalFilter filter = new BigDecimalFilter();
+        filter.setEquals(new BigDecimal("1.50"));
+        assertSameAsSql(filter, TOTAL, Item::getTotal);
+
+        filter.setEquals(null);
+        filter.setIn(Arrays.asList(new BigDecimal("2"), new BigDecimal("10.0")));
+        assertSameAsSql(filter, TOTAL, Item::getTotal);
+
+        filter.setIn(null);
+        filter.setNotEquals(new BigDecimal("10.00"));
+        filter.setGreaterThanOrEqual(new BigDecimal("1.5"));
+        assertSameAsSql(filter, TOTAL, Item::getTotal);
+    }
+
+    @Test
+    void sameAsSqlForNull() {
+        final BigDecimalFilter filter = new BigDecimalFilter();
+        filter.setSpecified(false);
+        assertSameAsSql(filter, TOTAL, Item::getTotal);
+
+        filter.setSpecified(null);
+        filter.setNotIn(Arrays.asList(new BigDecimal("1.5"), null));
+        assertSameAsSql(filter, TOTAL, Item::getTotal);
+
+        filter.setNotIn(Collections.emptyList());
+        assertSameAsSql(filter, TOTAL, Item::getTotal);
+
+        filter.setNotIn(null);
+        filter.setIn(Collections.emptyList());
+        assertSameAsSql(filter, TOTAL, Item::getTotal);
+    }
+
+    @Test
+    void sameAsSqlForStringFilter() {
+        for (final boolean ignoreCase : new boolean[]{true, false}) {
+            final StringFilter filter = new StringFilter();
+            filter.setIgnoreCase(ignoreCase);
+            filter.setEquals("apple");
+            assertSameAsSql(filter);
+
+            filter.setEquals(null);
+            filter.setIn(Arrays.asList("APPLE", "banana"));
+            assertSameAsSql(filter);
+
+            filter.setIn(null);
+            filter.setNotIn(Collections.singletonList("banana"));
+            filter.setContains("a");
+            assertSameAsSql(filter);
+
+            filter.setNotIn(null);
+            filter.setNotEquals("Apple");
+            filter.setContains("APP");
+            assertSameAsSql(filter);
+
+            filter.setNotEquals(null);
+            filter.setContains(null);
+            filter.setNotContains("%");
+            assertSameAsSql(filter);
+
+            filter.setNotContains(null);
+            filter.setContains("");
+            assertSameAsSql(filter);
+        }
+    }
+
+    @Test
+    void ignoreCaseIsDefault() {
+        final StringFilter filter = new StringFilter();
+        filter.setContains("PIE");
+        Assertions.assertEquals(Collections.singletonList(2L), filterIds(PredicateFilterUtil.buildPredicate(filter, Item::getName)));
+    }
+
+    @Test
+    void ignoreCaseInDoesNotDependOnDefaultLocale() {
+        final Locale defaultLocale = Locale.getDefault();
+        // dotted upper case i in Turkish
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            final StringFilter filter = new StringFilter();
+            filter.setIn(Collections.singletonList("TITLE"));
+            Assertions.assertTrue(PredicateFilterUtil.buildPredicate(filter).test("title"));
+
+            filter.setIn(null);
+            filter.setNotIn(Collections.singletonList("title"));
+            Assertions.assertFalse(PredicateFilterUtil.buildPredicate(filter).test("TITLE"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    void zonedDateTimeComparedByInstant() {
+        final ZonedDateTime utc = ZonedDateTime.of(2019, 10, 19, 15, 50, 10, 0, ZoneOffset.UTC);
+        final ZonedDateTime paris = utc.withZoneSameInstant(ZoneId.of("Europe/Paris"));
+        final ZonedDateTimeFilter filter = new ZonedDateTimeFilter();
+        filter.setGreaterThan(paris);
+        Assertions.assertFalse(PredicateFilterUtil.buildPredicate(filter).test(utc));
+        Assertions.assertTrue(PredicateFilterUtil.buildPredicate(filter).test(utc.plusSeconds(1)));
+        filter.setGreaterThan(null);
+        filter.setIn(Collections.singletonList(paris));
+        Assertions.assertTrue(PredicateFilterUtil.buildPredicate(filter).test(utc));
+    }
+
+    @Test
+    void emptyFilterMatchesAll() {
+        final Predicate<String> predicate = PredicateFilterUtil.buildPredicate(new StringFilter());
+        Assertions.assertTrue(predicate.test(null));
+        Assertions.assertTrue(predicate.test("a"));
+        Assertions.assertTrue(PredicateFilterUtil.buildPredicate(new Filter<Long>(), Item::getId).test(ITEMS.get(0)));
+    }
+
+    @Test
+    void filterValuesAreReadOnce() {
+        final LongFilter filter = new LongFilter();
+        filter.setEquals(1L);
+        final Predicate<Long> predicate = PredicateFilterUtil.buildPredicate(filter);
+        filter.setEquals(2L);
+        Assertions.assertTrue(predicate.test(1L));
+        Assertions.assertFalse(predicate.test(2L));
+    }
+
+    private static void assertSameAsSql(final LongFilter filter) {
+        assertSameAsSql(filter, ID, Item::getId);
+    }
+
+    private static void assertSameAsSql(final StringFilter filter) {
+        final Condition condition = JooqFilterUtil.buildCondition(filter, NAME);
+        Assertions.assertEquals(selectIds(condition), filterIds(PredicateFilterUtil.buildPredicate(filter, Item::getName)), filter.toString());
+    }
+
+    private static <X extends Comparable<? super X>> void assertSameAsSql(final RangeFilter<X> filter, final Field<X> field,
+                                                                          final Function<Item, X> accessor) {
+        final Condition condition = JooqFilterUtil.buildCondition(filter, field);
+        Assertions.assertEquals(selectIds(condition), filterIds(PredicateFilterUtil.buildPredicate(filter, accessor)), filter.toString());
+    }
+
+    private static List<Long> selectIds(final Condition condition) {
+        return dsl.select(ID).from(ITEM).where(condition).orderBy(ID).fetch(ID);
+    }
+
+    private static List<Long> filterIds(final Predicate<Item> predicate) {
+        return ITEMS.stream()
+            .filter(predicate)
+            .map(Item::getId)
+            .collect(Collectors.toList());
+    }
+
+    private static final class Item {
+
+        private final Long id;
+
+        private final String name;
+
+        private final BigDecimal total;
+
+        private Item(final Long id, final String name, final BigDecimal total) {
+            this.id = id;
+            this.name = name;
+            this.total = total;
+        }
+
+        Long getId() {
+            return id;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        BigDecimal getTotal() {
+            return total;
+        }
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.criteria;
+
+import org.blackdread.lib.restfilter.criteria.Criteria;
+import org.blackdread.lib.restfilter.criteria.annotation.CriteriaAlias;
+import org.blackdread.lib.restfilter.criteria.annotation.CriteriaInclude;
+import org.blackdread.lib.restfilter.filter.BigDecimalFilter;
+import org.blackdread.lib.restfilter.filter.BooleanFilter;
+import org.blackdread.lib.restfilter.filter.InstantFilter;
+import org.blackdread.lib.restfilter.filter.LongFilter;
+import org.blackdread.lib.restfilter.filter.PrimitiveLongFilter;
+import org.blackdread.lib.restfilter.filter.StringFilter;
+import org.blackdread.lib.restfilter.util.SortedLongList;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.support.ConfigurableWebBindingInitializer;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.ServletModelAttributeMethodProcessor;
+import org.springframework.web.servlet.mvc.method.annotation.ServletRequestDataBinderFactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Criteria bound by {@link CriteriaArgumentResolver} must be the same as the ones bound by Spring.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+class CriteriaArgumentResolverTest {
+
+    private final WebDataBinderFactory binderFactory;
+
+    private final MethodParameter parameter;
+
+    private final ServletModelAttributeMethodProcessor springResolver = new ServletModelAttributeMethodProcessor(true);
+
+    private final CriteriaArgumentResolver resolver = new CriteriaArgumentResolver();
+
+    CriteriaArgumentResolverTest() throws NoSuchMethodException {
+        final ConfigurableWebBindingInitializer initializer = new ConfigurableWebBindingInitializer();
+        initializer.setConversionService(new DefaultFormattingConversionService());
+        binderFactory = new ServletRequestDataBinderFactory(Collections.emptyList(), initializer);
+        parameter = new MethodParameter(CriteriaArgumentResolverTest.class.getDeclaredMethod("handle", MyCriteria.class, BindingResult.class), 0);
+    }
+
+    @SuppressWarnings("unused")
+    private void handle(final MyCriteria criteria, final BindingResult bindingResult) {
+    }
+
+    @Test
+    void supportsParameter() {
+        assertTrue(resolver.supportsParameter(parameter));
+        assertFalse(new CriteriaArgumentResolver(MyCriteria.class::equals).supportsParameter(new MethodParameter(parameter.getMethod(), 1)));
+    }
+
+    @Test
+    void sameAsSpringForFilters() throws Exception {
+        assertSameAsSpring("id.equals=1&id.in=1,2&id.in=3&name.contains=ab&name.ignoreCase=true&createTime.greaterThan=2019-10-19T15:50:10Z" +
+            "&active.specified=false&total.lessThan=5.5&total.in=1.5,2");
+    }
+
+    @Test
+    void sameAsSpringForValues() throws Exception {
+        assertSameAsSpring("limit=5&tags=a,b&tags=c");
+    }
+
+    @Test
+    void sameAsSpringForEmptyValues() throws Exception {
+        assertSameAsSpring("id.equals=&name.equals=&name.in=");
+    }
+
+    @Test
+    void sameAsSpringForUnknownParams() throws Exception {
+        assertSameAsSpring("page=1&size=20&sort=id,asc&unknown.equals=1&id.unknown=2&id=3");
+    }
+
+    @Test
+    void sameAsSpringForIndexedParams() throws Exception {
+        assertSameAsSpring("tags[0]=a&tags[1]=b&id.in[0]=5");
+    }
+
+    @Test
+    void sameAsSpringForFieldMarkers() throws Exception {
+        assertSameAsSpring("_name.ignoreCase=on&id.equals=1");
+    }
+
+    @Test
+    void sameAsSpringForInvalidValues() throws Exception {
+        final BindingResult bindingResult = assertSameAsSpring("id.equals=abc&createTime.in=2019-10-19T15:50:10Z,x&limit=y&name.equals=ok");
+        assertEquals(3, bindingResult.getFieldErrorCount());
+        assertEquals("typeMismatch", bindingResult.getFieldError("id.equals").getCode());
+        assertEquals("abc", bindingResult.getFieldError("id.equals").getRejectedValue());
+        assertEquals("ok", ((MyCriteria) bindingResult.getTarget()).name.getEquals());
+    }
+
+    @Test
+    void sameAsSpringForPrimitiveFilter() throws Exception {
+        final BindingResult bindingResult = assertSameAsSpring("ids.in=3,1,3&ids.notIn=7");
+        assertEquals(Arrays.asList(1L, 3L), ((MyCriteria) bindingResult.getTarget()).ids.getIn());
+        assertTrue(((MyCriteria) bindingResult.getTarget()).ids.getIn() instanceof SortedLongList);
+    }
+
+    @Test
+    void sameAsSpringWithMatchingHeader() throws Exception {
+        final MockHttpServletRequest springRequest = request("id.equals=1");
+        springRequest.addHeader("Limit", "7");
+        final MockHttpServletRequest request = request("id.equals=1");
+        request.addHeader("Limit", "7");
+        assertEquals(resolve(springResolver, springRequest).getTarget(), resolve(resolver, request).getTarget());
+    }
+
+    @Test
+    void aliasIsBound() throws Exception {
+        final MyCriteria criteria = (MyCriteria) resolve(resolver, request("myAlias.equals=3&aliased.notEquals=4")).getTarget();
+        assertEquals(3L, criteria.aliased.getEquals());
+        assertEquals(4L, criteria.aliased.getNotEquals());
+    }
+
+    @Test
+    void existingFilterIsReused() throws Exception {
+        final MyCriteria criteria = (MyCriteria) resolve(resolver, request("name.equals=a")).getTarget();
+        assertNotNull(criteria.name);
+        assertEquals("a", criteria.name.getEquals());
+        assertNull(criteria.id);
+    }
+
+    private BindingResult assertSameAsSpring(final String queryString) throws Exception {
+        final BindingResult expected = resolve(springResolver, request(queryString));
+        final BindingResult actual = resolve(resolver, request(queryString));
+        assertEquals(expected.getTarget(), actual.getTarget());
+        assertEquals(describe(expected.getFieldErrors()), describe(actual.getFieldErrors()));
+        return actual;
+    }
+
+    private BindingResult resolve(final ServletModelAttributeMethodProcessor processor, final MockHttpServletRequest request) throws Exception {
+        final ModelAndViewContainer mavContainer = new ModelAndViewContainer();
+        processor.resolveArgument(parameter, mavContainer, new ServletWebRequest(request), binderFactory);
+        return (BindingResult) mavContainer.getModel().get(BindingResult.MODEL_KEY_PREFIX + "myCriteria");
+    }
+
+    private static MockHttpServletRequest request(final String queryString) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/test");
+        for (final String param : queryString.split("&")) {
+            final int index = param.indexOf('=');
+            request.addParameter(param.substring(0, index), param.substring(index + 1));
+        }
+        return request;
+    }
+
+    private static List<String> describe(final List<FieldError> fieldErrors) {
+        return fieldErrors.stream()
+            .map(error -> error.getField() + "|" + error.getCode() + "|" + error.getRejectedValue() + "|" + error.isBindingFailure())
+            // Spring binds params sorted by name, resolver in order of the request
+            .sorted()
+            .collect(Collectors.toList());
+    }
+
+    public static class MyCriteria implements Criteria {
+
+        private LongFilter id;
+
+        private StringFilter name = new StringFilter();
+
+        private InstantFilter createTime;
+
+        private BooleanFilter active;
+
+        private BigDecimalFilter total;
+
+        @CriteriaAlias("myAlias")
+        private LongFilter aliased;
+
+        private PrimitiveLongFilter ids;
+
+        @CriteriaInclude
+        private Long limit;
+
+        @CriteriaInclude
+        private List<String> tags;
+
+        public LongFilter getId() {
+            return id;
+        }
+
+        public void setId(final LongFilter id) {
+            this.id = id;
+        }
+
+        public StringFilter getName() {
+            return name;
+        }
+
+        public void setName(final StringFilter name) {
+            this.name = name;
+        }
+
+        public InstantFilter getCreateTime() {
+            return createTime;
+        }
+
+        public void setCreateTime(final InstantFilter createTime) {
+            this.createTime = createTime;
+        }
+
+        public BooleanFilter getActive() {
+            return active;
+        }
+
+        public void setActive(final BooleanFilter active) {
+            this.active = active;
+        }
+
+        public BigDecimalFilter getTotal() {
+            return total;
+        }
+
+        public void setTotal(final BigDecimalFilter total) {
+            this.total = total;
+        }
+
+        public LongFilter getAliased() {
+            return aliased;
+        }
+
+        public void setAliased(final LongFilter aliased) {
+            this.aliased = aliased;
+        }
+
+        public PrimitiveLongFilter getIds() {
+            return ids;
+        }
+
+        public void setIds(final PrimitiveLongFilter ids) {
+            this.ids = ids;
+        }
+
+        public Long getLimit() {
+            return limit;
+        }
+
+        public void setLimit(final Long limit) {
+            this.limit = limit;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(final List<String> tags) {
+            this.tags = tags;
+        }
+
+        @Override
+        public Criteria copy() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final MyCriteria that = (MyCriteria) o;
+            return Objects.equals(id, that.id) &&
+                Objects.equals(name, that.name) &&
+                Objects.equals(createTime, that.createTime) &&
+                Objects.equals(active, that.active) &&
+                Objects.equals(total, that.total) &&
+                Objects.equals(aliased, that.aliased) &&
+                Objects.equals(ids, that.ids) &&
+                Objects.equals(limit, that.limit) &&
+                Objects.equals(tags, that.tags);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, name, createTime, active, total, aliased, ids, limit, tags);
+        }
+
+        @Override
+        public String toString() {
+            return "MyCriteria{" +
+                "id=" + id +
+                ", name=" + name +
+                ", createTime=" + createTime +
+                ", active=" + active +
+                ", total=" + total +
+                ", aliased=" + aliased +
+                ", ids=" + ids +
+                ", limit=" + limit +
+                ", tags=" + tags +
+                '}';
+        }
+    }
+}
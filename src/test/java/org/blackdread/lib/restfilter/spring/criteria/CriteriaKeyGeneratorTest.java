@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.criteria;
+
+import org.blackdread.lib.restfilter.criteria.CriteriaFingerprint;
+import org.blackdread.lib.restfilter.filter.LongFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+class CriteriaKeyGeneratorTest {
+
+    private final CriteriaKeyGenerator keyGenerator = new CriteriaKeyGenerator();
+
+    private final Method method;
+
+    CriteriaKeyGeneratorTest() throws NoSuchMethodException {
+        method = CriteriaKeyGeneratorTest.class.getDeclaredMethod("findAll", CriteriaArgumentResolverTest.MyCriteria.class, Pageable.class);
+    }
+
+    @SuppressWarnings("unused")
+    private void findAll(final CriteriaArgumentResolverTest.MyCriteria criteria, final Pageable pageable) {
+    }
+
+    @Test
+    void criteriaMatchingSameRowsHaveSameKey() {
+        assertEquals(generate(criteria(1L, 2L), PageRequest.of(0, 20)), generate(criteria(2L, 1L, 2L), PageRequest.of(0, 20)));
+        assertNotEquals(generate(criteria(1L, 2L), PageRequest.of(0, 20)), generate(criteria(1L, 3L), PageRequest.of(0, 20)));
+        assertEquals(CriteriaFingerprintSpringUtil.fingerprint(criteria(1L, 2L), PageRequest.of(0, 20)), generate(criteria(1L, 2L), PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void pageAndSortArePartOfKey() {
+        final Object key = generate(criteria(1L, 2L), PageRequest.of(0, 20, Sort.by("id")));
+        assertEquals(key, generate(criteria(1L, 2L), PageRequest.of(0, 20, Sort.by("id"))));
+        assertNotEquals(key, generate(criteria(1L, 2L), PageRequest.of(1, 20, Sort.by("id"))));
+        assertNotEquals(key, generate(criteria(1L, 2L), PageRequest.of(0, 10, Sort.by("id"))));
+        assertNotEquals(key, generate(criteria(1L, 2L), PageRequest.of(0, 20, Sort.by("id").descending())));
+        assertNotEquals(key, generate(criteria(1L, 2L), PageRequest.of(0, 20, Sort.by("id", "name"))));
+        assertNotEquals(key, generate(criteria(1L, 2L), Pageable.unpaged()));
+        assertNotEquals(
+            CriteriaFingerprintSpringUtil.fingerprint(null, Sort.by("id", "name")),
+            CriteriaFingerprintSpringUtil.fingerprint(null, Sort.by("name", "id")));
+    }
+
+    @Test
+    void nullParams() {
+        assertEquals(generate(null, null), generate(null, null));
+        assertNotEquals(generate(null, null), generate(new CriteriaArgumentResolverTest.MyCriteria(), null));
+        assertEquals(CriteriaFingerprint.newHasher().putValue(null).putValue(null).fingerprint(), generate(null, null));
+    }
+
+    private Object generate(final CriteriaArgumentResolverTest.MyCriteria criteria, final Pageable pageable) {
+        return keyGenerator.generate(this, method, criteria, pageable);
+    }
+
+    private static CriteriaArgumentResolverTest.MyCriteria criteria(final Long... ids) {
+        final CriteriaArgumentResolverTest.MyCriteria criteria = new CriteriaArgumentResolverTest.MyCriteria();
+        final LongFilter filter = new LongFilter();
+        filter.setIn(Arrays.asList(ids));
+        criteria.setId(filter);
+        return criteria;
+    }
+}
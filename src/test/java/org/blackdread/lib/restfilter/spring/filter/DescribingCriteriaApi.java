@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.filter;
+
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Proxies of criteria API that only describe what was called, so predicates can be compared as strings.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+final class DescribingCriteriaApi {
+
+    private DescribingCriteriaApi() {
+    }
+
+    static String describe(final Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof Object[]) {
+            return describe(Arrays.asList((Object[]) value));
+        }
+        if (value instanceof Collection) {
+            return ((Collection<?>) value).stream()
+                .map(DescribingCriteriaApi::describe)
+                .collect(Collectors.joining(", ", "[", "]"));
+        }
+        return value.toString();
+    }
+
+    /**
+     * @return proxy which toString is the description, methods returning an interface return a proxy describing the call
+     */
+    static <T> T describing(final Class<T> type, final String description) {
+        return describing(type, description, new ArrayList<>());
+    }
+
+    /**
+     * Joins done on proxies are returned by {@code getJoins()} of the proxy joined.
+     *
+     * @param calls every call done on proxies is added to it
+     * @return proxy which toString is the description, methods returning an interface return a proxy describing the call
+     */
+    static <T> T describing(final Class<T> type, final String description, final List<String> calls) {
+        return describing(type, description, calls, null, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T describing(final Class<T> type, final String description, final List<String> calls, final Object joinAttribute, final JoinType joinType) {
+        final Set<Object> joins = new LinkedHashSet<>();
+        return (T) Proxy.newProxyInstance(DescribingCriteriaApi.class.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "toString":
+                    return description;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "getJavaType":
+                    return null;
+                case "getJoins":
+                    return joins;
+                case "getAttribute":
+                    return joinAttribute;
+                case "getJoinType":
+                    return joinType;
+                case "getOn":
+                    return null;
+                default:
+                    break;
+            }
+            final List<String> argDescriptions = new ArrayList<>();
+            if (args != null) {
+                for (final Object arg : args) {
+                    argDescriptions.add(describe(arg));
+                }
+            }
+            final String callDescription = description + "." + method.getName() + "(" + String.join(", ", argDescriptions) + ")";
+            calls.add(callDescription);
+            final Class<?> returnType = method.getReturnType();
+            if (method.getName().equals("join") && Join.class.isAssignableFrom(returnType)) {
+                final Object join = describing(returnType, callDescription, calls, args[0], args.length > 1 && args[1] instanceof JoinType ? (JoinType) args[1] : JoinType.INNER);
+                joins.add(join);
+                return join;
+            }
+            if (returnType.isInterface()) {
+                return describing(returnType, callDescription, calls, null, null);
+            }
+            throw new UnsupportedOperationException(callDescription);
+        });
+    }
+}
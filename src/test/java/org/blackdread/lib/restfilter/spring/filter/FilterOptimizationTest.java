@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.filter;
+
+import org.blackdread.lib.restfilter.filter.LongFilter;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Select;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Root;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.blackdread.lib.restfilter.spring.filter.DescribingCriteriaApi.describe;
+import static org.blackdread.lib.restfilter.spring.filter.DescribingCriteriaApi.describing;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Filters are optimized by {@link QueryService} and {@link JooqQueryService} unless disabled.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+class FilterOptimizationTest {
+
+    @SuppressWarnings("unchecked")
+    private final Root<Object> root = describing(Root.class, "root");
+
+    private final CriteriaQuery<?> query = describing(CriteriaQuery.class, "query");
+
+    private final CriteriaBuilder builder = describing(CriteriaBuilder.class, "cb");
+
+    @SuppressWarnings("unchecked")
+    private final Expression<Long> column = describing(Expression.class, "id");
+
+    private final Field<Long> field = DSL.field(DSL.name("id"), Long.class);
+
+    private final QueryService<Object> queryService = new QueryServiceImpl<Object>() {
+        @Override
+        public boolean isFilterOptimizationEnabled() {
+            return true;
+        }
+    };
+
+    private final JooqQueryService jooqQueryService = new JooqQueryServiceImpl() {
+        @Override
+        public boolean isFilterOptimizationEnabled() {
+            return true;
+        }
+    };
+
+    @Test
+    void unsatisfiableFilterMatchesNothing() {
+        final LongFilter filter = new LongFilter();
+        filter.setGreaterThan(10L);
+        filter.setLessThan(5L);
+
+        assertEquals("cb.disjunction()", describe(queryService.buildSpecification(filter, r -> column).toPredicate(root, query, builder)));
+        assertEquals(DSL.falseCondition(), jooqQueryService.buildCondition(filter, field));
+    }
+
+    @Test
+    void filterIsOptimized() {
+        final LongFilter filter = new LongFilter();
+        filter.setGreaterThan(1L);
+        filter.setGreaterThanOrEqual(3L);
+        filter.setNotIn(Arrays.asList(4L, 0L, 4L));
+        filter.setSpecified(true);
+
+        assertEquals("cb.and(id.in([4]).not(), cb.greaterThanOrEqualTo(id, 3))",
+            describe(queryService.buildSpecification(filter, r -> column).toPredicate(root, query, builder)));
+        assertEquals(DSL.and(field.notIn(4L), field.ge(3L)), jooqQueryService.buildCondition(filter, field));
+    }
+
+    @Test
+    void unsatisfiableCriteriaIsNotQueried() {
+        final MyCriteria criteria = new MyCriteria();
+        criteria.id = new LongFilter();
+        criteria.id.setGreaterThan(10L);
+        criteria.id.setLessThan(5L);
+        final PageRequest pageable = PageRequest.of(2, 10);
+        final Select<Record> select = DSL.selectFrom(DSL.table("item"));
+
+        // null entity manager and dsl context, any query would fail
+        final Page<Object> page = queryService.findPage(null, Object.class, criteria, null, pageable, () -> fail("count"));
+        assertTrue(page.getContent().isEmpty());
+        assertEquals(pageable, page.getPageable());
+        final Slice<Object> slice = queryService.findSlice(null, Object.class, criteria, null, pageable);
+        assertTrue(slice.getContent().isEmpty());
+        assertFalse(slice.hasNext());
+
+        final Page<Record> jooqPage = jooqQueryService.fetchPage(null, criteria, select, Collections.emptyList(), pageable, () -> fail("count"));
+        assertTrue(jooqPage.getContent().isEmpty());
+        assertEquals(pageable, jooqPage.getPageable());
+        final Slice<Record> jooqSlice = jooqQueryService.fetchSlice(null, criteria, select, Collections.emptyList(), pageable);
+        assertTrue(jooqSlice.getContent().isEmpty());
+        assertFalse(jooqSlice.hasNext());
+    }
+
+    @Test
+    void optimizationIsOptIn() {
+        final JooqQueryService notOptimized = new JooqQueryServiceImpl();
+        final LongFilter filter = new LongFilter();
+        filter.setGreaterThan(10L);
+        filter.setLessThan(5L);
+        assertEquals(DSL.and(field.gt(10L), field.lt(5L)), notOptimized.buildCondition(filter, field));
+    }
+
+    static class MyCriteria {
+
+        private LongFilter id;
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.filter;
+
+import org.blackdread.lib.restfilter.filter.LongFilter;
+import org.blackdread.lib.restfilter.filter.StringFilter;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.persistence.Entity;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Id;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+import static org.blackdread.lib.restfilter.spring.filter.DescribingCriteriaApi.describe;
+import static org.blackdread.lib.restfilter.spring.filter.DescribingCriteriaApi.describing;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+class JpaInListStrategyTest {
+
+    private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+    private static EntityManagerFactory entityManagerFactory;
+
+    @SuppressWarnings("unchecked")
+    private final Root<Object> root = describing(Root.class, "root");
+
+    private final CriteriaQuery<?> query = describing(CriteriaQuery.class, "query");
+
+    private final CriteriaBuilder builder = describing(CriteriaBuilder.class, "cb");
+
+    @SuppressWarnings("unchecked")
+    private final Expression<Long> column = describing(Expression.class, "id");
+
+    @BeforeAll
+    static void setUp() {
+        entityManagerFactory = new Configuration()
+            .addAnnotatedClass(Item.class)
+            .setProperty("hibernate.connection.url", "jdbc:h2:mem:jpa-in-list-strategy")
+            .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+            .setStatementInspector(sql -> {
+                statements.add(sql);
+                return sql;
+            })
+            .buildSessionFactory();
+        final EntityManager entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        for (long id = 1; id <= 5; id++) {
+            final Item item = new Item();
+            item.id = id;
+            item.name = "name" + id;
+            entityManager.persist(item);
+        }
+        entityManager.getTransaction().commit();
+        entityManager.close();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    @Test
+    void expand() {
+        assertEquals("id.in([1, 2, 3])", describe(JpaInListStrategy.EXPAND.in(builder, column, Arrays.asList(1L, 2L, 3L))));
+    }
+
+    @Test
+    void padded() {
+        assertEquals("id.in([1, 2, 3, 3])", describe(JpaInListStrategy.PADDED.in(builder, column, Arrays.asList(1L, 2L, 3L))));
+        assertEquals("id.in([1, 2])", describe(JpaInListStrategy.PADDED.in(builder, column, Arrays.asList(1L, 2L))));
+        assertEquals("id.in([1])", describe(JpaInListStrategy.PADDED.in(builder, column, Collections.singletonList(1L))));
+    }
+
+    @Test
+    void chunked() {
+        final JpaInListStrategy strategy = JpaInListStrategy.chunked(2, JpaInListStrategy.PADDED);
+        assertEquals("id.in([1, 2])", describe(strategy.in(builder, column, Arrays.asList(1L, 2L))));
+        assertEquals("cb.or([id.in([1, 2]), id.in([3, 4]), id.in([5])])", describe(strategy.in(builder, column, Arrays.asList(1L, 2L, 3L, 4L, 5L))));
+    }
+
+    @Test
+    void chunkedInvalidMaxSize() {
+        assertThrows(IllegalArgumentException.class, () -> JpaInListStrategy.chunked(0, JpaInListStrategy.EXPAND));
+    }
+
+    @Test
+    void arrayFunction() {
+        final JpaInListStrategy strategy = JpaInListStrategy.arrayFunction("array_contains");
+        assertEquals("cb.isTrue(cb.function(array_contains, class java.lang.Boolean, [cb.literal([1, 2, 3]), id]))",
+            describe(strategy.in(builder, column, Arrays.asList(1L, 2L, 3L))));
+        assertThrows(IllegalArgumentException.class, () -> JpaInListStrategy.arrayFunction(" "));
+    }
+
+    @Test
+    void arrayFunctionIsBoundAsOneParameter() {
+        final JpaInListStrategy strategy = JpaInListStrategy.arrayFunction("array_contains");
+        statements.clear();
+        assertEquals(Arrays.asList(1L, 3L), itemIds((builder, root) -> strategy.in(builder, root.get("id"), Arrays.asList(1L, 3L))));
+        assertEquals(Arrays.asList(2L, 4L, 5L), itemIds((builder, root) -> strategy.in(builder, root.get("id"), Arrays.asList(5L, 2L, 4L))));
+        assertEquals(2, statements.size());
+        // same SQL whatever the values, array is not inlined
+        assertEquals(statements.get(0), statements.get(1));
+        assertEquals(1, statements.get(0).chars().filter(c -> c == '?').count(), statements.get(0));
+    }
+
+    @Test
+    void notInIgnoreCaseIsUpperCase() {
+        final QueryService<Item> queryService = new QueryService<Item>() {
+        };
+        final StringFilter filter = new StringFilter();
+        filter.setNotIn(Arrays.asList("Name1", "NAME2"));
+        assertEquals(Arrays.asList(3L, 4L, 5L),
+            itemIds((builder, root) -> queryService.buildSpecification(filter, r -> r.get("name")).toPredicate(root, builder.createQuery(), builder)));
+
+        filter.setNotIn(null);
+        filter.setIn(Arrays.asList("Name1", "NAME2"));
+        assertEquals(Arrays.asList(1L, 2L),
+            itemIds((builder, root) -> queryService.buildSpecification(filter, r -> r.get("name")).toPredicate(root, builder.createQuery(), builder)));
+    }
+
+    @Test
+    void queryServiceUsesStrategy() {
+        final QueryService<Object> queryService = new QueryService<Object>() {
+            @Override
+            public JpaInListStrategy getInListStrategy() {
+                return JpaInListStrategy.PADDED;
+            }
+        };
+        final LongFilter filter = new LongFilter();
+        filter.setIn(Arrays.asList(1L, 2L, 3L));
+        assertEquals("id.in([1, 2, 3, 3])", describe(queryService.buildSpecification(filter, r -> column).toPredicate(root, query, builder)));
+
+        final StringFilter stringFilter = new StringFilter();
+        stringFilter.setIn(Arrays.asList("a", "b", "c"));
+        assertEquals("cb.upper(root.get(name)).in([A, B, C, C])",
+            describe(queryService.buildSpecification(stringFilter, r -> r.get("name")).toPredicate(root, query, builder)));
+    }
+
+    @Test
+    void specificationPlanUsesStrategy() {
+        final SpecificationPlan<LongFilter, Object> plan = SpecificationPlan.builder(LongFilter.class, Object.class)
+            .withFilter(f -> f, r -> column)
+            .withInListStrategy(JpaInListStrategy.chunked(2, JpaInListStrategy.EXPAND))
+            .build();
+        final LongFilter filter = new LongFilter();
+        filter.setNotIn(Arrays.asList(1L, 2L, 3L));
+        assertEquals("cb.not(cb.or([id.in([1, 2]), id.in([3])]))", describe(plan.toPredicate(filter, root, query, builder)));
+    }
+
+    private static List<Long> itemIds(final BiFunction<CriteriaBuilder, Root<Item>, Predicate> where) {
+        final EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+            final CriteriaQuery<Item> query = builder.createQuery(Item.class);
+            final Root<Item> root = query.from(Item.class);
+            query.where(where.apply(builder, root));
+            return entityManager.createQuery(query).getResultList().stream()
+                .map(item -> item.id)
+                .sorted()
+                .collect(Collectors.toList());
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Entity(name = "JpaInListStrategyItem")
+    static class Item {
+
+        @Id
+        private Long id;
+
+        private String name;
+    }
+}
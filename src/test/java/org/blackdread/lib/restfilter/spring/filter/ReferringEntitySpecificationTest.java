@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.filter;
+
+import org.blackdread.lib.restfilter.filter.LongFilter;
+import org.blackdread.lib.restfilter.filter.StringFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.SetAttribute;
+import javax.persistence.metamodel.SingularAttribute;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.blackdread.lib.restfilter.spring.filter.DescribingCriteriaApi.describe;
+import static org.blackdread.lib.restfilter.spring.filter.DescribingCriteriaApi.describing;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Filters on entity sets by {@link QueryService#buildReferringEntitySpecification}.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+@SuppressWarnings({"unchecked", "deprecation"})
+class ReferringEntitySpecificationTest {
+
+    private final List<String> calls = new ArrayList<>();
+
+    private final Root<Object> root = describing(Root.class, "root", calls);
+
+    private final CriteriaQuery<?> query = describing(CriteriaQuery.class, "query", calls);
+
+    private final CriteriaBuilder builder = describing(CriteriaBuilder.class, "cb", calls);
+
+    private final SetAttribute<Object, Object> children = describing(SetAttribute.class, "children");
+
+    private final SingularAttribute<Object, Long> childId = describing(SingularAttribute.class, "id");
+
+    private final SingularAttribute<Object, String> childName = describing(SingularAttribute.class, "name");
+
+    @Test
+    void joinPerOperatorByDefault() {
+        final QueryService<Object> queryService = new QueryServiceImpl<>();
+        final LongFilter idFilter = new LongFilter();
+        idFilter.setGreaterThan(5L);
+        idFilter.setLessThan(10L);
+        final StringFilter nameFilter = new StringFilter();
+        nameFilter.setNotEquals("a");
+
+        queryService.buildReferringEntitySpecification(idFilter, children, childId)
+            .and(queryService.buildReferringEntitySpecification(nameFilter, children, childName))
+            .toPredicate(root, query, builder);
+
+        assertEquals(3, joinCalls());
+    }
+
+    @Test
+    void operatorsOfFilterMatchAnyReferencedEntityByDefault() {
+        final StringFilter nameFilter = new StringFilter();
+        nameFilter.setNotEquals("a");
+        nameFilter.setNotIn(Arrays.asList("b", "c"));
+
+        // any child not 'a' and any child not 'b' or 'c', a parent of children 'a' and 'b' matches
+        assertEquals("cb.and(cb.notEqual(root.join(children).get(name), a), root.join(children).get(name).in([b, c]).not())",
+            describe(new QueryServiceImpl<>().buildReferringEntitySpecification(nameFilter, children, childName).toPredicate(root, query, builder)));
+        assertEquals(2, joinCalls());
+
+        calls.clear();
+        final QueryService<Object> queryService = new QueryServiceImpl<Object>() {
+            @Override
+            public boolean isJoinReuseEnabled() {
+                return true;
+            }
+        };
+        // one child neither 'a', 'b' nor 'c', a parent of children 'a' and 'b' does not match
+        queryService.buildReferringEntitySpecification(nameFilter, children, childName).toPredicate(describing(Root.class, "other", calls), query, builder);
+        assertEquals(1, joinCalls());
+    }
+
+    @Test
+    void filtersOnSameReferenceShareJoinIfEnabled() {
+        final QueryService<Object> queryService = new QueryServiceImpl<Object>() {
+            @Override
+            public boolean isJoinReuseEnabled() {
+                return true;
+            }
+        };
+        final LongFilter idFilter = new LongFilter();
+        idFilter.setGreaterThan(5L);
+        idFilter.setLessThan(10L);
+        final StringFilter nameFilter = new StringFilter();
+        nameFilter.setNotEquals("a");
+
+        final Specification<Object> specification = queryService.buildReferringEntitySpecification(idFilter, children, childId)
+            .and(queryService.buildReferringEntitySpecification(nameFilter, children, childName));
+
+        assertEquals("cb.and(cb.and(cb.greaterThan(root.join(children).get(id), 5), cb.lessThan(root.join(children).get(id), 10)), " +
+                "cb.notEqual(root.join(children).get(name), a))",
+            describe(specification.toPredicate(root, query, builder)));
+        assertEquals(1, joinCalls());
+        assertEquals(1, root.getJoins().size());
+    }
+
+    @Test
+    void emptyFilterDoesNotJoin() {
+        final QueryService<Object> queryService = new QueryServiceImpl<>();
+        assertNull(queryService.buildReferringEntitySpecification(new LongFilter(), children, childId).toPredicate(root, query, builder));
+        assertNull(queryService.buildReferringEntitySpecification(new StringFilter(), children, childName).toPredicate(root, query, builder));
+        assertEquals(0, joinCalls());
+    }
+
+    @Test
+    void existsMode() {
+        final QueryService<Object> queryService = new QueryServiceImpl<Object>() {
+            @Override
+            public JpaToManyMode getToManyMode() {
+                return JpaToManyMode.EXISTS;
+            }
+        };
+        final LongFilter idFilter = new LongFilter();
+        idFilter.setGreaterThan(5L);
+        idFilter.setSpecified(true);
+
+        final String subquery = "query.subquery(class java.lang.Integer)";
+        final String correlatedJoin = subquery + ".correlate(root).join(children)";
+        assertEquals("cb.exists(" + subquery + ")",
+            describe(queryService.buildReferringEntitySpecification(idFilter, children, childId).toPredicate(root, query, builder)));
+        assertEquals(1, joinCalls());
+        assertEquals(0, root.getJoins().size());
+        assertEquals(1, calls.stream()
+            .filter(call -> call.equals(subquery + ".where(cb.and(cb.isNotNull(" + correlatedJoin + "), cb.greaterThan(" + correlatedJoin + ".get(id), 5)))"))
+            .count(), () -> String.join("\n", calls));
+    }
+
+    private long joinCalls() {
+        return calls.stream().filter(call -> call.endsWith(".join(children)")).count();
+    }
+}
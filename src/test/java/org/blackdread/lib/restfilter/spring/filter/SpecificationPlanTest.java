@@ -0,0 +1,202 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.filter;
+
+import org.blackdread.lib.restfilter.filter.BooleanFilter;
+import org.blackdread.lib.restfilter.filter.LongFilter;
+import org.blackdread.lib.restfilter.filter.StringFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.blackdread.lib.restfilter.spring.filter.DescribingCriteriaApi.describe;
+import static org.blackdread.lib.restfilter.spring.filter.DescribingCriteriaApi.describing;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Criteria API is replaced by proxies that only describe what was called (see {@link DescribingCriteriaApi}), so predicates can be compared as strings.
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+class SpecificationPlanTest {
+
+    private final AtomicInteger pathResolveCount = new AtomicInteger();
+
+    private SpecificationPlan<MyCriteria, MyEntity> plan;
+
+    private Root<MyEntity> root;
+
+    private CriteriaQuery<?> query;
+
+    private CriteriaBuilder builder;
+
+    private MyCriteria criteria;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        plan = SpecificationPlan.builder(MyCriteria.class, MyEntity.class)
+            .withRangeFilter(MyCriteria::getId, root -> {
+                pathResolveCount.incrementAndGet();
+                return root.get("id");
+            })
+            .withStringFilter(MyCriteria::getName, root -> {
+                pathResolveCount.incrementAndGet();
+                return root.get("name");
+            })
+            .withFilter(MyCriteria::getActive, root -> {
+                pathResolveCount.incrementAndGet();
+                return root.get("active");
+            })
+            .build();
+        root = describing(Root.class, "root");
+        query = describing(CriteriaQuery.class, "query");
+        builder = describing(CriteriaBuilder.class, "cb");
+        criteria = new MyCriteria();
+    }
+
+    @Test
+    void noPredicateWhenNothingSet() {
+        assertNull(plan.toPredicate(null, root, query, builder));
+        assertNull(plan.toSpecification(null).toPredicate(root, query, builder));
+        assertNull(plan.toSpecification(criteria).toPredicate(root, query, builder));
+
+        criteria.id = new LongFilter();
+        criteria.name = new StringFilter();
+        criteria.active = new BooleanFilter();
+        assertNull(plan.toSpecification(criteria).toPredicate(root, query, builder));
+        assertEquals(0, pathResolveCount.get());
+        assertEquals(3, plan.size());
+    }
+
+    @Test
+    void singlePredicateIsNotWrapped() {
+        criteria.active = new BooleanFilter();
+        criteria.active.setEquals(true);
+
+        assertEquals("cb.equal(root.get(active), true)", describe(plan.toSpecification(criteria).toPredicate(root, query, builder)));
+    }
+
+    @Test
+    void pathIsResolvedOnceAndPredicatesAreCombinedInOneAnd() {
+        criteria.id = new LongFilter();
+        criteria.id.setGreaterThan(1L);
+        criteria.id.setLessThanOrEqual(5L);
+        criteria.id.setSpecified(true);
+        criteria.id.setNotIn(Arrays.asList(3L, 4L));
+        criteria.active = new BooleanFilter();
+        criteria.active.setNotEquals(false);
+
+        final Predicate predicate = plan.toSpecification(criteria).toPredicate(root, query, builder);
+
+        assertEquals("cb.and([" +
+            "cb.not(root.get(id).in([3, 4])), " +
+            "cb.isNotNull(root.get(id)), " +
+            "cb.greaterThan(root.get(id), 1), " +
+            "cb.lessThanOrEqualTo(root.get(id), 5), " +
+            "cb.notEqual(root.get(active), false)" +
+            "])", describe(predicate));
+        assertEquals(2, pathResolveCount.get());
+    }
+
+    @Test
+    void equalsThenInShortCircuitOtherOperators() {
+        criteria.id = new LongFilter();
+        criteria.id.setEquals(1L);
+        criteria.id.setIn(Arrays.asList(1L, 2L));
+        criteria.id.setGreaterThan(1L);
+        criteria.active = new BooleanFilter();
+        criteria.active.setIn(Arrays.asList(true, false));
+        criteria.active.setSpecified(true);
+
+        assertEquals("cb.and([cb.equal(root.get(id), 1), root.get(active).in([true, false])])",
+            describe(plan.toSpecification(criteria).toPredicate(root, query, builder)));
+    }
+
+    @Test
+    void stringFilterIgnoreCaseUpperColumnOnce() {
+        criteria.name = new StringFilter();
+        criteria.name.setNotIn(Arrays.asList("a", "b"));
+        criteria.name.setContains("Abc");
+        criteria.name.setNotContains("d");
+        criteria.name.setSpecified(true);
+
+        assertEquals("cb.and([" +
+            "cb.not(cb.upper(root.get(name)).in([A, B])), " +
+            "cb.isNotNull(root.get(name)), " +
+            "cb.like(cb.upper(root.get(name)), %ABC%), " +
+            "cb.notLike(cb.upper(root.get(name)), %D%)" +
+            "])", describe(plan.toSpecification(criteria).toPredicate(root, query, builder)));
+        assertEquals(1, pathResolveCount.get());
+    }
+
+    @Test
+    void stringFilterCaseSensitive() {
+        criteria.name = new StringFilter();
+        criteria.name.setIgnoreCase(false);
+        criteria.name.setEquals("Abc");
+
+        assertEquals("cb.equal(root.get(name), Abc)", describe(plan.toSpecification(criteria).toPredicate(root, query, builder)));
+
+        criteria.name.setEquals(null);
+        criteria.name.setIn(Arrays.asList("Abc", "d"));
+        assertEquals("root.get(name).in([Abc, d])", describe(plan.toSpecification(criteria).toPredicate(root, query, builder)));
+
+        criteria.name.setIn(null);
+        criteria.name.setSpecified(false);
+        assertEquals("cb.isNull(root.get(name))", describe(plan.toSpecification(criteria).toPredicate(root, query, builder)));
+    }
+
+    static class MyEntity {
+    }
+
+    static class MyCriteria {
+
+        LongFilter id;
+
+        StringFilter name;
+
+        BooleanFilter active;
+
+        public LongFilter getId() {
+            return id;
+        }
+
+        public StringFilter getName() {
+            return name;
+        }
+
+        public BooleanFilter getActive() {
+            return active;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.query;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.web.util.UriBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+class KeysetQueryParamSpringUtilTest {
+
+    private UriBuilder builder;
+
+    @BeforeEach
+    void setUp() {
+        builder = UriComponentsBuilder.fromHttpUrl("http://example.com");
+    }
+
+    @Test
+    void addAfterAndSortQueryParamsFirstPage() {
+        final UriBuilder uriBuilder = KeysetQueryParamSpringUtil.addAfterAndSortQueryParams(null, PageRequest.of(0, 50, Sort.by(Sort.Order.asc("name"))), builder);
+        assertEquals("http://example.com?size=50&sort=name,asc", uriBuilder.build().toString());
+    }
+
+    @Test
+    void addAfterAndSortQueryParams() {
+        final UriBuilder uriBuilder = KeysetQueryParamSpringUtil.addAfterAndSortQueryParams("MTox", PageRequest.of(7, 50, Sort.by(Sort.Order.asc("name"), Sort.Order.desc("id"))), builder);
+        assertEquals("http://example.com?after=MTox&size=50&sort=name,asc&sort=id,desc", uriBuilder.build().toString());
+    }
+
+    @Test
+    void addAfterOnlyQueryParams() {
+        final UriBuilder uriBuilder = KeysetQueryParamSpringUtil.addAfterOnlyQueryParams("MTox", PageRequest.of(7, 50, Sort.by(Sort.Order.asc("name"))), builder);
+        assertEquals("http://example.com?after=MTox&size=50", uriBuilder.build().toString());
+    }
+
+    @Test
+    void unpagedIsUnchanged() {
+        assertSame(builder, KeysetQueryParamSpringUtil.addAfterAndSortQueryParams("MTox", Pageable.unpaged(), builder));
+    }
+
+    @Test
+    void formatAfter() {
+        assertEquals("after=MTox", KeysetQueryParamSpringUtil.formatAfter("MTox"));
+    }
+}
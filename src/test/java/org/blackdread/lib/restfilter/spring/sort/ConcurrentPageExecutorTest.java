@@ -0,0 +1,192 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.sort;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+class ConcurrentPageExecutorTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void contentAndCountRunConcurrently() {
+        final ConcurrentPageExecutor pageExecutor = ConcurrentPageExecutorBuilder.newBuilder().executor(executor).build();
+        // each query waits for the other to start
+        final CyclicBarrier barrier = new CyclicBarrier(2);
+
+        final Page<Integer> page = pageExecutor.fetchPage(PageRequest.of(1, 3), () -> {
+            await(barrier);
+            return Arrays.asList(4, 5, 6);
+        }, () -> {
+            await(barrier);
+            return 10L;
+        });
+        assertEquals(Arrays.asList(4, 5, 6), page.getContent());
+        assertEquals(10L, page.getTotalElements());
+        awaitPermits(pageExecutor, pageExecutor.getMaxConcurrentPages());
+    }
+
+    @Test
+    void countIsCancelledWhenDeducedFromContent() throws InterruptedException {
+        final ConcurrentPageExecutor pageExecutor = ConcurrentPageExecutorBuilder.newBuilder().executor(executor).build();
+        final CountDownLatch countStarted = new CountDownLatch(1);
+        final CountDownLatch countInterrupted = new CountDownLatch(1);
+
+        final Page<Integer> page = pageExecutor.fetchPage(PageRequest.of(0, 10), () -> {
+            await(countStarted);
+            return Arrays.asList(1, 2);
+        }, () -> {
+            countStarted.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                countInterrupted.countDown();
+            }
+            return 99L;
+        });
+        assertEquals(2L, page.getTotalElements());
+        assertTrue(countInterrupted.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void failureCancelsOtherQuery() throws InterruptedException {
+        final ConcurrentPageExecutor pageExecutor = ConcurrentPageExecutorBuilder.newBuilder().executor(executor).build();
+        final CountDownLatch contentStarted = new CountDownLatch(1);
+        final CountDownLatch contentInterrupted = new CountDownLatch(1);
+
+        final IllegalStateException e = assertThrows(IllegalStateException.class, () -> pageExecutor.fetchPage(PageRequest.of(1, 10), () -> {
+            contentStarted.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException interrupted) {
+                contentInterrupted.countDown();
+            }
+            return Collections.<Integer>emptyList();
+        }, () -> {
+            await(contentStarted);
+            throw new IllegalStateException("count failed");
+        }));
+        assertEquals("count failed", e.getMessage());
+        assertTrue(contentInterrupted.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void sequentialWithoutPermit() throws Exception {
+        final ConcurrentPageExecutor pageExecutor = ConcurrentPageExecutorBuilder.newBuilder().executor(executor).maxConcurrentPages(1).build();
+        final CountDownLatch firstPageStarted = new CountDownLatch(1);
+        final CountDownLatch releaseFirstPage = new CountDownLatch(1);
+        final Future<Page<Integer>> firstPage = executor.submit(() -> pageExecutor.fetchPage(PageRequest.of(1, 1), () -> {
+            firstPageStarted.countDown();
+            await(releaseFirstPage);
+            return Collections.singletonList(1);
+        }, () -> 5L));
+        assertTrue(firstPageStarted.await(10, TimeUnit.SECONDS));
+        assertEquals(0, pageExecutor.getAvailablePermits());
+
+        final Thread caller = Thread.currentThread();
+        final AtomicReference<Thread> contentThread = new AtomicReference<>();
+        final AtomicBoolean counted = new AtomicBoolean();
+        final Page<Integer> page = pageExecutor.fetchPage(PageRequest.of(0, 5), () -> {
+            contentThread.set(Thread.currentThread());
+            return Arrays.asList(1, 2);
+        }, () -> {
+            counted.set(true);
+            return 2L;
+        });
+        assertSame(caller, contentThread.get());
+        assertFalse(counted.get());
+        assertEquals(2L, page.getTotalElements());
+
+        releaseFirstPage.countDown();
+        assertEquals(5L, firstPage.get(10, TimeUnit.SECONDS).getTotalElements());
+        awaitPermits(pageExecutor, 1);
+    }
+
+    @Test
+    void defaultExecutor() {
+        final ConcurrentPageExecutor pageExecutor = ConcurrentPageExecutorBuilder.newBuilder().name("test").build();
+        final Page<Integer> page = pageExecutor.fetchPage(PageRequest.of(2, 2), () -> Arrays.asList(5, 6), () -> 7L);
+        assertEquals(7L, page.getTotalElements());
+
+        final Page<Integer> platform = ConcurrentPageExecutorBuilder.newBuilder().virtualThreads(false).build()
+            .fetchPage(PageRequest.of(2, 2), () -> Arrays.asList(5, 6), () -> 7L);
+        assertEquals(7L, platform.getTotalElements());
+
+        final List<Integer> all = Arrays.asList(1, 2, 3);
+        assertEquals(3L, pageExecutor.fetchPage(Pageable.unpaged(), () -> all, () -> 99L).getTotalElements());
+        assertThrows(IllegalArgumentException.class, () -> ConcurrentPageExecutorBuilder.newBuilder().maxConcurrentPages(0));
+    }
+
+    static void awaitPermits(final ConcurrentPageExecutor pageExecutor, final int expected) {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (pageExecutor.getAvailablePermits() != expected && System.nanoTime() < deadline) {
+            Thread.yield();
+        }
+        assertEquals(expected, pageExecutor.getAvailablePermits());
+    }
+
+    private static void await(final CyclicBarrier barrier) {
+        try {
+            barrier.await(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.sort;
+
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.SortField;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+class JooqKeysetUtilTest {
+
+    private static final Field<Long> ID = DSL.field(DSL.name("id"), Long.class);
+
+    private static final Field<String> NAME = DSL.field(DSL.name("name"), String.class);
+
+    private static final Field<Instant> CREATE_TIME = DSL.field(DSL.name("create_time"), Instant.class);
+
+    private final DSLContext postgres = DSL.using(SQLDialect.POSTGRES);
+
+    private final JooqSort jooqSort = JooqSortBuilder.newBuilder().build();
+
+    @Test
+    void seekConditionSingleField() {
+        assertEquals(ID.gt(5L), JooqKeysetUtil.seekCondition(Collections.singletonList(ID.asc()), 5L));
+        assertEquals(ID.lt(5L), JooqKeysetUtil.seekCondition(Collections.singletonList(ID.desc()), 5L));
+    }
+
+    @Test
+    void seekConditionSameDirectionIsRowValue() {
+        final List<? extends SortField<?>> sortFields = jooqSort.buildOrderBy(Sort.by(Sort.Order.desc("createTime"), Sort.Order.desc("id")), CREATE_TIME, ID);
+        final Condition condition = JooqKeysetUtil.seekCondition(sortFields, Instant.EPOCH, 5L);
+        assertEquals("(\"create_time\", \"id\") < (cast(? as timestamp with time zone), ?)", postgres.render(condition));
+        assertEquals(Arrays.asList(Instant.EPOCH, 5L), postgres.extractBindValues(condition));
+    }
+
+    @Test
+    void seekConditionMixedDirectionsIsExpanded() {
+        final List<? extends SortField<?>> sortFields = Arrays.asList(NAME.asc(), ID.desc());
+        assertEquals(DSL.or(NAME.gt("a"), NAME.eq("a").and(ID.lt(5L))), JooqKeysetUtil.seekCondition(sortFields, "a", 5L));
+    }
+
+    @Test
+    void seekConditionInvalidValues() {
+        final List<? extends SortField<?>> sortFields = Arrays.asList(NAME.asc(), ID.asc());
+        assertThrows(IllegalArgumentException.class, () -> JooqKeysetUtil.seekCondition(sortFields, "a"));
+        assertThrows(IllegalArgumentException.class, () -> JooqKeysetUtil.seekCondition(sortFields, "a", null));
+        assertThrows(IllegalArgumentException.class, () -> JooqKeysetUtil.seekCondition(Collections.emptyList()));
+    }
+
+    @Test
+    void cursorRoundTrip() {
+        final List<? extends SortField<?>> sortFields = Arrays.asList(NAME.asc(), CREATE_TIME.desc(), ID.asc());
+        final Instant createTime = Instant.parse("2020-01-02T03:04:05.123456Z");
+        final String cursor = JooqKeysetUtil.encodeCursor(sortFields, "a:b,c", createTime, 42L);
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"), cursor);
+        assertArrayEquals(new Object[]{"a:b,c", createTime, 42L}, JooqKeysetUtil.decodeCursor(sortFields, cursor));
+        assertEquals(JooqKeysetUtil.seekCondition(sortFields, "a:b,c", createTime, 42L), JooqKeysetUtil.seekAfter(sortFields, cursor));
+    }
+
+    @Test
+    void cursorFromRecord() {
+        final List<? extends SortField<?>> sortFields = Arrays.asList(NAME.asc(), ID.asc());
+        final Record record = DSL.using(SQLDialect.DEFAULT).newRecord(ID, NAME).values(7L, "b");
+        assertArrayEquals(new Object[]{"b", 7L}, JooqKeysetUtil.decodeCursor(sortFields, JooqKeysetUtil.encodeCursor(sortFields, record)));
+    }
+
+    @Test
+    void seekAfterFirstPage() {
+        assertEquals(DSL.noCondition(), JooqKeysetUtil.seekAfter(Collections.singletonList(ID.asc()), null));
+    }
+
+    @Test
+    void cursorOfOtherSortIsRejected() {
+        final String cursor = JooqKeysetUtil.encodeCursor(Arrays.asList(NAME.asc(), ID.asc()), "a", 1L);
+        assertThrows(IllegalArgumentException.class, () -> JooqKeysetUtil.decodeCursor(Arrays.asList(NAME.desc(), ID.asc()), cursor));
+        assertThrows(IllegalArgumentException.class, () -> JooqKeysetUtil.decodeCursor(Collections.singletonList(NAME.asc()), cursor));
+        assertThrows(IllegalArgumentException.class, () -> JooqKeysetUtil.decodeCursor(Arrays.asList(NAME.asc(), ID.asc()), "not a cursor"));
+        assertThrows(IllegalArgumentException.class, () -> JooqKeysetUtil.decodeCursor(Arrays.asList(NAME.asc(), ID.asc()), "MTI6YQ"));
+    }
+}
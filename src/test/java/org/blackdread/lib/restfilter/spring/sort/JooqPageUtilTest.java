@@ -0,0 +1,167 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.sort;
+
+import org.blackdread.lib.restfilter.criteria.CriteriaCountCache;
+import org.blackdread.lib.restfilter.criteria.CriteriaResultCacheBuilder;
+import org.jooq.CloseableDSLContext;
+import org.jooq.Field;
+import org.jooq.Record1;
+import org.jooq.Select;
+import org.jooq.SortField;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+class JooqPageUtilTest {
+
+    private static final Table<?> ITEM = DSL.table(DSL.name("item"));
+
+    private static final Field<Long> ID = DSL.field(DSL.name("id"), Long.class);
+
+    private static final List<? extends SortField<?>> ORDER_BY = JooqSortUtil.buildOrderBy(Sort.by("id").descending(), ID);
+
+    private static CloseableDSLContext dsl;
+
+    private final AtomicInteger counts = new AtomicInteger();
+
+    @BeforeAll
+    static void setUp() {
+        dsl = DSL.using("jdbc:h2:mem:jooq-page-util");
+        dsl.createTable(ITEM).column(ID, SQLDataType.BIGINT).execute();
+        for (long i = 1; i <= 25; i++) {
+            dsl.insertInto(ITEM, ID).values(i).execute();
+        }
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dsl.close();
+    }
+
+    @Test
+    void fetchPage() {
+        final Select<Record1<Long>> select = dsl.select(ID).from(ITEM).where(ID.gt(5L));
+        final String sql = select.getSQL();
+
+        final Page<Record1<Long>> page = JooqPageUtil.fetchPage(dsl, select, ORDER_BY, PageRequest.of(1, 8), countOf(select));
+        assertEquals(Arrays.asList(17L, 16L, 15L, 14L, 13L, 12L, 11L, 10L), ids(page.getContent()));
+        assertEquals(20L, page.getTotalElements());
+        assertEquals(1, counts.get());
+        // select is not modified
+        assertEquals(sql, select.getSQL());
+
+        final Page<Record1<Long>> lastPage = JooqPageUtil.fetchPage(dsl, select, ORDER_BY, PageRequest.of(2, 8), countOf(select));
+        assertEquals(Arrays.asList(9L, 8L, 7L, 6L), ids(lastPage.getContent()));
+        assertEquals(20L, lastPage.getTotalElements());
+        // count deduced from last page
+        assertEquals(1, counts.get());
+
+        final Page<Record1<Long>> all = JooqPageUtil.fetchPage(dsl, select, ORDER_BY, Pageable.unpaged());
+        assertEquals(20, all.getContent().size());
+        assertEquals(20L, JooqPageUtil.fetchPage(dsl, select, ORDER_BY, PageRequest.of(0, 5)).getTotalElements());
+    }
+
+    @Test
+    void nextPagesDoNotCountAgain() {
+        final CriteriaCountCache countCache = new CriteriaCountCache(CriteriaResultCacheBuilder.newBuilder().build(), Collections.singletonList("item"));
+        final Select<Record1<Long>> select = dsl.select(ID).from(ITEM);
+        final Object criteria = "all";
+
+        for (int page = 0; page < 4; page++) {
+            final Page<Record1<Long>> result = JooqPageUtil.fetchPage(dsl, select, ORDER_BY, PageRequest.of(page, 5, Sort.by("id")),
+                countCache.counter(criteria, countOf(select)));
+            assertEquals(25L, result.getTotalElements());
+        }
+        assertEquals(1, counts.get());
+    }
+
+    @Test
+    void fetchPageConcurrently() {
+        final ConcurrentPageExecutor pageExecutor = ConcurrentPageExecutorBuilder.newBuilder().maxConcurrentPages(2).build();
+        final Select<Record1<Long>> select = dsl.select(ID).from(ITEM).where(ID.gt(5L));
+
+        final Page<Record1<Long>> page = JooqPageUtil.fetchPage(dsl, select, ORDER_BY, PageRequest.of(1, 8), countOf(select), pageExecutor);
+        assertEquals(Arrays.asList(17L, 16L, 15L, 14L, 13L, 12L, 11L, 10L), ids(page.getContent()));
+        assertEquals(20L, page.getTotalElements());
+        // permit is released once both query threads finished
+        ConcurrentPageExecutorTest.awaitPermits(pageExecutor, 2);
+    }
+
+    @Test
+    void fetchSlice() {
+        final Select<Record1<Long>> select = dsl.select(ID).from(ITEM).where(ID.le(10L));
+
+        final Slice<Record1<Long>> first = JooqPageUtil.fetchSlice(dsl, select, ORDER_BY, PageRequest.of(0, 5));
+        assertEquals(Arrays.asList(10L, 9L, 8L, 7L, 6L), ids(first.getContent()));
+        assertTrue(first.hasNext());
+
+        final Slice<Record1<Long>> last = JooqPageUtil.fetchSlice(dsl, select, ORDER_BY, PageRequest.of(1, 5));
+        assertEquals(Arrays.asList(5L, 4L, 3L, 2L, 1L), ids(last.getContent()));
+        assertFalse(last.hasNext());
+
+        final Slice<Record1<Long>> all = JooqPageUtil.fetchSlice(dsl, select, ORDER_BY, Pageable.unpaged());
+        assertEquals(10, all.getContent().size());
+        assertFalse(all.hasNext());
+    }
+
+    @Test
+    void estimateCount() {
+        assertTrue(JooqPageUtil.estimateCount(dsl, dsl.select(ID).from(ITEM)) >= 0);
+    }
+
+    private LongSupplier countOf(final Select<?> select) {
+        final LongSupplier count = JooqPageUtil.count(dsl, select);
+        return () -> {
+            counts.incrementAndGet();
+            return count.getAsLong();
+        };
+    }
+
+    private static List<Long> ids(final List<Record1<Long>> records) {
+        return records.stream().map(Record1::value1).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.sort;
+
+import org.jooq.CloseableDSLContext;
+import org.jooq.Field;
+import org.jooq.Record1;
+import org.jooq.Select;
+import org.jooq.SortField;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Publishers are executed on JDBC by jOOQ (same code path as R2DBC for this class).
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+class JooqReactivePageUtilTest {
+
+    private static final Table<?> ITEM = DSL.table(DSL.name("item"));
+
+    private static final Field<Long> ID = DSL.field(DSL.name("id"), Long.class);
+
+    private static final List<? extends SortField<?>> ORDER_BY = JooqSortUtil.buildOrderBy(Sort.by("id").descending(), ID);
+
+    private static CloseableDSLContext dsl;
+
+    private final AtomicInteger countRequests = new AtomicInteger();
+
+    @BeforeAll
+    static void setUp() {
+        dsl = DSL.using("jdbc:h2:mem:jooq-reactive-page-util");
+        dsl.createTable(ITEM).column(ID, SQLDataType.BIGINT).execute();
+        for (long i = 1; i <= 25; i++) {
+            dsl.insertInto(ITEM, ID).values(i).execute();
+        }
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dsl.close();
+    }
+
+    @Test
+    void fetchPage() throws Exception {
+        final Select<Record1<Long>> select = dsl.select(ID).from(ITEM).where(ID.gt(5L));
+
+        final Page<Record1<Long>> page = single(JooqReactivePageUtil.fetchPage(dsl, select, ORDER_BY, PageRequest.of(1, 8)));
+        assertEquals(Arrays.asList(17L, 16L, 15L, 14L, 13L, 12L, 11L, 10L), ids(page.getContent()));
+        assertEquals(20L, page.getTotalElements());
+
+        final Page<Record1<Long>> withCount = single(JooqReactivePageUtil.fetchPage(dsl, select, ORDER_BY, PageRequest.of(0, 8), count(42L)));
+        assertEquals(42L, withCount.getTotalElements());
+        assertEquals(1, countRequests.get());
+
+        final Page<Record1<Long>> all = single(JooqReactivePageUtil.fetchPage(dsl, select, ORDER_BY, Pageable.unpaged()));
+        assertEquals(20, all.getContent().size());
+        assertEquals(20L, all.getTotalElements());
+    }
+
+    @Test
+    void countIsNotUsedWhenDeducedFromContent() throws Exception {
+        final Select<Record1<Long>> select = dsl.select(ID).from(ITEM).where(ID.gt(5L));
+
+        // last page
+        final Page<Record1<Long>> lastPage = single(JooqReactivePageUtil.fetchPage(dsl, select, ORDER_BY, PageRequest.of(2, 8), count(999L)));
+        assertEquals(Arrays.asList(9L, 8L, 7L, 6L), ids(lastPage.getContent()));
+        assertEquals(20L, lastPage.getTotalElements());
+
+        // first page not full
+        final Page<Record1<Long>> firstPage = single(JooqReactivePageUtil.fetchPage(dsl, select, ORDER_BY, PageRequest.of(0, 50), count(999L)));
+        assertEquals(20L, firstPage.getTotalElements());
+    }
+
+    @Test
+    void fetchSlice() throws Exception {
+        final Select<Record1<Long>> select = dsl.select(ID).from(ITEM).where(ID.le(10L));
+
+        final Slice<Record1<Long>> first = single(JooqReactivePageUtil.fetchSlice(dsl, select, ORDER_BY, PageRequest.of(0, 5)));
+        assertEquals(Arrays.asList(10L, 9L, 8L, 7L, 6L), ids(first.getContent()));
+        assertTrue(first.hasNext());
+
+        final Slice<Record1<Long>> last = single(JooqReactivePageUtil.fetchSlice(dsl, select, ORDER_BY, PageRequest.of(1, 5)));
+        assertEquals(Arrays.asList(5L, 4L, 3L, 2L, 1L), ids(last.getContent()));
+        assertFalse(last.hasNext());
+    }
+
+    @Test
+    void fetchHonoursRequests() throws Exception {
+        final List<Long> received = new ArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        JooqReactivePageUtil.fetch(dsl, dsl.select(ID).from(ITEM), ORDER_BY).subscribe(new Subscriber<Record1<Long>>() {
+            private Subscription subscription;
+
+            @Override
+            public void onSubscribe(final Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(3);
+            }
+
+            @Override
+            public void onNext(final Record1<Long> record) {
+                received.add(record.value1());
+                if (received.size() == 3) {
+                    subscription.cancel();
+                    latch.countDown();
+                }
+            }
+
+            @Override
+            public void onError(final Throwable throwable) {
+                latch.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                latch.countDown();
+            }
+        });
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(25L, 24L, 23L), received);
+    }
+
+    @Test
+    void errorOfCountIsPropagated() {
+        final Publisher<Long> failing = subscriber -> subscriber.onSubscribe(new Subscription() {
+            @Override
+            public void request(final long n) {
+                subscriber.onError(new IllegalStateException("count failed"));
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        final ExecutionException e = assertThrows(ExecutionException.class, () ->
+            single(JooqReactivePageUtil.fetchPage(dsl, dsl.select(ID).from(ITEM), ORDER_BY, PageRequest.of(1, 5), failing)));
+        assertEquals("count failed", e.getCause().getMessage());
+    }
+
+    private Publisher<Long> count(final long value) {
+        return subscriber -> subscriber.onSubscribe(new Subscription() {
+            private boolean done;
+
+            @Override
+            public void request(final long n) {
+                if (!done) {
+                    done = true;
+                    countRequests.incrementAndGet();
+                    subscriber.onNext(value);
+                    subscriber.onComplete();
+                }
+            }
+
+            @Override
+            public void cancel() {
+                done = true;
+            }
+        });
+    }
+
+    private static <T> T single(final Publisher<T> publisher) throws InterruptedException, ExecutionException, TimeoutException {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        publisher.subscribe(new Subscriber<T>() {
+            @Override
+            public void onSubscribe(final Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(final T value) {
+                result.complete(value);
+            }
+
+            @Override
+            public void onError(final Throwable throwable) {
+                result.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                result.completeExceptionally(new IllegalStateException("Completed without value"));
+            }
+        });
+        return result.get(10, TimeUnit.SECONDS);
+    }
+
+    private static List<Long> ids(final List<Record1<Long>> records) {
+        return records.stream().map(Record1::value1).collect(Collectors.toList());
+    }
+}
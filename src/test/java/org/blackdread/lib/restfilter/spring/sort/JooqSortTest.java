@@ -31,6 +31,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Sort;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -432,4 +433,45 @@ class JooqSortTest {
 //    @Test
 //    void buildOrderBy() {
 //    }
+
+    @Test
+    void compileIsCachedByFieldsIdentity() {
+        final JooqSort jooqSort = builder.build();
+        final CompiledJooqSort compiled = jooqSort.compile(FIELDS_1_2);
+        assertSame(compiled, jooqSort.compile(new ArrayList<>(FIELDS_1_2)));
+        assertSame(compiled, jooqSort.compile(fieldLong, fieldString));
+        assertNotSame(compiled, jooqSort.compile(fieldString, fieldLong));
+        assertNotSame(compiled, jooqSort.compile(DSL.field("my_long", Long.class), fieldString));
+    }
+
+    @Test
+    void compileSameAsBuildOrderBy() {
+        final JooqSort jooqSort = builder
+            .addAlias(ALIAS_1, fieldAlias1)
+            .build();
+        final Sort sort = Sort.by(Sort.Order.asc("myLong"), Sort.Order.desc("MY_STRING"), Sort.Order.asc(ALIAS_1).ignoreCase());
+        final CompiledJooqSort compiled = jooqSort.compile(FIELDS_1_2);
+        assertEquals(jooqSort.buildOrderBy(sort, FIELDS_1_2), compiled.buildOrderBy(sort));
+        assertEquals(Arrays.asList(fieldLong.asc(), fieldString.desc(), fieldAlias1.asc()), compiled.buildOrderBy(sort));
+        assertThrows(IllegalArgumentException.class, () -> compiled.buildOrderBy(Sort.by("unknown")));
+    }
+
+    @Test
+    void compileAliasHasPriorityOverField() {
+        final JooqSort jooqSort = builder
+            .addAlias("my_long", fieldAlias1)
+            .build();
+        assertEquals(Collections.singletonList(fieldAlias1.desc()), jooqSort.compile(FIELDS_1_2).buildOrderBy(Sort.by(Sort.Order.desc("my_long"))));
+    }
+
+    @Test
+    void compileCaseSensitive() {
+        final JooqSort jooqSort = builder
+            .ignoreJooqPropertyCase(false)
+            .throwOnSortPropertyNotFound(false)
+            .build();
+        final CompiledJooqSort compiled = jooqSort.compile(FIELDS_1_2);
+        assertEquals(Collections.singletonList(fieldLong.asc()), compiled.buildOrderBy(Sort.by("myLong")));
+        assertEquals(Collections.emptyList(), compiled.buildOrderBy(Sort.by("MY_LONG")));
+    }
 }
@@ -0,0 +1,171 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.spring.sort;
+
+import org.blackdread.lib.restfilter.jooq.JooqRecordWriter;
+import org.jooq.DSLContext;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.Field;
+import org.jooq.Record2;
+import org.jooq.SQLDialect;
+import org.jooq.Select;
+import org.jooq.SortField;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.jooq.impl.SQLDataType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+class JooqStreamUtilTest {
+
+    private static final Table<?> ITEM = DSL.table(DSL.name("item"));
+
+    private static final Field<Long> ID = DSL.field(DSL.name("id"), Long.class);
+
+    private static final Field<String> NAME = DSL.field(DSL.name("name"), String.class);
+
+    private static final List<? extends SortField<?>> ORDER_BY = JooqSortUtil.buildOrderBy(Sort.by("id").descending(), ID);
+
+    private static Connection connection;
+
+    private static DSLContext dsl;
+
+    private static int fetchSize;
+
+    private static ResultSet resultSet;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:jooq-stream-util");
+        final ExecuteListener listener = new ExecuteListener() {
+            @Override
+            public void executeEnd(final ExecuteContext ctx) {
+                try {
+                    fetchSize = ctx.statement().getFetchSize();
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+                resultSet = ctx.resultSet();
+            }
+        };
+        dsl = DSL.using(new DefaultConfiguration()
+            .set(connection)
+            .set(SQLDialect.H2)
+            .set(new DefaultExecuteListenerProvider(listener)));
+        dsl.createTable(ITEM).column(ID, SQLDataType.BIGINT).column(NAME, SQLDataType.VARCHAR(20)).execute();
+        for (long i = 1; i <= 100; i++) {
+            dsl.insertInto(ITEM, ID, NAME).values(i, i == 3 ? "a,\"b\"" : "n" + i).execute();
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void streamCsv() throws IOException {
+        final Select<Record2<Long, String>> select = dsl.select(ID, NAME).from(ITEM).where(ID.le(3L));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(3L, JooqStreamUtil.stream(dsl, select, ORDER_BY, 50, out, JooqRecordWriter.csv()));
+        assertEquals("id,name\n3,\"a,\"\"b\"\"\"\n2,n2\n1,n1\n", out.toString(StandardCharsets.UTF_8.name()));
+        assertEquals(50, fetchSize);
+        assertTrue(isClosed(resultSet));
+    }
+
+    @Test
+    void streamNdjson() throws IOException {
+        final Select<Record2<Long, String>> select = dsl.select(ID, NAME).from(ITEM).where(ID.in(1L, 2L));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(2L, JooqStreamUtil.stream(dsl, select, ORDER_BY, 0, out, JooqRecordWriter.ndjson()));
+        assertEquals("{\"id\":2,\"name\":\"n2\"}\n{\"id\":1,\"name\":\"n1\"}\n", out.toString(StandardCharsets.UTF_8.name()));
+
+        out.reset();
+        assertEquals(0L, JooqStreamUtil.stream(dsl, dsl.select(ID, NAME).from(ITEM).where(DSL.falseCondition()), ORDER_BY, 0, out, JooqRecordWriter.ndjson()));
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    void cursorIsClosedWhenOutputFails() {
+        final OutputStream disconnected = new OutputStream() {
+            private int written;
+
+            @Override
+            public void write(final int b) throws IOException {
+                if (++written > 100) {
+                    throw new IOException("Broken pipe");
+                }
+            }
+        };
+        // 10 000 rows, output fails when the first full buffer is written
+        final Select<Record2<Long, String>> select = dsl.select(DSL.field(DSL.name("a", "id"), Long.class), DSL.field(DSL.name("b", "name"), String.class))
+            .from(ITEM.as("a"))
+            .crossJoin(ITEM.as("b"));
+        final IOException e = assertThrows(IOException.class, () ->
+            JooqStreamUtil.stream(dsl, select, ORDER_BY, 10, disconnected, JooqRecordWriter.csv()));
+        assertEquals("Broken pipe", e.getMessage());
+        assertTrue(isClosed(resultSet));
+    }
+
+    @Test
+    void streamingResponseBody() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JooqStreamUtil.streamingResponseBody(dsl, dsl.select(ID, NAME).from(ITEM), ORDER_BY, 20, JooqRecordWriter.ndjson()).writeTo(out);
+        assertEquals(100, out.toString(StandardCharsets.UTF_8.name()).split("\n").length);
+
+        assertThrows(IllegalArgumentException.class, () -> JooqStreamUtil.stream(dsl, dsl.select(ID).from(ITEM), ORDER_BY, -1, out, JooqRecordWriter.csv()));
+    }
+
+    private static boolean isClosed(final ResultSet resultSet) {
+        try {
+            return resultSet.isClosed();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
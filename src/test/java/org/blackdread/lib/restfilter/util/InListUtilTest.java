@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+class InListUtilTest {
+
+    @Test
+    void paddedSize() {
+        Assertions.assertEquals(0, InListUtil.paddedSize(0));
+        Assertions.assertEquals(1, InListUtil.paddedSize(1));
+        Assertions.assertEquals(2, InListUtil.paddedSize(2));
+        Assertions.assertEquals(4, InListUtil.paddedSize(3));
+        Assertions.assertEquals(8, InListUtil.paddedSize(5));
+        Assertions.assertEquals(1024, InListUtil.paddedSize(1000));
+    }
+
+    @Test
+    void pad() {
+        final List<Integer> values = Arrays.asList(1, 2, 3, 4);
+        Assertions.assertSame(values, InListUtil.pad(values));
+        Assertions.assertEquals(Arrays.asList(1, 2, 3, 4, 5, 5, 5, 5), InListUtil.pad(Arrays.asList(1, 2, 3, 4, 5)));
+        Assertions.assertEquals(Collections.emptyList(), InListUtil.pad(Collections.emptyList()));
+    }
+
+    @Test
+    void chunk() {
+        Assertions.assertEquals(Collections.emptyList(), InListUtil.chunk(Collections.emptyList(), 2));
+        Assertions.assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4), Collections.singletonList(5)), InListUtil.chunk(Arrays.asList(1, 2, 3, 4, 5), 2));
+        Assertions.assertEquals(Collections.singletonList(Arrays.asList(1, 2)), InListUtil.chunk(Arrays.asList(1, 2), 5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> InListUtil.chunk(Arrays.asList(1, 2), 0));
+    }
+
+    @Test
+    void primitiveListsAreViews() {
+        final SortedLongList values = SortedLongList.of(1L, 2L, 3L, 4L, 5L);
+        Assertions.assertEquals(Arrays.asList(1L, 2L, 3L, 4L, 5L, 5L, 5L, 5L), InListUtil.pad(values));
+        Assertions.assertEquals(Arrays.asList(Arrays.asList(1L, 2L), Arrays.asList(3L, 4L), Collections.singletonList(5L)), InListUtil.chunk(values, 2));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019-2020 Yoann CAPLAIN
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.blackdread.lib.restfilter.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>Created on 2026/10/18.</p>
+ *
+ * @author Yoann CAPLAIN
+ */
+class SortedPrimitiveListTest {
+
+    @Test
+    void sortedAndDistinct() {
+        final SortedLongList list = SortedLongList.of(Arrays.asList(5L, -1L, 3L, 5L, 3L));
+        Assertions.assertEquals(Arrays.asList(-1L, 3L, 5L), list);
+        Assertions.assertArrayEquals(new long[]{-1L, 3L, 5L}, list.toLongArray());
+        Assertions.assertEquals(3L, list.getLong(1));
+        Assertions.assertEquals(Arrays.asList(1, 2), SortedIntList.of(2, 1, 2));
+        Assertions.assertEquals(Arrays.asList((short) 1, (short) 2), SortedShortList.of((short) 2, (short) 1));
+        Assertions.assertEquals(Collections.emptyList(), SortedLongList.of());
+    }
+
+    @Test
+    void ofSortedListIsSame() {
+        final SortedLongList list = SortedLongList.of(1L, 2L);
+        Assertions.assertSame(list, SortedLongList.of(list));
+    }
+
+    @Test
+    void containsIsBinarySearch() {
+        final SortedIntList list = SortedIntList.of(7, 3, 11);
+        Assertions.assertTrue(list.contains(7));
+        Assertions.assertTrue(list.containsInt(11));
+        Assertions.assertFalse(list.contains(8));
+        Assertions.assertFalse(list.contains(7L));
+        Assertions.assertFalse(list.contains(null));
+        Assertions.assertEquals(2, list.indexOf(11));
+        Assertions.assertEquals(-1, list.lastIndexOf("11"));
+    }
+
+    @Test
+    void equalsAndHashCodeSameAsList() {
+        final List<Long> boxed = new ArrayList<>(Arrays.asList(1L, 2L, 3L));
+        final SortedLongList list = SortedLongList.of(3L, 2L, 1L);
+        Assertions.assertEquals(boxed.hashCode(), list.hashCode());
+        Assertions.assertEquals(boxed, list);
+        Assertions.assertEquals(list, boxed);
+        Assertions.assertEquals(SortedLongList.of(1L, 2L, 3L), list);
+        Assertions.assertNotEquals(SortedLongList.of(1L, 2L), list);
+        Assertions.assertEquals(Arrays.asList((short) 4, (short) 9).hashCode(), SortedShortList.of((short) 9, (short) 4).hashCode());
+    }
+
+    @Test
+    void immutable() {
+        final SortedLongList list = SortedLongList.of(1L, 2L);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> list.add(3L));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> list.set(0, 3L));
+        final long[] array = list.toLongArray();
+        array[0] = 5L;
+        Assertions.assertEquals(1L, list.getLong(0));
+    }
+
+    @Test
+    void format() {
+        Assertions.assertEquals("-42", SortedLongList.of(-42L).format(0));
+        Assertions.assertEquals("7", SortedShortList.of((short) 7).format(0));
+    }
+
+    @Test
+    void padded() {
+        final SortedIntList list = SortedIntList.of(1, 2, 3);
+        Assertions.assertSame(list, list.padded(3));
+        Assertions.assertEquals(Arrays.asList(1, 2, 3, 3), list.padded(4));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> list.padded(2));
+    }
+}